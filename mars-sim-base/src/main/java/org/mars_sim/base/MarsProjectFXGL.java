@@ -34,6 +34,7 @@ import org.mars_sim.msp.core.SimulationConfig;
 import org.mars_sim.msp.core.SimulationFiles;
 import org.mars_sim.msp.core.configuration.Scenario;
 import org.mars_sim.msp.core.configuration.UserConfigurableConfig;
+import org.mars_sim.msp.core.logging.SimLogger;
 import org.mars_sim.msp.core.person.Crew;
 import org.mars_sim.msp.ui.helpGenerator.HelpGenerator;
 import org.mars_sim.msp.ui.swing.MainWindow;
@@ -348,6 +349,8 @@ public class MarsProjectFXGL extends GameApplication {
 				logger.log(Level.WARNING, "Could read logging default config", e);
 			}
 		}
+		// Write the queued messages before the new handlers are closed
+		SimLogger.installFlushHandler();
 
 		// general text antialiasing
 		System.setProperty("swing.aatext", "true");
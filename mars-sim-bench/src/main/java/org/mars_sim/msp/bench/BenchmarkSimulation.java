@@ -0,0 +1,80 @@
+/*
+ * Mars Simulation Project
+ * BenchmarkSimulation.java
+ * @date 2026-10-19
+ * @author agent
+ */
+package org.mars_sim.msp.bench;
+
+import org.mars_sim.msp.core.Simulation;
+import org.mars_sim.msp.core.SimulationBuilder;
+import org.mars_sim.msp.core.structure.Settlement;
+import org.mars_sim.msp.core.time.ClockPulse;
+
+/**
+ * Creates the standard scenario shared by the benchmarks. The Simulation is a
+ * singleton so it is built once per JVM; the clock thread is never started and
+ * time is advanced in fixed steps.
+ */
+public final class BenchmarkSimulation {
+
+	/** Length of the fixed pulse in millisols. */
+	public static final double PULSE_MSOLS = 0.5D;
+
+	/** Millisols simulated before measuring so the settlement is settled. */
+	private static final double WARMUP_MSOLS = 50D;
+
+	private static BenchmarkSimulation instance;
+
+	private Simulation sim;
+	private Settlement settlement;
+
+	private BenchmarkSimulation() {
+		SimulationBuilder builder = new SimulationBuilder();
+		sim = builder.build();
+
+		settlement = sim.getUnitManager().getSettlements().stream()
+						.filter(s -> !s.getAllAssociatedPeople().isEmpty())
+						.findFirst()
+						.orElseThrow(() -> new IllegalStateException("Standard scenario has no populated settlement"));
+
+		// Run the simulation a little so the people have tasks
+		for (double t = 0; t < WARMUP_MSOLS; t += PULSE_MSOLS) {
+			sim.clockPulse(nextPulse());
+		}
+	}
+
+	/**
+	 * Gets the shared simulation, creating it on the first call.
+	 *
+	 * @return
+	 */
+	public static synchronized BenchmarkSimulation getInstance() {
+		if (instance == null) {
+			instance = new BenchmarkSimulation();
+		}
+		return instance;
+	}
+
+	public Simulation getSimulation() {
+		return sim;
+	}
+
+	/**
+	 * Gets the first populated settlement of the scenario.
+	 *
+	 * @return
+	 */
+	public Settlement getSettlement() {
+		return settlement;
+	}
+
+	/**
+	 * Advances the clocks by a fixed step.
+	 *
+	 * @return The pulse for the step
+	 */
+	public ClockPulse nextPulse() {
+		return sim.getMasterClock().fixedStep(PULSE_MSOLS);
+	}
+}
@@ -0,0 +1,70 @@
+/*
+ * Mars Simulation Project
+ * BuildingPathBenchmark.java
+ * @date 2026-10-19
+ * @author agent
+ */
+package org.mars_sim.msp.bench;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.mars_sim.msp.core.structure.building.Building;
+import org.mars_sim.msp.core.structure.building.connection.BuildingConnectorManager;
+import org.mars_sim.msp.core.structure.building.connection.InsideBuildingPath;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks the path finding between the buildings of the standard settlement.
+ * The pairs of buildings come from a fixed seed so runs are comparable.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class BuildingPathBenchmark {
+
+	private static final int NUM_PAIRS = 64;
+	private static final long SEED = 42L;
+
+	private BuildingConnectorManager connectors;
+	private Building[] starts = new Building[NUM_PAIRS];
+	private Building[] ends = new Building[NUM_PAIRS];
+	private int next = 0;
+
+	@Setup
+	public void setup() {
+		BenchmarkSimulation sim = BenchmarkSimulation.getInstance();
+		connectors = sim.getSettlement().getBuildingConnectorManager();
+
+		List<Building> buildings = sim.getSettlement().getBuildingManager().getBuildings();
+		Random rand = new Random(SEED);
+		for (int i = 0; i < NUM_PAIRS; i++) {
+			starts[i] = buildings.get(rand.nextInt(buildings.size()));
+			ends[i] = buildings.get(rand.nextInt(buildings.size()));
+		}
+	}
+
+	/**
+	 * The shortest path between the centres of a pair of buildings.
+	 */
+	@Benchmark
+	public InsideBuildingPath determineShortestPath() {
+		int i = next;
+		next = (next + 1) % NUM_PAIRS;
+		return connectors.determineShortestPath(starts[i], starts[i].getPosition(),
+												ends[i], ends[i].getPosition());
+	}
+}
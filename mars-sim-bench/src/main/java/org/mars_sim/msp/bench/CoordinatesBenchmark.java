@@ -0,0 +1,56 @@
+/*
+ * Mars Simulation Project
+ * CoordinatesBenchmark.java
+ * @date 2026-10-19
+ * @author agent
+ */
+package org.mars_sim.msp.bench;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.mars_sim.msp.core.Coordinates;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks the surface distance between two locations. This needs no
+ * simulation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CoordinatesBenchmark {
+
+	private static final int NUM_POINTS = 1024;
+	private static final long SEED = 42L;
+
+	private Coordinates[] points = new Coordinates[NUM_POINTS];
+	private int next = 0;
+
+	@Setup
+	public void setup() {
+		Random rand = new Random(SEED);
+		for (int i = 0; i < NUM_POINTS; i++) {
+			points[i] = new Coordinates(rand.nextDouble() * Math.PI, rand.nextDouble() * Math.PI * 2);
+		}
+	}
+
+	@Benchmark
+	public double getDistance() {
+		int i = next;
+		next = (next + 1) % NUM_POINTS;
+		return points[i].getDistance(points[(i + 1) % NUM_POINTS]);
+	}
+}
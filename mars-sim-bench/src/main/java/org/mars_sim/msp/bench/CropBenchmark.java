@@ -0,0 +1,68 @@
+/*
+ * Mars Simulation Project
+ * CropBenchmark.java
+ * @date 2026-10-19
+ * @author agent
+ */
+package org.mars_sim.msp.bench;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.mars_sim.msp.core.structure.building.Building;
+import org.mars_sim.msp.core.structure.building.function.FunctionType;
+import org.mars_sim.msp.core.structure.building.function.farming.Crop;
+import org.mars_sim.msp.core.time.ClockPulse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmarks the growth of the crops of the standard settlement. The growing
+ * conditions are fixed so only the crop model is measured.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class CropBenchmark {
+
+	private static final double PRODUCTION_LEVEL = 1D;
+	private static final double SOLAR_IRRADIANCE = 300D;
+	private static final double GREY_FILTER_RATE = 1D;
+	private static final double TEMPERATURE_MODIFIER = 1D;
+
+	private BenchmarkSimulation sim;
+	private List<Crop> crops = new ArrayList<>();
+
+	@Setup
+	public void setup() {
+		sim = BenchmarkSimulation.getInstance();
+		for (Building b : sim.getSettlement().getBuildingManager().getBuildings(FunctionType.FARMING)) {
+			crops.addAll(b.getFarming().getCrops());
+		}
+	}
+
+	/**
+	 * A pulse of every crop in the settlement.
+	 */
+	@Benchmark
+	public void timePassing(Blackhole bh) {
+		ClockPulse pulse = sim.nextPulse();
+		for (Crop c : crops) {
+			bh.consume(c.timePassing(pulse, PRODUCTION_LEVEL, SOLAR_IRRADIANCE,
+									 GREY_FILTER_RATE, TEMPERATURE_MODIFIER));
+		}
+	}
+}
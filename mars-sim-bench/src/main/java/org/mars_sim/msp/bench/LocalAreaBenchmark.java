@@ -0,0 +1,77 @@
+/*
+ * Mars Simulation Project
+ * LocalAreaBenchmark.java
+ * @date 2026-10-19
+ * @author agent
+ */
+package org.mars_sim.msp.bench;
+
+import java.awt.geom.Line2D;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.mars_sim.msp.core.Coordinates;
+import org.mars_sim.msp.core.LocalAreaUtil;
+import org.mars_sim.msp.core.LocalPosition;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks the collision checks against the buildings, vehicles and
+ * construction sites around the standard settlement.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class LocalAreaBenchmark {
+
+	private static final int NUM_POINTS = 256;
+	private static final double RANGE = 60D;
+	private static final long SEED = 42L;
+
+	private Coordinates location;
+	private LocalPosition[] positions = new LocalPosition[NUM_POINTS];
+	private Line2D[] lines = new Line2D[NUM_POINTS];
+	private int next = 0;
+
+	@Setup
+	public void setup() {
+		location = BenchmarkSimulation.getInstance().getSettlement().getCoordinates();
+
+		Random rand = new Random(SEED);
+		for (int i = 0; i < NUM_POINTS; i++) {
+			positions[i] = new LocalPosition(rand.nextDouble() * RANGE * 2 - RANGE,
+											 rand.nextDouble() * RANGE * 2 - RANGE);
+		}
+		for (int i = 0; i < NUM_POINTS; i++) {
+			LocalPosition start = positions[i];
+			LocalPosition end = positions[(i + 1) % NUM_POINTS];
+			lines[i] = new Line2D.Double(start.getX(), start.getY(), end.getX(), end.getY());
+		}
+	}
+
+	@Benchmark
+	public boolean isPositionCollisionFree() {
+		int i = next;
+		next = (next + 1) % NUM_POINTS;
+		return LocalAreaUtil.isPositionCollisionFree(positions[i], location);
+	}
+
+	@Benchmark
+	public boolean isLinePathCollisionFree() {
+		int i = next;
+		next = (next + 1) % NUM_POINTS;
+		return LocalAreaUtil.isLinePathCollisionFree(lines[i], location, true);
+	}
+}
@@ -0,0 +1,89 @@
+/*
+ * Mars Simulation Project
+ * SaveLoadBenchmark.java
+ * @date 2026-10-19
+ * @author agent
+ */
+package org.mars_sim.msp.bench;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import org.mars_sim.msp.core.Simulation;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks saving and loading the standard scenario. The same objects as a
+ * save file are written to a compressed stream in memory. The file handling
+ * and the settling delay of {@link Simulation} are left out so only the
+ * serialisation is measured.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 10)
+@Fork(1)
+public class SaveLoadBenchmark {
+
+	private Serializable[] objects;
+	private byte[] saved;
+
+	@Setup
+	public void setup() throws IOException {
+		Simulation sim = BenchmarkSimulation.getInstance().getSimulation();
+		objects = new Serializable[] {
+			sim.getMalfunctionFactory(),
+			sim.getOrbitInfo(),
+			sim.getWeather(),
+			sim.getSurfaceFeatures(),
+			sim.getMissionManager(),
+			sim.getMedicalManager(),
+			sim.getScientificStudyManager(),
+			sim.getEventManager(),
+			sim.getTransportManager(),
+			sim.getUnitManager(),
+			sim.getMasterClock()
+		};
+		saved = save();
+	}
+
+	@Benchmark
+	public byte[] save() throws IOException {
+		ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+		try (ObjectOutputStream oos = new ObjectOutputStream(new GZIPOutputStream(buffer))) {
+			for (Serializable o : objects) {
+				oos.writeObject(o);
+			}
+		}
+		return buffer.toByteArray();
+	}
+
+	@Benchmark
+	public Object[] load() throws IOException, ClassNotFoundException {
+		Object[] result = new Object[objects.length];
+		try (ObjectInputStream ois = new ObjectInputStream(
+								new GZIPInputStream(new ByteArrayInputStream(saved)))) {
+			for (int i = 0; i < result.length; i++) {
+				result[i] = ois.readObject();
+			}
+		}
+		return result;
+	}
+}
@@ -0,0 +1,67 @@
+/*
+ * Mars Simulation Project
+ * SettlementBenchmark.java
+ * @date 2026-10-19
+ * @author agent
+ */
+package org.mars_sim.msp.bench;
+
+import java.util.concurrent.TimeUnit;
+
+import org.mars_sim.msp.core.goods.GoodsManager;
+import org.mars_sim.msp.core.structure.Settlement;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks the per pulse processing of a settlement.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class SettlementBenchmark {
+
+	private BenchmarkSimulation sim;
+	private Settlement settlement;
+	private GoodsManager goods;
+
+	@Setup
+	public void setup() {
+		sim = BenchmarkSimulation.getInstance();
+		settlement = sim.getSettlement();
+		goods = settlement.getGoodsManager();
+	}
+
+	/**
+	 * A single pulse of the settlement including the buildings and citizens.
+	 * Every pulse moves the settlement on whilst the rest of the simulation
+	 * stands still, so each fork measures a short window from a freshly built
+	 * scenario rather than letting later iterations drift.
+	 */
+	@Benchmark
+	@Warmup(iterations = 2, time = 1)
+	@Measurement(iterations = 2, time = 1)
+	@Fork(5)
+	public boolean timePassing() {
+		return settlement.timePassing(sim.nextPulse());
+	}
+
+	/**
+	 * Revalues all the goods of the settlement.
+	 */
+	@Benchmark
+	public void updateGoodValues() {
+		goods.updateGoodValues();
+	}
+}
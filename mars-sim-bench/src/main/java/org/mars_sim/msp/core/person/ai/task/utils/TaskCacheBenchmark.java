@@ -0,0 +1,59 @@
+/*
+ * Mars Simulation Project
+ * TaskCacheBenchmark.java
+ * @date 2026-10-19
+ * @author agent
+ */
+package org.mars_sim.msp.core.person.ai.task.utils;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.mars_sim.msp.bench.BenchmarkSimulation;
+import org.mars_sim.msp.core.person.Person;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks the calculation of the task probabilities of a person. This lives
+ * in the package of the task manager because rebuilding the cache is protected.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class TaskCacheBenchmark {
+
+	private List<PersonTaskManager> managers;
+	private int next = 0;
+
+	@Setup
+	public void setup() {
+		managers = BenchmarkSimulation.getInstance().getSettlement().getAllAssociatedPeople().stream()
+						.map(Person::getMind)
+						.map(m -> m.getTaskManager())
+						.collect(Collectors.toList());
+	}
+
+	/**
+	 * Rebuilds the cache of the citizens in turn.
+	 */
+	@Benchmark
+	public double rebuildTaskCache() {
+		PersonTaskManager tm = managers.get(next);
+		next = (next + 1) % managers.size();
+		tm.rebuildTaskCache();
+		return tm.totalProbCache;
+	}
+}
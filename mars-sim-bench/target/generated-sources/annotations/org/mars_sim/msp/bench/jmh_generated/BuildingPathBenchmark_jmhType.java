@@ -0,0 +1,4 @@
+package org.mars_sim.msp.bench.jmh_generated;
+public class BuildingPathBenchmark_jmhType extends BuildingPathBenchmark_jmhType_B3 {
+}
+
@@ -0,0 +1,4 @@
+package org.mars_sim.msp.bench.jmh_generated;
+public class CoordinatesBenchmark_jmhType extends CoordinatesBenchmark_jmhType_B3 {
+}
+
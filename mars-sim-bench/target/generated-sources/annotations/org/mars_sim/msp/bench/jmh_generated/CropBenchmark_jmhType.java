@@ -0,0 +1,4 @@
+package org.mars_sim.msp.bench.jmh_generated;
+public class CropBenchmark_jmhType extends CropBenchmark_jmhType_B3 {
+}
+
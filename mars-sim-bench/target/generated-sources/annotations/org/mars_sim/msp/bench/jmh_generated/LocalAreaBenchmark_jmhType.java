@@ -0,0 +1,4 @@
+package org.mars_sim.msp.bench.jmh_generated;
+public class LocalAreaBenchmark_jmhType extends LocalAreaBenchmark_jmhType_B3 {
+}
+
@@ -0,0 +1,4 @@
+package org.mars_sim.msp.bench.jmh_generated;
+public class SaveLoadBenchmark_jmhType extends SaveLoadBenchmark_jmhType_B3 {
+}
+
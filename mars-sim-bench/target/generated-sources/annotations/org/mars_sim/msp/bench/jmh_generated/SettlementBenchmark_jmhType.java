@@ -0,0 +1,4 @@
+package org.mars_sim.msp.bench.jmh_generated;
+public class SettlementBenchmark_jmhType extends SettlementBenchmark_jmhType_B3 {
+}
+
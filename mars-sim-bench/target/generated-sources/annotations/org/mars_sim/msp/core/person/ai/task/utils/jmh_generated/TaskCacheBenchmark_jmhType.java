@@ -0,0 +1,4 @@
+package org.mars_sim.msp.core.person.ai.task.utils.jmh_generated;
+public class TaskCacheBenchmark_jmhType extends TaskCacheBenchmark_jmhType_B3 {
+}
+
@@ -8,16 +8,23 @@
 package org.mars.sim.console.chat.simcommand;
 
 import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.Arrays;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 import org.mars.sim.console.chat.ChatCommand;
 import org.mars.sim.console.chat.Conversation;
 import org.mars.sim.console.chat.ConversationRole;
+import org.mars_sim.msp.core.SimulationFiles;
 import org.mars_sim.msp.core.logging.DiagnosticsManager;
+import org.mars_sim.msp.core.logging.LatencyHistogram;
+import org.mars_sim.msp.core.logging.PulseProfiler;
 
 /**
- * Controls which diagnostics are enabled.
+ * Controls which diagnostics are enabled. Also reports on the pulse profiler.
  */
 public class DiagnosticsCommand extends ChatCommand {
 	public final static ChatCommand DIAGNOSTICS = new DiagnosticsCommand();
@@ -33,7 +40,11 @@ public class DiagnosticsCommand extends ChatCommand {
 		String module = null;
 		boolean enabled = true;
 		if (input != null) {
-			String []parts = input.split(" ");
+			String []parts = input.trim().split(" +");
+			if ((parts.length >= 2) && parts[0].equalsIgnoreCase(DiagnosticsManager.PROFILE_MODULE)
+					&& executeProfile(context, parts)) {
+				return true;
+			}
 			if (parts.length == 2) {
 				module = parts[0];
 				if (parts[1].equalsIgnoreCase("Y")) {
@@ -66,10 +77,80 @@ public class DiagnosticsCommand extends ChatCommand {
 		return result;
 	}
 	
+	/**
+	 * Handles the profiler queries.
+	 * 
+	 * @param context
+	 * @param parts Arguments; the first is the profile module
+	 * @return Was the query recognised
+	 */
+	private boolean executeProfile(Conversation context, String[] parts) {
+		String action = parts[1].toLowerCase();
+		switch(action) {
+		case "show":
+			showProfile(context);
+			return true;
+
+		case "reset":
+			PulseProfiler.reset();
+			context.println("Profile recordings cleared");
+			return true;
+
+		case "export":
+			if (parts.length != 3) {
+				return false;
+			}
+			// Only write inside the data directory
+			Path dir = Paths.get(SimulationFiles.getDataDir()).toAbsolutePath().normalize();
+			Path file = dir.resolve(parts[2]).normalize();
+			if (!file.startsWith(dir) || file.equals(dir)) {
+				context.println("Profile can only be written in " + dir);
+				return true;
+			}
+			try {
+				PulseProfiler.export(file.toFile());
+				context.println("Profile written to " + file);
+			} catch (IOException e) {
+				context.println("Problem writing profile " + e.getMessage());
+			}
+			return true;
+
+		default:
+			return false;
+		}
+	}
+
+	/**
+	 * Displays the profiled sections; durations are in microseconds.
+	 * 
+	 * @param context
+	 */
+	private void showProfile(Conversation context) {
+		Map<String, LatencyHistogram> sections = PulseProfiler.getSections();
+		if (sections.isEmpty()) {
+			context.println("Nothing profiled; enable with '" + DiagnosticsManager.PROFILE_MODULE + " Y'");
+			return;
+		}
+
+		StructuredResponse response = new StructuredResponse();
+		response.appendTableHeading("Section (usec)", 36, "Count", 8, "Mean", 9, "p50", 9, "p99", 9, "Max", 9);
+		for (Map.Entry<String, LatencyHistogram> e : sections.entrySet()) {
+			LatencyHistogram h = e.getValue();
+			response.appendTableRow(e.getKey(), (int) h.getCount(), h.getMean() / 1000D,
+									h.getPercentile(50) / 1000D, h.getPercentile(99) / 1000D,
+									h.getMax() / 1000D);
+		}
+		context.println(response.getOutput());
+	}
+
 	private void printHelp(Conversation context) {
 		String modules = Arrays.stream(DiagnosticsManager.MODULE_NAMES).collect(
 						Collectors.joining(",", "'", "'"));
 		context.println("Sorry wrong format. Must have arguments of <module name> <Y|N>");
 		context.println("Module names are " + modules);
+		context.println("Profiler queries are '" + DiagnosticsManager.PROFILE_MODULE
+						+ " show', '" + DiagnosticsManager.PROFILE_MODULE + " reset' and '"
+						+ DiagnosticsManager.PROFILE_MODULE + " export <file.csv|file.json>'; the file is written in "
+						+ SimulationFiles.getDataDir());
 	}
 }
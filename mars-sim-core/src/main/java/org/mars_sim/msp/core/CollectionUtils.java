@@ -27,7 +27,6 @@ import org.mars_sim.msp.core.vehicle.VehicleType;
  */
 public class CollectionUtils {
 
-	private static UnitManager unitManager = Simulation.instance().getUnitManager();
 	private static SimulationConfig simulationConfig = SimulationConfig.instance();
 
 	public static Collection<Equipment> getEquipment(
@@ -61,6 +60,14 @@ public class CollectionUtils {
 
 	}
 
+	/**
+	 * Gets the unit manager of the running simulation; it is replaced when a
+	 * simulation is loaded.
+	 */
+	private static UnitManager getUnitManager() {
+		return Simulation.instance().getUnitManager();
+	}
+
 	/**
 	 * Gets the base mass of a vehicle type.
 	 * 
@@ -79,14 +86,9 @@ public class CollectionUtils {
 	 * @return
 	 */
 	public static int findSettlementID(String name) {
-		if (unitManager == null)
-			unitManager = Simulation.instance().getUnitManager();
-
-		Collection<Settlement> ss = unitManager.getSettlements();
-		for (Settlement s : ss) {
-			if (s.getName().equals(name))
-				return s.getIdentifier();
-		}
+		Settlement s = getUnitManager().getSettlementByName(name);
+		if (s != null)
+			return s.getIdentifier();
 
 		return -1;
 	}
@@ -98,16 +100,7 @@ public class CollectionUtils {
 	 * @return
 	 */
 	public static Settlement findSettlement(String name) {
-		if (unitManager == null)
-			unitManager = Simulation.instance().getUnitManager();
-
-		Collection<Settlement> ss = unitManager.getSettlements();
-		for (Settlement s : ss) {
-			if (s.getName().equals(name))
-				return s;
-		}
-
-		return null;
+		return getUnitManager().getSettlementByName(name);
 	}
 
 
@@ -118,16 +111,7 @@ public class CollectionUtils {
 	 * @return
 	 */
 	public static Settlement findSettlement(Coordinates c) {
-		if (unitManager == null)
-			unitManager = Simulation.instance().getUnitManager();
-
-		Collection<Settlement> ss = unitManager.getSettlements();
-		for (Settlement s : ss) {
-			if (s.getCoordinates().equals(c) || s.getCoordinates() == c)
-				return s;
-		}
-
-		return null;
+		return getUnitManager().getSettlementByLocation(c);
 	}
 
 	/**
@@ -137,10 +121,7 @@ public class CollectionUtils {
 	 * @return
 	 */
 	public static Vehicle findVehicle(Coordinates c) {
-		if (unitManager == null)
-			unitManager = Simulation.instance().getUnitManager();
-
-		Collection<Vehicle> list = unitManager.getVehicles();
+		Collection<Vehicle> list = getUnitManager().getVehicles();
 		for (Vehicle v : list) {
 			if (v.getCoordinates().equals(c) || v.getCoordinates() == c)
 				return v;
@@ -193,7 +174,7 @@ public class CollectionUtils {
 		List<Person> result = new ArrayList<Person>();
 
 		if (settlement != null) {
-			Iterator<Person> i = unitManager.getPeople().iterator();
+			Iterator<Person> i = getUnitManager().getPeople().iterator();
 			while (i.hasNext()) {
 				Person person = i.next();
 				// Only select living people.
@@ -221,7 +202,7 @@ public class CollectionUtils {
 	public static int getTotalNumPart(int id) {
 		int result = 0;
 		// Obtain the total # of this part in used from all settlements
-		Collection<Settlement> ss = unitManager.getSettlements();
+		Collection<Settlement> ss = getUnitManager().getSettlements();
 		for (Settlement s : ss) {
 			int num = s.getItemResourceStored(id);
 			result += num;
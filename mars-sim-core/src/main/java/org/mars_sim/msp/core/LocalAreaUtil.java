@@ -23,6 +23,7 @@ import org.mars_sim.msp.core.structure.Settlement;
 import org.mars_sim.msp.core.structure.building.Building;
 import org.mars_sim.msp.core.structure.construction.ConstructionSite;
 import org.mars_sim.msp.core.time.MarsClock;
+import org.mars_sim.msp.core.time.MissionTime;
 import org.mars_sim.msp.core.tool.RandomUtil;
 import org.mars_sim.msp.core.vehicle.Vehicle;
 
@@ -47,7 +48,7 @@ public class LocalAreaUtil {
 	private static final Map<Coordinates, Area> obstacleAreaCache = new ConcurrentHashMap<Coordinates, Area>();
 
 	/** Time stamps for obstacle area cache. */
-	private static final Map<Coordinates, String> obstacleAreaTimestamps = new ConcurrentHashMap<Coordinates, String>();
+	private static final Map<Coordinates, Long> obstacleAreaTimestamps = new ConcurrentHashMap<Coordinates, Long>();
 
 	private static UnitManager unitManager;
 	private static MarsClock marsClock;
@@ -657,9 +658,8 @@ public class LocalAreaUtil {
 		boolean cached = false;
 		Area obstacleArea = null;
 		if (useCache && obstacleAreaCache.containsKey(coordinates)) {
-			String currentTimestamp = marsClock.getDateTimeStamp();
-			String cachedTimestamp = obstacleAreaTimestamps.get(coordinates);
-			if (currentTimestamp.equals(cachedTimestamp)) {
+			Long cachedTimestamp = obstacleAreaTimestamps.get(coordinates);
+			if ((cachedTimestamp != null) && (cachedTimestamp == MissionTime.of(marsClock))) {
 				cached = true;
 				obstacleArea = obstacleAreaCache.get(coordinates);
 			}
@@ -701,10 +701,9 @@ public class LocalAreaUtil {
 		// Store cached obstacle area for location with current timestamp if needed.
 		if (useCache && !cached && (obstacleArea != null)) {
 			obstacleAreaCache.put(coordinates, obstacleArea);
-//			String currentTimestamp = marsClock.getDateTimeStamp();
 			if (marsClock == null)
 				marsClock = Simulation.instance().getMasterClock().getMarsClock();
-			obstacleAreaTimestamps.put(coordinates, marsClock.getDateTimeStamp());
+			obstacleAreaTimestamps.put(coordinates, MissionTime.of(marsClock));
 		}
 
 		return result;
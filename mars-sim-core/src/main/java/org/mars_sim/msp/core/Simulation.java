@@ -43,6 +43,7 @@ import org.mars_sim.msp.core.goods.CreditManager;
 import org.mars_sim.msp.core.goods.GoodsManager;
 import org.mars_sim.msp.core.interplanetary.transport.TransportManager;
 import org.mars_sim.msp.core.interplanetary.transport.resupply.Resupply;
+import org.mars_sim.msp.core.logging.PulseProfiler;
 import org.mars_sim.msp.core.logging.SimuLoggingFormatter;
 import org.mars_sim.msp.core.malfunction.MalfunctionFactory;
 import org.mars_sim.msp.core.malfunction.MalfunctionManager;
@@ -54,6 +55,7 @@ import org.mars_sim.msp.core.person.ai.job.Job;
 import org.mars_sim.msp.core.person.ai.mission.Mission;
 import org.mars_sim.msp.core.person.ai.mission.MissionManager;
 import org.mars_sim.msp.core.person.ai.mission.MissionPlanning;
+import org.mars_sim.msp.core.person.ai.mission.RoutePlanner;
 import org.mars_sim.msp.core.person.ai.role.Role;
 import org.mars_sim.msp.core.person.ai.role.RoleUtil;
 import org.mars_sim.msp.core.person.ai.social.Relation;
@@ -437,7 +439,8 @@ public class Simulation implements ClockListener, Serializable {
 											simulationConfig.getPartConfiguration());
 		Relation.initializeInstances(unitManager);
 		CreditManager.initializeInstances(unitManager);	
-		GoodsManager.initializeInstances(simulationConfig, marsClock, missionManager, unitManager);
+		GoodsManager.initializeInstances(simulationConfig, marsClock, masterClock.getTimingWheel(),
+										 missionManager, unitManager);
 
 		RadiationExposure.initializeInstances(masterClock, marsClock);
 
@@ -658,6 +661,7 @@ public class Simulation implements ClockListener, Serializable {
 
 		// Reload mission configs
 		missionManager.initializeInstances(simulationConfig);
+		RoutePlanner.clearCache();
 
 		//  Re-initialize the GameManager
 		GameManager.initializeInstances(unitManager);
@@ -717,7 +721,8 @@ public class Simulation implements ClockListener, Serializable {
 		// Re-initialize Structure related class
 		BuildingManager.initializeInstances(this, masterClock, marsClock, eventManager, unitManager);
 		Settlement.initializeInstances(unitManager);		// loadDefaultValues()
-		GoodsManager.initializeInstances(simulationConfig, marsClock, missionManager, unitManager);
+		GoodsManager.initializeInstances(simulationConfig, marsClock, masterClock.getTimingWheel(),
+										 missionManager, unitManager);
 
 		// Miscs.
 		AirComposition.initializeInstances(pc);
@@ -1257,6 +1262,11 @@ public class Simulation implements ClockListener, Serializable {
 		if (doneInitializing && !clockOnPause) {
 			// Refresh all Data loggers; this can be refactored later to a Manager class
 			DataLogger.changeTime(pulse.getMarsTime());
+
+			// Run the work due at set times
+			long start = PulseProfiler.start();
+			masterClock.getTimingWheel().timePassing(pulse);
+			PulseProfiler.stop(PulseProfiler.SCHEDULED, start);
 			
 			orbitInfo.timePassing(pulse);
 
@@ -1319,6 +1329,7 @@ public class Simulation implements ClockListener, Serializable {
 			missionManager.destroy();
 			missionManager = null;
 		}
+		RoutePlanner.clearCache();
 
 		if (medicalManager != null) {
 			medicalManager.destroy();
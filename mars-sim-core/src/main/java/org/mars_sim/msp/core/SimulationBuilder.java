@@ -11,7 +11,10 @@ import java.io.FileNotFoundException;
 import java.lang.Runtime.Version;
 import java.nio.file.Paths;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.logging.Logger;
 
 import org.apache.commons.cli.CommandLine;
@@ -58,6 +61,8 @@ public class SimulationBuilder {
 	private boolean useCrews = true;
 	private UserConfigurableConfig<Crew> crewConfig;
 	private Scenario bootstrap;
+	private Map<String, Long> startupPhases = new LinkedHashMap<>();
+	private long phaseStart;
 
 	public SimulationBuilder() {
 		super();
@@ -254,6 +259,21 @@ public class SimulationBuilder {
 	 * @return The new simulation started
 	 */
 	public Simulation start() {
+		Simulation sim = build();
+
+		sim.startClock(false);
+				
+		return sim;
+	}
+
+	/**
+	 * Uses the previously defines options to create or load the Simulation but
+	 * does not start the clock. The caller can then drive the simulation
+	 * directly, e.g. with {@link org.mars_sim.msp.core.time.MasterClock#fixedStep(double)}.
+	 * 
+	 * @return The new simulation
+	 */
+	public Simulation build() {
 		Version version = java.lang.Runtime.version();
 		String WHITESPACES = "---------------------------------------------------";
 		logger.config(WHITESPACES);
@@ -266,11 +286,15 @@ public class SimulationBuilder {
 		logger.config("  Java additional build Info = " + version.optional().orElse("None"));
 		logger.config("       Java Pre-Release Info = " + version.pre().orElse("NA"));
 		logger.config(WHITESPACES);
+
+		startupPhases.clear();
+		phaseStart = System.currentTimeMillis();
 		
 		// Load xml files but not until arguments parsed since it may change 
 		// the data directory
 		SimulationConfig simConfig = SimulationConfig.instance();
 		simConfig.loadConfig();
+		endPhase("Load configuration");
 		
 		// Initialize storage manager
 //		simConfig.createStorageManager();
@@ -281,6 +305,7 @@ public class SimulationBuilder {
 		boolean loaded = false;
 		if (simFile != null) {
 			loaded  = loadSimulation();
+			endPhase("Load simulation");
 		}
 		
 		InitialSettlement spec = null;
@@ -290,6 +315,7 @@ public class SimulationBuilder {
 		if (!loaded) {
 			// Create a new simulation
 			sim.createNewSimulation(userTimeRatio); 
+			endPhase("Create simulation");
 			
 			SettlementBuilder builder = new SettlementBuilder(sim,
 					simConfig);
@@ -313,13 +339,39 @@ public class SimulationBuilder {
 																simConfig.getSettlementConfiguration(),
 																simConfig.getReportingAuthorityFactory());
 			}
+			endPhase("Create settlements");
 		}
 
-		sim.startClock(false);
+		StringBuilder report = new StringBuilder("Startup phases:");
+		startupPhases.forEach((phase, millis) -> report.append(' ').append(phase).append(' ')
+														.append(millis).append(" ms,"));
+		report.append(" total ").append(startupPhases.values().stream().mapToLong(Long::longValue).sum())
+				.append(" ms.");
+		logger.config(report.toString());
 				
 		return sim;
 	}
 
+	/**
+	 * Records the duration of a startup phase that has just completed.
+	 * 
+	 * @param phase
+	 */
+	private void endPhase(String phase) {
+		long now = System.currentTimeMillis();
+		startupPhases.put(phase, now - phaseStart);
+		phaseStart = now;
+	}
+
+	/**
+	 * Gets how long each phase of the last build took.
+	 * 
+	 * @return Milliseconds keyed on phase name in order of execution
+	 */
+	public Map<String, Long> getStartupPhases() {
+		return Collections.unmodifiableMap(startupPhases);
+	}
+
 	/**
 	 * Loads a previously saved simulation.
 	 * 
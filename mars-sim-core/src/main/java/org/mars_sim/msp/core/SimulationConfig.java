@@ -26,6 +26,7 @@ import java.util.Arrays;
 import java.util.EnumMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.logging.Level;
 
@@ -36,6 +37,7 @@ import org.jdom2.Document;
 import org.jdom2.Element;
 import org.jdom2.JDOMException;
 import org.jdom2.input.SAXBuilder;
+import org.mars_sim.msp.core.configuration.ConfigCache;
 import org.mars_sim.msp.core.environment.LandmarkConfig;
 import org.mars_sim.msp.core.environment.MineralMapConfig;
 import org.mars_sim.msp.core.food.FoodProductionConfig;
@@ -102,6 +104,9 @@ public class SimulationConfig implements Serializable {
 	private static final String QUOTATION_FILE = "quotations";
 	private static final String VALUE = "value";
 
+	// Binary copy of the parsed config files in the data directory
+	private static final String CONFIG_CACHE_FILE = "config.cache";
+
     public static final String EXPERIMENTS_FILE = "/" + "json" + "/" + "experiments.json";
 
 	// Simulation element names.
@@ -1001,16 +1006,7 @@ public class SimulationConfig implements Serializable {
 	public Document parseXMLFileAsJDOMDocument(String filename, boolean useDTD) {
 		File f = getBundledXML(filename);
 		if (f != null) {
-			try {
-			    SAXBuilder builder = new SAXBuilder();
-			    builder.setProperty(XMLConstants.ACCESS_EXTERNAL_DTD, "");
-			    builder.setProperty(XMLConstants.ACCESS_EXTERNAL_SCHEMA, "");
-				return builder.build(f);
-		    }
-		    catch (JDOMException | IOException e)
-		    {
-		        logger.severe("Can parse XML " + filename + ", " + e.getMessage());
-		    }
+			return parseXMLFile(f, filename);
 		}
 		else {
 			logger.warning("Can not find default XML " + filename);
@@ -1018,36 +1014,114 @@ public class SimulationConfig implements Serializable {
 		return null;
 	}
 
+	/**
+	 * Parses an XML file that has been located.
+	 *
+	 * @param f the file
+	 * @param filename the name used to find the file
+	 * @return DOM document; null if it can not be parsed
+	 */
+	private Document parseXMLFile(File f, String filename) {
+		try {
+		    SAXBuilder builder = new SAXBuilder();
+		    builder.setProperty(XMLConstants.ACCESS_EXTERNAL_DTD, "");
+		    builder.setProperty(XMLConstants.ACCESS_EXTERNAL_SCHEMA, "");
+			return builder.build(f);
+	    }
+	    catch (JDOMException | IOException e)
+	    {
+	        logger.severe("Can parse XML " + filename + ", " + e.getMessage());
+	    }
+		return null;
+	}
+
+
+	/**
+	 * Loads several XML files. If the config cache matches the files the
+	 * documents come from there; otherwise the files are parsed at the same
+	 * time and the cache is rewritten. Parsing a file does not depend on any
+	 * other so they can be done in any order.
+	 *
+	 * @param filenames
+	 * @return Documents keyed on filename; a file that can not be parsed is missing
+	 */
+	private Map<String, Document> loadXMLFiles(String... filenames) {
+		Map<String, File> sources = new ConcurrentHashMap<>();
+		Arrays.stream(filenames).parallel().forEach(f -> {
+			File xml = getBundledXML(f);
+			if (xml != null) {
+				sources.put(f, xml);
+			}
+			else {
+				logger.warning("Can not find default XML " + f);
+			}
+		});
+
+		ConfigCache cache = new ConfigCache(new File(SimulationFiles.getDataDir(), CONFIG_CACHE_FILE),
+											Version.getBuild());
+		Map<String, Document> result = cache.load(sources);
+		if (result != null) {
+			logger.config("Loaded " + result.size() + " xml config files from the cache.");
+			return result;
+		}
+
+		Map<String, Document> parsed = new ConcurrentHashMap<>();
+		sources.entrySet().parallelStream().forEach(e -> {
+			Document doc = parseXMLFile(e.getValue(), e.getKey());
+			if (doc != null) {
+				parsed.put(e.getKey(), doc);
+			}
+		});
+
+		// Only cache a complete set
+		if (parsed.size() == filenames.length) {
+			cache.save(sources, parsed);
+		}
+		return parsed;
+	}
 
 	/**
 	 * load the default config files
 	 */
 	private void loadDefaultConfiguration() {
+		long start = System.currentTimeMillis();
+
+		// Parse all the files in parallel or take them from the cache
+		Map<String, Document> docs = loadXMLFiles(RESOURCE_FILE, PART_FILE, PART_PACKAGE_FILE, PEOPLE_FILE,
+				MEDICAL_FILE, LANDMARK_FILE, MINERAL_MAP_FILE, MALFUNCTION_FILE, CROP_FILE, VEHICLE_FILE,
+				BUILDING_FILE, RESUPPLY_FILE, SETTLEMENT_FILE, MANUFACTURE_FILE, CONSTRUCTION_FILE,
+				FOODPRODUCTION_FILE, MEAL_FILE, ROBOT_FILE, QUOTATION_FILE);
+		long parsed = System.currentTimeMillis();
+
 		raFactory = new ReportingAuthorityFactory();
 
-		// Load subset configuration classes.
-		resourceConfig = new AmountResourceConfig(parseXMLFileAsJDOMDocument(RESOURCE_FILE, true));
-		partConfig = new PartConfig(parseXMLFileAsJDOMDocument(PART_FILE, true));
-		partPackageConfig = new PartPackageConfig(parseXMLFileAsJDOMDocument(PART_PACKAGE_FILE, true));
-		personConfig = new PersonConfig(parseXMLFileAsJDOMDocument(PEOPLE_FILE, true));
-		medicalConfig = new MedicalConfig(parseXMLFileAsJDOMDocument(MEDICAL_FILE, true));
-		landmarkConfig = new LandmarkConfig(parseXMLFileAsJDOMDocument(LANDMARK_FILE, true));
-		mineralMapConfig = new MineralMapConfig(parseXMLFileAsJDOMDocument(MINERAL_MAP_FILE, true));
-		malfunctionConfig = new MalfunctionConfig(parseXMLFileAsJDOMDocument(MALFUNCTION_FILE, true));
-		cropConfig = new CropConfig(parseXMLFileAsJDOMDocument(CROP_FILE, true), personConfig);
-		vehicleConfig = new VehicleConfig(parseXMLFileAsJDOMDocument(VEHICLE_FILE, true));
-		buildingConfig = new BuildingConfig(parseXMLFileAsJDOMDocument(BUILDING_FILE, true));
-		resupplyConfig = new ResupplyConfig(parseXMLFileAsJDOMDocument(RESUPPLY_FILE, true), partPackageConfig);
-		settlementConfig = new SettlementConfig(parseXMLFileAsJDOMDocument(SETTLEMENT_FILE, true), partPackageConfig);
-		manufactureConfig = new ManufactureConfig(parseXMLFileAsJDOMDocument(MANUFACTURE_FILE, true));
-		constructionConfig = new ConstructionConfig(parseXMLFileAsJDOMDocument(CONSTRUCTION_FILE, true));
-		foodProductionConfig = new FoodProductionConfig(parseXMLFileAsJDOMDocument(FOODPRODUCTION_FILE, true));
-		mealConfig = new MealConfig(parseXMLFileAsJDOMDocument(MEAL_FILE, true));
-		robotConfig = new RobotConfig(parseXMLFileAsJDOMDocument(ROBOT_FILE, true));
-		quotationConfig = new QuotationConfig(parseXMLFileAsJDOMDocument(QUOTATION_FILE, true));
+		// Load subset configuration classes. These register resources and parts
+		// that later ones use so the order matters, e.g. resources before parts,
+		// part packages before settlements, people before crops.
+		resourceConfig = new AmountResourceConfig(docs.get(RESOURCE_FILE));
+		partConfig = new PartConfig(docs.get(PART_FILE));
+		partPackageConfig = new PartPackageConfig(docs.get(PART_PACKAGE_FILE));
+		personConfig = new PersonConfig(docs.get(PEOPLE_FILE));
+		medicalConfig = new MedicalConfig(docs.get(MEDICAL_FILE));
+		landmarkConfig = new LandmarkConfig(docs.get(LANDMARK_FILE));
+		mineralMapConfig = new MineralMapConfig(docs.get(MINERAL_MAP_FILE));
+		malfunctionConfig = new MalfunctionConfig(docs.get(MALFUNCTION_FILE));
+		cropConfig = new CropConfig(docs.get(CROP_FILE), personConfig);
+		vehicleConfig = new VehicleConfig(docs.get(VEHICLE_FILE));
+		buildingConfig = new BuildingConfig(docs.get(BUILDING_FILE));
+		resupplyConfig = new ResupplyConfig(docs.get(RESUPPLY_FILE), partPackageConfig);
+		settlementConfig = new SettlementConfig(docs.get(SETTLEMENT_FILE), partPackageConfig);
+		manufactureConfig = new ManufactureConfig(docs.get(MANUFACTURE_FILE));
+		constructionConfig = new ConstructionConfig(docs.get(CONSTRUCTION_FILE));
+		foodProductionConfig = new FoodProductionConfig(docs.get(FOODPRODUCTION_FILE));
+		mealConfig = new MealConfig(docs.get(MEAL_FILE));
+		robotConfig = new RobotConfig(docs.get(ROBOT_FILE));
+		quotationConfig = new QuotationConfig(docs.get(QUOTATION_FILE));
 //		experimentConfig = new ExperimentConfig(EXPERIMENTS_FILE);
 		scienceConfig = new ScienceConfig();
 
-		logger.config("Done loading all xml config files.");
+		long done = System.currentTimeMillis();
+		logger.config("Done loading all xml config files; reading took " + (parsed - start)
+					+ " ms, creating the configs took " + (done - parsed) + " ms.");
 	}
 }
@@ -8,6 +8,7 @@ package org.mars_sim.msp.core;
 
 import java.io.Serializable;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
@@ -60,6 +61,8 @@ public class UnitManager implements Serializable, Temporal {
 	private static final int TYPE_BITS = 4;
 	private static final int TYPE_MASK = (1 << (TYPE_BITS)) - 1;
 	private static final int MAX_BASE_ID = (1 << (32-TYPE_BITS)) - 1;
+	// Initial size of the index of units
+	private static final int INITIAL_INDEX = 1024;
 
 	// Data members
 	/** Flag true if the class has just been loaded. */
@@ -96,6 +99,13 @@ public class UnitManager implements Serializable, Temporal {
 	/** A map of building with its unit identifier. */
 	private Map<Integer, Building> lookupBuilding;
 
+	/** All units indexed on the base part of their identifier. */
+	private transient volatile Unit[] unitIndex;
+	/** Settlements by name. */
+	private transient Map<String, Settlement> settlementNames;
+	/** Settlements by location. */
+	private transient Map<Coordinates, Settlement> settlementLocations;
+
 	private static SimulationConfig simulationConfig = SimulationConfig.instance();
 	private static Simulation sim = Simulation.instance();
 
@@ -120,6 +130,104 @@ public class UnitManager implements Serializable, Temporal {
 		lookupBuilding   = new ConcurrentHashMap<>();
 
 		listeners = new HashSet<>();
+
+		buildIndexes();
+	}
+
+	/**
+	 * Builds the indexes from the unit maps. They are not saved and so are
+	 * built again on the first look up after loading.
+	 *
+	 * @return The index of units
+	 */
+	private synchronized Unit[] buildIndexes() {
+		if (unitIndex != null) {
+			return unitIndex;
+		}
+
+		settlementNames = new ConcurrentHashMap<>();
+		settlementLocations = new ConcurrentHashMap<>();
+		unitIndex = new Unit[Math.max(INITIAL_INDEX, Integer.highestOneBit(Math.max(uniqueId, 1)) * 2)];
+		for (Map<Integer, ? extends Unit> map : Arrays.asList(lookupSettlement, lookupSite, lookupPerson,
+						lookupRobot, lookupVehicle, lookupEquipment, lookupBuilding)) {
+			map.values().forEach(this::index);
+		}
+		return unitIndex;
+	}
+
+	/**
+	 * Adds a unit to the indexes.
+	 *
+	 * @param unit
+	 */
+	private void index(Unit unit) {
+		int base = unit.getIdentifier() >>> TYPE_BITS;
+		Unit[] index = unitIndex;
+		if (base >= index.length) {
+			int size = index.length;
+			while (size <= base) {
+				size *= 2;
+			}
+			index = Arrays.copyOf(index, size);
+		}
+		index[base] = unit;
+		// Write the field again so readers on other threads see the new unit
+		unitIndex = index;
+
+		if (unit.getUnitType() == UnitType.SETTLEMENT) {
+			Settlement s = (Settlement) unit;
+			if (s.getName() != null) {
+				settlementNames.put(s.getName(), s);
+			}
+			if (s.getCoordinates() != null) {
+				settlementLocations.putIfAbsent(s.getCoordinates(), s);
+			}
+		}
+	}
+
+	/**
+	 * Removes a unit from the indexes.
+	 *
+	 * @param unit
+	 */
+	private void unindex(Unit unit) {
+		int base = unit.getIdentifier() >>> TYPE_BITS;
+		Unit[] index = unitIndex;
+		if ((base < index.length) && (index[base] == unit)) {
+			index[base] = null;
+			unitIndex = index;
+		}
+
+		if (unit.getUnitType() == UnitType.SETTLEMENT) {
+			settlementNames.values().removeIf(s -> s == unit);
+			settlementLocations.values().removeIf(s -> s == unit);
+		}
+	}
+
+	/**
+	 * Finds a unit in the index.
+	 *
+	 * @param id Identifier of the unit
+	 * @param type Type the unit must be
+	 * @return null if there is no such unit of that type
+	 */
+	@SuppressWarnings("unchecked")
+	private <T extends Unit> T lookup(int id, UnitType type) {
+		if ((id & TYPE_MASK) != type.ordinal()) {
+			return null;
+		}
+		Unit[] index = unitIndex;
+		if (index == null) {
+			index = buildIndexes();
+		}
+		int base = id >>> TYPE_BITS;
+		if (base < index.length) {
+			Unit found = index[base];
+			if ((found != null) && (found.getIdentifier() == id)) {
+				return (T) found;
+			}
+		}
+		return null;
 	}
 
 	/**
@@ -166,14 +274,18 @@ public class UnitManager implements Serializable, Temporal {
 	 * @param id identifier
 	 * @return
 	 */
-	public Unit getUnitByID(Integer id) {
-		if (id.intValue() == Unit.MARS_SURFACE_UNIT_ID)
+	public Unit getUnitByID(int id) {
+		if (id == Unit.MARS_SURFACE_UNIT_ID)
 			return marsSurface;
-		else if (id.intValue() == Unit.UNKNOWN_UNIT_ID) {
+		else if (id == Unit.UNKNOWN_UNIT_ID) {
 			return null;
 		}
 
-		Unit found = getUnitMap(id).get(id);
+		UnitType type = getTypeFromIdentifier(id);
+		if ((type == UnitType.PLANET) || (type == UnitType.EVA_SUIT)) {
+			throw new IllegalArgumentException("No Unit map for type " + type);
+		}
+		Unit found = lookup(id, type);
 		if (found == null) {
 			logger.warning("Unit not found " + id + ". Type of unit : " + getTypeFromIdentifier(id)
 			               + " (Base ID:" + (id >>> TYPE_BITS) + ").");
@@ -181,8 +293,53 @@ public class UnitManager implements Serializable, Temporal {
 		return found;
 	}
 
-	public Settlement getSettlementByID(Integer id) {
-		return lookupSettlement.get(id);
+	public Settlement getSettlementByID(int id) {
+		return lookup(id, UnitType.SETTLEMENT);
+	}
+
+	/**
+	 * Gets the settlement with a name.
+	 *
+	 * @param name
+	 * @return null if there is none
+	 */
+	public Settlement getSettlementByName(String name) {
+		if (name == null) {
+			return null;
+		}
+		if (unitIndex == null) {
+			buildIndexes();
+		}
+
+		Settlement found = settlementNames.get(name);
+		if ((found != null) && found.getName().equals(name)) {
+			return found;
+		}
+
+		// The settlement may have been renamed since it was indexed
+		for (Settlement s : lookupSettlement.values()) {
+			if (s.getName().equals(name)) {
+				settlementNames.put(name, s);
+				return s;
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Gets the settlement at a location.
+	 *
+	 * @param location
+	 * @return null if there is none
+	 */
+	public Settlement getSettlementByLocation(Coordinates location) {
+		if (location == null) {
+			return null;
+		}
+		if (unitIndex == null) {
+			buildIndexes();
+		}
+		return settlementLocations.get(location);
 	}
 
 	public Settlement getCommanderSettlement() {
@@ -214,24 +371,24 @@ public class UnitManager implements Serializable, Temporal {
 		return settlements;
 	}
 
-	public Person getPersonByID(Integer id) {
-		return lookupPerson.get(id);
+	public Person getPersonByID(int id) {
+		return lookup(id, UnitType.PERSON);
 	}
 
-	public Robot getRobotByID(Integer id) {
-		return lookupRobot.get(id);
+	public Robot getRobotByID(int id) {
+		return lookup(id, UnitType.ROBOT);
 	}
 
-	public Equipment getEquipmentByID(Integer id) {
-		return lookupEquipment.get(id);
+	public Equipment getEquipmentByID(int id) {
+		return lookup(id, UnitType.EQUIPMENT);
 	}
 
-	public Building getBuildingByID(Integer id) {
-		return lookupBuilding.get(id);
+	public Building getBuildingByID(int id) {
+		return lookup(id, UnitType.BUILDING);
 	}
 
-	public Vehicle getVehicleByID(Integer id) {
-		return lookupVehicle.get(id);
+	public Vehicle getVehicleByID(int id) {
+		return lookup(id, UnitType.VEHICLE);
 	}
 
 	/**
@@ -282,6 +439,13 @@ public class UnitManager implements Serializable, Temporal {
 				throw new IllegalArgumentException("Cannot store unit type:" + unit.getUnitType());
 			}
 
+			if (unit.getUnitType() != UnitType.PLANET) {
+				if (unitIndex == null) {
+					buildIndexes();
+				}
+				index(unit);
+			}
+
 			// Fire unit manager event.
 			fireUnitManagerUpdate(UnitManagerEventType.ADD_UNIT, unit);
 		}
@@ -296,6 +460,9 @@ public class UnitManager implements Serializable, Temporal {
 		Map<Integer,? extends Unit> map = getUnitMap(unit.getIdentifier());
 
 		map.remove(unit.getIdentifier());
+		if (unitIndex != null) {
+			unindex(unit);
+		}
 
 		// Fire unit manager event.
 		fireUnitManagerUpdate(UnitManagerEventType.REMOVE_UNIT, unit);
@@ -722,6 +889,10 @@ public class UnitManager implements Serializable, Temporal {
 		lookupRobot = null;
 		lookupEquipment = null;
 
+		unitIndex = null;
+		settlementNames = null;
+		settlementLocations = null;
+
 		marsSurface = null;
 
 		listeners.clear();
@@ -88,6 +88,13 @@ public class AirComposition implements Serializable {
 
 	private Map<Integer, GasDetails> gases = new HashMap<>();
 	private double accumulatedTime;
+
+	// Occupant demand accumulated since the last settlement of the gases
+	private double o2Demand;
+	private double cO2Demand;
+	private double moistureDemand;
+	/** Fraction of the O2 demand that was met at the last settlement. */
+	private double o2SupplyRatio = 1D;
 	public static final double C_TO_K = 273.15;
 
 	/**
@@ -152,37 +159,90 @@ public class AirComposition implements Serializable {
 	 * Calculate the impact of time passing
 	 */
 	public void timePassing(Building building, ClockPulse pulse) {
-		accumulatedTime += pulse.getElapsed();
 		double tt = building.getCurrentTemperature();
 
-		if (tt > -40 && tt < 40) {
-			double t = AirComposition.C_TO_K + tt;
-
-			if (accumulatedTime >= CALCULATE_FREQUENCY) {
+		if (updateOccupants(tt, pulse.getElapsed())
+				&& (pulse.getMarsTime().getMillisolInt() % MILLISOLS_PER_UPDATE == 0)) {
+			monitorGases(building, AirComposition.C_TO_K + tt);
+		}
+	}
 
-				int numPeople = building.getNumPeople();
+	/**
+	 * Settles the breathing of the occupants when it is due.
+	 * 
+	 * @param tt Current temperature (C)
+	 * @param elapsed Time passed (millisols)
+	 * @return false if the temperature is outside the range the air is modelled for
+	 */
+	boolean updateOccupants(double tt, double elapsed) {
+		accumulatedTime += elapsed;
+
+		if (tt <= -40 || tt >= 40) {
+			// The gases are not updated so drop the demand rather than
+			// settle all of it once the temperature is back in range
+			o2Demand = 0;
+			cO2Demand = 0;
+			moistureDemand = 0;
+			return false;
+		}
 
-				calcPersonImpact(t, numPeople,  accumulatedTime);
-				accumulatedTime = 0;
-			}
+		if (accumulatedTime >= CALCULATE_FREQUENCY) {
+			calcPersonImpact(AirComposition.C_TO_K + tt);
+			accumulatedTime = 0;
+		}
+		return true;
+	}
 
-			if (pulse.getMarsTime().getMillisolInt() % MILLISOLS_PER_UPDATE == 0) {
-				monitorGases(building, t);
-			}
+	/**
+	 * Records the breathing of an occupant. The demand is accumulated and settled
+	 * against the gases once per update of the building rather than per person.
+	 * The amount granted is based on how much of the demand was met at the last
+	 * settlement.
+	 * 
+	 * @param o2Amount Oxygen required (kg)
+	 * @param time The time span of the breathing (millisols)
+	 * @return Oxygen received (kg)
+	 */
+	public double breathe(double o2Amount, double time) {
+		o2Demand += o2Amount;
+		if (o2Consumed > 0) {
+			cO2Demand += o2Amount * cO2Expelled / o2Consumed;
 		}
+		moistureDemand += moistureExpelled * time;
+
+		return o2Amount * o2SupplyRatio;
 	}
 
 	/**
-	 * Update gasses for occupants.
+	 * Gets the fraction of the occupants' oxygen demand met at the last update.
+	 * 
+	 * @return Value between 0 and 1
+	 */
+	public double getO2SupplyRatio() {
+		return o2SupplyRatio;
+	}
+
+	/**
+	 * Update gasses for occupants using the demand accumulated since the last update.
 	 * 
 	 * @param t Current temperature
-	 * @param numPeople Number of people in using air
-	 * @param time The time span of the gas consumption
 	 */
-	private void calcPersonImpact(double t, int numPeople, double time) {
+	private void calcPersonImpact(double t) {
 		
 		totalPressure = 0;
 		totalMass = 0;
+
+		// Settle the O2 demand against what is in the air
+		double o2Available = gases.get(ResourceUtil.oxygenID).mass;
+		double o2Taken = Math.min(o2Demand, o2Available);
+		if (o2Demand > 0) {
+			o2SupplyRatio = o2Taken / o2Demand;
+		}
+		double cO2Added = cO2Demand;
+		double moistureAdded = moistureDemand;
+		o2Demand = 0;
+		cO2Demand = 0;
+		moistureDemand = 0;
 		
 		for(Entry<Integer, GasDetails> g : gases.entrySet()) {
 			int gasId = g.getKey();
@@ -191,11 +251,11 @@ public class AirComposition implements Serializable {
 			// Part 1 : calculate for each gas the partial pressure and # of moles
 			double m = gas.mass;
 			if (gasId == ResourceUtil.co2ID) {
-				m += numPeople * cO2Expelled * time;
+				m += cO2Added;
 			} else if (gasId == ResourceUtil.oxygenID) {
-				m -= numPeople * o2Consumed * time;
+				m -= o2Taken;
 			} else if (gasId == ResourceUtil.waterID) {
-				m += numPeople * moistureExpelled * time;
+				m += moistureAdded;
 			}
 
 			// Divide by molecular mass to convert mass to # of moles
@@ -0,0 +1,232 @@
+/*
+ * Mars Simulation Project
+ * ConfigCache.java
+ * @date 2026-10-19
+ * @author agent
+ */
+package org.mars_sim.msp.core.configuration;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.jdom2.Attribute;
+import org.jdom2.Content;
+import org.jdom2.Document;
+import org.jdom2.Element;
+import org.jdom2.Namespace;
+import org.jdom2.Text;
+import org.mars_sim.msp.core.logging.SimLogger;
+
+/**
+ * A compact binary copy of the parsed XML configuration files. Reading it
+ * rebuilds the same element trees without parsing any XML. The cache is keyed
+ * on a hash of the contents of every XML file plus the build so it is ignored
+ * when anything changes. Only elements, attributes and text are kept; comments,
+ * doc types and namespaced names are dropped as no config class uses them.
+ */
+public class ConfigCache {
+
+	private static final SimLogger logger = SimLogger.getLogger(ConfigCache.class.getName());
+
+	private static final int MAGIC = 0x4D534343; // "MSCC"
+	private static final int FORMAT = 1;
+
+	private static final byte TEXT = 0;
+	private static final byte ELEMENT = 1;
+
+	private File cacheFile;
+	private String build;
+
+	/**
+	 * Constructor.
+	 *
+	 * @param cacheFile File holding the cache
+	 * @param build Build of the simulation
+	 */
+	public ConfigCache(File cacheFile, String build) {
+		this.cacheFile = cacheFile;
+		this.build = build;
+	}
+
+	/**
+	 * Loads the documents from the cache if it matches the XML files.
+	 *
+	 * @param sources XML files keyed on config name
+	 * @return Documents keyed on config name; null if there is no matching cache
+	 */
+	public Map<String, Document> load(Map<String, File> sources) {
+		if (!cacheFile.exists()) {
+			return null;
+		}
+
+		try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(cacheFile)))) {
+			if ((in.readInt() != MAGIC) || (in.readInt() != FORMAT)
+					|| !createKey(sources).equals(in.readUTF())) {
+				logger.config("Configuration cache is out of date.");
+				return null;
+			}
+
+			int count = in.readInt();
+			Map<String, Document> result = new HashMap<>();
+			for (int i = 0; i < count; i++) {
+				String name = in.readUTF();
+				result.put(name, new Document(readElement(in)));
+			}
+			return result;
+		}
+		catch (IOException | RuntimeException e) {
+			logger.warning("Can not read the configuration cache " + cacheFile + ", " + e.getMessage());
+			return null;
+		}
+	}
+
+	/**
+	 * Saves the documents to the cache. The file is replaced in one step so a
+	 * simulation starting at the same time never reads a partial cache.
+	 *
+	 * @param sources XML files keyed on config name
+	 * @param docs Parsed documents keyed on config name
+	 */
+	public void save(Map<String, File> sources, Map<String, Document> docs) {
+		File temp = null;
+		try {
+			File dir = cacheFile.getAbsoluteFile().getParentFile();
+			dir.mkdirs();
+			temp = File.createTempFile("config", ".tmp", dir);
+			try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(temp)))) {
+				out.writeInt(MAGIC);
+				out.writeInt(FORMAT);
+				out.writeUTF(createKey(sources));
+				out.writeInt(docs.size());
+				for (Map.Entry<String, Document> e : docs.entrySet()) {
+					out.writeUTF(e.getKey());
+					writeElement(out, e.getValue().getRootElement());
+				}
+			}
+			Files.move(temp.toPath(), cacheFile.toPath(), StandardCopyOption.REPLACE_EXISTING,
+					   StandardCopyOption.ATOMIC_MOVE);
+		}
+		catch (IOException e) {
+			logger.warning("Can not write the configuration cache " + cacheFile + ", " + e.getMessage());
+			if (temp != null) {
+				temp.delete();
+			}
+		}
+	}
+
+	/**
+	 * Creates the key of a set of XML files from their contents and the build.
+	 *
+	 * @param sources
+	 * @return
+	 * @throws IOException
+	 */
+	private String createKey(Map<String, File> sources) throws IOException {
+		try {
+			MessageDigest digest = MessageDigest.getInstance("SHA-256");
+			digest.update(build.getBytes(StandardCharsets.UTF_8));
+			for (Map.Entry<String, File> e : new TreeMap<>(sources).entrySet()) {
+				digest.update(e.getKey().getBytes(StandardCharsets.UTF_8));
+				digest.update(Files.readAllBytes(e.getValue().toPath()));
+			}
+
+			StringBuilder key = new StringBuilder();
+			for (byte b : digest.digest()) {
+				key.append(String.format("%02x", b));
+			}
+			return key.toString();
+		}
+		catch (NoSuchAlgorithmException e) {
+			throw new IOException("No digest available", e);
+		}
+	}
+
+	private static void writeElement(DataOutputStream out, Element element) throws IOException {
+		out.writeUTF(element.getName());
+
+		int numAttributes = 0;
+		for (Attribute a : element.getAttributes()) {
+			if (a.getNamespace() == Namespace.NO_NAMESPACE) {
+				numAttributes++;
+			}
+		}
+		out.writeInt(numAttributes);
+		for (Attribute a : element.getAttributes()) {
+			if (a.getNamespace() == Namespace.NO_NAMESPACE) {
+				out.writeUTF(a.getName());
+				writeString(out, a.getValue());
+			}
+		}
+
+		int numContent = 0;
+		for (Content c : element.getContent()) {
+			if ((c instanceof Text) || (c instanceof Element)) {
+				numContent++;
+			}
+		}
+		out.writeInt(numContent);
+		for (Content c : element.getContent()) {
+			if (c instanceof Text) {
+				out.writeByte(TEXT);
+				writeString(out, ((Text) c).getText());
+			}
+			else if (c instanceof Element) {
+				out.writeByte(ELEMENT);
+				writeElement(out, (Element) c);
+			}
+		}
+	}
+
+	private static Element readElement(DataInputStream in) throws IOException {
+		Element element = new Element(in.readUTF());
+
+		int numAttributes = in.readInt();
+		for (int i = 0; i < numAttributes; i++) {
+			element.setAttribute(in.readUTF(), readString(in));
+		}
+
+		int numContent = in.readInt();
+		for (int i = 0; i < numContent; i++) {
+			byte type = in.readByte();
+			if (type == TEXT) {
+				element.addContent(new Text(readString(in)));
+			}
+			else if (type == ELEMENT) {
+				element.addContent(readElement(in));
+			}
+			else {
+				throw new IOException("Unknown content type " + type);
+			}
+		}
+		return element;
+	}
+
+	/**
+	 * Writes a string of any length; writeUTF is limited to 64K.
+	 */
+	private static void writeString(DataOutputStream out, String value) throws IOException {
+		byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+		out.writeInt(bytes.length);
+		out.write(bytes);
+	}
+
+	private static String readString(DataInputStream in) throws IOException {
+		byte[] bytes = new byte[in.readInt()];
+		in.readFully(bytes);
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+}
@@ -9,8 +9,6 @@ package org.mars_sim.msp.core.data;
 
 import java.io.Serializable;
 import java.util.HashMap;
-import java.util.LinkedList;
-import java.util.List;
 import java.util.Map;
 
 import org.mars_sim.msp.core.time.MarsClock;
@@ -18,7 +16,8 @@ import org.mars_sim.msp.core.time.MarsClock;
 
 /**
  * Logs data items according to the current Sol. Each sol is a single data item.
- * Only a maximum number of sols is retained.
+ * Only a maximum number of sols is retained; the sols are held in a fixed size
+ * ring so no per-sol node allocation happens.
  * The timestamp of the logger is shifted automatically via the Simulation.
  * 
  * @param <T> Data item being recorded
@@ -34,11 +33,16 @@ public abstract class DataLogger<T> implements Serializable {
 	private int maxSols = 7;
 	private int latestSol = 0;
 	protected T currentData = null;
-	protected List<T> dailyData = new LinkedList<T>();
+	
+	/** Ring of daily data; head is the index of the latest sol. */
+	private Object[] dailyData;
+	private int head = 0;
+	private int numSols = 0;
 	
 	public DataLogger(int maxSols) {
 		super();
 		this.maxSols = maxSols;
+		this.dailyData = new Object[maxSols];
 	}
 	
 	/**
@@ -59,9 +63,12 @@ public abstract class DataLogger<T> implements Serializable {
 	private void newSol(int newSol) {
 		latestSol = newSol;
 		currentData = getNewDataItem(); 
-		dailyData.add(0, currentData);
-		if (dailyData.size() > maxSols) {
-			dailyData.remove(maxSols-1);
+		if (numSols > 0) {
+			head = (head + 1) % maxSols;
+		}
+		dailyData[head] = currentData;
+		if (numSols < maxSols) {
+			numSols++;
 		}
 	}
 	
@@ -88,9 +95,8 @@ public abstract class DataLogger<T> implements Serializable {
 	 */
 	public Map<Integer, T> getHistory() {
 		Map<Integer, T> results = new HashMap<>();
-		int sol = latestSol;
-		for (T t : dailyData) {
-			results.put(sol--, t);
+		for (int idx = 0; idx < numSols; idx++) {
+			results.put(latestSol - idx, getEntry(idx));
 		}
 		return results;
 	}
@@ -104,6 +110,15 @@ public abstract class DataLogger<T> implements Serializable {
 		return currentSol;
 	}
 
+	/**
+	 * Gets the current sol shared by all the Data Loggers.
+	 * 
+	 * @return
+	 */
+	static int getLoggingSol() {
+		return currentSol;
+	}
+
 	/**
 	 * Gets the data held for a single sol.
 	 * 
@@ -115,14 +130,25 @@ public abstract class DataLogger<T> implements Serializable {
 			throw new IllegalArgumentException("Mission Sol cannot be less than 1");
 		}
 		int idx = latestSol - sol;
-		if ((idx < 0) || (idx >= dailyData.size())) {
+		if ((idx < 0) || (idx >= numSols)) {
 			return null;
 		}
 		else {
-			return dailyData.get(idx);
+			return getEntry(idx);
 		}
 	}
 	
+	/**
+	 * Gets an entry counting back from the latest sol.
+	 * 
+	 * @param idx Number of sols back from the latest
+	 * @return
+	 */
+	@SuppressWarnings("unchecked")
+	private T getEntry(int idx) {
+		return (T) dailyData[(head - idx + maxSols) % maxSols];
+	}
+	
 	/**
 	 * Gets the latest Sol data being captured.
 	 * 
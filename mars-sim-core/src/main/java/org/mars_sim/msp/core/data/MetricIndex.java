@@ -0,0 +1,87 @@
+/*
+ * Mars Simulation Project
+ * MetricIndex.java
+ * @date 2026-10-19
+ * @author agent
+ */
+
+package org.mars_sim.msp.core.data;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Allocates a dense integer id to each metric key. The ids start at 0 and are
+ * never reused so they can be used directly as an index into primitive arrays.
+ *
+ * @param <K> Key of the metric
+ */
+public class MetricIndex<K> implements Serializable {
+
+	private static final long serialVersionUID = 1L;
+
+	/** Value returned when a key has no id. */
+	public static final int NO_METRIC = -1;
+
+	private Map<K, Integer> ids = new HashMap<>();
+	private List<K> keys = new ArrayList<>();
+
+	/**
+	 * Gets the id of a metric key.
+	 *
+	 * @param key
+	 * @return The id or NO_METRIC if the key is not known.
+	 */
+	public int getId(K key) {
+		Integer id = ids.get(key);
+		return (id == null ? NO_METRIC : id);
+	}
+
+	/**
+	 * Gets the id of a metric key, allocating a new one if it is not known.
+	 *
+	 * @param key
+	 * @return
+	 */
+	public int getOrCreateId(K key) {
+		Integer id = ids.get(key);
+		if (id == null) {
+			id = keys.size();
+			keys.add(key);
+			ids.put(key, id);
+		}
+		return id;
+	}
+
+	/**
+	 * Gets the key that owns an id.
+	 *
+	 * @param id
+	 * @return
+	 */
+	public K getKey(int id) {
+		return keys.get(id);
+	}
+
+	/**
+	 * Gets all the known keys in id order.
+	 *
+	 * @return
+	 */
+	public List<K> getKeys() {
+		return Collections.unmodifiableList(keys);
+	}
+
+	/**
+	 * How many metrics have been allocated.
+	 *
+	 * @return
+	 */
+	public int size() {
+		return keys.size();
+	}
+}
@@ -1,93 +1,89 @@
 /*
  * Mars Simulation Project
  * SolMetricDataLogger.java
- * @date 2022-07-15
+ * @date 2026-10-19
  * @author Barry Evans
  */
 
 package org.mars_sim.msp.core.data;
 
+import java.io.Serializable;
 import java.util.HashMap;
 import java.util.Map;
 
 /**
- * This class logs a number increasing metrics as Doubles for each day. The metrics are keyed on a 
- * particular value.
+ * This class logs a number increasing metrics as doubles for each day. The metrics are keyed on a
+ * particular value. The values are held in a primitive {@link SolMetricSeries} where each key
+ * is allocated a dense metric id.
  */
-public class SolMetricDataLogger<K> extends DataLogger<Map<K,Double>> {
-
-	public SolMetricDataLogger(int maxSols) {
-		super(maxSols);
-	}
+public class SolMetricDataLogger<K> implements Serializable {
 
 	/**
-	 * 
+	 *
 	 */
 	private static final long serialVersionUID = 1L;
 
-	@Override
-	protected Map<K,Double> getNewDataItem() {
-		return new HashMap<>();
+	private MetricIndex<K> metrics = new MetricIndex<>();
+	private SolMetricSeries series;
+
+	public SolMetricDataLogger(int maxSols) {
+		series = new SolMetricSeries(maxSols);
 	}
 
 	/**
 	 * Increases the metric on one of the data points. It adds the increment to any existing value.
 	 * If no value for this metric is present; it created one.
-	 * 
+	 *
 	 * @param increment Value to add to the existing metric.
 	 */
-	public void increaseDataPoint(K metric, Double increment) {
-		updating();
-		
-		Double stored = currentData.get(metric);
-		
-		double current = (stored == null ? 0 : stored);
-		current += increment;
-		currentData.put(metric, current);
+	public void increaseDataPoint(K metric, double increment) {
+		series.rollTo(DataLogger.getLoggingSol());
+
+		int id = metrics.getOrCreateId(metric);
+		series.ensureMetric(id);
+		series.increase(id, increment);
 	}
 
 	/**
 	 * Gets a metric from the current day's figures.
-	 * 
+	 *
 	 * @param type
 	 * @return
 	 */
-	public Double getDataPoint(K type) {
-		return currentData.get(type);
+	public double getDataPoint(K type) {
+		return series.getLatest(metrics.getId(type));
 	}
-	
+
 	/**
 	 * Calculates the daily average for a specific metric.
-	 * For the current day the current msol is taken into account to produce an estimate. 
-	 * 
+	 * For the current day the current msol is taken into account to produce an estimate.
+	 *
 	 * @param metric Metric requested
 	 * @return Daily average
 	 */
 	public double getDailyAverage(K metric) {
-		double sum = 0;
-		int numSols = 0;
-
-		for (Map<K, Double> oneDay : dailyData) {
-			// Get metric for the day; there may not be any
-			double dailyTotal = 0;
-			if (oneDay.containsKey(metric)) {
-				dailyTotal = oneDay.get(metric);
-			}
+		return series.getDailyAverage(metrics.getId(metric), DataLogger.currentMsol);
+	}
 
-			// First entry is always today
-			if (numSols == 0) {
-				sum += ((dailyTotal/currentMsol) * 1_000D);
-			}
-			else {
-				sum += dailyTotal;
+	/**
+	 * Returns a Map of data entries per missionSol. Map is keyed on sol and only
+	 * contains the metrics that have a value on that sol.
+	 *
+	 * @return Sol to daily data entries.
+	 */
+	public Map<Integer, Map<K, Double>> getHistory() {
+		Map<Integer, Map<K, Double>> results = new HashMap<>();
+		int numMetrics = metrics.size();
+		for (int sol = series.getEarliestSol(); sol <= series.getLatestSol(); sol++) {
+			Map<K, Double> oneDay = new HashMap<>();
+			for (int id = 0; id < numMetrics; id++) {
+				double value = series.getValue(id, sol);
+				if (value != 0D) {
+					oneDay.put(metrics.getKey(id), value);
+				}
 			}
-			numSols++;
-		}
-
-		if (numSols == 0) {
-			// No data points
-			return 0;
+			results.put(sol, oneDay);
 		}
-		return sum / numSols;
+		return results;
 	}
 }
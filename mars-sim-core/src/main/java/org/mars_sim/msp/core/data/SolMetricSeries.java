@@ -0,0 +1,278 @@
+/*
+ * Mars Simulation Project
+ * SolMetricSeries.java
+ * @date 2026-10-19
+ * @author agent
+ */
+
+package org.mars_sim.msp.core.data;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.util.Arrays;
+
+/**
+ * A primitive time series engine that records a set of double metrics per sol.
+ * Each metric is held in a double ring buffer of a fixed number of sols and
+ * a running total of the completed sols is maintained so averages are O(1).
+ * Metrics are identified by a dense id, see {@link MetricIndex}.
+ * Only the populated sols are written when serialized.
+ */
+public class SolMetricSeries implements Serializable {
+
+	private static final long serialVersionUID = 1L;
+
+	private static final int INITIAL_METRICS = 4;
+
+	private int maxSols;
+	private int numMetrics = 0;
+	private int numSols = 0;
+	private int latestSol = 0;
+
+	/** Ring index of the latest sol. */
+	private transient int head = 0;
+	/** Values keyed by metric id and then ring index. */
+	private transient double[][] values;
+	/** Total of each metric for the retained sols excluding the latest sol. */
+	private transient double[] completedSums;
+
+	/**
+	 * Creates a series that retains a maximum number of sols.
+	 *
+	 * @param maxSols
+	 */
+	public SolMetricSeries(int maxSols) {
+		if (maxSols < 1) {
+			throw new IllegalArgumentException("Max sols must be positive");
+		}
+		this.maxSols = maxSols;
+		this.values = new double[INITIAL_METRICS][];
+		this.completedSums = new double[INITIAL_METRICS];
+	}
+
+	/**
+	 * Adds a new metric to the series.
+	 *
+	 * @return The id of the new metric
+	 */
+	public int addMetric() {
+		if (numMetrics == values.length) {
+			int newSize = values.length * 2;
+			values = Arrays.copyOf(values, newSize);
+			completedSums = Arrays.copyOf(completedSums, newSize);
+		}
+		values[numMetrics] = new double[maxSols];
+		return numMetrics++;
+	}
+
+	/**
+	 * Ensures the series has allocated all metrics up to an id.
+	 *
+	 * @param id
+	 */
+	public void ensureMetric(int id) {
+		while (numMetrics <= id) {
+			addMetric();
+		}
+	}
+
+	/**
+	 * Moves the series on to a sol. Any sols skipped are recorded as zero.
+	 * The oldest sols are dropped once the series is full.
+	 *
+	 * @param sol Mission sol
+	 */
+	public void rollTo(int sol) {
+		if (numSols == 0) {
+			head = 0;
+			numSols = 1;
+			latestSol = sol;
+			return;
+		}
+
+		int steps = Math.min(sol - latestSol, maxSols);
+		for (int s = 0; s < steps; s++) {
+			int next = (head + 1) % maxSols;
+			boolean full = (numSols == maxSols);
+			for (int m = 0; m < numMetrics; m++) {
+				double[] ring = values[m];
+				double sum = completedSums[m] + ring[head];
+				if (full) {
+					sum -= ring[next];
+				}
+				completedSums[m] = sum;
+				ring[next] = 0D;
+			}
+			if (!full) {
+				numSols++;
+			}
+			head = next;
+		}
+
+		if (sol > latestSol) {
+			latestSol = sol;
+		}
+	}
+
+	/**
+	 * Increases the value of a metric for the latest sol.
+	 *
+	 * @param id Metric id
+	 * @param increment
+	 */
+	public void increase(int id, double increment) {
+		values[id][head] += increment;
+	}
+
+	/**
+	 * Sets the value of a metric for the latest sol.
+	 *
+	 * @param id Metric id
+	 * @param value
+	 */
+	public void set(int id, double value) {
+		values[id][head] = value;
+	}
+
+	/**
+	 * Gets the value of a metric for the latest sol.
+	 *
+	 * @param id Metric id
+	 * @return
+	 */
+	public double getLatest(int id) {
+		if ((numSols == 0) || (id < 0) || (id >= numMetrics)) {
+			return 0D;
+		}
+		return values[id][head];
+	}
+
+	/**
+	 * Gets the value of a metric for a sol.
+	 *
+	 * @param id Metric id
+	 * @param sol Mission sol
+	 * @return Value or zero if the sol is not retained
+	 */
+	public double getValue(int id, int sol) {
+		if (!hasSol(sol) || (id < 0) || (id >= numMetrics)) {
+			return 0D;
+		}
+		return values[id][slotOf(sol)];
+	}
+
+	/**
+	 * Gets the total of a metric over the retained sols excluding the latest sol.
+	 *
+	 * @param id Metric id
+	 * @return
+	 */
+	public double getCompletedTotal(int id) {
+		if ((id < 0) || (id >= numMetrics)) {
+			return 0D;
+		}
+		return completedSums[id];
+	}
+
+	/**
+	 * Calculates the daily average for a metric. The latest sol is scaled to a
+	 * full sol by the current msol to produce an estimate.
+	 *
+	 * @param id Metric id
+	 * @param msol Current msol of the latest sol
+	 * @return
+	 */
+	public double getDailyAverage(int id, int msol) {
+		if ((numSols == 0) || (id < 0) || (id >= numMetrics)) {
+			// No data points
+			return 0;
+		}
+		double sum = completedSums[id] + ((values[id][head]/msol) * 1_000D);
+		return sum / numSols;
+	}
+
+	/**
+	 * Is this sol retained in the series ?
+	 *
+	 * @param sol Mission sol
+	 * @return
+	 */
+	public boolean hasSol(int sol) {
+		int idx = latestSol - sol;
+		return (numSols > 0) && (idx >= 0) && (idx < numSols);
+	}
+
+	/**
+	 * Gets the oldest sol retained.
+	 *
+	 * @return
+	 */
+	public int getEarliestSol() {
+		return latestSol - numSols + 1;
+	}
+
+	public int getLatestSol() {
+		return latestSol;
+	}
+
+	public int getNumSols() {
+		return numSols;
+	}
+
+	public int getNumMetrics() {
+		return numMetrics;
+	}
+
+	public int getMaxSols() {
+		return maxSols;
+	}
+
+	private int slotOf(int sol) {
+		return (head - (latestSol - sol) + maxSols) % maxSols;
+	}
+
+	/**
+	 * Writes only the populated sols of each metric, oldest first.
+	 *
+	 * @param out
+	 * @throws IOException
+	 */
+	private void writeObject(ObjectOutputStream out) throws IOException {
+		out.defaultWriteObject();
+		int first = getEarliestSol();
+		for (int m = 0; m < numMetrics; m++) {
+			for (int s = 0; s < numSols; s++) {
+				out.writeDouble(values[m][slotOf(first + s)]);
+			}
+		}
+	}
+
+	/**
+	 * Rebuilds the ring buffers and the running totals.
+	 *
+	 * @param in
+	 * @throws IOException
+	 * @throws ClassNotFoundException
+	 */
+	private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+		in.defaultReadObject();
+		int capacity = Math.max(INITIAL_METRICS, numMetrics);
+		values = new double[capacity][];
+		completedSums = new double[capacity];
+		head = (numSols == 0 ? 0 : numSols - 1);
+		for (int m = 0; m < numMetrics; m++) {
+			double[] ring = new double[maxSols];
+			double sum = 0D;
+			for (int s = 0; s < numSols; s++) {
+				ring[s] = in.readDouble();
+				if (s != head) {
+					sum += ring[s];
+				}
+			}
+			values[m] = ring;
+			completedSums[m] = sum;
+		}
+	}
+}
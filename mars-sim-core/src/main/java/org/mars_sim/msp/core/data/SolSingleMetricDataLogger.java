@@ -7,23 +7,22 @@
 
 package org.mars_sim.msp.core.data;
 
+import java.io.Serializable;
+import java.util.HashMap;
+import java.util.Map;
+
 /**
  * This class records a single value per sol.
  */
-public class SolSingleMetricDataLogger extends DataLogger<Double> {
+public class SolSingleMetricDataLogger implements Serializable {
 
 	private static final long serialVersionUID = 1L;
-	
+
+	private SolMetricSeries series;
+
 	public SolSingleMetricDataLogger(int maxSols) {
-		super(maxSols);
-	}
-	
-	/**
-	 * The generated item is null to start with
-	 */
-	@Override
-	protected Double getNewDataItem() {
-		return 0D;
+		series = new SolMetricSeries(maxSols);
+		series.addMetric();
 	}
 
 	/**
@@ -31,43 +30,39 @@ public class SolSingleMetricDataLogger extends DataLogger<Double> {
 	 * If no value for this metric is present; it created one.
 	 * @param increment Value to add to the existing metric.
 	 */
-	public void increaseDataPoint(Double increment) {
-		updating();
-		
-		double current = (currentData == null ? 0 : currentData);
-		current += increment;
-		currentData = current;
-		
-		// For a single dataitem the item needs to be refreshed
-		// because current data is not by reference
-		dailyData.set(0, currentData);
+	public void increaseDataPoint(double increment) {
+		series.rollTo(DataLogger.getLoggingSol());
+		series.increase(0, increment);
 	}
-	
+
+	/**
+	 * Get the value recorded on a sol.
+	 * @param sol Mission sol
+	 * @return Value or zero if the sol is not retained
+	 */
+	public double getSolValue(int sol) {
+		return series.getValue(0, sol);
+	}
+
 	/**
 	 * Calculate the daily average for the metric.
-	 * For the current day the current msol is taken into account to produce an estimate. 
+	 * For the current day the current msol is taken into account to produce an estimate.
 	 * @return Daily average
 	 */
 	public double getDailyAverage() {
-		double sum = 0;
-		int numSols = 0;
+		return series.getDailyAverage(0, DataLogger.currentMsol);
+	}
 
-		for (Double dailyTotal : dailyData) {
-	
-			// First entry is always today
-			if (numSols == 0) {
-				sum += ((dailyTotal/currentMsol) * 1_000D);
-			}
-			else {
-				sum += dailyTotal;
-			}
-			numSols++;
-		}
-	
-		if (numSols == 0) {
-			// No data points
-			return 0;
+	/**
+	 * Returns a Map of the value per missionSol. Map is keyed on sol.
+	 *
+	 * @return Sol to daily value.
+	 */
+	public Map<Integer, Double> getHistory() {
+		Map<Integer, Double> results = new HashMap<>();
+		for (int sol = series.getEarliestSol(); sol <= series.getLatestSol(); sol++) {
+			results.put(sol, series.getValue(0, sol));
 		}
-		return sum / numSols;
+		return results;
 	}
 }
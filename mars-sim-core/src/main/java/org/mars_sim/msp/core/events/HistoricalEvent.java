@@ -10,6 +10,7 @@ import java.io.Serializable;
 
 import org.mars_sim.msp.core.person.EventType;
 import org.mars_sim.msp.core.time.MarsClock;
+import org.mars_sim.msp.core.time.MissionTime;
 
 /**
  * This class represents a time based event that has occurred in the simulation.
@@ -35,7 +36,9 @@ public abstract class HistoricalEvent implements Serializable {
 //	/** TODO Long description of historical events should be internationalizable. */
 //	private String description;
 	/** Time event occurred. */
-	private MarsClock timestamp;
+	private long timestamp = MissionTime.NONE;
+	/** Mission sol the event occurred. */
+	private int missionSol;
 	/** Source of event may be null. */
 	private Object source;
 	private String whileDoing;
@@ -73,10 +76,12 @@ public abstract class HistoricalEvent implements Serializable {
 	/**
 	 * Set the timestamp for this event.
 	 * 
-	 * @param timestamp
+	 * @param timestamp Mission time of the event
+	 * @param missionSol
 	 */
-	void setTimestamp(MarsClock timestamp) {
+	void setTimestamp(long timestamp, int missionSol) {
 		this.timestamp = timestamp;
+		this.missionSol = missionSol;
 	}
 
 	/**
@@ -134,14 +139,36 @@ public abstract class HistoricalEvent implements Serializable {
 	}
 	
 	/**
-	 * Get event time.
+	 * Get event time. The clock is created on demand.
 	 * 
 	 * @return Time the event happened
 	 */
 	public MarsClock getTimestamp() {
+		if (timestamp == MissionTime.NONE) {
+			return null;
+		}
+		return MissionTime.toMarsClock(timestamp, missionSol);
+	}
+
+	/**
+	 * Get event time as a compact value.
+	 * 
+	 * @see MissionTime
+	 * @return Time the event happened
+	 */
+	public long getMissionTime() {
 		return timestamp;
 	}
 
+	/**
+	 * Get the mission sol the event happened.
+	 * 
+	 * @return
+	 */
+	public int getMissionSol() {
+		return missionSol;
+	}
+
 	/**
 	 * Get the type of event.
 	 * 
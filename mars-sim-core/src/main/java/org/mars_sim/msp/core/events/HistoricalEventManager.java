@@ -11,6 +11,7 @@ import org.mars_sim.msp.core.CollectionUtils;
 import org.mars_sim.msp.core.Simulation;
 import org.mars_sim.msp.core.person.EventType;
 import org.mars_sim.msp.core.time.MarsClock;
+import org.mars_sim.msp.core.time.MissionTime;
 
 import java.io.Serializable;
 
@@ -173,14 +174,9 @@ public class HistoricalEventManager implements Serializable {
 		if (marsClock == null)
 			marsClock = Simulation.instance().getMasterClock().getMarsClock();
 
-		MarsClock timestamp = (MarsClock) marsClock.clone();
+		newEvent.setTimestamp(MissionTime.of(marsClock), marsClock.getMissionSol());
 
-		if (timestamp == null)
-			throw new IllegalStateException("timestamp is null");
-
-		newEvent.setTimestamp(timestamp);
-
-		SimpleEvent se = convert2SimpleEvent(newEvent, timestamp);
+		SimpleEvent se = convert2SimpleEvent(newEvent);
 
 		if (listeners == null) {
 			listeners = new CopyOnWriteArrayList<HistoricalEventListener>();
@@ -193,9 +189,9 @@ public class HistoricalEventManager implements Serializable {
 		}
 	}
 
-	private SimpleEvent convert2SimpleEvent(HistoricalEvent event, MarsClock timestamp) {
-		short missionSol = (short) (timestamp.getMissionSol());//event.getTimestamp().getMissionSol());
-		float millisols = (float) (event.getTimestamp().getMillisol());
+	private SimpleEvent convert2SimpleEvent(HistoricalEvent event) {
+		short missionSol = (short) (event.getMissionSol());
+		float millisols = (float) (MissionTime.getMillisol(event.getMissionTime()));
 		byte cat = (byte) (event.getCategory().ordinal());
 		byte type = (byte) (event.getType().ordinal());
 		short what = (short) (getID(whatList, event.getWhatCause()));
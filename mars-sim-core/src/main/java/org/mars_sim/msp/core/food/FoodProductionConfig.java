@@ -16,6 +16,7 @@ import java.util.List;
 import org.jdom2.Document;
 import org.jdom2.Element;
 import org.mars_sim.msp.core.resource.ItemType;
+import org.mars_sim.msp.core.resource.ProcessIndex;
 
 public class FoodProductionConfig implements Serializable {
 
@@ -41,12 +42,39 @@ public class FoodProductionConfig implements Serializable {
 	
 	private List<FoodProductionProcessInfo> foodproductionProcessList;
 
+	// Processes keyed on the lower case names of their items
+	private transient ProcessIndex<String, FoodProductionProcessInfo> processIndex;
+
     /**
      * Constructor
      * @param foodProductionDoc DOM document containing foodProduction process configuration.
      */
     public FoodProductionConfig(Document foodProductionDoc) {
     	buildFoodProductionProcessList(foodProductionDoc);
+
+    	processIndex = new ProcessIndex<>(foodproductionProcessList,
+    							p -> getLowerCaseNames(p.getInputList()),
+    							p -> getLowerCaseNames(p.getOutputList()),
+    							FoodProductionProcessInfo::getTechLevelRequired);
+    }
+
+    private static List<String> getLowerCaseNames(List<FoodProductionProcessItem> items) {
+    	List<String> result = new ArrayList<>();
+    	if (items != null) {
+    		for (FoodProductionProcessItem item : items) {
+    			result.add(item.getName().toLowerCase());
+    		}
+    	}
+    	return result;
+    }
+
+    /**
+     * Gets the index of the food production processes by the names of their
+     * inputs and outputs.
+     * @return
+     */
+    public ProcessIndex<String, FoodProductionProcessInfo> getProcessIndex() {
+        return processIndex;
     }
 
     /**
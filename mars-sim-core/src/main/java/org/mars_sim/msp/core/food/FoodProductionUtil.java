@@ -88,16 +88,7 @@ public final class FoodProductionUtil {
 	 * @return {@link List}<{@link FoodProductionProcessItem}> list of processes
 	 */
 	public static List<FoodProductionProcessInfo> getFoodProductionProcessesWithGivenOutput(String name) {
-		List<FoodProductionProcessInfo> result = new ArrayList<>();
-		Iterator<FoodProductionProcessInfo> i = getAllFoodProductionProcesses().iterator();
-		while (i.hasNext()) {
-			FoodProductionProcessInfo process = i.next();
-			for (String n : process.getOutputNames()) {
-				if (name.equalsIgnoreCase(n))
-					result.add(process);
-			}
-		}
-		return result;
+		return new ArrayList<>(config.getProcessIndex().getProcessesWithOutput(name.toLowerCase()));
 	}
 
 	/**
@@ -107,16 +98,19 @@ public final class FoodProductionUtil {
 	 * @return {@link List}<{@link FoodProductionProcessItem}> list of processes
 	 */
 	public static List<FoodProductionProcessInfo> getFoodProductionProcessesWithGivenInput(String name) {
-		List<FoodProductionProcessInfo> result = new ArrayList<>();
-		Iterator<FoodProductionProcessInfo> i = getAllFoodProductionProcesses().iterator();
-		while (i.hasNext()) {
-			FoodProductionProcessInfo process = i.next();
-			for (String n : process.getInputNames()) {
-				if (name.equalsIgnoreCase(n))
-					result.add(process);
-			}
-		}
-		return result;
+		return new ArrayList<>(config.getProcessIndex().getProcessesWithInput(name.toLowerCase()));
+	}
+
+	/**
+	 * Gets food production processes within the capability of a tech level with
+	 * given input.
+	 *
+	 * @param name {@link String} desired input
+	 * @param techLevel the tech level.
+	 * @return {@link List}<{@link FoodProductionProcessItem}> list of processes
+	 */
+	public static List<FoodProductionProcessInfo> getFoodProductionProcessesWithGivenInput(String name, int techLevel) {
+		return config.getProcessIndex().getProcessesWithInput(name.toLowerCase(), techLevel);
 	}
 
 	/**
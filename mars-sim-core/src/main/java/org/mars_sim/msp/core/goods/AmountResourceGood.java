@@ -449,6 +449,11 @@ class AmountResourceGood extends Good {
 	private double getResourceProcessingDemand(GoodsManager owner, Settlement settlement) {
 		double demand = 0D;
 
+		// Skip the settlement's buildings if no process uses this resource
+		if (buildingConfig.getResourceProcessIndex().getProcessesWithInput(getID()).isEmpty()) {
+			return demand;
+		}
+
 		// Get all resource processes at settlement.
 		for(ResourceProcess i : getResourceProcesses(settlement)) {
 			double processDemand = getResourceProcessDemand(owner, settlement, i);
@@ -527,7 +532,8 @@ class AmountResourceGood extends Good {
 		// Get highest manufacturing tech level in settlement.
 		if (ManufactureUtil.doesSettlementHaveManufacturing(settlement)) {
 			int techLevel = ManufactureUtil.getHighestManufacturingTechLevel(settlement);
-			for(ManufactureProcessInfo i : ManufactureUtil.getManufactureProcessesForTechLevel(techLevel)) {
+			String name = getAmountResource().getName();
+			for(ManufactureProcessInfo i : ManufactureUtil.getManufactureProcessesWithGivenInput(name, techLevel)) {
 				double manufacturingDemand = getResourceManufacturingProcessDemand(owner, settlement, i);
 				demand += manufacturingDemand / 100D;
 			}
@@ -548,7 +554,8 @@ class AmountResourceGood extends Good {
 		// Get highest Food Production tech level in settlement.
 		if (FoodProductionUtil.doesSettlementHaveFoodProduction(settlement)) {
 			int techLevel = FoodProductionUtil.getHighestFoodProductionTechLevel(settlement);
-			for(FoodProductionProcessInfo i : FoodProductionUtil.getFoodProductionProcessesForTechLevel(techLevel)) {
+			String name = getAmountResource().getName();
+			for(FoodProductionProcessInfo i : FoodProductionUtil.getFoodProductionProcessesWithGivenInput(name, techLevel)) {
 				double foodProductionDemand = getResourceFoodProductionProcessDemand(owner, settlement, i);
 				demand += foodProductionDemand;
 			}
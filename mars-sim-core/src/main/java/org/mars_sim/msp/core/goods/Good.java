@@ -31,6 +31,7 @@ import org.mars_sim.msp.core.resource.ItemResourceUtil;
 import org.mars_sim.msp.core.resource.ItemType;
 import org.mars_sim.msp.core.structure.Settlement;
 import org.mars_sim.msp.core.structure.building.Building;
+import org.mars_sim.msp.core.structure.building.BuildingConfig;
 import org.mars_sim.msp.core.structure.building.function.FunctionType;
 import org.mars_sim.msp.core.structure.building.function.farming.CropConfig;
 import org.mars_sim.msp.core.structure.construction.ConstructionStageInfo;
@@ -64,6 +65,7 @@ public abstract class Good implements Serializable, Comparable<Good> {
     protected static VehicleConfig vehicleConfig = SimulationConfig.instance().getVehicleConfiguration();
 	protected static PersonConfig personConfig = SimulationConfig.instance().getPersonConfig();
 	protected static CropConfig cropConfig = SimulationConfig.instance().getCropConfiguration();
+	protected static BuildingConfig buildingConfig = SimulationConfig.instance().getBuildingConfiguration();
 
 
 	// Data members
@@ -700,5 +702,6 @@ public abstract class Good implements Serializable, Comparable<Good> {
 		vehicleConfig = sc.getVehicleConfiguration();
 		personConfig = sc.getPersonConfig();
 		cropConfig = sc.getCropConfiguration();
+		buildingConfig = sc.getBuildingConfiguration();
 	}
 }
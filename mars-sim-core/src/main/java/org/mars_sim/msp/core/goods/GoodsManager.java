@@ -27,6 +27,7 @@ import org.mars_sim.msp.core.resource.ResourceUtil;
 import org.mars_sim.msp.core.structure.Settlement;
 import org.mars_sim.msp.core.time.ClockPulse;
 import org.mars_sim.msp.core.time.MarsClock;
+import org.mars_sim.msp.core.time.TimingWheel;
 import org.mars_sim.msp.core.vehicle.Vehicle;
 import org.mars_sim.msp.core.vehicle.VehicleType;
 
@@ -117,16 +118,38 @@ public class GoodsManager implements Serializable {
 	/** A standard list of resources to be excluded in buying negotiation. */
 	private static List<Good> exclusionBuyList = null;
 	/** A standard list of buying resources in buying negotiation. */
-	private transient double buyListTimeout = LIST_VALIDITY/10D; // Don't create list immediately
-	private transient Map<Good, ShoppingItem> buyList =  Collections.emptyMap();
-	private transient double sellListTimeout = LIST_VALIDITY/10D; // Don't create list immediately
-	private transient Map<Good, ShoppingItem> sellList = Collections.emptyMap();
+	private Map<Good, ShoppingItem> buyList =  Collections.emptyMap();
+	private Map<Good, ShoppingItem> sellList = Collections.emptyMap();
+	/** The event refreshing the buying & selling lists. */
+	private TimingWheel.Event listEvent;
 
 	private Settlement settlement;
 
 	private transient Map<MissionType, Deal> deals = new EnumMap<>(MissionType.class);
 
 	private static UnitManager unitManager;
+	private static TimingWheel timingWheel;
+
+	/**
+	 * Refreshes the buying & selling lists of a settlement.
+	 */
+	private static class ListRefresh implements TimingWheel.Handler {
+
+		private static final long serialVersionUID = 1L;
+
+		private GoodsManager owner;
+
+		ListRefresh(GoodsManager owner) {
+			this.owner = owner;
+		}
+
+		@Override
+		public void execute(ClockPulse pulse) {
+			// Scan the demand & supply caches and build the lists
+			owner.calculateBuyList();
+			owner.calculateSellList();
+		}
+	}
 
 	/**
 	 * Constructor.
@@ -137,6 +160,19 @@ public class GoodsManager implements Serializable {
 		this.settlement = settlement;
 
 		populateGoodsValues();
+
+		scheduleListRefresh();
+	}
+
+	/**
+	 * Schedules the refresh of the buying & selling lists unless it is already
+	 * scheduled.
+	 */
+	private void scheduleListRefresh() {
+		if ((listEvent == null) && (timingWheel != null)) {
+			// Don't create lists immediately
+			listEvent = timingWheel.schedule(new ListRefresh(this), LIST_VALIDITY/10D, LIST_VALIDITY);
+		}
 	}
 
 	/**
@@ -689,13 +725,23 @@ public class GoodsManager implements Serializable {
 	 *
 	 * @param s  {@link SimulationConfg}
 	 * @param c  {@link MarsClock}
+	 * @param w  {@link TimingWheel}
 	 * @param m  {@link MissionManager}
 	 * @param u  {@link UnitManager}
 	 */
-	public static void initializeInstances(SimulationConfig sc, MarsClock c, MissionManager m, UnitManager u) {
+	public static void initializeInstances(SimulationConfig sc, MarsClock c, TimingWheel w,
+										   MissionManager m, UnitManager u) {
 		unitManager = u;
+		timingWheel = w;
 		Good.initializeInstances(sc, c, m);
 		CommerceUtil.initializeInstances(m, u);
+
+		if (u != null) {
+			// Settlements saved before the timing wheel have no refresh
+			for (Settlement s : u.getSettlements()) {
+				s.getGoodsManager().scheduleListRefresh();
+			}
+		}
 	}
 
 	/**
@@ -717,6 +763,11 @@ public class GoodsManager implements Serializable {
 
 		buyList = null;
 		sellList = null;
+
+		if (listEvent != null) {
+			listEvent.cancel();
+			listEvent = null;
+		}
 	}
 
 	/**
@@ -758,24 +809,16 @@ public class GoodsManager implements Serializable {
     	throws IOException, ClassNotFoundException {
 		in.defaultReadObject();
 		deals = new EnumMap<>(MissionType.class);
-		buyList = Collections.emptyMap();
-		sellList = Collections.emptyMap();
-	}
-
-	public void timePassing(ClockPulse pulse) {
-		MarsClock marsTime = pulse.getMarsTime();
-		if (marsTime.getTotalMillisols() > buyListTimeout) {
-			// Scan the demand cache and build the buy list
-			calculateBuyList(marsTime);
+		if (buyList == null) {
+			// Saved before the lists were kept
+			buyList = Collections.emptyMap();
 		}
-
-		if (marsTime.getTotalMillisols() > sellListTimeout) {
-			// Scan the demand cache and build the buy list
-			calculateSellList(marsTime);
+		if (sellList == null) {
+			sellList = Collections.emptyMap();
 		}
 	}
-	
-	private void calculateSellList(MarsClock marsTime) {
+
+	private void calculateSellList() {
 		// This logic is a draft and need more refinement
 		Map<Good,ShoppingItem> newSell = new HashMap<>();
 		List<Good> excluded = GoodsManager.getExclusionBuyList();
@@ -800,7 +843,6 @@ public class GoodsManager implements Serializable {
 		}
 
 		sellList = Collections.unmodifiableMap(newSell);
-		sellListTimeout = marsTime.getTotalMillisols() + LIST_VALIDITY; 
 
 		// Any deal are now invalid
 		deals.clear();
@@ -809,7 +851,7 @@ public class GoodsManager implements Serializable {
 	/**
 	 * Calaculate the current buying list for this Settlement.
 	 */
-	private void calculateBuyList(MarsClock marsTime) {
+	private void calculateBuyList() {
 
 		// This logic is a draft and need more refinement
 		Map<Good,ShoppingItem> newBuy = new HashMap<>();
@@ -833,7 +875,6 @@ public class GoodsManager implements Serializable {
 		}
 
 		buyList = Collections.unmodifiableMap(newBuy);
-		buyListTimeout = marsTime.getTotalMillisols() + LIST_VALIDITY;
 
 		// Any deal are now invalid
 		deals.clear();
@@ -479,8 +479,8 @@ class PartGood extends Good {
 		// Get highest manufacturing tech level in settlement.
 		if (ManufactureUtil.doesSettlementHaveManufacturing(settlement)) {
 			int techLevel = ManufactureUtil.getHighestManufacturingTechLevel(settlement);
-			Iterator<ManufactureProcessInfo> i = ManufactureUtil.getManufactureProcessesForTechLevel(techLevel)
-					.iterator();
+			Iterator<ManufactureProcessInfo> i = ManufactureUtil.getManufactureProcessesWithGivenInput(part.getName(),
+					techLevel).iterator();
 			while (i.hasNext()) {
 				double manufacturingDemand = getPartManufacturingProcessDemand(owner, settlement, part, i.next());
 				demand += manufacturingDemand * (1 + techLevel);
@@ -756,8 +756,8 @@ class PartGood extends Good {
 		// Get highest Food Production tech level in settlement.
 		if (FoodProductionUtil.doesSettlementHaveFoodProduction(settlement)) {
 			int techLevel = FoodProductionUtil.getHighestFoodProductionTechLevel(settlement);
-			Iterator<FoodProductionProcessInfo> i = FoodProductionUtil.getFoodProductionProcessesForTechLevel(techLevel)
-					.iterator();
+			Iterator<FoodProductionProcessInfo> i = FoodProductionUtil.getFoodProductionProcessesWithGivenInput(
+					part.getName(), techLevel).iterator();
 			while (i.hasNext()) {
 				double foodProductionDemand = getPartFoodProductionProcessDemand(owner, settlement, part, i.next());
 				demand += foodProductionDemand;
@@ -6,10 +6,15 @@
  */
 package org.mars_sim.msp.core.goods;
 
+import java.io.Serializable;
+
 /**
  * An item in the shopping list holding the value and quantity
  */
-public class ShoppingItem {
+public class ShoppingItem implements Serializable {
+
+	private static final long serialVersionUID = 1L;
+
     private int quantity;
     private double price;
 
@@ -0,0 +1,213 @@
+/*
+ * Mars Simulation Project
+ * AsyncLogWriter.java
+ * @date 2026-10-19
+ * @author agent
+ */
+package org.mars_sim.msp.core.logging;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.logging.ErrorManager;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+import java.util.logging.Logger;
+
+import org.mars_sim.msp.core.Unit;
+
+/**
+ * Writes the log entries accepted by the {@link SimLogger}s on a background thread.
+ * The simulation threads only capture the parts of a message in an {@link Entry};
+ * the text is built and passed to the Java logger by the writer thread.
+ * If the buffer is full a warning or worse waits for space so the order is kept;
+ * anything less is dropped and the number dropped is logged later.
+ * Once the launcher has read the logging configuration it installs a handler
+ * that writes the entries still queued when the Java logging handlers are
+ * closed at shutdown.
+ */
+final class AsyncLogWriter implements Runnable {
+
+	/**
+	 * The parts of a log message captured on the calling thread.
+	 */
+	static final class Entry {
+		final SimLogger logger;
+		final Level level;
+		final long time;
+		/** Number of repeats to show; 0 for none or -1 for an unformatted message. */
+		final int count;
+		final Unit location;
+		final Loggable actor;
+		final String message;
+		final Throwable thrown;
+
+		Entry(SimLogger logger, Level level, long time, int count, Unit location, Loggable actor,
+				String message, Throwable thrown) {
+			this.logger = logger;
+			this.level = level;
+			this.time = time;
+			this.count = count;
+			this.location = location;
+			this.actor = actor;
+			this.message = message;
+			this.thrown = thrown;
+		}
+	}
+
+	private static final int CAPACITY = 8192;
+	/** Longest the writer sleeps without being woken. */
+	private static final long IDLE_WAIT = TimeUnit.MILLISECONDS.toNanos(200);
+	/** Longest to wait for the buffer to empty on shutdown. */
+	private static final long FLUSH_TIMEOUT = 2000;
+	/** Wait between attempts to queue an entry while the buffer is full. */
+	private static final long FULL_WAIT = TimeUnit.MILLISECONDS.toNanos(1);
+
+	private static final AsyncLogWriter instance = new AsyncLogWriter();
+
+	private final LogRingBuffer<Entry> buffer = new LogRingBuffer<>(CAPACITY);
+	private final Thread thread;
+	private final ErrorManager errorManager = new ErrorManager();
+	/** Entries dropped as the buffer was full and not yet reported. */
+	private final AtomicLong dropped = new AtomicLong();
+	/** Entries accepted into the buffer. */
+	private final AtomicLong submitted = new AtomicLong();
+	/** Entries taken from the buffer and written, or failed. */
+	private volatile long written = 0;
+	private volatile boolean waiting = false;
+
+	private AsyncLogWriter() {
+		thread = new Thread(this, "SimLogger");
+		thread.setDaemon(true);
+		thread.start();
+	}
+
+	/**
+	 * Adds a handler to the root logger that writes the queued entries when it
+	 * is closed. The LogManager closes the root handlers in order at shutdown, so
+	 * it goes first to flush while the other handlers are still open. Reading
+	 * the logging configuration replaces the root handlers, so this is called
+	 * afterwards.
+	 */
+	static synchronized void installFlushHandler() {
+		Logger root = Logger.getLogger("");
+		Handler[] existing = root.getHandlers();
+		for (Handler h : existing) {
+			root.removeHandler(h);
+		}
+		root.addHandler(instance.new FlushHandler());
+		for (Handler h : existing) {
+			if (!(h instanceof FlushHandler)) {
+				root.addHandler(h);
+			}
+		}
+	}
+
+	/**
+	 * Queues an entry to be written.
+	 *
+	 * @param entry
+	 */
+	static void submit(Entry entry) {
+		instance.add(entry);
+	}
+
+	/**
+	 * Waits for the queued entries to be written.
+	 */
+	static void flushAll() {
+		instance.flush();
+	}
+
+	private void add(Entry entry) {
+		// Counted first so a flush never sees more written than submitted
+		submitted.incrementAndGet();
+		while (!buffer.offer(entry)) {
+			if ((entry.level.intValue() < Level.WARNING.intValue()) || (Thread.currentThread() == thread)) {
+				dropped.incrementAndGet();
+				submitted.decrementAndGet();
+				return;
+			}
+			// Wait for the writer to make room so the entry keeps its place
+			LockSupport.unpark(thread);
+			LockSupport.parkNanos(FULL_WAIT);
+		}
+		if (waiting) {
+			LockSupport.unpark(thread);
+		}
+	}
+
+	@Override
+	public void run() {
+		while (true) {
+			Entry entry = buffer.poll();
+			if (entry != null) {
+				try {
+					entry.logger.write(entry);
+				}
+				catch (RuntimeException e) {
+					// Never let a bad message stop the writer
+					errorManager.error("Failed to write a log entry", e, ErrorManager.WRITE_FAILURE);
+				}
+				// Only the writer thread updates this
+				written++;
+			}
+			else {
+				reportDropped();
+				waiting = true;
+				// Check again as an entry may have been added before the flag was set
+				if (buffer.isEmpty()) {
+					LockSupport.parkNanos(this, IDLE_WAIT);
+				}
+				waiting = false;
+			}
+		}
+	}
+
+	private void reportDropped() {
+		long count = dropped.getAndSet(0);
+		if (count > 0) {
+			Logger.getLogger(AsyncLogWriter.class.getName()).warning(count
+					+ " log entries were dropped as the buffer was full");
+		}
+	}
+
+	/**
+	 * Waits until the entries submitted so far have been written, including one
+	 * the writer has taken from the buffer but not finished.
+	 */
+	private void flush() {
+		if (Thread.currentThread() == thread) {
+			// A handler flushed while writing; waiting would block the writer
+			return;
+		}
+		long target = submitted.get();
+		long end = System.currentTimeMillis() + FLUSH_TIMEOUT;
+		while ((written < target) && (System.currentTimeMillis() < end)) {
+			LockSupport.unpark(thread);
+			LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(5));
+		}
+	}
+
+	/**
+	 * Writes the queued entries when the logging is closed down.
+	 */
+	private final class FlushHandler extends Handler {
+
+		@Override
+		public void publish(LogRecord logRecord) {
+			// Entries are written by the other handlers
+		}
+
+		@Override
+		public void flush() {
+			AsyncLogWriter.this.flush();
+		}
+
+		@Override
+		public void close() {
+			AsyncLogWriter.this.flush();
+		}
+	}
+}
@@ -15,10 +15,11 @@ public class DiagnosticsManager {
 
 	private static final String UNIT_MODULE = "unit";
 	private static final String TASK_MODULE = "task";
+	public static final String PROFILE_MODULE = "profile";
 	
 	// List of modules supporting diagnostics
 	public static final String [] MODULE_NAMES = {
-			UNIT_MODULE, TASK_MODULE
+			UNIT_MODULE, TASK_MODULE, PROFILE_MODULE
 	};
 	
 	/**
@@ -37,6 +38,10 @@ public class DiagnosticsManager {
 		case TASK_MODULE:
 			TaskManager.setDiagnostics(enabled);
 			break;
+
+		case PROFILE_MODULE:
+			PulseProfiler.setEnabled(enabled);
+			break;
 		
 		default:
 			return false;
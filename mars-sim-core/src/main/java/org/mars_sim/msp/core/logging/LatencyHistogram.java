@@ -0,0 +1,122 @@
+/*
+ * Mars Simulation Project
+ * LatencyHistogram.java
+ * @date 2026-10-19
+ * @author agent
+ */
+package org.mars_sim.msp.core.logging;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A fixed size histogram of durations in nanoseconds. Buckets are log-linear,
+ * i.e. each power of two is split into 16 sub-buckets, so any value is held to
+ * within about 6% using under 1000 counters. Recording is lock free and
+ * can happen from several threads at once.
+ */
+public class LatencyHistogram {
+
+	private static final int SUB_BITS = 4;
+	private static final int SUB_COUNT = 1 << SUB_BITS;
+	private static final int NUM_BUCKETS = (64 - SUB_BITS) * SUB_COUNT + SUB_COUNT;
+
+	private final AtomicLongArray counts = new AtomicLongArray(NUM_BUCKETS);
+	private final LongAdder total = new LongAdder();
+	private final LongAdder count = new LongAdder();
+	private final AtomicLong max = new AtomicLong();
+
+	/**
+	 * Records a duration.
+	 *
+	 * @param nanos
+	 */
+	public void record(long nanos) {
+		if (nanos < 0) {
+			nanos = 0;
+		}
+		counts.incrementAndGet(getBucket(nanos));
+		total.add(nanos);
+		count.increment();
+
+		long current = max.get();
+		while ((nanos > current) && !max.compareAndSet(current, nanos)) {
+			current = max.get();
+		}
+	}
+
+	public long getCount() {
+		return count.sum();
+	}
+
+	public long getTotal() {
+		return total.sum();
+	}
+
+	public long getMax() {
+		return max.get();
+	}
+
+	/**
+	 * Gets the mean duration.
+	 *
+	 * @return Nanoseconds
+	 */
+	public double getMean() {
+		long n = count.sum();
+		return (n == 0 ? 0D : (double) total.sum() / n);
+	}
+
+	/**
+	 * Gets the duration below which a percentage of the recordings fall. The
+	 * value is the upper bound of the bucket holding that recording.
+	 *
+	 * @param percentile Between 0 and 100
+	 * @return Nanoseconds
+	 */
+	public long getPercentile(double percentile) {
+		long n = count.sum();
+		if (n == 0) {
+			return 0;
+		}
+		long target = Math.max(1, (long) Math.ceil(n * percentile / 100D));
+		long seen = 0;
+		for (int i = 0; i < NUM_BUCKETS; i++) {
+			seen += counts.get(i);
+			if (seen >= target) {
+				return Math.min(getUpperBound(i), max.get());
+			}
+		}
+		return max.get();
+	}
+
+	/**
+	 * Clears all recordings.
+	 */
+	public void reset() {
+		for (int i = 0; i < NUM_BUCKETS; i++) {
+			counts.set(i, 0);
+		}
+		total.reset();
+		count.reset();
+		max.set(0);
+	}
+
+	static int getBucket(long value) {
+		if (value < SUB_COUNT) {
+			return (int) value;
+		}
+		int shift = (63 - Long.numberOfLeadingZeros(value)) - SUB_BITS;
+		return (shift + 1) * SUB_COUNT + (int) ((value >>> shift) & (SUB_COUNT - 1));
+	}
+
+	static long getUpperBound(int bucket) {
+		if (bucket < SUB_COUNT) {
+			return bucket;
+		}
+		int shift = (bucket / SUB_COUNT) - 1;
+		long sub = bucket % SUB_COUNT;
+		return ((SUB_COUNT + sub + 1) << shift) - 1;
+	}
+}
@@ -1,7 +1,7 @@
 /*
  * Mars Simulation Project
  * LocationFormat.java
- * @date 2021-10-07
+ * @date 2026-10-19
  * @author Barry Evans
  */
 package org.mars_sim.msp.core.logging;
@@ -26,14 +26,20 @@ public final class LocationFormat {
 	 * @param entity Entity in question.
 	 */
 	public static String getLocationDescription(Loggable entity) {
-		Unit location;
+		return getLocationDescription(entity, getLocationContext(entity));
+	}
+
+	/**
+	 * Gets the Unit that an entity is described relative to.
+	 * 
+	 * @param entity Entity in question.
+	 * @return
+	 */
+	static Unit getLocationContext(Loggable entity) {
 		if (entity instanceof Building) {
-			location = entity.getAssociatedSettlement();
+			return entity.getAssociatedSettlement();
 		}
-		else {
-			location = entity.getContainerUnit();
-		}	
-		return getLocationDescription(entity, location);
+		return entity.getContainerUnit();
 	}
 	
 	/**
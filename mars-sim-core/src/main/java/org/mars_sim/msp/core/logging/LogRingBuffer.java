@@ -0,0 +1,105 @@
+/*
+ * Mars Simulation Project
+ * LogRingBuffer.java
+ * @date 2026-10-19
+ * @author agent
+ */
+package org.mars_sim.msp.core.logging;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * A bounded lock free ring buffer for many producers and a single consumer.
+ * Each slot has a sequence number that tells whether it is free for the producer
+ * claiming that position or holds an item ready for the consumer.
+ */
+final class LogRingBuffer<T> {
+
+	private final int mask;
+	private final AtomicReferenceArray<T> slots;
+	private final AtomicLongArray sequences;
+	/** Next position to be claimed by a producer. */
+	private final AtomicLong tail = new AtomicLong();
+	/** Next position to be read; only used by the consumer. */
+	private volatile long head = 0;
+
+	/**
+	 * Creates a buffer.
+	 *
+	 * @param capacity Capacity rounded up to a power of two
+	 */
+	LogRingBuffer(int capacity) {
+		int size = Integer.highestOneBit(Math.max(2, capacity - 1)) << 1;
+		mask = size - 1;
+		slots = new AtomicReferenceArray<>(size);
+		sequences = new AtomicLongArray(size);
+		for (int i = 0; i < size; i++) {
+			sequences.set(i, i);
+		}
+	}
+
+	/**
+	 * Adds an item. This can be called from any thread.
+	 *
+	 * @param item
+	 * @return False if the buffer is full
+	 */
+	boolean offer(T item) {
+		long pos = tail.get();
+		while (true) {
+			int idx = (int) (pos & mask);
+			long diff = sequences.get(idx) - pos;
+			if (diff == 0) {
+				if (tail.compareAndSet(pos, pos + 1)) {
+					slots.lazySet(idx, item);
+					// Publishes the item to the consumer
+					sequences.set(idx, pos + 1);
+					return true;
+				}
+				pos = tail.get();
+			}
+			else if (diff < 0) {
+				// Slot still holds an item from the previous lap
+				return false;
+			}
+			else {
+				// Another producer claimed this position
+				pos = tail.get();
+			}
+		}
+	}
+
+	/**
+	 * Takes the oldest item. This must only be called by the consumer.
+	 *
+	 * @return The item or null if there is nothing ready
+	 */
+	T poll() {
+		long pos = head;
+		int idx = (int) (pos & mask);
+		if (sequences.get(idx) != pos + 1) {
+			return null;
+		}
+		T item = slots.get(idx);
+		slots.lazySet(idx, null);
+		// Frees the slot for the producer on the next lap
+		sequences.set(idx, pos + mask + 1);
+		head = pos + 1;
+		return item;
+	}
+
+	/**
+	 * Is there nothing waiting to be read ?
+	 *
+	 * @return
+	 */
+	boolean isEmpty() {
+		return head >= tail.get();
+	}
+
+	int capacity() {
+		return mask + 1;
+	}
+}
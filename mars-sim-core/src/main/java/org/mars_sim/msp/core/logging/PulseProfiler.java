@@ -0,0 +1,171 @@
+/*
+ * Mars Simulation Project
+ * PulseProfiler.java
+ * @date 2026-10-19
+ * @author agent
+ */
+package org.mars_sim.msp.core.logging;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Profiles where the time goes while the simulation processes a clock pulse.
+ * Code sections are timed with a pair of calls:
+ * <pre>
+ *   long start = PulseProfiler.start();
+ *   ... section ...
+ *   PulseProfiler.stop(PulseProfiler.SETTLEMENT_POWER, start);
+ * </pre>
+ * Each section has a {@link LatencyHistogram}. When profiling is disabled
+ * start returns zero and stop does nothing, so the cost is a volatile read.
+ */
+public final class PulseProfiler {
+
+	// Names of the sections
+	public static final String PULSE = "pulse";
+	public static final String SCHEDULED = "scheduled";
+	public static final String LISTENER_PREFIX = "listener.";
+	public static final String SETTLEMENT_POWER = "settlement.powerGrid";
+	public static final String SETTLEMENT_THERMAL = "settlement.thermal";
+	public static final String SETTLEMENT_BUILDINGS = "settlement.buildings";
+	public static final String SETTLEMENT_CITIZENS = "settlement.citizens";
+	public static final String SETTLEMENT_VEHICLES = "settlement.vehicles";
+	public static final String SETTLEMENT_ROBOTS = "settlement.robots";
+	public static final String SETTLEMENT_BUILDING_MAP = "settlement.createBuildingMap";
+	public static final String METATASK_PREFIX = "metatask.";
+	public static final String MISSION_SELECTION = "mission.selection";
+
+	private static final double NANOS_PER_MICRO = 1000D;
+
+	private static volatile boolean enabled = false;
+
+	private static final Map<String, LatencyHistogram> sections = new ConcurrentHashMap<>();
+
+	private PulseProfiler() {
+		// Static helper class
+	}
+
+	public static boolean isEnabled() {
+		return enabled;
+	}
+
+	/**
+	 * Turns profiling on or off. Existing recordings are kept.
+	 *
+	 * @param newEnabled
+	 */
+	public static void setEnabled(boolean newEnabled) {
+		enabled = newEnabled;
+	}
+
+	/**
+	 * Marks the start of a section.
+	 *
+	 * @return Start time to pass to {@link #stop(String, long)}; zero if disabled
+	 */
+	public static long start() {
+		return (enabled ? System.nanoTime() : 0L);
+	}
+
+	/**
+	 * Records the end of a section.
+	 *
+	 * @param section Name of the section
+	 * @param start Value returned by {@link #start()}
+	 */
+	public static void stop(String section, long start) {
+		if (start != 0L) {
+			long elapsed = System.nanoTime() - start;
+			sections.computeIfAbsent(section, k -> new LatencyHistogram()).record(elapsed);
+		}
+	}
+
+	/**
+	 * Clears all recordings.
+	 */
+	public static void reset() {
+		sections.clear();
+	}
+
+	/**
+	 * Gets the histograms of the sections ordered by name.
+	 *
+	 * @return
+	 */
+	public static SortedMap<String, LatencyHistogram> getSections() {
+		return new TreeMap<>(sections);
+	}
+
+	/**
+	 * Creates a CSV report of the sections; durations are in microseconds.
+	 *
+	 * @return
+	 */
+	public static String toCSV() {
+		StringBuilder buffer = new StringBuilder();
+		buffer.append("section,count,total,mean,p50,p90,p99,max\n");
+		for (Map.Entry<String, LatencyHistogram> e : getSections().entrySet()) {
+			LatencyHistogram h = e.getValue();
+			buffer.append(e.getKey()).append(',')
+				.append(h.getCount()).append(',')
+				.append(toMicros(h.getTotal())).append(',')
+				.append(toMicros(h.getMean())).append(',')
+				.append(toMicros(h.getPercentile(50))).append(',')
+				.append(toMicros(h.getPercentile(90))).append(',')
+				.append(toMicros(h.getPercentile(99))).append(',')
+				.append(toMicros(h.getMax())).append('\n');
+		}
+		return buffer.toString();
+	}
+
+	/**
+	 * Creates a JSON report of the sections; durations are in microseconds.
+	 *
+	 * @return
+	 */
+	public static String toJSON() {
+		StringBuilder buffer = new StringBuilder();
+		buffer.append("{\n  \"units\": \"microseconds\",\n  \"sections\": [");
+		boolean first = true;
+		for (Map.Entry<String, LatencyHistogram> e : getSections().entrySet()) {
+			LatencyHistogram h = e.getValue();
+			buffer.append(first ? "\n" : ",\n");
+			first = false;
+			buffer.append("    {\"section\": \"").append(e.getKey().replace("\"", "\\\"")).append('"')
+				.append(", \"count\": ").append(h.getCount())
+				.append(", \"total\": ").append(toMicros(h.getTotal()))
+				.append(", \"mean\": ").append(toMicros(h.getMean()))
+				.append(", \"p50\": ").append(toMicros(h.getPercentile(50)))
+				.append(", \"p90\": ").append(toMicros(h.getPercentile(90)))
+				.append(", \"p99\": ").append(toMicros(h.getPercentile(99)))
+				.append(", \"max\": ").append(toMicros(h.getMax()))
+				.append('}');
+		}
+		buffer.append("\n  ]\n}\n");
+		return buffer.toString();
+	}
+
+	/**
+	 * Writes a report to a file. A name ending in ".json" gives JSON, anything
+	 * else gives CSV.
+	 *
+	 * @param file
+	 * @throws IOException
+	 */
+	public static void export(File file) throws IOException {
+		String report = (file.getName().toLowerCase().endsWith(".json") ? toJSON() : toCSV());
+		try (PrintWriter out = new PrintWriter(file, "UTF-8")) {
+			out.print(report);
+		}
+	}
+
+	private static double toMicros(double nanos) {
+		return Math.round(nanos / NANOS_PER_MICRO * 10D) / 10D;
+	}
+}
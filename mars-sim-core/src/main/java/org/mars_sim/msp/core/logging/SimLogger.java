@@ -1,17 +1,22 @@
 /*
  * Mars Simulation Project
  * SimLogger.java
- * @date 2022-06-27
+ * @date 2026-10-19
  * @author Barry Evans
  */
 
 package org.mars_sim.msp.core.logging;
 
+import java.time.Instant;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
 import java.util.logging.Level;
+import java.util.logging.LogRecord;
 import java.util.logging.Logger;
+import java.util.stream.Stream;
 
 import org.mars_sim.msp.core.Unit;
 import org.mars_sim.msp.core.structure.Settlement;
@@ -21,6 +26,9 @@ import org.mars_sim.msp.core.structure.construction.ConstructionSite;
  * This is a logger class similar to Java Logger that is Simulation aware
  * to handle common formatting.
  * This actor as an Adapter to the underlying Java Logger.
+ * Repeated messages are suppressed per call site, which is found by walking the
+ * stack only as far as the caller of this class. Accepted messages are formatted
+ * and written on a background thread, see {@link AsyncLogWriter}.
  */
 public class SimLogger {
 
@@ -31,14 +39,55 @@ public class SimLogger {
 		protected long startTime;
 		protected int count;
 
-		TimeAndCount() {
-			this.startTime = System.currentTimeMillis();
+		TimeAndCount(long startTime) {
+			this.startTime = startTime;
 			this.count = 1;
 		}
 	}
 
+	/**
+	 * The line of code logging a message on behalf of an actor.
+	 */
+	private static final class CallSite {
+		private final String className;
+		private final int line;
+		private final String actorName;
+		private final int hash;
+
+		CallSite(String className, int line, String actorName) {
+			this.className = className;
+			this.line = line;
+			this.actorName = actorName;
+			this.hash = (className.hashCode() * 31 + line) * 31 + actorName.hashCode();
+		}
+
+		@Override
+		public int hashCode() {
+			return hash;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (this == obj) {
+				return true;
+			}
+			if (!(obj instanceof CallSite)) {
+				return false;
+			}
+			CallSite other = (CallSite) obj;
+			return (line == other.line) && className.equals(other.className)
+					&& actorName.equals(other.actorName);
+		}
+	}
+
+	private static final String LOGGER_CLASS = SimLogger.class.getName();
+	private static final StackWalker WALKER = StackWalker.getInstance();
+	/** Finds the first frame outside this class. */
+	private static final Function<Stream<StackWalker.StackFrame>, Optional<StackWalker.StackFrame>> CALLER
+			= s -> s.dropWhile(f -> f.getClassName().equals(LOGGER_CLASS)).findFirst();
+
 	private static Map<String, SimLogger> loggers = new HashMap<>();
-	private static Map<String, TimeAndCount> lastLogged = new ConcurrentHashMap<>();
+	private static Map<CallSite, TimeAndCount> lastLogged = new ConcurrentHashMap<>();
 
 	private static final String OPEN_BRACKET = " [x";
 	private static final String CLOSED_BRACKET = "]";
@@ -179,31 +228,57 @@ public class SimLogger {
 			return;
 		}
 
-		long dTime = timeBetweenLogs;
+		long now = System.currentTimeMillis();
+		int count = 0;
 
-		String uniqueIdentifier = getUniqueIdentifer(actor);
-		TimeAndCount lastTimeAndCount = lastLogged.get(uniqueIdentifier);
-		StringBuilder outputMessage = null;
+		CallSite site = getCallSite(actor);
+		TimeAndCount lastTimeAndCount = lastLogged.get(site);
 		if (lastTimeAndCount != null) {
 			synchronized (lastTimeAndCount) {
-				long now = System.currentTimeMillis();
-				if (now - lastTimeAndCount.startTime < dTime) {
+				if (now - lastTimeAndCount.startTime < timeBetweenLogs) {
 					// Increment count only since the message in the same and is within the time prescribed
 					lastTimeAndCount.count++;
 					return;
 				}
 
-				// Print the log statement with counts
-				outputMessage = new StringBuilder(sourceName);
-				outputMessage.append(OPEN_BRACKET).append(lastTimeAndCount.count).append(CLOSED_BRACKET);
+				// Log with the count and start a new period
+				count = lastTimeAndCount.count;
+				lastTimeAndCount.startTime = now;
+				lastTimeAndCount.count = 1;
 			}
 		}
 		else {
 			// First time for this message
-			outputMessage = new StringBuilder(sourceName);
+			lastLogged.put(site, new TimeAndCount(now));
+		}
+
+		// Capture the location now as the actor may have moved by the time it is written
+		if ((location == null) && (actor != null)
+				&& !(actor instanceof Settlement) && !(actor instanceof ConstructionSite)) {
+			location = LocationFormat.getLocationContext(actor);
+		}
+
+		AsyncLogWriter.submit(new AsyncLogWriter.Entry(this, level, now, count, location, actor, message, t));
+	}
+
+	/**
+	 * Builds the text of a message; this is called by the writer thread.
+	 *
+	 * @param entry
+	 * @return
+	 */
+	private String formatMessage(AsyncLogWriter.Entry entry) {
+		if (entry.count < 0) {
+			return sourceName + " : " + entry.message;
+		}
+
+		StringBuilder outputMessage = new StringBuilder(sourceName);
+		if (entry.count > 0) {
+			outputMessage.append(OPEN_BRACKET).append(entry.count).append(CLOSED_BRACKET);
 		}
 
 		// Add body, contents Settlement, Unit nickname message"
+		Loggable actor = entry.actor;
 		outputMessage.append(COLON);
 		if (actor == null) {
 			// Actor unknown
@@ -218,49 +293,58 @@ public class SimLogger {
 		}
 		else { // In case of a person or robot or building
 			// Need container hierarchy in brackets
-			if (location == null) {
-				outputMessage.append(LocationFormat.getLocationDescription(actor));
-			}
-			else {
-				outputMessage.append(LocationFormat.getLocationDescription(actor, location));
-			}
+			outputMessage.append(LocationFormat.getLocationDescription(actor, entry.location));
 			outputMessage.append(CLOSED_BRACKET_SPACE).append(actor.getName()).append(DASH);
 		}
 
-		outputMessage.append(message);
-
-		if (t == null) {
-			rootLogger.log(level, outputMessage.toString());
-		}
-		else {
-			rootLogger.log(level, outputMessage.toString(), t);
-		}
+		outputMessage.append(entry.message);
+		return outputMessage.toString();
+	}
 
-		// Register the message
-		lastLogged.put(uniqueIdentifier, new TimeAndCount());
+	/**
+	 * Writes an entry to the underlying logger.
+	 *
+	 * @param entry
+	 */
+	void write(AsyncLogWriter.Entry entry) {
+		LogRecord logRecord = new LogRecord(entry.level, formatMessage(entry));
+		logRecord.setInstant(Instant.ofEpochMilli(entry.time));
+		logRecord.setLoggerName(rootLogger.getName());
+		// Stops the logger looking for the caller on the writer thread
+		logRecord.setSourceClassName(LOGGER_CLASS);
+		logRecord.setThrown(entry.thrown);
+		rootLogger.log(logRecord);
 	}
 
 	/**
-	 * Returns the line.
+	 * Gets the call site of the code using this logger for an actor.
 	 *
+	 * @param actor
 	 * @return
 	 */
-	private static String getUniqueIdentifer(Loggable actor) {
-		StackTraceElement[] stackTrace = Thread.currentThread().getStackTrace();
-		String loggerClass = SimLogger.class.getName();
+	private static CallSite getCallSite(Loggable actor) {
 		String nickName = (actor != null ? actor.getName() : "unknown");
-
-		// Skip the first frame as it is the "getStackTrace" call
-		for (int idx = 1; idx < stackTrace.length; idx++) {
-			StackTraceElement ste = stackTrace[idx];
-			if (!ste.getClassName().equals(loggerClass)) {
-				// We have now file/line before entering SimLogger.
-				StringBuilder key = new StringBuilder();
-				key.append(ste.getFileName()).append(ste.getLineNumber()).append(nickName);
-				return key.toString();
-			}
+		StackWalker.StackFrame frame = WALKER.walk(CALLER).orElse(null);
+		if (frame == null) {
+			return new CallSite(QUESTION, 0, nickName);
 		}
-		return QUESTION;
+		return new CallSite(frame.getClassName(), frame.getLineNumber(), nickName);
+	}
+
+	/**
+	 * Waits for the messages already logged to be written.
+	 */
+	public static void flush() {
+		AsyncLogWriter.flushAll();
+	}
+
+	/**
+	 * Makes the messages still queued be written when logging shuts down. Call
+	 * this after the logging configuration has been read as that replaces the
+	 * root handlers.
+	 */
+	public static void installFlushHandler() {
+		AsyncLogWriter.installFlushHandler();
 	}
 
 	/**
@@ -270,7 +354,10 @@ public class SimLogger {
 	 * @param message
 	 */
 	public void log(Level level, String message) {
-		rootLogger.log(level, sourceName + " : " + message);
+		if (rootLogger.isLoggable(level)) {
+			AsyncLogWriter.submit(new AsyncLogWriter.Entry(this, level, System.currentTimeMillis(), -1,
+										null, null, message, null));
+		}
 	}
 
 	/**
@@ -281,7 +368,10 @@ public class SimLogger {
 	 * @param e Exception
 	 */
 	public void log(Level level, String message, Exception e) {
-		rootLogger.log(level, sourceName + " : " + message, e);
+		if (rootLogger.isLoggable(level)) {
+			AsyncLogWriter.submit(new AsyncLogWriter.Entry(this, level, System.currentTimeMillis(), -1,
+										null, null, message, e));
+		}
 	}
 
 	/**
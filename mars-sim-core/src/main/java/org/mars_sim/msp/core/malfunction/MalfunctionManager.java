@@ -81,6 +81,8 @@ public class MalfunctionManager implements Serializable, Temporal {
 	private static final double WEAR_MALFUNCTION_FACTOR = 5D;
 	/** Factor for chance of accident due to wear condition. */
 	private static final double WEAR_ACCIDENT_FACTOR = 1D;
+	/** Chance per millisol of a wear malfunction, per millisol of use since maintenance. */
+	private static final double WEAR_HAZARD_FACTOR = MAINTENANCE_MALFUNCTION_FACTOR * WEAR_MALFUNCTION_FACTOR / 100D;
 
 	private static final String OXYGEN = "Oxygen";
 
@@ -119,6 +121,11 @@ public class MalfunctionManager implements Serializable, Temporal {
 	 * The current life time [in millisols] of active use
 	 */
 	private double currentWearLifeTime;
+	/**
+	 * The effective time since last maintenance [in millisols] when the next
+	 * malfunction due to wear happens. Zero if not scheduled yet.
+	 */
+	private double nextWearFailure;
 
 	// Life support modifiers.
 	private double oxygenFlowModifier = 100D;
@@ -471,6 +478,10 @@ public class MalfunctionManager implements Serializable, Temporal {
 	 */
 	public void activeTimePassing(double time) {
 
+		if (nextWearFailure <= 0D) {
+			scheduleWearFailure();
+		}
+
 		effectiveTimeSinceLastMaintenance += time;
 		currentWearLifeTime -= time;
 
@@ -478,12 +489,8 @@ public class MalfunctionManager implements Serializable, Temporal {
 		if (currentWearCondition < 0D)
 			currentWearCondition = 0D;
 
-		double maintFactor = effectiveTimeSinceLastMaintenance * MAINTENANCE_MALFUNCTION_FACTOR;
-		double wearFactor = (100D - currentWearCondition) / 100D * WEAR_MALFUNCTION_FACTOR;
-		double chance = time * maintFactor * wearFactor;
-
 		// Check for malfunction due to lack of maintenance and wear condition.
-		if (RandomUtil.lessThanRandPercent(chance)) {
+		if (effectiveTimeSinceLastMaintenance >= nextWearFailure) {
 			int solsLastMaint = (int) (effectiveTimeSinceLastMaintenance / 1000D);
 			// Reduce the max possible health condition
 //			maxCondition = (wearCondition + 400D)/500D;
@@ -494,7 +501,90 @@ public class MalfunctionManager implements Serializable, Temporal {
 
 			// FUTURE : how to connect maintenance to field reliability statistics when selecting a malfunction ?
 			selectMalfunction(null);
+			scheduleWearFailure();
+		}
+	}
+
+	/**
+	 * Samples when the next malfunction due to wear happens. The chance of one
+	 * grows with the time since maintenance and the wear, which both only
+	 * change with use, so the time is drawn once rather than tested every
+	 * pulse. It is drawn again after maintenance.
+	 */
+	private void scheduleWearFailure() {
+		// Exponentially distributed total hazard to survive
+		double hazard = -Math.log(1D - RandomUtil.getRandomDouble());
+		nextWearFailure = effectiveTimeSinceLastMaintenance
+				+ getTimeToWearFailure(hazard, effectiveTimeSinceLastMaintenance,
+									   currentWearLifeTime, baseWearLifeTime);
+	}
+
+	/**
+	 * Gets the time of use until the total hazard of a wear malfunction
+	 * reaches a value. The hazard per millisol of use a is
+	 * WEAR_HAZARD_FACTOR * (e + a) * w(a) where w is the wear fraction, rising
+	 * from 0 to 1 as the life time runs out.
+	 *
+	 * @param hazard Total hazard
+	 * @param effectiveTime Time of use since maintenance
+	 * @param wearLifeTime Life time left
+	 * @param baseWearLifeTime Life time when new
+	 * @return Time (millisols) of use
+	 */
+	static double getTimeToWearFailure(double hazard, double effectiveTime,
+									   double wearLifeTime, double baseWearLifeTime) {
+		double target = hazard / WEAR_HAZARD_FACTOR;
+
+		// The hazard grows without limit so a bracket is found by doubling
+		double high = 1D;
+		while (getWearHazard(high, effectiveTime, wearLifeTime, baseWearLifeTime) < target) {
+			high *= 2D;
+		}
+
+		double low = 0D;
+		for (int i = 0; i < 60; i++) {
+			double mid = (low + high) / 2D;
+			if (getWearHazard(mid, effectiveTime, wearLifeTime, baseWearLifeTime) < target) {
+				low = mid;
+			}
+			else {
+				high = mid;
+			}
 		}
+		return high;
+	}
+
+	/**
+	 * Gets the total hazard, without WEAR_HAZARD_FACTOR, over a time of use.
+	 *
+	 * @param time Time of use
+	 * @param e Time of use since maintenance at the start
+	 * @param life Life time left at the start
+	 * @param base Life time when new
+	 * @return
+	 */
+	private static double getWearHazard(double time, double e, double life, double base) {
+		// Wear starts at use c and is total at c + base
+		double c = life - base;
+		double start = Math.max(0D, c);
+		double full = Math.max(0D, c + base);
+
+		double result = 0D;
+		if (time > start) {
+			double end = Math.min(time, full);
+			result += (getRisingHazard(end, e, c) - getRisingHazard(start, e, c)) / base;
+		}
+		if (time > full) {
+			result += e * (time - full) + (time * time - full * full) / 2D;
+		}
+		return result;
+	}
+
+	/**
+	 * Integral of (e + s) * (s - c).
+	 */
+	private static double getRisingHazard(double s, double e, double c) {
+		return s * s * s / 3D + (e - c) * s * s / 2D - e * c * s;
 	}
 
 	/**
@@ -791,6 +881,8 @@ public class MalfunctionManager implements Serializable, Temporal {
 
 			// Improve the currentWearlifetime
 			currentWearLifeTime *= (1 + RandomUtil.getRandomDouble(.005));
+
+			scheduleWearFailure();
 		}
 	}
 
@@ -21,6 +21,7 @@ import org.mars_sim.msp.core.resource.AmountResource;
 import org.mars_sim.msp.core.resource.ItemResourceUtil;
 import org.mars_sim.msp.core.resource.ItemType;
 import org.mars_sim.msp.core.resource.Part;
+import org.mars_sim.msp.core.resource.ProcessIndex;
 import org.mars_sim.msp.core.resource.ResourceUtil;
 
 public class ManufactureConfig implements Serializable {
@@ -55,6 +56,9 @@ public class ManufactureConfig implements Serializable {
 	private static List<ManufactureProcessInfo> manufactureProcessList;
 	private static List<SalvageProcessInfo> salvageList;
 
+	// Processes keyed on the lower case names of their items
+	private transient ProcessIndex<String, ManufactureProcessInfo> processIndex;
+
 	/**
 	 * Constructor
 	 * 
@@ -64,6 +68,31 @@ public class ManufactureConfig implements Serializable {
 	public ManufactureConfig(Document manufactureDoc) {
 		loadManufactureProcessList(manufactureDoc);
 		loadSalvageList(manufactureDoc);
+
+		processIndex = new ProcessIndex<>(manufactureProcessList,
+								p -> getLowerCaseNames(p.getInputList()),
+								p -> getLowerCaseNames(p.getOutputList()),
+								ManufactureProcessInfo::getTechLevelRequired);
+	}
+
+	private static List<String> getLowerCaseNames(List<ManufactureProcessItem> items) {
+		List<String> result = new ArrayList<>();
+		if (items != null) {
+			for (ManufactureProcessItem item : items) {
+				result.add(item.getName().toLowerCase());
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Gets the index of the manufacturing processes by the names of their
+	 * inputs and outputs.
+	 * 
+	 * @return
+	 */
+	public ProcessIndex<String, ManufactureProcessInfo> getProcessIndex() {
+		return processIndex;
 	}
 
 	/**
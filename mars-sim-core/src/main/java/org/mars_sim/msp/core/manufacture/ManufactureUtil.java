@@ -101,16 +101,7 @@ public final class ManufactureUtil {
 	 * @return {@link List}<{@link ManufactureProcessItem}> list of processes
 	 */
 	public static List<ManufactureProcessInfo> getManufactureProcessesWithGivenOutput(String name) {
-		List<ManufactureProcessInfo> result = new ArrayList<>();
-		Iterator<ManufactureProcessInfo> i = getAllManufactureProcesses().iterator();
-		while (i.hasNext()) {
-			ManufactureProcessInfo process = i.next();
-			for (String n : process.getOutputNames()) {
-				if (name.equalsIgnoreCase(n))
-					result.add(process);
-			}
-		}
-		return result;
+		return new ArrayList<>(manufactureConfig.getProcessIndex().getProcessesWithOutput(name.toLowerCase()));
 	}
 
 	/**
@@ -120,16 +111,19 @@ public final class ManufactureUtil {
 	 * @return {@link List}<{@link ManufactureProcessItem}> list of processes
 	 */
 	public static List<ManufactureProcessInfo> getManufactureProcessesWithGivenInput(String name) {
-		List<ManufactureProcessInfo> result = new ArrayList<>();
-		Iterator<ManufactureProcessInfo> i = getAllManufactureProcesses().iterator();
-		while (i.hasNext()) {
-			ManufactureProcessInfo process = i.next();
-			for (String n : process.getInputNames()) {
-				if (name.equalsIgnoreCase(n))
-					result.add(process);
-			}
-		}
-		return result;
+		return new ArrayList<>(manufactureConfig.getProcessIndex().getProcessesWithInput(name.toLowerCase()));
+	}
+
+	/**
+	 * Gets manufacturing processes within the capability of a tech level with
+	 * given input.
+	 *
+	 * @param name {@link String} desired input
+	 * @param techLevel the tech level.
+	 * @return {@link List}<{@link ManufactureProcessItem}> list of processes
+	 */
+	public static List<ManufactureProcessInfo> getManufactureProcessesWithGivenInput(String name, int techLevel) {
+		return manufactureConfig.getProcessIndex().getProcessesWithInput(name.toLowerCase(), techLevel);
 	}
 
 	/**
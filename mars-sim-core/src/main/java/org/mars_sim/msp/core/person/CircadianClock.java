@@ -586,11 +586,7 @@ public class CircadianClock implements Serializable {
 	 * @return
 	 */
 	public double getTodaySleepTime() {
-		double time = 0;
-		if (getSleepHistory().containsKey(solCache)) {
-			time = getSleepHistory().get(solCache);
-		}
-		return time;
+		return sleepHistory.getSolValue(solCache);
 	}
 	
 	/**
@@ -617,11 +613,7 @@ public class CircadianClock implements Serializable {
 	 * @return
 	 */
 	public double getTodayExerciseTime() {
-		double time = 0;
-		if (getExerciseHistory().containsKey(solCache)) {
-			time = getExerciseHistory().get(solCache);
-		}
-		return time;
+		return exerciseHistory.getSolValue(solCache);
 	}
 	
 	/**
@@ -34,10 +34,14 @@ import org.mars_sim.msp.core.person.health.Medication;
 import org.mars_sim.msp.core.person.health.RadiationExposure;
 import org.mars_sim.msp.core.person.health.RadioProtectiveAgent;
 import org.mars_sim.msp.core.resource.ResourceUtil;
+import org.mars_sim.msp.core.structure.Settlement;
+import org.mars_sim.msp.core.structure.building.Building;
+import org.mars_sim.msp.core.structure.building.function.LifeSupport;
 import org.mars_sim.msp.core.structure.building.function.cooking.Cooking;
 import org.mars_sim.msp.core.time.ClockPulse;
 import org.mars_sim.msp.core.time.MarsClock;
 import org.mars_sim.msp.core.time.MasterClock;
+import org.mars_sim.msp.core.time.TimingWheel;
 import org.mars_sim.msp.core.tool.RandomUtil;
 
 /**
@@ -67,6 +71,9 @@ public class PhysicalCondition implements Serializable {
 	/** The amount of stress threshold [millisols]. */
 	private static final int STRESS_THRESHOLD = 65;
 
+	/** How often starvation, dehydration and radiation poisoning are checked [millisols]. */
+	private static final int CHECK_CONDITION_FREQUENCY = 7;
+
 	/** Life support minimum value. */
 	private static final int MIN_VALUE = 0;
 	/** Life support maximum value. */
@@ -207,6 +214,8 @@ public class PhysicalCondition implements Serializable {
 	private HealthProblem radiationPoisoned;
 	/** Most serious problem. */
 	private HealthProblem serious;
+	/** The event checking for starvation, dehydration and radiation poisoning. */
+	private TimingWheel.Event conditionEvent;
 
 	private static Simulation sim = Simulation.instance();
 	private static MarsClock marsClock;
@@ -259,6 +268,41 @@ public class PhysicalCondition implements Serializable {
 		}
 	}
 
+	/**
+	 * Checks for starvation, dehydration and radiation poisoning while the
+	 * person is alive.
+	 */
+	private static class ConditionCheck implements TimingWheel.Handler {
+
+		private static final long serialVersionUID = 1L;
+
+		private PhysicalCondition condition;
+
+		ConditionCheck(PhysicalCondition condition) {
+			this.condition = condition;
+		}
+
+		@Override
+		public void execute(ClockPulse pulse) {
+			if (!condition.alive) {
+				condition.conditionEvent.cancel();
+				return;
+			}
+
+			// Update starvation
+			condition.checkStarvation(condition.hunger);
+			// Update dehydration
+			condition.checkDehydration(condition.thirst);
+
+			// Check for mental breakdown if person is at high stress
+
+			// Check if person is at very high fatigue may collapse.
+
+			if (!condition.isRadiationPoisoned)
+				condition.checkRadiationPoisoning(pulse.getElapsed());
+		}
+	}
+
 	/**
 	 * Constructor 1.
 	 *
@@ -394,21 +438,12 @@ public class PhysicalCondition implements Serializable {
 					addStress(stressFactor);
 				}
 				
-				int msol = pulse.getMarsTime().getMillisolInt();
-				if (msol % 7 == 0) {
-
-					// Update starvation
-					checkStarvation(hunger);
-					// Update dehydration
-					checkDehydration(thirst);
-					
-					// Check for mental breakdown if person is at high stress
-					
-					// Check if person is at very high fatigue may collapse.
-
-					if (!isRadiationPoisoned)
-						checkRadiationPoisoning(time);
-				}
+			}
+
+			if ((conditionEvent == null) && (pulse.getMasterClock() != null)) {
+				// New person or one saved before the timing wheel
+				conditionEvent = pulse.getMasterClock().getTimingWheel().schedule(new ConditionCheck(this),
+											CHECK_CONDITION_FREQUENCY, CHECK_CONDITION_FREQUENCY);
 			}
 
             double currentO2Consumption;
@@ -523,7 +558,7 @@ public class PhysicalCondition implements Serializable {
 	private void checkLifeSupport(double time, double currentO2Consumption, LifeSupportInterface support) {
 		if (time > 0) {
 			try {
-				if (lackOxygen(support, currentO2Consumption * (time / 1000D)))
+				if (lackOxygen(support, currentO2Consumption * (time / 1000D), time))
 					logger.log(person, Level.SEVERE, 60_000, "Reported lack of oxygen.");
 				if (badAirPressure(support, MIN_AIR_PRESSURE))
 					logger.log(person, Level.SEVERE, 60_000, "Reported non-optimal air pressure.");
@@ -1216,17 +1251,26 @@ public class PhysicalCondition implements Serializable {
 	 *
 	 * @param support Life support system providing oxygen.
 	 * @param amount  amount of oxygen to consume (in kg)
+	 * @param time    amount of time passing (in millisols)
 	 * @return new problem added.
 	 * @throws Exception if error consuming oxygen.
 	 */
-	private boolean lackOxygen(LifeSupportInterface support, double amount) {
+	private boolean lackOxygen(LifeSupportInterface support, double amount, double time) {
 		if (amount > 0) {
 			if (support == null) {
 				logger.log(person, Level.SEVERE, 1000, "Had no life support.");
 				return true;
 			}
 			else {
-				double received = support.provideOxygen(amount);
+				double received;
+				LifeSupport ls = getBuildingLifeSupport(support);
+				if (ls != null) {
+					// Settled with the rest of the building occupants
+					received = ls.getAir().breathe(amount, time);
+				}
+				else {
+					received = support.provideOxygen(amount);
+				}
 				// Track the amount consumed
 				person.addConsumptionTime(OXYGEN_ID, received);
 				// Note: how to model how much oxygen we need properly ?
@@ -1240,6 +1284,22 @@ public class PhysicalCondition implements Serializable {
 		return false;
 	}
 
+	/**
+	 * Gets the life support of the building the person is breathing in.
+	 *
+	 * @param support Life support system of the person
+	 * @return Building life support or null if not inside a settlement building
+	 */
+	private LifeSupport getBuildingLifeSupport(LifeSupportInterface support) {
+		if (support instanceof Settlement) {
+			Building b = person.getBuildingLocation();
+			if (b != null) {
+				return b.getLifeSupport();
+			}
+		}
+		return null;
+	}
+
 	/**
 	 * This method checks the consume values of a resource. If the actual is less
 	 * than the required then a HealthProblem is generated. If the required amount
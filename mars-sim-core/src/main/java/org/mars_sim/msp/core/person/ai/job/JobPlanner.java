@@ -0,0 +1,186 @@
+/*
+ * Mars Simulation Project
+ * JobPlanner.java
+ * @date 2026-10-19
+ * @author agent
+ */
+package org.mars_sim.msp.core.person.ai.job;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.mars_sim.msp.core.logging.SimLogger;
+import org.mars_sim.msp.core.person.Person;
+import org.mars_sim.msp.core.structure.Settlement;
+import org.mars_sim.msp.core.tool.HungarianAlgorithm;
+
+/**
+ * Plans the jobs of all the people of a settlement in one go. The capability
+ * of every person for every job and the need of the settlement for every job
+ * are evaluated once. Each job offers a limited number of positions and each
+ * extra position in the same job meets less need. The assignment of people to
+ * positions with the best total prospect is then found.
+ */
+public final class JobPlanner {
+
+	private static final SimLogger logger = SimLogger.getLogger(JobPlanner.class.getName());
+
+	// Mean of the random slack added to the positions of a job by JobUtil.getNewJob
+	private static final double POSITION_SLACK = 0.4D;
+
+	private JobPlanner() {
+		// Static helper class
+	}
+
+	/**
+	 * Plans the jobs of the people of a settlement. People who can not change
+	 * job are not in the plan but do fill positions.
+	 *
+	 * @param settlement
+	 * @return Planned job of each person that can change job
+	 */
+	public static Map<Person, JobType> plan(Settlement settlement) {
+		Collection<Person> people = settlement.getAllAssociatedPeople();
+
+		// Split people who keep their job from those that can move
+		List<Person> movable = new ArrayList<>();
+		Map<JobType, Integer> fixedCount = new EnumMap<>(JobType.class);
+		Map<JobType, Double> fixedCapability = new EnumMap<>(JobType.class);
+		for (Person p : people) {
+			JobType current = p.getMind().getJob();
+			if (isMovable(p)) {
+				movable.add(p);
+			}
+			else if (current != null) {
+				fixedCount.merge(current, 1, Integer::sum);
+				fixedCapability.merge(current, JobUtil.getJobSpec(current).getCapability(p), Double::sum);
+			}
+		}
+		if (movable.isEmpty()) {
+			return new HashMap<>();
+		}
+
+		// Politician is reserved for the Mayor
+		List<Job> jobs = new ArrayList<>();
+		for (Job job : JobUtil.getJobs()) {
+			if (job.getType() != JobType.POLITICIAN) {
+				jobs.add(job);
+			}
+		}
+
+		// Capability of each movable person for each job
+		double[][] capability = new double[movable.size()][jobs.size()];
+		double[] meanCapability = new double[jobs.size()];
+		for (int i = 0; i < movable.size(); i++) {
+			for (int j = 0; j < jobs.size(); j++) {
+				capability[i][j] = jobs.get(j).getCapability(movable.get(i));
+				meanCapability[j] += capability[i][j] / movable.size();
+			}
+		}
+
+		// Need left for each job once the fixed people are counted
+		double[] need = new double[jobs.size()];
+		int[] openings = new int[jobs.size()];
+		int maxPositions = (int) Math.ceil((double) people.size() / JobType.values().length + POSITION_SLACK);
+		int totalOpenings = 0;
+		for (int j = 0; j < jobs.size(); j++) {
+			JobType type = jobs.get(j).getType();
+			need[j] = jobs.get(j).getSettlementNeed(settlement)
+						- fixedCount.getOrDefault(type, 0) - fixedCapability.getOrDefault(type, 0D);
+			openings[j] = Math.max(0, maxPositions - fixedCount.getOrDefault(type, 0));
+			totalOpenings += openings[j];
+		}
+
+		// Fixed people may have taken so many positions there are not enough
+		while (totalOpenings < movable.size()) {
+			for (int j = 0; j < jobs.size(); j++) {
+				openings[j]++;
+			}
+			totalOpenings += jobs.size();
+		}
+
+		// Each opening is a column; the kth opening of a job meets the need
+		// left after k people of average capability have taken the job
+		int[] columnJob = new int[totalOpenings];
+		double[] columnNeed = new double[totalOpenings];
+		int c = 0;
+		for (int j = 0; j < jobs.size(); j++) {
+			for (int k = 0; k < openings[j]; k++) {
+				columnJob[c] = j;
+				columnNeed[c] = Math.max(0D, need[j] - k * (1D + meanCapability[j]));
+				c++;
+			}
+		}
+
+		// The prospect is the same as JobUtil.getJobProspect; the solver
+		// minimises so it is negated
+		double[][] cost = new double[movable.size()][totalOpenings];
+		for (int i = 0; i < movable.size(); i++) {
+			JobType current = movable.get(i).getMind().getJob();
+			for (c = 0; c < totalOpenings; c++) {
+				int j = columnJob[c];
+				double remainingNeed = columnNeed[c];
+				if (jobs.get(j).getType() == current) {
+					remainingNeed += capability[i][j];
+				}
+				cost[i][c] = -(capability[i][j] + 1D) * remainingNeed;
+			}
+		}
+
+		int[] assigned = HungarianAlgorithm.solve(cost);
+		Map<Person, JobType> result = new HashMap<>();
+		for (int i = 0; i < movable.size(); i++) {
+			result.put(movable.get(i), jobs.get(columnJob[assigned[i]]).getType());
+		}
+		return result;
+	}
+
+	/**
+	 * Plans the jobs of the people of a settlement and reassigns anyone whose
+	 * planned job differs.
+	 *
+	 * @param settlement
+	 * @return Number of people that changed job
+	 */
+	public static int reassignJobs(Settlement settlement) {
+		int changed = 0;
+		for (Map.Entry<Person, JobType> e : plan(settlement).entrySet()) {
+			Person p = e.getKey();
+			if (p.getMind().getJob() != e.getValue()) {
+				p.getMind().assignJob(e.getValue(), false, JobUtil.SETTLEMENT,
+									  JobAssignmentType.APPROVED, JobUtil.SETTLEMENT);
+				changed++;
+			}
+		}
+
+		if (changed > 0) {
+			logger.info(settlement, changed + " people reassigned by the job plan.");
+		}
+		return changed;
+	}
+
+	/**
+	 * Can the planner change the person's job? The Mayor, anyone whose job is
+	 * locked and anyone whose last job was chosen by the user keep their job.
+	 *
+	 * @param p
+	 * @return
+	 */
+	private static boolean isMovable(Person p) {
+		if ((p.getMind().getJob() == JobType.POLITICIAN) || p.getMind().getJobLock()) {
+			return false;
+		}
+
+		List<JobAssignment> history = p.getJobHistory().getJobAssignmentList();
+		if (!history.isEmpty()) {
+			JobAssignment last = history.get(history.size() - 1);
+			return !JobUtil.USER.equals(last.getInitiator())
+					&& (last.getStatus() != JobAssignmentType.PENDING);
+		}
+		return true;
+	}
+}
@@ -227,25 +227,31 @@ public final class JobUtil {
 			// At the start of the game, pop = 0
 			pop = settlement.getInitialPopulation();
 
+		// The positions taken and the prospect of each job do not change while
+		// choosing so are found once
+		Map<JobType, Integer> numPositions = new EnumMap<>(JobType.class);
+		Map<JobType, Double> prospects = new EnumMap<>(JobType.class);
+		for (Job job : getJobs()) {
+			// Exclude politician job which is reserved for Mayor only
+			if (job.getType() != JobType.POLITICIAN) {
+				numPositions.put(job.getType(), numJobs(job.getType(), settlement));
+				prospects.put(job.getType(), getJobProspect(person, job.getType(), settlement, true));
+			}
+		}
+
 		// Set limits on # of position available for a job, based on settlement's population
 		// e.g. rather not having 3 botanists when the settlement has only 8 people
 		int numberOfJobs = JobType.values().length;
 		while (selectedJob == originalJob) {
-			Iterator<Job> i = getJobs().iterator();
-			while (i.hasNext()) {
-				Job job = i.next();
-				if (job.getType() != JobType.POLITICIAN) {
-					// Exclude politician job which is reserved for Mayor only
-					double rand = RandomUtil.getRandomDouble(0.8);
-					double t = 1.0 * pop / numberOfJobs  + rand;
-					int maxPos = (int)(Math.ceil(t));
-					int numPositions = numJobs(job.getType(), settlement);
-					if (numPositions < maxPos) {
-						double jobProspect = getJobProspect(person, job.getType(), settlement, true);
-						if (jobProspect > selectedJobProspect) {
-							selectedJob = job.getType();
-							selectedJobProspect = jobProspect;
-						}
+			for (Map.Entry<JobType, Double> e : prospects.entrySet()) {
+				double rand = RandomUtil.getRandomDouble(0.8);
+				double t = 1.0 * pop / numberOfJobs  + rand;
+				int maxPos = (int)(Math.ceil(t));
+				if (numPositions.get(e.getKey()) < maxPos) {
+					double jobProspect = e.getValue();
+					if (jobProspect > selectedJobProspect) {
+						selectedJob = e.getKey();
+						selectedJobProspect = jobProspect;
 					}
 				}
 			} 
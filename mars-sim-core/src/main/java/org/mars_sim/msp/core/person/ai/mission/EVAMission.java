@@ -6,7 +6,6 @@
  */
 package org.mars_sim.msp.core.person.ai.mission;
 
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 
@@ -410,32 +409,13 @@ public abstract class EVAMission extends RoverMission {
     
 	/**
 	 * Order a list of Coordinates starting from a point to minimise
-	 * the travel time.
+	 * the travel time. The terrain between the sites is taken into account.
 	 * @param unorderedSites
 	 * @param startingLocation
 	 * @return
+	 * @see RoutePlanner#orderSites(Coordinates, List)
 	 */
 	public static List<Coordinates> getMinimalPath(Coordinates startingLocation, List<Coordinates> unorderedSites) {
-
-		List<Coordinates> unorderedSites2 = new ArrayList<>(unorderedSites);
-		List<Coordinates> orderedSites = new ArrayList<>(unorderedSites2.size());
-		Coordinates currentLocation = startingLocation;
-		while (!unorderedSites2.isEmpty()) {
-			Coordinates shortest = unorderedSites2.get(0);
-			double shortestDistance = Coordinates.computeDistance(currentLocation, shortest);
-			for(Coordinates site : unorderedSites2) {
-				double distance = Coordinates.computeDistance(currentLocation, site);
-				if (distance < shortestDistance) {
-					shortest = site;
-					shortestDistance = distance;
-				}
-			}
-
-			unorderedSites2.remove(shortest);
-			orderedSites.add(shortest);
-			currentLocation = shortest;
-		}
-
-		return orderedSites;
+		return RoutePlanner.orderSites(startingLocation, unorderedSites);
 	}
 }
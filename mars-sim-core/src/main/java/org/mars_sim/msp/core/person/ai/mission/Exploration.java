@@ -10,7 +10,6 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
-import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -467,20 +466,8 @@ public class Exploration extends EVAMission
 	}
 
 	private static double getTotalDistance(Coordinates startingLoc, List<Coordinates> sites) {
-		double result = 0D;
-
-		Coordinates currentLoc = startingLoc;
-		Iterator<Coordinates> i = sites.iterator();
-		while (i.hasNext()) {
-			Coordinates site = i.next();
-			result += currentLoc.getDistance(site);
-			currentLoc = site;
-		}
-
-		// Add return trip to starting loc.
-		result += currentLoc.getDistance(startingLoc);
-
-		return result;
+		// Includes the return trip to starting loc.
+		return RoutePlanner.getRouteCost(startingLoc, sites);
 	}
 
 	/**
@@ -0,0 +1,159 @@
+/*
+ * Mars Simulation Project
+ * MissionFeasibilityCache.java
+ * @date 2026-10-19
+ * @author agent
+ */
+package org.mars_sim.msp.core.person.ai.mission;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.ToDoubleFunction;
+
+import org.mars_sim.msp.core.structure.Settlement;
+
+/**
+ * Caches the parts of the mission probabilities that only depend on the
+ * settlement, e.g. the best trade deal, the best mining site or the number of
+ * EVA suits available. Everyone at a settlement choosing a mission shares the
+ * values. A value is worked out again once it is older than a limit, or
+ * straight away when a mission is added for the settlement.
+ */
+public class MissionFeasibilityCache {
+
+	/**
+	 * Checks shared by several missions.
+	 */
+	private enum Check {
+		AVAILABLE_EVA_SUITS, EMBARKING_MISSIONS
+	}
+
+	/**
+	 * A value and when it was worked out.
+	 */
+	private static final class Entry {
+		private final Object value;
+		private final double time;
+
+		Entry(Object value, double time) {
+			this.value = value;
+			this.time = time;
+		}
+	}
+
+	/** How long (millisols) a value is kept. */
+	private static final double MAX_AGE = 25D;
+
+	// Values keyed on the settlement identifier then the check or mission type
+	private final Map<Integer, Map<Object, Entry>> values = new ConcurrentHashMap<>();
+	private volatile double now = 0D;
+
+	private final LongAdder hits = new LongAdder();
+	private final LongAdder misses = new LongAdder();
+
+	/**
+	 * Gets the settlement part of the probability of a mission.
+	 *
+	 * @param type Type of mission
+	 * @param settlement
+	 * @param calculator Works out the value if it is not cached
+	 * @return
+	 */
+	public double getMissionValue(MissionType type, Settlement settlement,
+								  ToDoubleFunction<Settlement> calculator) {
+		return get(type, settlement, calculator::applyAsDouble);
+	}
+
+	/**
+	 * Gets the number of EVA suits available at a settlement.
+	 *
+	 * @param settlement
+	 * @return
+	 * @see Mission#getNumberAvailableEVASuitsAtSettlement(Settlement)
+	 */
+	public int getAvailableEVASuits(Settlement settlement) {
+		return get(Check.AVAILABLE_EVA_SUITS, settlement, Mission::getNumberAvailableEVASuitsAtSettlement);
+	}
+
+	/**
+	 * Gets the number of missions embarking from a settlement.
+	 *
+	 * @param settlement
+	 * @return
+	 * @see VehicleMission#numEmbarkingMissions(Settlement)
+	 */
+	public int getEmbarkingMissions(Settlement settlement) {
+		return get(Check.EMBARKING_MISSIONS, settlement, VehicleMission::numEmbarkingMissions);
+	}
+
+	/**
+	 * Gets a cached value or works it out. The calculation is not done under
+	 * a lock as it may itself use the cache; two threads may both work out a
+	 * value, which only costs time.
+	 */
+	@SuppressWarnings("unchecked")
+	private <T> T get(Object key, Settlement settlement, Function<Settlement, T> calculator) {
+		Map<Object, Entry> settlementValues = values.computeIfAbsent(settlement.getIdentifier(),
+																	 k -> new ConcurrentHashMap<>());
+		Entry found = settlementValues.get(key);
+		double time = now;
+		if ((found != null) && ((time - found.time) < MAX_AGE)) {
+			hits.increment();
+			return (T) found.value;
+		}
+
+		misses.increment();
+		T value = calculator.apply(settlement);
+		settlementValues.put(key, new Entry(value, time));
+		return value;
+	}
+
+	/**
+	 * Sets the current time.
+	 *
+	 * @param millisols Total millisols since the start of the simulation
+	 */
+	void setTime(double millisols) {
+		now = millisols;
+	}
+
+	/**
+	 * Drops all the values of a settlement.
+	 *
+	 * @param settlement
+	 */
+	public void clear(Settlement settlement) {
+		values.remove(settlement.getIdentifier());
+	}
+
+	/**
+	 * Gets the number of values found in the cache.
+	 *
+	 * @return
+	 */
+	public long getHits() {
+		return hits.sum();
+	}
+
+	/**
+	 * Gets the number of values worked out.
+	 *
+	 * @return
+	 */
+	public long getMisses() {
+		return misses.sum();
+	}
+
+	/**
+	 * Gets the fraction of values found in the cache.
+	 *
+	 * @return
+	 */
+	public double getHitRate() {
+		long h = hits.sum();
+		long total = h + misses.sum();
+		return (total == 0 ? 0D : (double) h / total);
+	}
+}
@@ -19,6 +19,7 @@ import java.util.stream.Collectors;
 
 import org.mars_sim.msp.core.SimulationConfig;
 import org.mars_sim.msp.core.data.SolMetricDataLogger;
+import org.mars_sim.msp.core.logging.PulseProfiler;
 import org.mars_sim.msp.core.logging.SimLogger;
 import org.mars_sim.msp.core.person.Person;
 import org.mars_sim.msp.core.person.ai.mission.meta.MetaMission;
@@ -63,6 +64,9 @@ public class MissionManager implements Serializable, Temporal {
 	/** Prob boost for Mission Types */
 	private transient Map<MissionType, Integer> missionBoost = new EnumMap<>(MissionType.class);
 
+	/** Settlement parts of the mission probabilities. */
+	private transient MissionFeasibilityCache feasibilityCache = new MissionFeasibilityCache();
+
 	/**
 	 * Constructor.
 	 */
@@ -218,6 +222,12 @@ public class MissionManager implements Serializable, Temporal {
 					}
 				}
 				logger.config("Added '" + newMission.getName() + "' mission.");
+
+				// The new mission changes what else the settlement can do
+				Settlement home = newMission.getAssociatedSettlement();
+				if (home != null) {
+					getFeasibilityCache().clear(home);
+				}
 			}
 		}
 	}
@@ -253,6 +263,22 @@ public class MissionManager implements Serializable, Temporal {
 	 * @return new mission
 	 */
 	public Mission getNewMission(Person person) {
+		long start = PulseProfiler.start();
+		try {
+			return selectNewMission(person);
+		}
+		finally {
+			PulseProfiler.stop(PulseProfiler.MISSION_SELECTION, start);
+		}
+	}
+
+	/**
+	 * Selects a new mission from the weighted probabilities of the meta missions.
+	 *
+	 * @param person person to find the mission for
+	 * @return new mission
+	 */
+	private Mission selectNewMission(Person person) {
 		Mission result = null;
 
 		// Probably must be calculated as a local otherwise method is not threadsafe using a shared cache
@@ -280,7 +306,7 @@ public class MissionManager implements Serializable, Temporal {
 					double sponsorRatio = sponsor.getMissionRatio(metaMission.getType());
 					probability *= sponsorRatio;
 
-					logger.info(person, "Mission '" + metaMission.getType().getName() 
+					logger.fine(person, "Mission '" + metaMission.getType().getName() 
 							+ "' probability=" + Math.round(probability * 100.0)/100.0
 									+ " base prob=" + Math.round(baseProb * 100.0)/100.0
 									+ " boost=" + Math.round(boost * 100.0)/100.0
@@ -430,9 +456,23 @@ public class MissionManager implements Serializable, Temporal {
 		// Remove inactive missions
 		//TODO Create a history mission, e.g. keep aborted & completed seperate and purge
 
+		getFeasibilityCache().setTime(pulse.getMarsTime().getTotalMillisols());
 		return true;
 	}
 
+	/**
+	 * Gets the cache of the settlement parts of the mission probabilities.
+	 *
+	 * @return
+	 */
+	public synchronized MissionFeasibilityCache getFeasibilityCache() {
+		// Not saved with the simulation
+		if (feasibilityCache == null) {
+			feasibilityCache = new MissionFeasibilityCache();
+		}
+		return feasibilityCache;
+	}
+
 	/**
 	 * Adds a mission plan.
 	 *
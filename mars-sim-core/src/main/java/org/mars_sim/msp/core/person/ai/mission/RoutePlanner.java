@@ -0,0 +1,394 @@
+/*
+ * Mars Simulation Project
+ * RoutePlanner.java
+ * @date 2026-10-19
+ * @author agent
+ */
+package org.mars_sim.msp.core.person.ai.mission;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+import org.mars_sim.msp.core.Coordinates;
+import org.mars_sim.msp.core.environment.TerrainElevation;
+
+/**
+ * Plans surface routes for vehicle missions. The surface is covered by a coarse
+ * grid of cells sampled from the elevation map. The cost of a leg is found with
+ * an A* search over this grid where climbing or descending a slope costs more than
+ * flat ground. The result is held as a terrain factor per pair of cells, i.e. the
+ * ratio of the route cost to the cost of the same search over flat ground, so
+ * repeated estimates for the same area are a cache lookup.
+ * Multiple sites are ordered with a nearest neighbour tour improved by 2-opt.
+ * Vehicles still drive straight between their navpoints, so the costs are only
+ * used to choose the order of the sites and not to estimate the fuel or time
+ * of a trip.
+ * The caches are cleared when a simulation is created or loaded.
+ */
+public final class RoutePlanner {
+
+	/** Size of a grid cell in radians; half a degree is about 30km at the equator. */
+	private static final double CELL_SIZE = Math.toRadians(0.5D);
+	private static final int ROWS = (int) Math.round(Math.PI / CELL_SIZE);
+	private static final int COLS = ROWS * 2;
+
+	/** Extra cost per unit of climbing grade. */
+	private static final double UPHILL_PENALTY = 8D;
+	/** Extra cost per unit of descending grade. */
+	private static final double DOWNHILL_PENALTY = 2D;
+
+	/** Cells around the bounding box of a leg that the search may use. */
+	private static final int SEARCH_MARGIN = 6;
+	/** Give up on a search after this number of cells. */
+	private static final int MAX_EXPANDED = 50_000;
+	private static final int MAX_CACHED_LEGS = 5_000;
+
+	/** Elevation (km) of each cell; NaN until sampled. */
+	private static final float[] elevations = new float[ROWS * COLS];
+
+	/** Terrain factor keyed by the pair of cells. */
+	private static final Map<Long, Double> legFactors = new LinkedHashMap<>(256, 0.75F, true) {
+		private static final long serialVersionUID = 1L;
+
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<Long, Double> eldest) {
+			return size() > MAX_CACHED_LEGS;
+		}
+	};
+
+	static {
+		Arrays.fill(elevations, Float.NaN);
+	}
+
+	/**
+	 * A cell waiting to be expanded in the search.
+	 */
+	private static final class Node implements Comparable<Node> {
+		private final int idx;
+		private final double estimate;
+
+		Node(int idx, double estimate) {
+			this.idx = idx;
+			this.estimate = estimate;
+		}
+
+		@Override
+		public int compareTo(Node o) {
+			return Double.compare(estimate, o.estimate);
+		}
+	}
+
+	private RoutePlanner() {
+		// Static helper class
+	}
+
+	/**
+	 * Gets the estimated cost of travelling between two locations. This is the
+	 * straight line distance scaled by the terrain factor.
+	 *
+	 * @param from Starting location
+	 * @param to Destination
+	 * @return Cost as an equivalent flat distance (km)
+	 */
+	public static double getLegCost(Coordinates from, Coordinates to) {
+		double distance = Coordinates.computeDistance(from, to);
+		if (distance <= 0D) {
+			return 0D;
+		}
+		return distance * getTerrainFactor(from, to);
+	}
+
+	/**
+	 * Gets the ratio of the terrain aware route cost to the flat ground route cost
+	 * between two locations. Flat ground has a factor of 1.
+	 *
+	 * @param from Starting location
+	 * @param to Destination
+	 * @return Factor of at least 1
+	 */
+	public static double getTerrainFactor(Coordinates from, Coordinates to) {
+		int start = getCell(from);
+		int end = getCell(to);
+		if (start == end) {
+			return 1D;
+		}
+
+		Long key = ((long) start << 32) | end;
+		Double factor;
+		synchronized (legFactors) {
+			factor = legFactors.get(key);
+		}
+		if (factor == null) {
+			factor = computeTerrainFactor(start, end);
+			synchronized (legFactors) {
+				legFactors.put(key, factor);
+			}
+		}
+		return factor;
+	}
+
+	/**
+	 * Gets the cost of visiting a list of sites in order and returning to the start.
+	 *
+	 * @param start Starting location
+	 * @param sites Sites to visit in order
+	 * @return Cost as an equivalent flat distance (km)
+	 */
+	public static double getRouteCost(Coordinates start, List<Coordinates> sites) {
+		double result = 0D;
+		Coordinates current = start;
+		for (Coordinates site : sites) {
+			result += getLegCost(current, site);
+			current = site;
+		}
+		return result + getLegCost(current, start);
+	}
+
+	/**
+	 * Orders a list of sites to minimise the cost of a round trip from a starting
+	 * location. A nearest neighbour tour is improved by 2-opt moves.
+	 *
+	 * @param start Starting location
+	 * @param sites Sites to visit
+	 * @return The sites in visiting order
+	 */
+	public static List<Coordinates> orderSites(Coordinates start, List<Coordinates> sites) {
+		int n = sites.size();
+		if (n < 2) {
+			return new ArrayList<>(sites);
+		}
+
+		// Cost matrix where index 0 is the start
+		List<Coordinates> points = new ArrayList<>(n + 1);
+		points.add(start);
+		points.addAll(sites);
+		double[][] costs = new double[n + 1][n + 1];
+		for (int i = 0; i <= n; i++) {
+			for (int j = 0; j <= n; j++) {
+				if (i != j) {
+					costs[i][j] = getLegCost(points.get(i), points.get(j));
+				}
+			}
+		}
+
+		// Nearest neighbour tour
+		int[] tour = new int[n + 1];
+		boolean[] visited = new boolean[n + 1];
+		visited[0] = true;
+		for (int pos = 1; pos <= n; pos++) {
+			int last = tour[pos - 1];
+			int best = -1;
+			for (int c = 1; c <= n; c++) {
+				if (!visited[c] && ((best < 0) || (costs[last][c] < costs[last][best]))) {
+					best = c;
+				}
+			}
+			tour[pos] = best;
+			visited[best] = true;
+		}
+
+		// 2-opt; legs are not symmetric so each candidate is costed in full
+		double bestCost = getTourCost(tour, costs);
+		boolean improved = true;
+		while (improved) {
+			improved = false;
+			for (int i = 1; i < n; i++) {
+				for (int j = i + 1; j <= n; j++) {
+					reverse(tour, i, j);
+					double cost = getTourCost(tour, costs);
+					if (cost < bestCost - 1E-9) {
+						bestCost = cost;
+						improved = true;
+					}
+					else {
+						reverse(tour, i, j);
+					}
+				}
+			}
+		}
+
+		List<Coordinates> result = new ArrayList<>(n);
+		for (int pos = 1; pos <= n; pos++) {
+			result.add(points.get(tour[pos]));
+		}
+		return result;
+	}
+
+	/**
+	 * Clears the cached leg costs and elevations.
+	 */
+	public static void clearCache() {
+		synchronized (legFactors) {
+			legFactors.clear();
+		}
+		Arrays.fill(elevations, Float.NaN);
+	}
+
+	private static double getTourCost(int[] tour, double[][] costs) {
+		double result = 0D;
+		for (int pos = 1; pos < tour.length; pos++) {
+			result += costs[tour[pos - 1]][tour[pos]];
+		}
+		return result + costs[tour[tour.length - 1]][tour[0]];
+	}
+
+	private static void reverse(int[] tour, int i, int j) {
+		while (i < j) {
+			int t = tour[i];
+			tour[i++] = tour[j];
+			tour[j--] = t;
+		}
+	}
+
+	/**
+	 * Compares the cost of the route between two cells with the cost of the route
+	 * over flat ground on the same grid. The grid moves in 8 directions so even a
+	 * flat route is longer than the straight line.
+	 *
+	 * @param start Start cell
+	 * @param end End cell
+	 * @return Terrain factor of at least 1
+	 */
+	private static double computeTerrainFactor(int start, int end) {
+		double flat = search(start, end, false);
+		double terrain = search(start, end, true);
+		if (Double.isNaN(flat) || Double.isNaN(terrain) || (flat <= 0D)) {
+			// Search abandoned; assume flat
+			return 1D;
+		}
+		return Math.max(1D, terrain / flat);
+	}
+
+	/**
+	 * Runs an A* search between two cells over a window around them.
+	 *
+	 * @param start Start cell
+	 * @param end End cell
+	 * @param useTerrain Are slopes penalised
+	 * @return Route cost (km); NaN if the search is abandoned
+	 */
+	private static double search(int start, int end, boolean useTerrain) {
+		int startRow = start / COLS;
+		int startCol = start % COLS;
+		int endRow = end / COLS;
+		// Shortest way round in longitude
+		int deltaCol = Math.floorMod(end % COLS - startCol + COLS / 2, COLS) - COLS / 2;
+
+		double straight = getCellDistance(startRow, startCol, endRow, startCol + deltaCol);
+		if (straight <= 0D) {
+			return 0D;
+		}
+
+		// Search window in unwrapped columns
+		int row0 = Math.max(0, Math.min(startRow, endRow) - SEARCH_MARGIN);
+		int row1 = Math.min(ROWS - 1, Math.max(startRow, endRow) + SEARCH_MARGIN);
+		int col0 = Math.min(startCol, startCol + deltaCol) - SEARCH_MARGIN;
+		int width = Math.min(COLS, Math.abs(deltaCol) + 2 * SEARCH_MARGIN + 1);
+		int height = row1 - row0 + 1;
+
+		int goal = (endRow - row0) * width + (startCol + deltaCol - col0);
+		double[] costSoFar = new double[width * height];
+		Arrays.fill(costSoFar, Double.MAX_VALUE);
+		boolean[] closed = new boolean[width * height];
+		PriorityQueue<Node> open = new PriorityQueue<>();
+
+		int first = (startRow - row0) * width + (startCol - col0);
+		costSoFar[first] = 0D;
+		open.add(new Node(first, straight));
+
+		int expanded = 0;
+		while (!open.isEmpty() && (expanded < MAX_EXPANDED)) {
+			Node node = open.poll();
+			int idx = node.idx;
+			if (closed[idx]) {
+				continue;
+			}
+			if (idx == goal) {
+				return costSoFar[idx];
+			}
+			closed[idx] = true;
+			expanded++;
+
+			int r = idx / width;
+			int c = idx % width;
+			int row = r + row0;
+			int col = c + col0;
+			double elevation = (useTerrain ? getElevation(row, col) : 0D);
+			for (int dr = -1; dr <= 1; dr++) {
+				for (int dc = -1; dc <= 1; dc++) {
+					int nr = r + dr;
+					int nc = c + dc;
+					if (((dr == 0) && (dc == 0)) || (nr < 0) || (nr >= height) || (nc < 0) || (nc >= width)) {
+						continue;
+					}
+					int nIdx = nr * width + nc;
+					if (closed[nIdx]) {
+						continue;
+					}
+					double step = getCellDistance(row, col, nr + row0, nc + col0);
+					double penalty = 0D;
+					if (useTerrain) {
+						double grade = (getElevation(nr + row0, nc + col0) - elevation) / step;
+						penalty = (grade > 0 ? UPHILL_PENALTY * grade : -DOWNHILL_PENALTY * grade);
+					}
+					double cost = costSoFar[idx] + step * (1D + penalty);
+					if (cost < costSoFar[nIdx]) {
+						costSoFar[nIdx] = cost;
+						double remaining = getCellDistance(nr + row0, nc + col0, endRow, startCol + deltaCol);
+						open.add(new Node(nIdx, cost + remaining));
+					}
+				}
+			}
+		}
+
+		return Double.NaN;
+	}
+
+	/**
+	 * Gets the elevation of a cell, sampling the map the first time.
+	 *
+	 * @param row
+	 * @param col Column which may be outside of the grid and is wrapped
+	 * @return Elevation (km)
+	 */
+	private static double getElevation(int row, int col) {
+		int idx = row * COLS + Math.floorMod(col, COLS);
+		float result = elevations[idx];
+		if (Float.isNaN(result)) {
+			result = (float) TerrainElevation.getMOLAElevation(getCellPhi(row),
+											getCellTheta(Math.floorMod(col, COLS)));
+			elevations[idx] = result;
+		}
+		return result;
+	}
+
+	/**
+	 * Gets the great circle distance between the centres of two cells.
+	 */
+	private static double getCellDistance(int row1, int col1, int row2, int col2) {
+		double lat1 = Math.PI / 2D - getCellPhi(row1);
+		double lat2 = Math.PI / 2D - getCellPhi(row2);
+		double sinLat = Math.sin((lat2 - lat1) / 2D);
+		double sinLon = Math.sin((col2 - col1) * CELL_SIZE / 2D);
+		double a = sinLat * sinLat + Math.cos(lat1) * Math.cos(lat2) * sinLon * sinLon;
+		return 2D * Coordinates.MARS_RADIUS_KM * Math.asin(Math.min(1D, Math.sqrt(a)));
+	}
+
+	private static int getCell(Coordinates location) {
+		int row = Math.min(ROWS - 1, Math.max(0, (int) (location.getPhi() / CELL_SIZE)));
+		int col = Math.floorMod((int) (location.getTheta() / CELL_SIZE), COLS);
+		return row * COLS + col;
+	}
+
+	private static double getCellPhi(int row) {
+		return (row + 0.5D) * CELL_SIZE;
+	}
+
+	private static double getCellTheta(int col) {
+		return (col + 0.5D) * CELL_SIZE;
+	}
+}
@@ -6,6 +6,7 @@
  */
 package org.mars_sim.msp.core.person.ai.mission;
 
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
@@ -81,6 +82,10 @@ public abstract class RoverMission extends VehicleMission {
 	/** The factor for determining how many more EVA suits are needed for a trip. */
 	private static final double EXTRA_EVA_SUIT_FACTOR = .2;
 
+	/** Scratch trip needs vector for the static life support estimates; missions run on many threads. */
+	private static final ThreadLocal<double[]> lifeSupportNeeds =
+			ThreadLocal.withInitial(() -> new double[NUM_TRIP_SLOTS]);
+
 	/**
 	 * Constructor with min people and rover. Initiated by MissionDataBean.
 	 *
@@ -892,33 +897,29 @@ public abstract class RoverMission extends VehicleMission {
 	}
 
 	/**
-	 * Gets the number and amounts of resources needed for the mission.
+	 * Computes the resources needed for a trip. This adds life support for the crew
+	 * and the resources to load the EVA suit of each person.
 	 *
-	 * @param useMargin Apply safety margin when loading resources before embarking if true.
+	 * @param useBuffer Apply safety margin when loading resources before embarking if true.
 	 *        Note : True if estimating trip. False if calculating remaining trip.
-	 * @return map of amount and item resources and their Double amount or Integer
-	 *         number.
+	 * @param distance  the distance (km) of the trip.
+	 * @param needs Vector of NUM_TRIP_SLOTS that is overwritten
 	 */
 	@Override
-	public Map<Integer, Number> getResourcesNeededForTrip(boolean useBuffer, double distance) {
+	protected void computeTripNeeds(boolean useBuffer, double distance, double[] needs) {
 		// Note: currently, it uses methane as fuel. May switch to methanol in near future
-		Map<Integer, Number> result = super.getResourcesNeededForTrip(useBuffer, distance);
+		super.computeTripNeeds(useBuffer, distance, needs);
 
 		// Determine estimate time for trip.
 		double time = getEstimatedTripTime(useBuffer, distance);
 		double timeSols = time / 1000D;
 
 		int people = getPeopleNumber();
-		addLifeSupportResources(result, people, timeSols, useBuffer);
+		addLifeSupportNeeds(needs, people, timeSols, useBuffer);
 
 		// Add resources to load EVA suit of each person
-		// Determine life support supplies needed for trip.
-		result.merge(OXYGEN_ID, (EVASuit.OXYGEN_CAPACITY * people),
-					 (a,b) -> (a.doubleValue() + b.doubleValue()));
-		result.merge(WATER_ID, (EVASuit.WATER_CAPACITY * people),
-					 (a,b) -> (a.doubleValue() + b.doubleValue()));
-
-		return result;
+		needs[OXYGEN_SLOT] += EVASuit.OXYGEN_CAPACITY * people;
+		needs[WATER_SLOT] += EVASuit.WATER_CAPACITY * people;
 	}
 
 	/**
@@ -932,23 +933,43 @@ public abstract class RoverMission extends VehicleMission {
 	protected static void addLifeSupportResources(Map<Integer, Number> result,
 												  int crewNum, double timeSols,
 												  boolean useBuffer) {
+		double[] needs = lifeSupportNeeds.get();
+		Arrays.fill(needs, 0D);
+		addLifeSupportNeeds(needs, crewNum, timeSols, useBuffer);
+
+		result.merge(OXYGEN_ID, needs[OXYGEN_SLOT], (a,b) -> (a.doubleValue() + b.doubleValue()));
+		result.merge(WATER_ID, needs[WATER_SLOT], (a,b) -> (a.doubleValue() + b.doubleValue()));
+		result.merge(FOOD_ID, needs[FOOD_SLOT], (a,b) -> (a.doubleValue() + b.doubleValue()));
+	}
+
+	/**
+	 * Adds life support needs based on number of people and number of sols
+	 * to a trip needs vector.
+	 * 
+	 * @param needs Vector indexed by the trip slots
+	 * @param crewNum
+	 * @param timeSols
+	 * @param useBuffer
+	 */
+	protected static void addLifeSupportNeeds(double[] needs, int crewNum, double timeSols,
+												  boolean useBuffer) {
 
 		// Determine life support supplies needed for trip.
 		double oxygenAmount = PhysicalCondition.getOxygenConsumptionRate() * timeSols * crewNum ;
 		if (useBuffer)
 			oxygenAmount *= Vehicle.getLifeSupportRangeErrorMargin() * Mission.OXYGEN_MARGIN;
-		result.merge(OXYGEN_ID, oxygenAmount, (a,b) -> (a.doubleValue() + b.doubleValue()));
+		needs[OXYGEN_SLOT] += oxygenAmount;
 
 		double waterAmount = PhysicalCondition.getWaterConsumptionRate() * timeSols * crewNum ;
 		if (useBuffer)
 			waterAmount *= Vehicle.getLifeSupportRangeErrorMargin() * Mission.WATER_MARGIN * FUEL_CELL_FACTOR; 
 			// water is generated by fuel cells. no need of margins 
-		result.merge(WATER_ID, waterAmount, (a,b) -> (a.doubleValue() + b.doubleValue()));
+		needs[WATER_SLOT] += waterAmount;
 
 		double foodAmount = PhysicalCondition.getFoodConsumptionRate() * timeSols * crewNum ;
 		if (useBuffer)
 			foodAmount *= Vehicle.getLifeSupportRangeErrorMargin() * Mission.FOOD_MARGIN;
-		result.merge(FOOD_ID, foodAmount, (a,b) -> (a.doubleValue() + b.doubleValue()));
+		needs[FOOD_SLOT] += foodAmount;
 	}
 
 	/**
@@ -998,35 +1019,8 @@ public abstract class RoverMission extends VehicleMission {
 	 * @throws MissionException if error determining time limit.
 	 */
 	public static double getTotalTripTimeLimit(Rover rover, int memberNum, boolean useBuffer) {
-
-		double timeLimit = Double.MAX_VALUE;
-
-		// Check food capacity as time limit.
-		double foodConsumptionRate = personConfig.getFoodConsumptionRate();
-		double foodCapacity = rover.getAmountResourceCapacity(FOOD_ID);
-		double foodTimeLimit = foodCapacity / (foodConsumptionRate * memberNum);
-		if (foodTimeLimit < timeLimit) {
-			timeLimit = foodTimeLimit;
-		}
-
-		// Check water capacity as time limit.
-		double waterConsumptionRate = personConfig.getWaterConsumptionRate();
-		double waterCapacity = rover.getAmountResourceCapacity(WATER_ID);
-		double waterTimeLimit = waterCapacity / (waterConsumptionRate * memberNum);
-		if (waterTimeLimit < timeLimit) {
-			timeLimit = waterTimeLimit;
-		}
-
-		// Check oxygen capacity as time limit.
-		double oxygenConsumptionRate = personConfig.getNominalO2ConsumptionRate();
-		double oxygenCapacity = rover.getAmountResourceCapacity(OXYGEN_ID);
-		double oxygenTimeLimit = oxygenCapacity / (oxygenConsumptionRate * memberNum);
-		if (oxygenTimeLimit < timeLimit) {
-			timeLimit = oxygenTimeLimit;
-		}
-
-		// Convert timeLimit into millisols and use error margin.
-		timeLimit = (timeLimit * 1000D);
+		// Convert the sols into millisols and use error margin.
+		double timeLimit = getLifeSupportSols(rover, memberNum) * 1000D;
 		if (useBuffer) {
 			timeLimit /= Vehicle.getLifeSupportRangeErrorMargin();
 		}
@@ -1034,6 +1028,27 @@ public abstract class RoverMission extends VehicleMission {
 		return timeLimit;
 	}
 
+	/**
+	 * Gets how many sols of life support a rover can carry for a crew. This is set by
+	 * whichever of oxygen, water or food runs out first.
+	 *
+	 * @param rover
+	 * @param crewNum
+	 * @return sols
+	 */
+	public static double getLifeSupportSols(Rover rover, int crewNum) {
+		// Needs of the crew for one sol
+		double[] needs = lifeSupportNeeds.get();
+		Arrays.fill(needs, 0D);
+		addLifeSupportNeeds(needs, crewNum, 1D, false);
+
+		double sols = Double.MAX_VALUE;
+		sols = Math.min(sols, rover.getAmountResourceCapacity(OXYGEN_ID) / needs[OXYGEN_SLOT]);
+		sols = Math.min(sols, rover.getAmountResourceCapacity(WATER_ID) / needs[WATER_SLOT]);
+		sols = Math.min(sols, rover.getAmountResourceCapacity(FOOD_ID) / needs[FOOD_SLOT]);
+		return sols;
+	}
+
 	/**
 	 * Find members for a mission, for RoverMissions all members must be at the same
 	 * settlement.
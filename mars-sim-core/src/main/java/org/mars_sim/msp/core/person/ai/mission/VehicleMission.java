@@ -8,6 +8,7 @@ package org.mars_sim.msp.core.person.ai.mission;
 
 import java.text.MessageFormat;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.Iterator;
@@ -66,6 +67,16 @@ public abstract class VehicleMission extends Mission implements UnitListener {
 	protected static final int WATER_ID = ResourceUtil.waterID;
 	protected static final int FOOD_ID = ResourceUtil.foodID;
 	
+	// Slots of the trip needs vector, see computeTripNeeds
+	protected static final int FUEL_SLOT = 0;
+	protected static final int OXYGEN_SLOT = 1;
+	protected static final int WATER_SLOT = 2;
+	protected static final int FOOD_SLOT = 3;
+	protected static final int NUM_TRIP_SLOTS = 4;
+	
+	/** Fractions of the distance tried when rerouting in an emergency. */
+	private static final double[] EMERGENCY_TRIP_FRACTIONS = {1D, 0.667, 0.333};
+	
 	/** The factor for estimating the adjusted fuel economy. */
 	public static final double FE_FACTOR = 3.0;
 	
@@ -142,6 +153,8 @@ public abstract class VehicleMission extends Mission implements UnitListener {
 	private transient Map<Integer, Integer> equipmentNeededCache;
 
 	private transient Map<Integer, Number> cachedParts = null;
+	/** Reusable vector for checking trip needs. */
+	private transient double[] tripNeeds;
 	/** List of navpoints for the mission. */
 	private List<NavPoint> navPoints = new ArrayList<>();
 		
@@ -1072,18 +1085,98 @@ public abstract class VehicleMission extends Mission implements UnitListener {
 	public Map<Integer, Number> getResourcesNeededForTrip(boolean useMargin, double distance) {
 		Map<Integer, Number> result = new HashMap<>();
 		if (vehicle != null) {
-			double amount = 0;
+			double[] needs = new double[NUM_TRIP_SLOTS];
+			computeTripNeeds(useMargin, distance, needs);
 
+			result.put(vehicle.getFuelType(), needs[FUEL_SLOT]);
+			result.put(OXYGEN_ID, needs[OXYGEN_SLOT]);
+			if (needs[WATER_SLOT] > 0D) {
+				result.put(WATER_ID, needs[WATER_SLOT]);
+			}
+			if (needs[FOOD_SLOT] > 0D) {
+				result.put(FOOD_ID, needs[FOOD_SLOT]);
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Computes the amounts of the consumable resources needed for a trip into a
+	 * vector indexed by the trip slots. The fuel slot is the fuel of the mission vehicle.
+	 * Subclasses add their own needs on top.
+	 *
+	 * @param useMargin Apply safety margin if true.
+	 * @param distance  the distance (km) of the trip.
+	 * @param needs Vector of NUM_TRIP_SLOTS that is overwritten
+	 */
+	protected void computeTripNeeds(boolean useMargin, double distance, double[] needs) {
+		Arrays.fill(needs, 0D);
+		if (vehicle != null) {
 			// Must use the same logic in all cases otherwise too few fuel will be loaded
-			amount = getFuelNeededForTrip(vehicle, distance, 
+			double amount = getFuelNeededForTrip(vehicle, distance, 
 							vehicle.getEstimatedFuelEconomy(), useMargin);
 
-			result.put(vehicle.getFuelType(), amount);
+			needs[FUEL_SLOT] = amount;
 			// Assume double amount of oxygen as fuel oxidizer
-			result.put(ResourceUtil.oxygenID, 2 * amount);
+			needs[OXYGEN_SLOT] = 2 * amount;
+		}
+	}
 
+	/**
+	 * Finds the first of a set of candidate trips that the resources on the vehicle
+	 * can support. The candidates are fractions of a distance, so the longest should come first.
+	 * No margin is applied.
+	 *
+	 * @param distance Full distance of the trip (km)
+	 * @param fractions Fractions of the distance to try
+	 * @return Index of the supported fraction or -1 if none
+	 */
+	protected final int findSupportedTrip(double distance, double[] fractions) {
+		if (tripNeeds == null) {
+			tripNeeds = new double[NUM_TRIP_SLOTS];
+		}
+		for (int i = 0; i < fractions.length; i++) {
+			computeTripNeeds(false, distance * fractions[i], tripNeeds);
+			if (hasEnoughResources(tripNeeds)) {
+				return i;
+			}
 		}
-		return result;
+		return -1;
+	}
+
+	/**
+	 * Checks if there are enough resources in the vehicle for a trip needs vector.
+	 *
+	 * @param needs Vector indexed by the trip slots
+	 * @return true if enough resources.
+	 */
+	private boolean hasEnoughResources(double[] needs) {
+		return hasEnoughResource(vehicle.getFuelType(), needs[FUEL_SLOT])
+				&& hasEnoughResource(OXYGEN_ID, needs[OXYGEN_SLOT])
+				&& hasEnoughResource(WATER_ID, needs[WATER_SLOT])
+				&& hasEnoughResource(FOOD_ID, needs[FOOD_SLOT]);
+	}
+
+	/**
+	 * Checks if there is enough of an amount resource in the vehicle.
+	 *
+	 * @param id Amount resource id
+	 * @param amount Amount needed (kg)
+	 * @return true if enough resources.
+	 */
+	private boolean hasEnoughResource(int id, double amount) {
+		if (amount <= 0D) {
+			return true;
+		}
+		double amountStored = vehicle.getAmountResourceStored(id);
+		if (amountStored < amount) {
+			logger.log(vehicle, Level.WARNING, 10_000, "Not enough "
+					+ ResourceUtil.findAmountResourceName(id) + " to continue with "
+					+ getName() + " - Required: " + Math.round(amount * 100D) / 100D + " kg - Vehicle stored: "
+					+ Math.round(amountStored * 100D) / 100D + " kg");
+			return false;
+		}
+		return true;
 	}
 
 	/**
@@ -1350,25 +1443,15 @@ public abstract class VehicleMission extends Mission implements UnitListener {
 		if (newDestination != null) {
 
 			double newDistance = Coordinates.computeDistance(getCurrentMissionLocation(), newDestination.getCoordinates());
-			boolean enough = true;
-
 			// for delivery mission, Will need to alert the player differently if it runs out of fuel
 			if (getMissionType() != MissionType.DELIVERY) {
 
-				enough = hasEnoughResources(getResourcesNeededForTrip(false, newDistance));
-
-				// Check if enough resources to get to settlement.
-				if (newDistance > 0 && enough) {
-
-					travel(reason, member, oldHome, newDestination, oldDistance, newDistance);
-
-				} else if (newDistance > 0 && hasEnoughResources(getResourcesNeededForTrip(false, newDistance * 0.667))) {
-
-					travel(reason, member, oldHome, newDestination, oldDistance, newDistance * 0.667);
-
-				} else if (newDistance > 0 && hasEnoughResources(getResourcesNeededForTrip(false, newDistance * 0.333))) {
+				// Check if enough resources to get to settlement or part way there.
+				int supported = (newDistance > 0 ? findSupportedTrip(newDistance, EMERGENCY_TRIP_FRACTIONS) : -1);
+				if (supported >= 0) {
 
-					travel(reason, member, oldHome, newDestination, oldDistance, newDistance * 0.333);
+					travel(reason, member, oldHome, newDestination, oldDistance,
+							newDistance * EMERGENCY_TRIP_FRACTIONS[supported]);
 
 				} else {
 					requestHelp = true;
@@ -94,7 +94,7 @@ public class BuildingConstructionMissionMeta extends AbstractMetaMission {
 	            }
 	            
 	            // Check if min number of EVA suits at settlement.
-	        	if (Mission.getNumberAvailableEVASuitsAtSettlement(settlement) <
+	        	if (missionManager.getFeasibilityCache().getAvailableEVASuits(settlement) <
 	                    BuildingConstructionMission.MIN_PEOPLE) {
 	        		return 0;
 	            }
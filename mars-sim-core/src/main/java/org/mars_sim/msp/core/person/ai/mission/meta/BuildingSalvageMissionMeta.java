@@ -96,7 +96,7 @@ public class BuildingSalvageMissionMeta extends AbstractMetaMission {
 	                return 0;
 	
 	            // Check if min number of EVA suits at settlement.
-	            if (Mission.getNumberAvailableEVASuitsAtSettlement(settlement) < BuildingSalvageMission.MIN_PEOPLE) {
+	            if (missionManager.getFeasibilityCache().getAvailableEVASuits(settlement) < BuildingSalvageMission.MIN_PEOPLE) {
 	            	return 0;
 	            }
 	
@@ -65,7 +65,8 @@ public class DeliveryMeta extends AbstractMetaMission {
 				// Note: checkMission() gives rise to a NULLPOINTEREXCEPTION that points to
 				// Inventory
 				// It happens only when this sim is a loaded saved sim.
-				missionProbability = getSettlementProbability(settlement); 
+				missionProbability = missionManager.getFeasibilityCache().getMissionValue(
+											MissionType.DELIVERY, settlement, this::getSettlementProbability);
 			
 		} else {
 			missionProbability = 0;
@@ -11,7 +11,6 @@ import org.mars_sim.msp.core.person.ai.mission.EmergencySupply;
 import org.mars_sim.msp.core.person.ai.mission.Mission;
 import org.mars_sim.msp.core.person.ai.mission.MissionType;
 import org.mars_sim.msp.core.person.ai.mission.RoverMission;
-import org.mars_sim.msp.core.person.ai.mission.VehicleMission;
 import org.mars_sim.msp.core.person.ai.role.RoleType;
 import org.mars_sim.msp.core.structure.Settlement;
 import org.mars_sim.msp.core.vehicle.Rover;
@@ -72,13 +71,13 @@ public class EmergencySupplyMeta extends AbstractMetaMission {
 	            	min_num = RoverMission.MIN_GOING_MEMBERS;
 	    	    
 	            // Check if min number of EVA suits at settlement.
-	            if (Mission.getNumberAvailableEVASuitsAtSettlement(settlement) < min_num) {
+	            if (missionManager.getFeasibilityCache().getAvailableEVASuits(settlement) < min_num) {
 	    	        return 0;
 	    	    }
 	
 	            missionProbability = EmergencySupply.BASE_STARTING_PROBABILITY;
 	
-	    		int numEmbarked = VehicleMission.numEmbarkingMissions(settlement);	
+	    		int numEmbarked = missionManager.getFeasibilityCache().getEmbarkingMissions(settlement);	
 	    		int numThisMission = missionManager.numParticularMissions(MissionType.EMERGENCY_SUPPLY, settlement);
 	    		
 		   		// Check for # of embarking missions.
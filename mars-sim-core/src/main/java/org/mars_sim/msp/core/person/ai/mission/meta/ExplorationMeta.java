@@ -15,9 +15,9 @@ import org.mars_sim.msp.core.person.Person;
 import org.mars_sim.msp.core.person.ai.job.JobType;
 import org.mars_sim.msp.core.person.ai.mission.Exploration;
 import org.mars_sim.msp.core.person.ai.mission.Mission;
+import org.mars_sim.msp.core.person.ai.mission.MissionFeasibilityCache;
 import org.mars_sim.msp.core.person.ai.mission.MissionType;
 import org.mars_sim.msp.core.person.ai.mission.RoverMission;
-import org.mars_sim.msp.core.person.ai.mission.VehicleMission;
 import org.mars_sim.msp.core.person.ai.role.RoleType;
 import org.mars_sim.msp.core.structure.Settlement;
 import org.mars_sim.msp.core.vehicle.Rover;
@@ -73,7 +73,8 @@ public class ExplorationMeta extends AbstractMetaMission {
 				}
 
 				missionProbability = 1D;
-				int numEmbarked = VehicleMission.numEmbarkingMissions(settlement);
+				MissionFeasibilityCache feasibility = missionManager.getFeasibilityCache();
+				int numEmbarked = feasibility.getEmbarkingMissions(settlement);
 				int numThisMission = missionManager.numParticularMissions(MissionType.EXPLORATION, settlement);
 
 		   		// Check for # of embarking missions.
@@ -88,16 +89,8 @@ public class ExplorationMeta extends AbstractMetaMission {
 	    		missionProbability = 0;
 
 				try {
-					// Get available rover.
-					Rover rover = (Rover) RoverMission.getVehicleWithGreatestRange(MissionType.EXPLORATION, settlement, false);
-					if (rover != null) {
-						// Check if any mineral locations within rover range and obtain their concentration
-						missionProbability = Math.min(MAX, settlement.getTotalMineralValue(rover)) / VALUE;
-						if (missionProbability < 0) {
-							missionProbability = 0;
-						}
-					}
-
+					missionProbability = feasibility.getMissionValue(MissionType.EXPLORATION, settlement,
+																	 ExplorationMeta::getMineralValue);
 				} catch (Exception e) {
 					logger.log(Level.SEVERE, "Error exploring mineral values.", e);
 					return 0;
@@ -129,4 +122,22 @@ public class ExplorationMeta extends AbstractMetaMission {
 
 		return missionProbability;
 	}
+
+	/**
+	 * Gets the value of the minerals in range of the best rover of a
+	 * settlement.
+	 *
+	 * @param settlement
+	 * @return
+	 */
+	private static double getMineralValue(Settlement settlement) {
+		// Get available rover.
+		Rover rover = (Rover) RoverMission.getVehicleWithGreatestRange(MissionType.EXPLORATION, settlement, false);
+		if (rover == null) {
+			return 0;
+		}
+
+		// Check if any mineral locations within rover range and obtain their concentration
+		return Math.max(0D, Math.min(MAX, settlement.getTotalMineralValue(rover)) / VALUE);
+	}
 }
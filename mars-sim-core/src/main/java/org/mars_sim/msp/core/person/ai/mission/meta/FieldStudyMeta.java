@@ -16,7 +16,6 @@ import org.mars_sim.msp.core.person.ai.job.JobType;
 import org.mars_sim.msp.core.person.ai.mission.FieldStudyMission;
 import org.mars_sim.msp.core.person.ai.mission.MissionType;
 import org.mars_sim.msp.core.person.ai.mission.RoverMission;
-import org.mars_sim.msp.core.person.ai.mission.VehicleMission;
 import org.mars_sim.msp.core.person.ai.role.RoleType;
 import org.mars_sim.msp.core.science.ScienceType;
 import org.mars_sim.msp.core.science.ScientificStudy;
@@ -64,7 +63,7 @@ public class FieldStudyMeta extends AbstractMetaMission {
 
 				missionProbability = 1D;
 				
-				int numEmbarked = VehicleMission.numEmbarkingMissions(settlement);
+				int numEmbarked = missionManager.getFeasibilityCache().getEmbarkingMissions(settlement);
 				int numThisMission = missionManager.numParticularMissions(mType, settlement);
 				
 		   		// Check for # of embarking missions.
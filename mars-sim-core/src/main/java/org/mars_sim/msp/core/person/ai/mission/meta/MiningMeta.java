@@ -16,9 +16,9 @@ import org.mars_sim.msp.core.person.Person;
 import org.mars_sim.msp.core.person.ai.job.JobType;
 import org.mars_sim.msp.core.person.ai.mission.Mining;
 import org.mars_sim.msp.core.person.ai.mission.Mission;
+import org.mars_sim.msp.core.person.ai.mission.MissionFeasibilityCache;
 import org.mars_sim.msp.core.person.ai.mission.MissionType;
 import org.mars_sim.msp.core.person.ai.mission.RoverMission;
-import org.mars_sim.msp.core.person.ai.mission.VehicleMission;
 import org.mars_sim.msp.core.person.ai.role.RoleType;
 import org.mars_sim.msp.core.structure.Settlement;
 import org.mars_sim.msp.core.vehicle.Rover;
@@ -75,7 +75,8 @@ public class MiningMeta extends AbstractMetaMission {
 	            if (!Mining.areAvailableAttachmentParts(settlement))
 	            	return 0;
 
-				int numEmbarked = VehicleMission.numEmbarkingMissions(settlement);
+				MissionFeasibilityCache feasibility = missionManager.getFeasibilityCache();
+				int numEmbarked = feasibility.getEmbarkingMissions(settlement);
 				int numThisMission = missionManager.numParticularMissions(MissionType.MINING, settlement);
 
 		   		// Check for # of embarking missions.
@@ -89,22 +90,10 @@ public class MiningMeta extends AbstractMetaMission {
 	    		missionProbability = 0;
 
 	            try {
-	                // Get available rover.
-	                Rover rover = (Rover) RoverMission.getVehicleWithGreatestRange(MissionType.MINING,
-	                        settlement, false);
-
-	                if (rover != null) {
-	                    // Find best mining site.
-	                    ExploredLocation miningSite = Mining.determineBestMiningSite(
-	                            rover, settlement);
-	                    if (miningSite != null) {
-	                        missionProbability = 1.5 * Mining.getMiningSiteValue(miningSite, settlement);
-	    					if (missionProbability < 0)
-	    						missionProbability = 0;
-	                    }
-	                    else // no mining site can be identified
-	                    	return 0;
-	                }
+	                missionProbability = feasibility.getMissionValue(MissionType.MINING, settlement,
+	                												 MiningMeta::getMiningSiteValue);
+	                if (missionProbability < 0) // no mining site can be identified
+	                	return 0;
 	            } catch (Exception e) {
 	                logger.log(Level.SEVERE, "Error getting mining site.", e);
 	                return 0;
@@ -143,4 +132,27 @@ public class MiningMeta extends AbstractMetaMission {
 
         return missionProbability;
     }
+
+    /**
+     * Gets the value of the best mining site in range of the best rover of a
+     * settlement.
+     *
+     * @param settlement
+     * @return Value of the site; 0 if there is no rover; -1 if there is no site
+     */
+    private static double getMiningSiteValue(Settlement settlement) {
+        // Get available rover.
+        Rover rover = (Rover) RoverMission.getVehicleWithGreatestRange(MissionType.MINING,
+                settlement, false);
+        if (rover == null) {
+        	return 0;
+        }
+
+        // Find best mining site.
+        ExploredLocation miningSite = Mining.determineBestMiningSite(rover, settlement);
+        if (miningSite == null) {
+        	return -1;
+        }
+        return Math.max(0D, 1.5 * Mining.getMiningSiteValue(miningSite, settlement));
+    }
 }
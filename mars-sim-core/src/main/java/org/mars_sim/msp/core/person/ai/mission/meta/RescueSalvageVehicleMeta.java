@@ -85,7 +85,7 @@ public class RescueSalvageVehicleMeta extends AbstractMetaMission {
             // FIXME : need to know how many extra EVA suits needed in the broken vehicle
 
             // Check if min number of EVA suits at settlement.
-            if (Mission.getNumberAvailableEVASuitsAtSettlement(settlement) < min_num) {
+            if (missionManager.getFeasibilityCache().getAvailableEVASuits(settlement) < min_num) {
     	        return 0;
     	    }
 
@@ -107,7 +107,7 @@ public class RescueSalvageVehicleMeta extends AbstractMetaMission {
     		if (missionProbability <= 0)
     			return 0;
     		
-			int numEmbarked = VehicleMission.numEmbarkingMissions(settlement);
+			int numEmbarked = missionManager.getFeasibilityCache().getEmbarkingMissions(settlement);
 			int numThisMission = missionManager.numParticularMissions(MissionType.RESCUE_SALVAGE_VEHICLE, settlement);
             
 	   		// Check for # of embarking missions.
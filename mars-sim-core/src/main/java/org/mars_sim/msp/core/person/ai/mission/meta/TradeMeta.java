@@ -67,7 +67,8 @@ public class TradeMeta extends AbstractMetaMission {
 					// Note: checkMission() gives rise to a NULLPOINTEREXCEPTION that points to
 					// Inventory
 					// It happens only when this sim is a loaded saved sim.
-					missionProbability = getSettlementProbability(settlement);
+					missionProbability = missionManager.getFeasibilityCache().getMissionValue(
+												MissionType.TRADE, settlement, this::getSettlementProbability);
 
 				
 			} else {
@@ -0,0 +1,242 @@
+/*
+ * Mars Simulation Project
+ * OpinionMatrix.java
+ * @date 2026-10-19
+ * @author agent
+ */
+package org.mars_sim.msp.core.person.ai.social;
+
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Holds the opinions the citizens of a settlement have of each other in a dense
+ * float matrix. Each citizen is allocated a slot which indexes both the row of
+ * their own opinions and the column of the opinions others have of them.
+ * A value of zero means no opinion is held. Slots of departed citizens are reused.
+ * The highest opinions of each row are cached until the row changes.
+ * All access is synchronized as the matrix is replaced when it grows.
+ */
+public class OpinionMatrix implements Serializable {
+
+	private static final long serialVersionUID = 1L;
+
+	private static final int INITIAL_CAPACITY = 8;
+	private static final int[] NO_SLOTS = new int[0];
+
+	private int capacity;
+	/** Opinions in row major order; the row is the holder of the opinion. */
+	private float[] opinions;
+	/** Person id held in each slot; -1 if the slot is free. */
+	private int[] members;
+	/** Slot held by each person id. */
+	private Map<Integer, Integer> slots = new HashMap<>();
+	/** Cached slots with the highest opinions per row; null if stale. */
+	private transient int[][] topSlots;
+
+	public OpinionMatrix() {
+		capacity = INITIAL_CAPACITY;
+		opinions = new float[capacity * capacity];
+		members = new int[capacity];
+		Arrays.fill(members, -1);
+	}
+
+	/**
+	 * Allocates a slot to a person.
+	 *
+	 * @param personID
+	 * @return The slot allocated
+	 */
+	public synchronized int addMember(int personID) {
+		int slot = getSlot(personID);
+		if (slot >= 0) {
+			return slot;
+		}
+
+		slot = 0;
+		while ((slot < capacity) && (members[slot] >= 0)) {
+			slot++;
+		}
+		if (slot == capacity) {
+			grow();
+		}
+		members[slot] = personID;
+		slots.put(personID, slot);
+		return slot;
+	}
+
+	/**
+	 * Releases the slot of a person. All opinions held by and of the person are cleared.
+	 *
+	 * @param slot
+	 */
+	public synchronized void removeMember(int slot) {
+		slots.remove(members[slot]);
+		members[slot] = -1;
+		Arrays.fill(opinions, slot * capacity, (slot + 1) * capacity, 0F);
+		for (int row = 0; row < capacity; row++) {
+			opinions[row * capacity + slot] = 0F;
+		}
+		invalidateAll();
+	}
+
+	/**
+	 * Gets the slot of a person.
+	 *
+	 * @param personID
+	 * @return Slot or -1 if the person is not a member
+	 */
+	public synchronized int getSlot(int personID) {
+		Integer slot = slots.get(personID);
+		return (slot != null ? slot : -1);
+	}
+
+	/**
+	 * Gets the person holding a slot.
+	 *
+	 * @param slot
+	 * @return Person id or -1 if the slot is free
+	 */
+	public synchronized int getMember(int slot) {
+		return members[slot];
+	}
+
+	/**
+	 * Gets the number of slots; some may be free.
+	 *
+	 * @return
+	 */
+	public synchronized int getCapacity() {
+		return capacity;
+	}
+
+	/**
+	 * Gets the opinion one slot holds of another.
+	 *
+	 * @param from Holder of the opinion
+	 * @param to Subject of the opinion
+	 * @return Opinion or zero if none is held
+	 */
+	public synchronized double get(int from, int to) {
+		return opinions[from * capacity + to];
+	}
+
+	/**
+	 * Sets the opinion one slot holds of another.
+	 *
+	 * @param from Holder of the opinion
+	 * @param to Subject of the opinion
+	 * @param opinion
+	 */
+	public synchronized void set(int from, int to, double opinion) {
+		opinions[from * capacity + to] = (float) opinion;
+		if (topSlots != null) {
+			topSlots[from] = null;
+		}
+	}
+
+	/**
+	 * Gets the average opinion held by a slot of all other members. Members
+	 * without an opinion count as the default.
+	 *
+	 * @param from Holder of the opinion
+	 * @param defaultOpinion Value used where no opinion is held
+	 * @return
+	 */
+	public synchronized double getRowTotal(int from, double defaultOpinion) {
+		double total = 0D;
+		int base = from * capacity;
+		for (int to = 0; to < capacity; to++) {
+			if ((to != from) && (members[to] >= 0)) {
+				float o = opinions[base + to];
+				total += (o == 0F ? defaultOpinion : o);
+			}
+		}
+		return total;
+	}
+
+	/**
+	 * Gets the slots a slot has the highest opinion of, best first.
+	 *
+	 * @param from Holder of the opinion
+	 * @param k Maximum number of slots
+	 * @return
+	 */
+	public synchronized int[] getTopSlots(int from, int k) {
+		if (topSlots == null) {
+			topSlots = new int[capacity][];
+		}
+		int[] result = topSlots[from];
+		if ((result == null) || (result.length < k && result.length < countOpinions(from))) {
+			result = computeTopSlots(from, k);
+			topSlots[from] = result;
+		}
+		if (result.length > k) {
+			result = Arrays.copyOf(result, k);
+		}
+		return result;
+	}
+
+	private int countOpinions(int from) {
+		int count = 0;
+		int base = from * capacity;
+		for (int to = 0; to < capacity; to++) {
+			if (opinions[base + to] != 0F) {
+				count++;
+			}
+		}
+		return count;
+	}
+
+	/**
+	 * Selects the best k slots with an insertion into a small sorted array.
+	 */
+	private int[] computeTopSlots(int from, int k) {
+		int[] best = new int[k];
+		int size = 0;
+		int base = from * capacity;
+		for (int to = 0; to < capacity; to++) {
+			float o = opinions[base + to];
+			if (o == 0F) {
+				continue;
+			}
+			int pos = size;
+			while ((pos > 0) && (opinions[base + best[pos - 1]] < o)) {
+				pos--;
+			}
+			if (pos < k) {
+				int end = Math.min(size, k - 1);
+				System.arraycopy(best, pos, best, pos + 1, end - pos);
+				best[pos] = to;
+				if (size < k) {
+					size++;
+				}
+			}
+		}
+		return (size == 0 ? NO_SLOTS : Arrays.copyOf(best, size));
+	}
+
+	/**
+	 * Doubles the number of slots keeping the existing opinions.
+	 */
+	private void grow() {
+		int newCapacity = capacity * 2;
+		float[] newOpinions = new float[newCapacity * newCapacity];
+		for (int row = 0; row < capacity; row++) {
+			System.arraycopy(opinions, row * capacity, newOpinions, row * newCapacity, capacity);
+		}
+		int[] newMembers = Arrays.copyOf(members, newCapacity);
+		Arrays.fill(newMembers, capacity, newCapacity, -1);
+
+		opinions = newOpinions;
+		members = newMembers;
+		capacity = newCapacity;
+		invalidateAll();
+	}
+
+	private void invalidateAll() {
+		topSlots = null;
+	}
+}
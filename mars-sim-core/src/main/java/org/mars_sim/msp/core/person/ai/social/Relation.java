@@ -1,13 +1,14 @@
 /*
  * Mars Simulation Project
  * Relation.java
- * @date 2022-06-10
+ * @date 2026-10-19
  * @author Manny Kung
  */
 package org.mars_sim.msp.core.person.ai.social;
 
 import java.io.Serializable;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
@@ -17,41 +18,139 @@ import org.mars_sim.msp.core.person.Person;
 
 /**
  * The Relation class represents the relational connection between two people.
+ * Opinions of fellow citizens are held in the {@link OpinionMatrix} of the
+ * settlement; opinions of anyone else are held in a sparse overflow map.
  */
 public class Relation implements Serializable {
 
 	/** default serial id. */
 	private static final long serialVersionUID = 1L;
-	
-	/** The person's opinion toward another person. */
+
+	/** The person's opinion toward people outside the opinion matrix. */
 	private Map<Integer, Double> opinionMap = new HashMap<>();
+	/** The opinion matrix of the settlement this person is a citizen of. */
+	private OpinionMatrix matrix;
+	/** The slot of this person in the matrix. */
+	private int slot = -1;
 	/** The Unit Manager instance. */
 	private static UnitManager unitManager;
 
 	/**
 	 * Constructor.
-	 * 
+	 *
 	 * @param person
 	 */
 	public Relation(Person person)  {
 	}
-	
+
+	/**
+	 * Joins the opinion matrix of a settlement. Any opinions held in the
+	 * overflow of fellow members are moved into the matrix.
+	 *
+	 * @param personID
+	 * @param newMatrix
+	 */
+	void joinMatrix(int personID, OpinionMatrix newMatrix) {
+		matrix = newMatrix;
+		slot = newMatrix.addMember(personID);
+
+		opinionMap.entrySet().removeIf(e -> {
+			int other = newMatrix.getSlot(e.getKey());
+			if (other >= 0) {
+				newMatrix.set(slot, other, e.getValue());
+				return true;
+			}
+			return false;
+		});
+	}
+
+	/**
+	 * Leaves the current opinion matrix. Opinions of fellow members are moved
+	 * into the overflow.
+	 */
+	void leaveMatrix() {
+		if (matrix != null) {
+			for (int other = 0; other < matrix.getCapacity(); other++) {
+				double opinion = matrix.get(slot, other);
+				if (opinion != 0) {
+					opinionMap.put(matrix.getMember(other), opinion);
+				}
+			}
+			matrix.removeMember(slot);
+			matrix = null;
+			slot = -1;
+		}
+	}
+
+	/**
+	 * Moves the opinion of a person held in the matrix into the overflow. This is
+	 * used when that person leaves the matrix.
+	 *
+	 * @param personID
+	 * @param otherSlot Slot of the person in the matrix
+	 */
+	void keepOpinion(int personID, int otherSlot) {
+		double opinion = matrix.get(slot, otherSlot);
+		if (opinion != 0) {
+			opinionMap.put(personID, opinion);
+		}
+	}
+
+	/**
+	 * Takes the opinion of a new member of the matrix out of the overflow.
+	 *
+	 * @param personID
+	 * @param otherSlot Slot of the person in the matrix
+	 */
+	void moveOpinion(int personID, int otherSlot) {
+		Double opinion = opinionMap.remove(personID);
+		if (opinion != null) {
+			matrix.set(slot, otherSlot, opinion);
+		}
+	}
+
+	OpinionMatrix getMatrix() {
+		return matrix;
+	}
+
+	int getSlot() {
+		return slot;
+	}
+
 	/**
 	 * Gets the opinion regarding a person
-	 * 
+	 *
 	 * @param personID
 	 * @return
 	 */
 	public double getOpinion(int personID) {
-		if (opinionMap.containsKey(personID))
-			return opinionMap.get(personID);
-		else
-			return 0;
+		if (matrix != null) {
+			int other = matrix.getSlot(personID);
+			if (other >= 0) {
+				return matrix.get(slot, other);
+			}
+		}
+		Double result = opinionMap.get(personID);
+		return (result != null ? result : 0);
+	}
+
+	/**
+	 * Gets the opinion regarding a person using the matrix if both are members.
+	 *
+	 * @param other
+	 * @return
+	 */
+	public double getOpinion(Person other) {
+		Relation r = other.getRelation();
+		if ((matrix != null) && (r.matrix == matrix)) {
+			return matrix.get(slot, r.slot);
+		}
+		return getOpinion(other.getIdentifier());
 	}
-	
+
 	/**
 	 * Sets the opinion regarding a person
-	 * 
+	 *
 	 * @param personID
 	 * @param opinion
 	 */
@@ -60,36 +159,47 @@ public class Relation implements Serializable {
 			opinion = 1;
 		if (opinion > 100)
 			opinion = 100;
+
+		if (matrix != null) {
+			int other = matrix.getSlot(personID);
+			if (other >= 0) {
+				matrix.set(slot, other, opinion);
+				return;
+			}
+		}
 		opinionMap.put(personID, opinion);
 	}
-	
+
 	/**
 	 * Changes the opinion regarding a person
-	 * 
+	 *
 	 * @param personID
 	 * @param mod
 	 */
 	public void changeOpinion(int personID, double mod) {
-		double result = getOpinion(personID) + mod;
-		if (result < 1)
-			result = 1;
-		if (result > 100)
-			result = 100;
-		opinionMap.put(personID, result);
-	}
-	
+		setOpinion(personID, getOpinion(personID) + mod);
+	}
+
 	/**
 	 * Gets a set of people's ids
-	 * 
+	 *
 	 * @return a set of people's ids
 	 */
 	public Set<Integer> getPeopleIDs() {
-		return opinionMap.keySet();
+		Set<Integer> result = new HashSet<>(opinionMap.keySet());
+		if (matrix != null) {
+			for (int other = 0; other < matrix.getCapacity(); other++) {
+				if (matrix.get(slot, other) != 0) {
+					result.add(matrix.getMember(other));
+				}
+			}
+		}
+		return result;
 	}
-	
+
 	/**
 	 * Gets all the people that a person knows (has met).
-	 * 
+	 *
 	 * @param person the person
 	 * @return a list of the people the person knows.
 	 */
@@ -98,20 +208,25 @@ public class Relation implements Serializable {
 				.map(id -> unitManager.getPersonByID(id))
 				.collect(Collectors.toSet());
 	}
-	
+
+	static Person getPersonByID(int personID) {
+		return unitManager.getPersonByID(personID);
+	}
+
 	/**
 	 * Initialize instances
-	 * 
+	 *
 	 * @param um the unitManager instance
 	 */
 	public static void initializeInstances(UnitManager um) {
-		unitManager = um;		
+		unitManager = um;
 	}
-	
+
 	/**
 	 * Prepare object for garbage collection.
 	 */
 	public void destroy() {
+		matrix = null;
 		opinionMap.clear();
 		opinionMap = null;
 	}
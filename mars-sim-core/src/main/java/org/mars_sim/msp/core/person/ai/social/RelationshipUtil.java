@@ -1,22 +1,20 @@
 /*
  * Mars Simulation Project
  * RelationshipUtil.java
- * @date 2022-06-11
+ * @date 2026-10-19
  * @author Scott Davis
  */
 package org.mars_sim.msp.core.person.ai.social;
 
 import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
-import java.util.Collections;
-import java.util.Comparator;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Map.Entry;
 import java.util.Set;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.CopyOnWriteArrayList;
 
 import org.mars_sim.msp.core.Msg;
 import org.mars_sim.msp.core.logging.SimLogger;
@@ -61,6 +59,56 @@ public class RelationshipUtil implements Serializable {
 	 */
 	private static final double SETTLER_MODIFIER = .02D;
 
+	/** The number of best friends cached per person. */
+	private static final int BEST_FRIENDS = 5;
+
+	/**
+	 * Makes a person a member of the opinion matrix of their settlement.
+	 * Opinions of fellow members held in the overflow are moved into the matrix.
+	 *
+	 * @param person the new citizen
+	 * @param matrix the opinion matrix of the settlement
+	 * @param members the citizens of the settlement
+	 */
+	public static void joinMatrix(Person person, OpinionMatrix matrix, Collection<Person> members) {
+		if (person.getMind() == null) {
+			return;
+		}
+		Relation relation = person.getRelation();
+		relation.joinMatrix(person.getIdentifier(), matrix);
+		for (Person other : members) {
+			if (!other.equals(person) && (other.getMind() != null)
+					&& (other.getRelation().getMatrix() == matrix)) {
+				other.getRelation().moveOpinion(person.getIdentifier(), relation.getSlot());
+			}
+		}
+	}
+
+	/**
+	 * Removes a person from the opinion matrix of their settlement. Opinions held
+	 * by and of the person are kept in the overflow of each person.
+	 *
+	 * @param person the departing citizen
+	 * @param members the citizens of the settlement
+	 */
+	public static void leaveMatrix(Person person, Collection<Person> members) {
+		if (person.getMind() == null) {
+			return;
+		}
+		Relation relation = person.getRelation();
+		OpinionMatrix matrix = relation.getMatrix();
+		if (matrix == null) {
+			return;
+		}
+		for (Person other : members) {
+			if (!other.equals(person) && (other.getMind() != null)
+					&& (other.getRelation().getMatrix() == matrix)) {
+				other.getRelation().keepOpinion(person.getIdentifier(), relation.getSlot());
+			}
+		}
+		relation.leaveMatrix();
+	}
+
 	/**
 	 * Adds a new relationship between two people.
 	 * 
@@ -90,7 +138,15 @@ public class RelationshipUtil implements Serializable {
 	 * @param opinion
 	 */
 	public static void setOpinion(Person person1, Person person2, double opinion) {
-		person1.getRelation().setOpinion(person2.getIdentifier(), opinion);
+		Relation r1 = person1.getRelation();
+		Relation r2 = person2.getRelation();
+		OpinionMatrix matrix = r1.getMatrix();
+		if ((matrix != null) && (r2.getMatrix() == matrix)) {
+			matrix.set(r1.getSlot(), r2.getSlot(), Math.max(1D, Math.min(100D, opinion)));
+		}
+		else {
+			r1.setOpinion(person2.getIdentifier(), opinion);
+		}
 	}
 	
 	/**
@@ -101,7 +157,7 @@ public class RelationshipUtil implements Serializable {
 	 * @param opinion
 	 */
 	public static void changeOpinion(Person person1, Person person2, double mod) {
-		person1.getRelation().changeOpinion(person2.getIdentifier(), mod);
+		setOpinion(person1, person2, getOpinion(person1, person2) + mod);
 	}
 	
 	/**
@@ -112,7 +168,7 @@ public class RelationshipUtil implements Serializable {
 	 * return opinion
 	 */
 	public static double getOpinion(Person person1, Person person2) {
-		return person1.getRelation().getOpinion(person2.getIdentifier());
+		return person1.getRelation().getOpinion(person2);
 	}
 	
 	/**
@@ -123,8 +179,7 @@ public class RelationshipUtil implements Serializable {
 	 * @return true if the two people have a relationship
 	 */
 	public static boolean hasRelationship(Person person1, Person person2) {
-		return (person1.getRelation().getOpinion(person2.getIdentifier()) != 0
-				|| person2.getRelation().getOpinion(person1.getIdentifier()) != 0);
+		return (getOpinion(person1, person2) != 0 || getOpinion(person2, person1) != 0);
 	}
 
 	/**
@@ -161,19 +216,13 @@ public class RelationshipUtil implements Serializable {
 	 * @return {@link Person} map
 	 */
 	public static Map<Person, Double> getMyOpinionsOfThem(Person person) {
-		Map<Person, Double> friends = new ConcurrentHashMap<>();
-		Collection<Person> list = getAllKnownPeople(person);
-		double highestScore = 0;
-		if (!list.isEmpty()) {
-			for (Person pp : list) {
-				double score = getOpinionOfPerson(person, pp);
-				if (highestScore <= score)
-					highestScore = score;
-				friends.put(pp, score);
-			}
+		List<Person> list = new ArrayList<>(getAllKnownPeople(person));
+		double[] scores = new double[list.size()];
+		for (int i = 0; i < scores.length; i++) {
+			scores[i] = getOpinionOfPerson(person, list.get(i));
 		}
 
-		return sortByValue(friends);
+		return sortByValue(list, scores);
 	}
 	
 	/**
@@ -183,43 +232,34 @@ public class RelationshipUtil implements Serializable {
 	 * @return {@link Person} map
 	 */
 	public static Map<Person, Double> getTheirOpinionsOfMe(Person person) {
-		Map<Person, Double> friends = new ConcurrentHashMap<>();
-		Collection<Person> list = getAllKnownPeople(person);
-		double highestScore = 0;
-		if (!list.isEmpty()) {
-			for (Person pp : list) {
-				double score = getOpinionOfPerson(pp, person);
-				if (highestScore <= score)
-					highestScore = score;
-				friends.put(pp, score);
-			}
+		List<Person> list = new ArrayList<>(getAllKnownPeople(person));
+		double[] scores = new double[list.size()];
+		for (int i = 0; i < scores.length; i++) {
+			scores[i] = getOpinionOfPerson(list.get(i), person);
 		}
 
-		return sortByValue(friends);
+		return sortByValue(list, scores);
 	}
 	
 	/**
-	 * Sorts the map according to the value of each entry
+	 * Orders people by their scores, highest first.
 	 * 
-	 * @param map
-	 * @return a map
+	 * @param people
+	 * @param scores Score of each person
+	 * @return an ordered map
 	 */
-	private static <K, V> Map<K, V> sortByValue(Map<K, V> map) {
-	    List<Entry<K, V>> list = new CopyOnWriteArrayList<>(map.entrySet());
-	    Collections.sort(list, new Comparator<Object>() {
-	        @SuppressWarnings("unchecked")
-	        public int compare(Object o1, Object o2) {
-	            return ((Comparable<V>) ((Map.Entry<K, V>) (o1)).getValue()).compareTo(((Map.Entry<K, V>) (o2)).getValue());
-	        }
-	    });
-
-	    Map<K, V> result = new ConcurrentHashMap<>();
-	    for (Iterator<Entry<K, V>> it = list.iterator(); it.hasNext();) {
-	        Map.Entry<K, V> entry = it.next();
-	        result.put(entry.getKey(), entry.getValue());
-	    }
-
-	    return result;
+	private static Map<Person, Double> sortByValue(List<Person> people, double[] scores) {
+		Integer[] order = new Integer[scores.length];
+		for (int i = 0; i < order.length; i++) {
+			order[i] = i;
+		}
+		Arrays.sort(order, (a, b) -> Double.compare(scores[b], scores[a]));
+
+		Map<Person, Double> result = new LinkedHashMap<>();
+		for (int i : order) {
+			result.put(people.get(i), scores[i]);
+		}
+		return result;
 	}
 	
 	/**
@@ -229,34 +269,46 @@ public class RelationshipUtil implements Serializable {
 	 * @return {@link Person} array
 	 */
 	public static Map<Person, Double> getBestFriends(Person person) {
-		Map<Person, Double> bestFriends = getMyOpinionsOfThem(person);
-		int size = bestFriends.size();
-		if (size == 1) {
-			return bestFriends;
-		}
-		
-		else if (size > 1) {
-			double hScore = 0;
-			for (Entry<Person, Double> entry : bestFriends.entrySet()) {
-				Person p = entry.getKey();
-				double score = bestFriends.get(p);
-				if (hScore < score) {
+		Relation relation = person.getRelation();
+		List<Person> candidates = new ArrayList<>();
+		List<Double> scores = new ArrayList<>();
+		double hScore = 0;
+
+		// Fellow citizens come from the cached top of the matrix row
+		OpinionMatrix matrix = relation.getMatrix();
+		if (matrix != null) {
+			for (int slot : matrix.getTopSlots(relation.getSlot(), BEST_FRIENDS)) {
+				Person p = Relation.getPersonByID(matrix.getMember(slot));
+				double score = matrix.get(relation.getSlot(), slot);
+				if (p != null && score >= hScore) {
 					hScore = score;
+					candidates.add(p);
+					scores.add(score);
 				}
-			}	
-			Map<Person, Double> list = new ConcurrentHashMap<>();
-			for (Entry<Person, Double> entry : bestFriends.entrySet()) {
-				Person p = entry.getKey();
-				double score = bestFriends.get(p);
+			}
+		}
+
+		// Anyone else is in the overflow
+		for (Person p : getAllKnownPeople(person)) {
+			Relation other = p.getRelation();
+			if ((matrix == null) || (other.getMatrix() != matrix)) {
+				double score = getOpinionOfPerson(person, p);
 				if (score >= hScore) {
-					// in case if more than one person has the same score
-					list.put(p, score);
+					hScore = score;
+					candidates.add(p);
+					scores.add(score);
 				}
 			}
-			return list;
-			
 		}
-		return bestFriends;
+
+		// In case if more than one person has the same score
+		Map<Person, Double> result = new LinkedHashMap<>();
+		for (int i = 0; i < candidates.size(); i++) {
+			if (scores.get(i) >= hScore) {
+				result.put(candidates.get(i), scores.get(i));
+			}
+		}
+		return result;
 	}
 	
 	/**
@@ -333,6 +385,10 @@ public class RelationshipUtil implements Serializable {
 	private static void updateRelationships(Person person, double time) {
 
 		double personStress = person.getPhysicalCondition().getStress();
+		MBTIPersonality personPersonality = person.getMind().getMBTI();
+		double changeProbability = BASE_RELATIONSHIP_CHANGE_PROBABILITY * time;
+		double genderBondingModifier = BASE_GENDER_BONDING_MODIFIER * time;
+		double settlerModifier = SETTLER_MODIFIER * time;
 
 		// Get the person's local group of people.
 		Collection<Person> localGroup = person.getLocalGroup();
@@ -351,7 +407,6 @@ public class RelationshipUtil implements Serializable {
 				}
 	
 				// Determine probability of relationship change per millisol.
-				double changeProbability = BASE_RELATIONSHIP_CHANGE_PROBABILITY * time;
 				double stressProbModifier = 1D + ((personStress + localPersonStress) / 100D);
 				if (RandomUtil.lessThanRandPercent(changeProbability * stressProbModifier)) {
 	
@@ -386,14 +441,12 @@ public class RelationshipUtil implements Serializable {
 						RandomUtil.getRandomDouble(changeAmount);
 					}
 					// Modify based on same-gender bonding.
-					double genderBondingModifier = BASE_GENDER_BONDING_MODIFIER * time;
 					if (!oppositeGenders){
 						changeAmount += genderBondingModifier;
 						RandomUtil.getRandomDouble(changeAmount);
 					}
 	
 					// Modify based on personality differences.
-					MBTIPersonality personPersonality = person.getMind().getMBTI();
 					MBTIPersonality localPersonality = localPerson.getMind().getMBTI();
 					double personalityDiffModifier = (2D
 							- personPersonality.getPersonalityDifference(localPersonality.getTypeString())) / 2D;
@@ -401,7 +454,6 @@ public class RelationshipUtil implements Serializable {
 					changeAmount += RandomUtil.getRandomDouble(personalityDiffModifier);
 	
 					// Modify based on settlers being trained to get along with each other.
-					double settlerModifier = SETTLER_MODIFIER * time;
 					changeAmount += RandomUtil.getRandomDouble(settlerModifier);
 	
 					// Modify magnitude based on the collective stress of the two people.
@@ -471,13 +523,9 @@ public class RelationshipUtil implements Serializable {
 
 		int count = 0;
 		for (Person pp : s.getAllAssociatedPeople()) {
-			Map<Person, Double> friends = getTheirOpinionsOfMe(pp);
-			if (!friends.isEmpty()) {	
-				for (Entry<Person, Double> entry : friends.entrySet()) {
-					Person p = entry.getKey();
-					score += friends.get(p);
-					count++;
-				}
+			for (Person p : getAllKnownPeople(pp)) {
+				score += getOpinionOfPerson(p, pp);
+				count++;
 			}
 		}
 		
@@ -7,8 +7,6 @@
 package org.mars_sim.msp.core.person.ai.task;
 
 import java.io.Serializable;
-import java.util.ArrayList;
-import java.util.List;
 import java.util.Set;
 import java.util.logging.Level;
 
@@ -59,6 +57,7 @@ public class ExitAirlock extends Task implements Serializable {
 	private static final String NOT_FIT = "Not fit enough";
 	private static final String INNER_DOOR_LOCKED = "Inner door was locked.";
 	private static final String CHAMBER_FULL = "Chamber was full.";
+	private static final String QUEUE_TOO_LONG = "Waited too long in the queue.";
 	
     /** The minimum performance needed. */
 	private static final double MIN_PERFORMANCE = 0.05;
@@ -88,6 +87,8 @@ public class ExitAirlock extends Task implements Serializable {
 	private static final double SUIT_DONNING_TIME = 25;
 	/** The standard time for each task phase. */
 	private static final double STANDARD_TIME = 0.5;
+	/** The longest time to wait in the queue of the airlock. */
+	private static final double MAX_QUEUE_TIME = 120;
 	
 	// Data members
 	/** Is this a building airlock in a settlement? */
@@ -315,6 +316,10 @@ public class ExitAirlock extends Task implements Serializable {
 		
 		airlock.removeID(person.getIdentifier());
 
+		if (inSettlement) {
+			// Give up the place in the queue so the next person moves into the batch
+			airlock.removeReservation(person.getIdentifier());
+		}
 
 		logger.log((Unit)airlock.getEntity(), person, Level.INFO, 16_000, reason);
 		
@@ -334,8 +339,7 @@ public class ExitAirlock extends Task implements Serializable {
 		// Verify occupant's whereabout first
 		airlock.checkOccupantIDs();
 		
-		List<Integer> list = new ArrayList<>(airlock.getOccupants());
-		for (int id : list) {
+		for (int id : airlock.getOccupants()) {
 			Person p = airlock.getPersonByID(id);
 			if (p != person && p.getSuit() != null
 				&& p.getPhysicalCondition().isAtLeastHalfDonePrebreathing()) {
@@ -374,6 +378,15 @@ public class ExitAirlock extends Task implements Serializable {
 			return time;
 		}
 
+		// Wait without any other checks until the batch ahead has gone in
+		if (inSettlement && !airlock.isInNextBatch(id)) {
+			if (accumulatedTime > MAX_QUEUE_TIME) {
+				walkAway(person, QUEUE_TOO_LONG);
+				return time;
+			}
+			return 0;
+		}
+
 		if (inSettlement && !isFit()) {
 			walkAway(person, NOT_FIT + TO_REQUEST_EGRESS + ".");
 			return time;
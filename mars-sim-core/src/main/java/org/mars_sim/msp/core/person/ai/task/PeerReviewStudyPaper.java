@@ -146,7 +146,7 @@ implements Serializable {
 
         // Get all studies in the peer review phase.
 //        ScientificStudyManager studyManager = Simulation.instance().getScientificStudyManager();
-        Iterator<ScientificStudy> i = scientificStudyManager.getOngoingStudies().iterator();
+        Iterator<ScientificStudy> i = scientificStudyManager.getStudiesInPhase(ScientificStudy.PEER_REVIEW_PHASE).iterator();
         while (i.hasNext()) {
             ScientificStudy study = i.next();
             if (ScientificStudy.PEER_REVIEW_PHASE.equals(study.getPhase())) {
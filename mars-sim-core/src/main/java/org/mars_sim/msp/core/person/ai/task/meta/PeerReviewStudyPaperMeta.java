@@ -56,7 +56,7 @@ public class PeerReviewStudyPaperMeta extends MetaTask {
 
 	        // Get all studies in the peer review phase.
             ScientificStudyManager sm = Simulation.instance().getScientificStudyManager();
-	        Iterator<ScientificStudy> i = sm.getOngoingStudies().iterator();
+	        Iterator<ScientificStudy> i = sm.getStudiesInPhase(ScientificStudy.PEER_REVIEW_PHASE).iterator();
 	        while (i.hasNext()) {
 	            ScientificStudy study = i.next();
 	            if (ScientificStudy.PEER_REVIEW_PHASE.equals(study.getPhase())) {
@@ -12,6 +12,7 @@ import java.util.Set;
 
 import org.mars_sim.msp.core.Simulation;
 import org.mars_sim.msp.core.environment.SurfaceFeatures;
+import org.mars_sim.msp.core.logging.PulseProfiler;
 import org.mars_sim.msp.core.person.FavoriteType;
 import org.mars_sim.msp.core.person.Person;
 import org.mars_sim.msp.core.person.ai.job.JobType;
@@ -63,6 +64,7 @@ public abstract class MetaTask {
 	protected static SurfaceFeatures surfaceFeatures = sim.getSurfaceFeatures();
 	
 	private String name;
+	private String profileSection;
 	private WorkerType workerType;
 	private TaskScope scope;
 	private Set<TaskTrait> traits = Collections.emptySet();
@@ -73,6 +75,7 @@ public abstract class MetaTask {
 	protected MetaTask(String name, WorkerType workerType, TaskScope scope) {
 		super();
 		this.name = name;
+		this.profileSection = PulseProfiler.METATASK_PREFIX + name;
 		this.workerType = workerType;
 		this.scope = scope;
 	}
@@ -132,6 +135,15 @@ public abstract class MetaTask {
 		return name;
 	}
 
+	/**
+	 * Gets the name the probability of this task is profiled under.
+	 * 
+	 * @return section name.
+	 */
+	public final String getProfileSection() {
+		return profileSection;
+	}
+
 	/**
 	 * Gets the Job that is most suitable to this Task.
 	 * 
@@ -12,6 +12,7 @@ import java.util.List;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.logging.Level;
 
+import org.mars_sim.msp.core.logging.PulseProfiler;
 import org.mars_sim.msp.core.logging.SimLogger;
 import org.mars_sim.msp.core.person.CircadianClock;
 import org.mars_sim.msp.core.person.Person;
@@ -166,7 +167,9 @@ public class PersonTaskManager extends TaskManager implements Serializable {
 
 		// Determine probabilities.
 		for (MetaTask mt : mtList) {
+			long start = PulseProfiler.start();
 			double probability = mt.getProbability(person);
+			PulseProfiler.stop(mt.getProfileSection(), start);
 			if ((probability > 0D) && (!Double.isNaN(probability)) && (!Double.isInfinite(probability))) {
 				if (probability > MAX_TASK_PROBABILITY) {
 					if (!mt.getName().toLowerCase().contains("sleep")) {
@@ -0,0 +1,121 @@
+/*
+ * Mars Simulation Project
+ * ProcessIndex.java
+ * @date 2026-10-19
+ * @author agent
+ */
+package org.mars_sim.msp.core.resource;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.ToIntFunction;
+
+/**
+ * An index of processes by the items they consume and produce. It is built
+ * once when the processes are loaded so finding the processes that use an
+ * item does not need to scan every process. The processes of an item are
+ * ordered by tech level so those within a tech level are a prefix of the list.
+ *
+ * @param <K> Key identifying an item
+ * @param <P> Type of process
+ */
+public class ProcessIndex<K, P> {
+
+	private Map<K, List<P>> byInput = new HashMap<>();
+	private Map<K, List<P>> byOutput = new HashMap<>();
+	private ToIntFunction<P> techLevel;
+
+	/**
+	 * Constructor.
+	 *
+	 * @param processes All processes
+	 * @param inputs Gets the keys of the inputs of a process
+	 * @param outputs Gets the keys of the outputs of a process
+	 * @param techLevel Gets the tech level of a process
+	 */
+	public ProcessIndex(Collection<P> processes, Function<P, Collection<K>> inputs,
+						Function<P, Collection<K>> outputs, ToIntFunction<P> techLevel) {
+		this.techLevel = techLevel;
+
+		for (P process : processes) {
+			addAll(byInput, inputs.apply(process), process);
+			addAll(byOutput, outputs.apply(process), process);
+		}
+
+		// Stable sort so processes of the same level keep the loaded order
+		Comparator<P> byTech = Comparator.comparingInt(techLevel);
+		byInput.values().forEach(l -> l.sort(byTech));
+		byOutput.values().forEach(l -> l.sort(byTech));
+	}
+
+	private static <K, P> void addAll(Map<K, List<P>> index, Collection<K> keys, P process) {
+		for (K key : keys) {
+			List<P> found = index.computeIfAbsent(key, k -> new ArrayList<>());
+			// An item may be listed twice by the same process
+			if (found.isEmpty() || (found.get(found.size() - 1) != process)) {
+				found.add(process);
+			}
+		}
+	}
+
+	/**
+	 * Gets the processes that consume an item.
+	 *
+	 * @param key Key of the item
+	 * @return
+	 */
+	public List<P> getProcessesWithInput(K key) {
+		return get(byInput, key, Integer.MAX_VALUE);
+	}
+
+	/**
+	 * Gets the processes within a tech level that consume an item.
+	 *
+	 * @param key Key of the item
+	 * @param maxTechLevel Highest tech level
+	 * @return
+	 */
+	public List<P> getProcessesWithInput(K key, int maxTechLevel) {
+		return get(byInput, key, maxTechLevel);
+	}
+
+	/**
+	 * Gets the processes that produce an item.
+	 *
+	 * @param key Key of the item
+	 * @return
+	 */
+	public List<P> getProcessesWithOutput(K key) {
+		return get(byOutput, key, Integer.MAX_VALUE);
+	}
+
+	/**
+	 * Gets the processes within a tech level that produce an item.
+	 *
+	 * @param key Key of the item
+	 * @param maxTechLevel Highest tech level
+	 * @return
+	 */
+	public List<P> getProcessesWithOutput(K key, int maxTechLevel) {
+		return get(byOutput, key, maxTechLevel);
+	}
+
+	private List<P> get(Map<K, List<P>> index, K key, int maxTechLevel) {
+		List<P> found = index.get(key);
+		if (found == null) {
+			return Collections.emptyList();
+		}
+
+		int end = found.size();
+		while ((end > 0) && (techLevel.applyAsInt(found.get(end - 1)) > maxTechLevel)) {
+			end--;
+		}
+		return Collections.unmodifiableList(found.subList(0, end));
+	}
+}
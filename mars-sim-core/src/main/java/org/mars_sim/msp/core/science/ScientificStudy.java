@@ -499,8 +499,13 @@ public class ScientificStudy implements Serializable, Temporal, Comparable<Scien
 	 * 
 	 * @param researcher the invited researcher.
 	 */
-	public synchronized void addInvitedResearcher(Person researcher) {
-		invitedResearchers.put(researcher.getIdentifier(), Boolean.FALSE);
+	public void addInvitedResearcher(Person researcher) {
+		synchronized (this) {
+			invitedResearchers.put(researcher.getIdentifier(), Boolean.FALSE);
+		}
+		
+		// Fire scientific study update event.
+		fireScientificStudyUpdate(ScientificStudyEvent.INVITE_RESEARCHER_EVENT, researcher);
 	}
 
 	/**
@@ -510,8 +515,13 @@ public class ScientificStudy implements Serializable, Temporal, Comparable<Scien
 	 * 
 	 * @param researcher the invited researcher.
 	 */
-	public synchronized void respondingInvitedResearcher(Person researcher) {
-		invitedResearchers.put(researcher.getIdentifier(), Boolean.TRUE);
+	public void respondingInvitedResearcher(Person researcher) {
+		synchronized (this) {
+			invitedResearchers.put(researcher.getIdentifier(), Boolean.TRUE);
+		}
+		
+		// Fire scientific study update event.
+		fireScientificStudyUpdate(ScientificStudyEvent.INVITATION_RESPONSE_EVENT, researcher);
 	}
 
 	/**
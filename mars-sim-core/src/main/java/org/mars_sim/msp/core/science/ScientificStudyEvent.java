@@ -26,6 +26,8 @@ public class ScientificStudyEvent extends EventObject {
     public static final String COLLABORATION_RESEARCH_WORK_EVENT = "study collaboration research work event";
     public static final String PRIMARY_PAPER_WORK_EVENT = "study primary paper work event";
     public static final String COLLABORATION_PAPER_WORK_EVENT = "study collaboration paper work event";
+    public static final String INVITE_RESEARCHER_EVENT = "invite study researcher event";
+    public static final String INVITATION_RESPONSE_EVENT = "study invitation response event";
     
     // Data members
     private ScientificStudy study;
@@ -1,368 +1,547 @@
-/**
- * Mars Simulation Project
- * ScientificStudyManager.java
- * @version 3.2.0 2021-06-20
- * @author Scott Davis
- */
-package org.mars_sim.msp.core.science;
-
-import java.io.Serializable;
-import java.util.ArrayList;
-import java.util.Iterator;
-import java.util.List;
-import java.util.logging.Logger;
-import java.util.stream.Collectors;
-
-import org.mars_sim.msp.core.person.Person;
-import org.mars_sim.msp.core.structure.Settlement;
-
-/**
- * A class that keeps track of all scientific studies in the simulation.
- */
-public class ScientificStudyManager // extends Thread
-		implements Serializable {
-
-	/** default serial id. */
-	private static final long serialVersionUID = 1L;
-
-	/** default logger. */
-	private static final Logger logger = Logger.getLogger(ScientificStudyManager.class.getName());
-	
-	// Data members
-	private List<ScientificStudy> studies;
-
-	/**
-	 * Constructor.
-	 */
-	public ScientificStudyManager() {
-		// Methods are threadsafe
-		studies = new ArrayList<>();
-	}
-
-	/**
-	 * Creates a new scientific study.
-	 * 
-	 * @param researcher      the primary researcher.
-	 * @param science         the primary field of science.
-	 * @param difficultyLevel the difficulty level of the study.
-	 * @return the created study.
-	 */
-	public ScientificStudy createScientificStudy(Person researcher, ScienceType science, int difficultyLevel) {
-		if (researcher == null)
-			throw new IllegalArgumentException("Researcher cannot be null");
-		if (science == null)
-			throw new IllegalArgumentException("Science cannot be null");
-		if (difficultyLevel < 0)
-			throw new IllegalArgumentException("difficultyLevel must be positive value");
-		
-		ScientificStudy study = null;
-		synchronized (studies) {
-			int id = studies.size() + 1;
-			String name = science.getName() + " #" + id;
-			study = new ScientificStudy(id, name, researcher, science, difficultyLevel);
-			studies.add(study);
-		}
-
-		logger.fine(researcher.getName() + " began writing proposal for " + study.getName());
-
-		return study;
-	}
-
-	/**
-	 * Gets all ongoing scientific studies.
-	 * 
-	 * @return list of studies.
-	 */
-	public List<ScientificStudy> getOngoingStudies() {
-		synchronized (studies) {
-			return studies.stream().filter(s -> s.isCompleted() == false).collect(Collectors.toList());
-		}
-	}
-
-	/**
-	 * Gets all completed scientific studies, regardless of completion state.
-	 * 
-	 * @return list of studies.
-	 */
-	public List<ScientificStudy> getCompletedStudies() {
-		return studies.stream().filter(ScientificStudy::isCompleted).collect(Collectors.toList());
-	}
-
-	/**
-	 * Gets the number of all completed scientific studies where researcher was the primary
-	 * researcher.
-	 * 
-	 * @param researcher the primary researcher.
-	 * @return the number of studies.
-	 */
-	public int getNumCompletedPrimaryStudies(Person researcher) {
-		return (int) studies.stream().filter(s -> s.isCompleted()
-				&& s.getPrimaryResearcher().equals(researcher)).count();		
-	}
-
-	/**
-	 * Gets all ongoing scientific studies where researcher was a collaborative
-	 * researcher in a particular settlement.
-	 * 
-	 * @param settlement
-	 * @return list of studies.
-	 */
-	private List<ScientificStudy> getOngoingCollaborativeStudies(Settlement settlement, ScienceType type) {
-		boolean allSubject = type == null;
-        List<ScientificStudy> result = new ArrayList<>();
-
-		List<Person> pList = new ArrayList<>(settlement.getAllAssociatedPeople());
-
-		for (Person p : pList) {
-			for(ScientificStudy study : p.getCollabStudies()) {
-				if (allSubject || (type == study.getScience())) {
-						result.add(study);
-				}
-			}
-		}
-		return result;
-	}
-
-	/**
-	 * Gets the number of all completed scientific studies where researcher was a collaborative
-	 * researcher.
-	 * 
-	 * @param researcher the collaborative researcher.
-	 * @return a number
-	 */
-	public int getNumCompletedCollaborativeStudies(Person researcher) {
-		return (int) studies.stream().filter(s -> s.isCompleted()
-				&& s.getCollaborativeResearchers().contains(researcher)).count();			
-	}
-	
-	/**
-	 * Gets all studies that have open invitations for collaboration for a
-	 * researcher.
-	 * 
-	 * @param collaborativeResearcher the collaborative researcher.
-	 * @return list of studies.
-	 */
-	public List<ScientificStudy> getOpenInvitationStudies(Person collaborativeResearcher) {
-		List<ScientificStudy> result = new ArrayList<>();
-		synchronized (studies) {
-			Iterator<ScientificStudy> i = studies.iterator();
-			while (i.hasNext()) {
-				ScientificStudy study = i.next();
-				if (study.getPhase().equals(ScientificStudy.INVITATION_PHASE)
-						&& study.getInvitedResearchers().contains(collaborativeResearcher)
-						&& !study.hasInvitedResearcherResponded(collaborativeResearcher)) {
-					result.add(study);
-				}
-			}		
-		}
-		return result;
-	}
-
-	/**
-	 * Gets a list of all studies a researcher is involved with.
-	 * 
-	 * @param researcher the researcher.
-	 * @return list of scientific studies.
-	 */
-	public List<ScientificStudy> getAllStudies(Person researcher) {
-		return studies.stream().filter(s -> (s.getPrimaryResearcher().equals(researcher)
-				||  s.getCollaborativeResearchers().contains(researcher))).collect(Collectors.toList());	
-	}
-
-	/**
-	 * Gets a list of all studies a settlement is primary for.
-	 * 
-	 * @param settlement the settlement.
-	 * @return list of scientific studies.
-	 */
-	public List<ScientificStudy> getAllStudies(Settlement settlement) {
-		return studies.stream().filter(s -> (s.getPrimarySettlement()  == null ?
-									false : s.getPrimarySettlement().equals(settlement)))
-				.collect(Collectors.toList());		
-	}
-
-	private static double getPhaseScore(ScientificStudy ss) {
-		switch (ss.getPhase()) {
-		case ScientificStudy.PROPOSAL_PHASE:
-			return .5;
-		
-		case ScientificStudy.INVITATION_PHASE:
-			return 1.0;
-		
-		case ScientificStudy.RESEARCH_PHASE:
-			return 1.5;
-		
-		case ScientificStudy.PAPER_PHASE:
-			return 2.0;
-			
-		case ScientificStudy.PEER_REVIEW_PHASE:
-			return 2.5;
-
-		default:
-			return 0;
-		}
-	}
-	
-	private static int getPhaseType(ScientificStudy ss) {
-		switch(ss.getPhase()) {
-		case ScientificStudy.PROPOSAL_PHASE:
-			return 0;
-		
-		case ScientificStudy.INVITATION_PHASE:
-			return 1;
-		
-		case ScientificStudy.RESEARCH_PHASE:
-			return 2;
-
-		case ScientificStudy.PAPER_PHASE:
-			return 3;
-			
-		case ScientificStudy.PEER_REVIEW_PHASE:
-			return 4;
-		default:
-			return 5;
-		}
-	}
-	
-	/**
-	 * Computes the overall relationship score of a settlement
-	 * 
-	 * @param s Settlement
-	 * @param type {@link ScienceType} if null, query all science types
-	 * @return the score
-	 */
-	public double getScienceScore(Settlement s, ScienceType type) {
-		boolean allSubject = type == null;
-
-        double score = 0;
-		
-		double succeed = 3;	
-		double failed = 1;
-		double canceled = 0.5;
-		
-		if (type == null)
-			allSubject = true;
-		
-		Iterator<ScientificStudy> i = getAllStudies(s).iterator();
-		while (i.hasNext()) {
-			ScientificStudy study = i.next();
-			if (allSubject || (type == study.getScience())) {
-				// Study need counting
-				if (study.getPhase().equals(ScientificStudy.COMPLETE_PHASE)) {
-					// Score on the completion state
-					switch(study.getCompletionState()) {
-					case ScientificStudy.CANCELED:
-						score += canceled;
-						break;
-					
-					case ScientificStudy.FAILED_COMPLETION:
-						score += failed;
-						break;
-						
-					case ScientificStudy.SUCCESSFUL_COMPLETION:
-						score += succeed;
-						break;
-					default:				
-						break;
-					}
-				}
-				else {
-					// On going as primary reasearcher
-					score += getPhaseScore(study);
-				}
-			}
-		}
-		
-
-		List<ScientificStudy> list00 = getOngoingCollaborativeStudies(s, type);
-		if (!list00.isEmpty()) {
-			for (ScientificStudy ss : list00) {
-				if (allSubject || type == ss.getScience()) {
-					score += getPhaseScore(ss);
-				}
-			}
-		}
-
-		score = Math.round(score * 100.0) / 100.0;
-
-		return score;
-	}
-
-	/**
-	 * Computes the overall relationship score of a settlement.
-	 * 		
-     * 0 = succeed 	
-	 * 1 = failed
-     * 2 = canceled
-	 * 3 = oPri
-     * 4 = oCol
-	 * 
-	 * @param s Settlement
-	 * @param type {@link ScienceType} if null, query all science types
-	 * @return the score
-	 */
-	public int[] getNumScienceStudy(Settlement s, ScienceType type) {
-		int[] array = new int[5];
-		
-		// 0 = succeed 	
-		// 1 = failed
-		// 2 = canceled
-		// 3 = oPri
-		// 4 = oCol
-
-		boolean allSubject = type == null;
-
-        Iterator<ScientificStudy> i = getAllStudies(s).iterator();
-		while (i.hasNext()) {
-			ScientificStudy study = i.next();
-			if (allSubject || (type == study.getScience())) {
-				// Study need counting
-				if (study.getPhase().equals(ScientificStudy.COMPLETE_PHASE)) {
-					// Score on the completion state
-					switch(study.getCompletionState()) {
-					case ScientificStudy.CANCELED:
-						array[2]++; 
-						break;
-					
-					case ScientificStudy.FAILED_COMPLETION:
-						array[1]++; 
-						break;
-						
-					case ScientificStudy.SUCCESSFUL_COMPLETION:
-						array[0]++;
-						break;
-					
-					default:
-						break;
-					}				
-					break;
-				}
-				else {
-					// On going as primary reasearcher
-					array[3]++;
-				}
-			}
-		}
-		
-		// Have to search for collab Studies
-		List<ScientificStudy> list00 = getOngoingCollaborativeStudies(s, type);
-		if (!list00.isEmpty()) {
-			for (ScientificStudy ss : list00) {
-				if (allSubject || type == ss.getScience()) {
-					int phase = getPhaseType(ss);
-					if (phase != 5)		
-						array[4]++;
-				}
-			}
-		}
-
-		return array;
-	}
-
-	/**
-	 * Prepare object for garbage collection.
-	 */
-	public void destroy() {
-		studies = null;
-	}
-}
+/**
+ * Mars Simulation Project
+ * ScientificStudyManager.java
+ * @version 3.2.0 2021-06-20
+ * @author Scott Davis
+ */
+package org.mars_sim.msp.core.science;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.logging.Logger;
+
+import org.mars_sim.msp.core.person.Person;
+import org.mars_sim.msp.core.structure.Settlement;
+
+/**
+ * A class that keeps track of all scientific studies in the simulation.
+ * Secondary indexes by researcher, phase and open invitation are
+ * maintained from the study events so queries do not scan every study.
+ */
+public class ScientificStudyManager // extends Thread
+		implements Serializable, ScientificStudyListener {
+
+	/** default serial id. */
+	private static final long serialVersionUID = 1L;
+
+	/** default logger. */
+	private static final Logger logger = Logger.getLogger(ScientificStudyManager.class.getName());
+	
+	/** Studies are kept in creation order within an index. */
+	private static final Comparator<ScientificStudy> STUDY_ORDER = Comparator.comparingInt(ScientificStudy::getID);
+	
+	private static final String[] PHASES = {ScientificStudy.PROPOSAL_PHASE, ScientificStudy.INVITATION_PHASE,
+											ScientificStudy.RESEARCH_PHASE, ScientificStudy.PAPER_PHASE,
+											ScientificStudy.PEER_REVIEW_PHASE, ScientificStudy.COMPLETE_PHASE};
+	
+	// Data members
+	private List<ScientificStudy> studies;
+	
+	// Indexes are rebuilt after a reload
+	private transient volatile boolean indexed = false;
+	private transient Map<Integer, Set<ScientificStudy>> primaryIdx;
+	private transient Map<Integer, Set<ScientificStudy>> collaborativeIdx;
+	private transient Map<Integer, Set<ScientificStudy>> invitationIdx;
+	private transient Map<String, Set<ScientificStudy>> phaseIdx;
+
+	/**
+	 * Constructor.
+	 */
+	public ScientificStudyManager() {
+		// Methods are threadsafe
+		studies = new ArrayList<>();
+	}
+
+	/**
+	 * Creates a new scientific study.
+	 * 
+	 * @param researcher      the primary researcher.
+	 * @param science         the primary field of science.
+	 * @param difficultyLevel the difficulty level of the study.
+	 * @return the created study.
+	 */
+	public ScientificStudy createScientificStudy(Person researcher, ScienceType science, int difficultyLevel) {
+		if (researcher == null)
+			throw new IllegalArgumentException("Researcher cannot be null");
+		if (science == null)
+			throw new IllegalArgumentException("Science cannot be null");
+		if (difficultyLevel < 0)
+			throw new IllegalArgumentException("difficultyLevel must be positive value");
+		
+		checkIndexes();
+		
+		ScientificStudy study = null;
+		synchronized (studies) {
+			int id = studies.size() + 1;
+			String name = science.getName() + " #" + id;
+			study = new ScientificStudy(id, name, researcher, science, difficultyLevel);
+			studies.add(study);
+			indexStudy(study);
+		}
+
+		logger.fine(researcher.getName() + " began writing proposal for " + study.getName());
+
+		return study;
+	}
+
+	/**
+	 * Makes sure the indexes exist; they are not saved so are rebuilt
+	 * on the first access after a reload.
+	 */
+	private void checkIndexes() {
+		if (!indexed) {
+			synchronized (studies) {
+				if (!indexed) {
+					primaryIdx = new ConcurrentHashMap<>();
+					collaborativeIdx = new ConcurrentHashMap<>();
+					invitationIdx = new ConcurrentHashMap<>();
+					phaseIdx = new ConcurrentHashMap<>();
+					for (ScientificStudy s : studies) {
+						indexStudy(s);
+					}
+					indexed = true;
+				}
+			}
+		}
+	}
+	
+	/**
+	 * Adds a study to all the indexes and listens for changes to it.
+	 * 
+	 * @param study
+	 */
+	private void indexStudy(ScientificStudy study) {
+		addToIndex(primaryIdx, study.getPrimaryResearcher().getIdentifier(), study);
+		for (Person p : study.getCollaborativeResearchers()) {
+			addToIndex(collaborativeIdx, p.getIdentifier(), study);
+		}
+		updatePhase(study);
+		
+		study.addScientificStudyListener(this);
+	}
+
+	private static <K> void addToIndex(Map<K, Set<ScientificStudy>> index, K key, ScientificStudy study) {
+		index.computeIfAbsent(key, k -> new ConcurrentSkipListSet<>(STUDY_ORDER)).add(study);
+	}
+
+	private static <K> void removeFromIndex(Map<K, Set<ScientificStudy>> index, K key, ScientificStudy study) {
+		Set<ScientificStudy> found = index.get(key);
+		if (found != null) {
+			found.remove(study);
+		}
+	}
+
+	private static <K> Set<ScientificStudy> getFromIndex(Map<K, Set<ScientificStudy>> index, K key) {
+		Set<ScientificStudy> found = index.get(key);
+		return (found != null ? found : Collections.emptySet());
+	}
+	
+	/**
+	 * Moves a study into the index of its current phase. Open invitations are
+	 * only held whilst the study is in the invitation phase.
+	 * 
+	 * @param study
+	 */
+	private void updatePhase(ScientificStudy study) {
+		String phase = study.getPhase();
+		for (String p : PHASES) {
+			if (!p.equals(phase)) {
+				removeFromIndex(phaseIdx, p, study);
+			}
+		}
+		addToIndex(phaseIdx, phase, study);
+
+		boolean inviting = ScientificStudy.INVITATION_PHASE.equals(phase);
+		for (Person p : study.getInvitedResearchers()) {
+			if (inviting && !study.hasInvitedResearcherResponded(p)) {
+				addToIndex(invitationIdx, p.getIdentifier(), study);
+			}
+			else {
+				removeFromIndex(invitationIdx, p.getIdentifier(), study);
+			}
+		}
+	}
+	
+	/**
+	 * Catches changes to a study that affect the indexes.
+	 * 
+	 * @param event the scientific study event.
+	 */
+	@Override
+	public void scientificStudyUpdate(ScientificStudyEvent event) {
+		ScientificStudy study = event.getStudy();
+		Person researcher = event.getResearcher();
+		
+		switch (event.getType()) {
+		case ScientificStudyEvent.ADD_COLLABORATOR_EVENT:
+			addToIndex(collaborativeIdx, researcher.getIdentifier(), study);
+			break;
+			
+		case ScientificStudyEvent.REMOVE_COLLABORATOR_EVENT:
+			removeFromIndex(collaborativeIdx, researcher.getIdentifier(), study);
+			break;
+		
+		case ScientificStudyEvent.INVITE_RESEARCHER_EVENT:
+			if (ScientificStudy.INVITATION_PHASE.equals(study.getPhase())) {
+				addToIndex(invitationIdx, researcher.getIdentifier(), study);
+			}
+			break;
+			
+		case ScientificStudyEvent.INVITATION_RESPONSE_EVENT:
+			removeFromIndex(invitationIdx, researcher.getIdentifier(), study);
+			break;
+			
+		case ScientificStudyEvent.PHASE_CHANGE_EVENT:
+		case ScientificStudyEvent.STUDY_COMPLETION_EVENT:
+			updatePhase(study);
+			break;
+		
+		default:
+			break;
+		}
+	}
+	
+	/**
+	 * Gets all scientific studies in a particular phase.
+	 * 
+	 * @param phase the phase.
+	 * @return list of studies.
+	 */
+	public List<ScientificStudy> getStudiesInPhase(String phase) {
+		checkIndexes();
+		return new ArrayList<>(getFromIndex(phaseIdx, phase));
+	}
+	
+	/**
+	 * Gets all ongoing scientific studies.
+	 * 
+	 * @return list of studies.
+	 */
+	public List<ScientificStudy> getOngoingStudies() {
+		checkIndexes();
+		List<ScientificStudy> result = new ArrayList<>();
+		for (String p : PHASES) {
+			if (!ScientificStudy.COMPLETE_PHASE.equals(p)) {
+				result.addAll(getFromIndex(phaseIdx, p));
+			}
+		}
+		result.sort(STUDY_ORDER);
+		return result;
+	}
+
+	/**
+	 * Gets all completed scientific studies, regardless of completion state.
+	 * 
+	 * @return list of studies.
+	 */
+	public List<ScientificStudy> getCompletedStudies() {
+		return getStudiesInPhase(ScientificStudy.COMPLETE_PHASE);
+	}
+
+	/**
+	 * Gets the number of all completed scientific studies where researcher was the primary
+	 * researcher.
+	 * 
+	 * @param researcher the primary researcher.
+	 * @return the number of studies.
+	 */
+	public int getNumCompletedPrimaryStudies(Person researcher) {
+		checkIndexes();
+		return (int) getFromIndex(primaryIdx, researcher.getIdentifier()).stream()
+						.filter(ScientificStudy::isCompleted).count();		
+	}
+
+	/**
+	 * Gets all ongoing scientific studies where researcher was a collaborative
+	 * researcher in a particular settlement.
+	 * 
+	 * @param settlement
+	 * @return list of studies.
+	 */
+	private List<ScientificStudy> getOngoingCollaborativeStudies(Settlement settlement, ScienceType type) {
+		boolean allSubject = type == null;
+        List<ScientificStudy> result = new ArrayList<>();
+
+		List<Person> pList = new ArrayList<>(settlement.getAllAssociatedPeople());
+
+		for (Person p : pList) {
+			for(ScientificStudy study : p.getCollabStudies()) {
+				if (allSubject || (type == study.getScience())) {
+						result.add(study);
+				}
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Gets the number of all completed scientific studies where researcher was a collaborative
+	 * researcher.
+	 * 
+	 * @param researcher the collaborative researcher.
+	 * @return a number
+	 */
+	public int getNumCompletedCollaborativeStudies(Person researcher) {
+		checkIndexes();
+		return (int) getFromIndex(collaborativeIdx, researcher.getIdentifier()).stream()
+						.filter(ScientificStudy::isCompleted).count();			
+	}
+	
+	/**
+	 * Gets all studies that have open invitations for collaboration for a
+	 * researcher.
+	 * 
+	 * @param collaborativeResearcher the collaborative researcher.
+	 * @return list of studies.
+	 */
+	public List<ScientificStudy> getOpenInvitationStudies(Person collaborativeResearcher) {
+		checkIndexes();
+		List<ScientificStudy> result = new ArrayList<>();
+		for (ScientificStudy study : getFromIndex(invitationIdx, collaborativeResearcher.getIdentifier())) {
+			// Double check as the index is updated from other threads
+			if (study.getPhase().equals(ScientificStudy.INVITATION_PHASE)
+					&& !study.hasInvitedResearcherResponded(collaborativeResearcher)) {
+				result.add(study);
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Gets a list of all studies a researcher is involved with.
+	 * 
+	 * @param researcher the researcher.
+	 * @return list of scientific studies.
+	 */
+	public List<ScientificStudy> getAllStudies(Person researcher) {
+		checkIndexes();
+		int id = researcher.getIdentifier();
+		List<ScientificStudy> result = new ArrayList<>(getFromIndex(primaryIdx, id));
+		for (ScientificStudy s : getFromIndex(collaborativeIdx, id)) {
+			if (!result.contains(s)) {
+				result.add(s);
+			}
+		}
+		result.sort(STUDY_ORDER);
+		return result;
+	}
+
+	/**
+	 * Gets a list of all studies a settlement is primary for. This is the current
+	 * associated settlement of the primary researcher so it is resolved per
+	 * researcher rather than held in an index.
+	 * 
+	 * @param settlement the settlement.
+	 * @return list of scientific studies.
+	 */
+	public List<ScientificStudy> getAllStudies(Settlement settlement) {
+		checkIndexes();
+		List<ScientificStudy> result = new ArrayList<>();
+		for (Set<ScientificStudy> primary : primaryIdx.values()) {
+			Iterator<ScientificStudy> i = primary.iterator();
+			// All studies in the set share the primary researcher
+			if (i.hasNext() && settlement.equals(i.next().getPrimarySettlement())) {
+				result.addAll(primary);
+			}
+		}
+		result.sort(STUDY_ORDER);
+		return result;
+	}
+
+	private static double getPhaseScore(ScientificStudy ss) {
+		switch (ss.getPhase()) {
+		case ScientificStudy.PROPOSAL_PHASE:
+			return .5;
+		
+		case ScientificStudy.INVITATION_PHASE:
+			return 1.0;
+		
+		case ScientificStudy.RESEARCH_PHASE:
+			return 1.5;
+		
+		case ScientificStudy.PAPER_PHASE:
+			return 2.0;
+			
+		case ScientificStudy.PEER_REVIEW_PHASE:
+			return 2.5;
+
+		default:
+			return 0;
+		}
+	}
+	
+	private static int getPhaseType(ScientificStudy ss) {
+		switch(ss.getPhase()) {
+		case ScientificStudy.PROPOSAL_PHASE:
+			return 0;
+		
+		case ScientificStudy.INVITATION_PHASE:
+			return 1;
+		
+		case ScientificStudy.RESEARCH_PHASE:
+			return 2;
+
+		case ScientificStudy.PAPER_PHASE:
+			return 3;
+			
+		case ScientificStudy.PEER_REVIEW_PHASE:
+			return 4;
+		default:
+			return 5;
+		}
+	}
+	
+	/**
+	 * Computes the overall relationship score of a settlement
+	 * 
+	 * @param s Settlement
+	 * @param type {@link ScienceType} if null, query all science types
+	 * @return the score
+	 */
+	public double getScienceScore(Settlement s, ScienceType type) {
+		boolean allSubject = type == null;
+
+        double score = 0;
+		
+		double succeed = 3;	
+		double failed = 1;
+		double canceled = 0.5;
+		
+		if (type == null)
+			allSubject = true;
+		
+		Iterator<ScientificStudy> i = getAllStudies(s).iterator();
+		while (i.hasNext()) {
+			ScientificStudy study = i.next();
+			if (allSubject || (type == study.getScience())) {
+				// Study need counting
+				if (study.getPhase().equals(ScientificStudy.COMPLETE_PHASE)) {
+					// Score on the completion state
+					switch(study.getCompletionState()) {
+					case ScientificStudy.CANCELED:
+						score += canceled;
+						break;
+					
+					case ScientificStudy.FAILED_COMPLETION:
+						score += failed;
+						break;
+						
+					case ScientificStudy.SUCCESSFUL_COMPLETION:
+						score += succeed;
+						break;
+					default:				
+						break;
+					}
+				}
+				else {
+					// On going as primary reasearcher
+					score += getPhaseScore(study);
+				}
+			}
+		}
+		
+
+		List<ScientificStudy> list00 = getOngoingCollaborativeStudies(s, type);
+		if (!list00.isEmpty()) {
+			for (ScientificStudy ss : list00) {
+				if (allSubject || type == ss.getScience()) {
+					score += getPhaseScore(ss);
+				}
+			}
+		}
+
+		score = Math.round(score * 100.0) / 100.0;
+
+		return score;
+	}
+
+	/**
+	 * Computes the overall relationship score of a settlement.
+	 * 		
+     * 0 = succeed 	
+	 * 1 = failed
+     * 2 = canceled
+	 * 3 = oPri
+     * 4 = oCol
+	 * 
+	 * @param s Settlement
+	 * @param type {@link ScienceType} if null, query all science types
+	 * @return the score
+	 */
+	public int[] getNumScienceStudy(Settlement s, ScienceType type) {
+		int[] array = new int[5];
+		
+		// 0 = succeed 	
+		// 1 = failed
+		// 2 = canceled
+		// 3 = oPri
+		// 4 = oCol
+
+		boolean allSubject = type == null;
+
+        Iterator<ScientificStudy> i = getAllStudies(s).iterator();
+		while (i.hasNext()) {
+			ScientificStudy study = i.next();
+			if (allSubject || (type == study.getScience())) {
+				// Study need counting
+				if (study.getPhase().equals(ScientificStudy.COMPLETE_PHASE)) {
+					// Score on the completion state
+					switch(study.getCompletionState()) {
+					case ScientificStudy.CANCELED:
+						array[2]++; 
+						break;
+					
+					case ScientificStudy.FAILED_COMPLETION:
+						array[1]++; 
+						break;
+						
+					case ScientificStudy.SUCCESSFUL_COMPLETION:
+						array[0]++;
+						break;
+					
+					default:
+						break;
+					}				
+					break;
+				}
+				else {
+					// On going as primary reasearcher
+					array[3]++;
+				}
+			}
+		}
+		
+		// Have to search for collab Studies
+		List<ScientificStudy> list00 = getOngoingCollaborativeStudies(s, type);
+		if (!list00.isEmpty()) {
+			for (ScientificStudy ss : list00) {
+				if (allSubject || type == ss.getScience()) {
+					int phase = getPhaseType(ss);
+					if (phase != 5)		
+						array[4]++;
+				}
+			}
+		}
+
+		return array;
+	}
+
+	/**
+	 * Prepare object for garbage collection.
+	 */
+	public void destroy() {
+		studies = null;
+		primaryIdx = null;
+		collaborativeIdx = null;
+		invitationIdx = null;
+		phaseIdx = null;
+	}
+}
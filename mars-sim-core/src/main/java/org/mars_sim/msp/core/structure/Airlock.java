@@ -8,11 +8,8 @@
 package org.mars_sim.msp.core.structure;
 
 import java.io.Serializable;
-import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
-import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.CopyOnWriteArraySet;
 import java.util.logging.Level;
@@ -24,12 +21,9 @@ import org.mars_sim.msp.core.environment.MarsSurface;
 import org.mars_sim.msp.core.logging.SimLogger;
 import org.mars_sim.msp.core.person.Person;
 import org.mars_sim.msp.core.person.ai.SkillType;
-import org.mars_sim.msp.core.structure.building.Building;
 import org.mars_sim.msp.core.structure.building.BuildingException;
 import org.mars_sim.msp.core.time.ClockPulse;
 import org.mars_sim.msp.core.time.MarsClock;
-import org.mars_sim.msp.core.vehicle.Rover;
-import org.mars_sim.msp.core.vehicle.Vehicle;
 
 // see discussions on Airlocks for Mars Colony at
 // https://forum.nasaspaceflight.com/index.php?topic=42098.0
@@ -58,10 +52,6 @@ public abstract class Airlock implements Serializable {
 //	public static final double CYCLE_TIME = 5D; 
 //	/** The maximum number of space in the chamber. */
 //	public static final int MAX_SLOTS = 2;
-	/** The maximum number of reservations that can be made for an airlock. */
-	public static final int MAX_RESERVED = 4;
-	/** The effective reservation period [in millisols]. */
-	public static final int RESERVATION_PERIOD = 40;
 	
 	/**
 	 * Available Airlock States
@@ -113,9 +103,6 @@ public abstract class Airlock implements Serializable {
 	/** People waiting for the airlock by the outer door. */
     private Set<Integer> awaitingOuterDoor;
 
-	/** The occupant reservation map. */
-	private Map<Integer, Integer> reservationMap;
-
     protected static UnitManager unitManager;
     protected static MarsSurface marsSurface;
     protected static MarsClock marsClock;
@@ -143,135 +130,69 @@ public abstract class Airlock implements Serializable {
 		occupantIDs = new CopyOnWriteArraySet<>();
 		awaitingInnerDoor = new HashSet<>();
 		awaitingOuterDoor = new HashSet<>();
-
-		reservationMap = new HashMap<>();
 	}
 
 	/**
-	 * Is this person's id on the reservation map ?
+	 * Gets the scheduler that queues people for this airlock.
 	 *
-	 * @param personInt
-	 * @return
+	 * @return null if the airlock does not queue people
 	 */
-	public boolean hasReservation(int personInt) {
-		if (reservationMap.containsKey(personInt)) {
-			int msol = marsClock.getMillisolInt();
-			int lastMsol = reservationMap.get(personInt);
-			int diff = 0;
-			if (lastMsol > msol)
-				diff = msol + 1000 - lastMsol;
-			else
-				diff = msol - lastMsol;
-			if (diff <= RESERVATION_PERIOD) {
-				return true;
-			}
-			else {
-				// Removes the expired reservation 
-				// since it goes beyond the RESERVATION_PERIOD msols.
-				reservationMap.remove(personInt);
-			}
-		}
-		return false;
+	protected AirlockScheduler getScheduler() {
+		return null;
 	}
 
 	/**
-	 * Removes the id from all reservation maps.
+	 * Removes the id from the queue of the airlock.
 	 *
 	 * @param personInt
 	 * @return
 	 */
 	public boolean removeReservation(int personInt) {
-		if (getEntity() instanceof Building) {
-			Airlock a = ((Building)getEntity()).getEVA().getAirlock();
-			if (a.getReservationMap().containsKey(personInt)) {
-				a.getReservationMap().remove(personInt);
-				return true;
-			}
-		}
-		else {
-			Airlock a = ((Rover)(Vehicle)getEntity()).getAirlock();
-			if (a.getReservationMap().containsKey(personInt)) {
-				a.getReservationMap().remove(personInt);
-				return true;
-			}
-		}
-		return false;
+		AirlockScheduler scheduler = getScheduler();
+		return (scheduler != null) && scheduler.release(this, personInt);
 	}
 
 	/**
-	 * Adds a person's id to the reservation map.
+	 * Adds a person's id to the queue of the airlock or renews it. An id must
+	 * be renewed while the person waits or it is dropped.
 	 *
 	 * @param personInt
-	 * @return true if the id can be added or is already in reservation
+	 * @return true if the id is in the queue
 	 */
 	public boolean addReservation(int personInt) {
-		if (!reservationMap.containsKey(personInt)) {
-			// Test if the reservation map already has 4 people
-			if (reservationMap.size() <= MAX_RESERVED) {
-				int msol = marsClock.getMillisolInt();
-				reservationMap.put(personInt, msol);
-				return true;
-			}
-			else
-				return false;
-		}
-		else {
-			int msol = marsClock.getMillisolInt();
-			int lastMsol = reservationMap.get(personInt);
-			int diff = 0;
-			if (lastMsol > msol)
-				diff = msol + 1000 - lastMsol;
-			else
-				diff = msol - lastMsol;
-
-			// If it has been RESERVATION_PERIOD msols since the reservation was made,
-			// reserve it again
-			if (diff >= RESERVATION_PERIOD) {
-				// Replace it with the new msol
-				reservationMap.put(personInt, msol);
-			}
-			
-			return true;
-		}
+		AirlockScheduler scheduler = getScheduler();
+		return (scheduler == null) || scheduler.request(this, personInt);
 	}
 
 	/**
-	 * Gets the reservation ids.
+	 * Is the person in the batch to go into the airlock next ?
 	 *
+	 * @param personInt
 	 * @return
 	 */
-	public Set<Integer> getReserved() {
-		return reservationMap.keySet();
+	public boolean isInNextBatch(int personInt) {
+		AirlockScheduler scheduler = getScheduler();
+		return (scheduler == null) || scheduler.isInNextBatch(this, personInt);
 	}
 
 	/**
-	 * Gets the number of people reserved.
+	 * Gets the queued ids in order.
 	 *
 	 * @return
 	 */
-	public int getReservedNum() {
-		return reservationMap.size();
-	}
-	
-	/**
-	 * Gets the reservation map.
-	 *
-	 * @return
-	 */
-	public Map<Integer, Integer> getReservationMap() {
-		return reservationMap;
+	public Set<Integer> getReserved() {
+		AirlockScheduler scheduler = getScheduler();
+		return (scheduler == null ? new HashSet<>() : scheduler.getQueued(this));
 	}
 
 	/**
-	 * Is the reservation full ?
+	 * Is the queue full ?
 	 *
 	 * @return
 	 */
 	public boolean isReservationFull() {
-		if (reservationMap.size() > MAX_RESERVED - 1) {
-			return true;
-		}
-		return false;
+		AirlockScheduler scheduler = getScheduler();
+		return (scheduler != null) && scheduler.isQueueFull(this);
 	}
 
 	/**
@@ -571,7 +492,7 @@ public abstract class Airlock implements Serializable {
 			return;
 		
 		if (size == 1) {
-			int id = new ArrayList<>(pool).get(0);
+			int id = pool.iterator().next();
 			operatorID = Integer.valueOf(id);
 			logger.log(getPersonByID(id), Level.FINE, 4_000,
 					"Acted as the airlock operator.");
@@ -586,17 +507,12 @@ public abstract class Airlock implements Serializable {
 			for (Integer id : pool) {
 				Person p = 	getPersonByID(id);
 				int level = p.getSkillManager().getSkillLevel(SkillType.EVA_OPERATIONS);
-				if (level > evaLevel) {
+				int exp = p.getSkillManager().getSkillExp(SkillType.EVA_OPERATIONS);
+				if ((level > evaLevel) || ((level == evaLevel) && (exp > evaExp))) {
 					selected = p;
 					selectedID = id;
-				}
-
-				else if (level == evaLevel) {
-					int exp = p.getSkillManager().getSkillExp(SkillType.EVA_OPERATIONS);
-					if (exp > evaExp) {
-						selected = p;
-						selectedID = id;
-					}
+					evaLevel = level;
+					evaExp = exp;
 				}
 			}
 
@@ -0,0 +1,208 @@
+/*
+ * Mars Simulation Project
+ * AirlockScheduler.java
+ * @date 2026-10-19
+ * @author agent
+ */
+package org.mars_sim.msp.core.structure;
+
+import java.io.Serializable;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+import org.mars_sim.msp.core.structure.building.function.BuildingAirlock;
+import org.mars_sim.msp.core.time.ClockPulse;
+
+/**
+ * Queues the EVA egress requests for the airlocks of a settlement. People are
+ * let into an airlock in batches of as many as the chamber has free slots, in
+ * the order they asked; those further back in the queue wait without going
+ * through the airlock checks. The scheduler also estimates how long a new
+ * request would wait so airlocks can be chosen, or an EVA put off, before
+ * anyone walks to a busy airlock.
+ */
+public class AirlockScheduler implements Serializable {
+
+	private static final long serialVersionUID = 1L;
+
+	/** Number of batches that may be queued for an airlock. */
+	private static final int MAX_BATCHES = 2;
+	/** Time (millisols) a batch spends donning suits and prebreathing. */
+	private static final double BATCH_OVERHEAD = 30D;
+	/** Time (millisols) of a full cycle of the airlock, out and back. */
+	private static final double ROUND_TRIP = 2 * BuildingAirlock.CYCLE_TIME;
+	/** Time (millisols) after which a request not renewed is dropped. */
+	private static final double STALE_TIME = 2 * BuildingAirlock.CYCLE_TIME;
+
+	// Queued person ids, in order, and when each was last renewed
+	private Map<Airlock, LinkedHashMap<Integer, Double>> queues = new HashMap<>();
+	private double now = 0D;
+
+	/**
+	 * Asks for a place in the queue of an airlock or renews one already held.
+	 *
+	 * @param airlock
+	 * @param id Identifier of the person
+	 * @return false if the queue is full
+	 */
+	public synchronized boolean request(Airlock airlock, int id) {
+		LinkedHashMap<Integer, Double> queue = queues.computeIfAbsent(airlock, a -> new LinkedHashMap<>());
+		if (!queue.containsKey(id) && (queue.size() >= getMaxQueued(airlock))) {
+			return false;
+		}
+		// Renewing keeps the place in the queue
+		queue.put(id, now);
+		return true;
+	}
+
+	/**
+	 * Is a person in the batch that goes into the airlock next ? That is one
+	 * of the first people in the queue for the free slots of the chamber.
+	 *
+	 * @param airlock
+	 * @param id Identifier of the person
+	 * @return false if the person must wait or is not queued
+	 */
+	public synchronized boolean isInNextBatch(Airlock airlock, int id) {
+		Map<Integer, Double> queue = queues.get(airlock);
+		if (queue == null) {
+			return false;
+		}
+
+		int free = airlock.getNumEmptied();
+		int position = 0;
+		for (Integer queued : queue.keySet()) {
+			if (position >= free) {
+				return false;
+			}
+			if (queued.intValue() == id) {
+				return true;
+			}
+			position++;
+		}
+		return false;
+	}
+
+	/**
+	 * Removes a person from the queue of an airlock.
+	 *
+	 * @param airlock
+	 * @param id Identifier of the person
+	 * @return true if the person was queued
+	 */
+	public synchronized boolean release(Airlock airlock, int id) {
+		Map<Integer, Double> queue = queues.get(airlock);
+		return (queue != null) && (queue.remove(id) != null);
+	}
+
+	/**
+	 * Gets the people queued for an airlock in order.
+	 *
+	 * @param airlock
+	 * @return
+	 */
+	public synchronized Set<Integer> getQueued(Airlock airlock) {
+		Map<Integer, Double> queue = queues.get(airlock);
+		if (queue == null) {
+			return new LinkedHashSet<>();
+		}
+		return new LinkedHashSet<>(queue.keySet());
+	}
+
+	/**
+	 * Is the queue of an airlock full ?
+	 *
+	 * @param airlock
+	 * @return
+	 */
+	public synchronized boolean isQueueFull(Airlock airlock) {
+		return getNumQueued(airlock) >= getMaxQueued(airlock);
+	}
+
+	/**
+	 * Estimates how long a person asking now would wait before getting into
+	 * an airlock.
+	 *
+	 * @param airlock
+	 * @param ingress Is the person coming in from outside ?
+	 * @return Time (millisols)
+	 */
+	public synchronized double getWaitTime(Airlock airlock, boolean ingress) {
+		int capacity = airlock.getCapacity();
+		double wait = 0D;
+
+		if (ingress) {
+			// The chamber has to be emptied and depressurized; everyone
+			// already waiting outside goes first
+			if (!airlock.isDepressurized() || !airlock.hasSpace()) {
+				wait += getCycleTime(airlock);
+			}
+			wait += (airlock.getNumAwaitingOuterDoor() / capacity) * ROUND_TRIP;
+		}
+		else {
+			// Everyone coming in goes first, then the queue in batches
+			if (!airlock.isPressurized()) {
+				wait += getCycleTime(airlock);
+			}
+			if (airlock.getNumAwaitingOuterDoor() > 0) {
+				wait += ROUND_TRIP;
+			}
+			int ahead = getNumQueued(airlock) - airlock.getNumEmptied();
+			if (ahead >= 0) {
+				wait += (ahead / capacity + 1) * (ROUND_TRIP + BATCH_OVERHEAD);
+			}
+		}
+		return wait;
+	}
+
+	/**
+	 * Gets the time (millisols) to finish the cycle under way or to do a new one.
+	 */
+	private static double getCycleTime(Airlock airlock) {
+		if (airlock.isPressurizing() || airlock.isDepressurizing()) {
+			return airlock.getRemainingCycleTime();
+		}
+		return BuildingAirlock.CYCLE_TIME;
+	}
+
+	private int getNumQueued(Airlock airlock) {
+		Map<Integer, Double> queue = queues.get(airlock);
+		return (queue == null ? 0 : queue.size());
+	}
+
+	private static int getMaxQueued(Airlock airlock) {
+		return MAX_BATCHES * airlock.getCapacity();
+	}
+
+	/**
+	 * Drops all the queues.
+	 */
+	public synchronized void clear() {
+		queues.clear();
+	}
+
+	/**
+	 * Keeps the time and drops the requests that have not been renewed; the
+	 * person has given up on the EVA without leaving the queue.
+	 *
+	 * @param pulse
+	 */
+	public synchronized void timePassing(ClockPulse pulse) {
+		now = pulse.getMarsTime().getTotalMillisols();
+
+		if (pulse.isNewMSol()) {
+			for (Map<Integer, Double> queue : queues.values()) {
+				Iterator<Double> i = queue.values().iterator();
+				while (i.hasNext()) {
+					if ((now - i.next()) > STALE_TIME) {
+						i.remove();
+					}
+				}
+			}
+		}
+	}
+}
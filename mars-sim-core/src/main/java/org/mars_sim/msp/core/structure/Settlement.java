@@ -44,6 +44,7 @@ import org.mars_sim.msp.core.equipment.ResourceHolder;
 import org.mars_sim.msp.core.goods.CreditManager;
 import org.mars_sim.msp.core.goods.GoodsManager;
 import org.mars_sim.msp.core.location.LocationStateType;
+import org.mars_sim.msp.core.logging.PulseProfiler;
 import org.mars_sim.msp.core.logging.SimLogger;
 import org.mars_sim.msp.core.person.Commander;
 import org.mars_sim.msp.core.person.Person;
@@ -51,12 +52,15 @@ import org.mars_sim.msp.core.person.PersonConfig;
 import org.mars_sim.msp.core.person.PhysicalCondition;
 import org.mars_sim.msp.core.person.ShiftType;
 import org.mars_sim.msp.core.person.ai.job.JobAssignmentType;
+import org.mars_sim.msp.core.person.ai.job.JobPlanner;
 import org.mars_sim.msp.core.person.ai.job.JobType;
 import org.mars_sim.msp.core.person.ai.job.JobUtil;
 import org.mars_sim.msp.core.person.ai.mission.Exploration;
 import org.mars_sim.msp.core.person.ai.mission.MissionType;
 import org.mars_sim.msp.core.person.ai.mission.VehicleMission;
 import org.mars_sim.msp.core.person.ai.role.RoleType;
+import org.mars_sim.msp.core.person.ai.social.OpinionMatrix;
+import org.mars_sim.msp.core.person.ai.social.RelationshipUtil;
 import org.mars_sim.msp.core.person.ai.task.EatDrink;
 import org.mars_sim.msp.core.person.ai.task.HaveConversation;
 import org.mars_sim.msp.core.person.ai.task.Read;
@@ -115,6 +119,7 @@ public class Settlement extends Structure implements Temporal,
 	public static final int NUM_CRITICAL_RESOURCES = 10;
 	private static final int RESOURCE_STAT_SOLS = 12;
 	private static final int SOL_SLEEP_PATTERN_REFRESH = 3;
+	private static final int DEFAULT_JOB_PLANNING_PERIOD = 3;
 	public static final int REGOLITH_MAX = 4000;
 	public static final int MIN_REGOLITH_RESERVE = 80; // per person
 	public static final int MIN_SAND_RESERVE = 5; // per person
@@ -164,6 +169,8 @@ public class Settlement extends Structure implements Temporal,
 
 	/** Normal air pressure [in kPa] */
 	private static final double NORMAL_AIR_PRESSURE = 34D;
+	/** Distance [in meters] a person walks in a millisol. */
+	private static final double WALK_PER_MSOL = 1000D / MarsClock.MILLISOLS_PER_HOUR;
 
 	/** The settlement water consumption */
 	public static double water_consumption_rate;
@@ -197,6 +204,11 @@ public class Settlement extends Structure implements Temporal,
 	private int templateID;
 	/** The cache for the mission sol. */
 	private int solCache = 0;
+	/**
+	 * Sols between job plans of all the settlers; negative when disabled. Zero is
+	 * read from saves made before it existed and means the default.
+	 */
+	private int jobPlanningPeriod = DEFAULT_JOB_PLANNING_PERIOD;
 	// NOTE: can't be static since each settlement needs to keep tracking of it
 	private int numShiftsCache;
 	/** number of people with work shift A */
@@ -334,8 +346,12 @@ public class Settlement extends Structure implements Temporal,
 	private Set<Integer> availablePAirlocks = new HashSet<>();
 	/** The set of available depressurized/depressurizing airlocks. */
 	private Set<Integer> availableDAirlocks = new HashSet<>();
+	/** The queues of people waiting for the airlocks. */
+	private AirlockScheduler airlockScheduler = new AirlockScheduler();
 	/** The settlement's list of citizens. */
 	private Set<Person> citizens;
+	/** The opinions the citizens have of each other. */
+	private OpinionMatrix opinions = new OpinionMatrix();
 	/** The settlement's list of owned robots. */
 	private Set<Robot> ownedRobots;
 	/** The settlement's list of owned vehicles. */
@@ -845,8 +861,8 @@ public class Settlement extends Structure implements Temporal,
 	 * @throws Exception if error providing oxygen.
 	 */
 	public double provideOxygen(double oxygenTaken) {
-		// Note: do NOT retrieve O2 here since calculateGasExchange() in
-		// CompositionOfAir is doing it for all inhabitants once per frame.
+		// Note: do NOT retrieve O2 here since occupants of a building breathe
+		// via AirComposition which settles their demand once per update.
 		return oxygenTaken;
 	}
 
@@ -955,7 +971,7 @@ public class Settlement extends Structure implements Temporal,
 			performEndOfDayTasks(pulse.getMarsTime());
 		}
 
-		goodsManager.timePassing(pulse);
+		airlockScheduler.timePassing(pulse);
 
 		// Keeps track of things based on msol
 		trackByMSol(pulse);
@@ -963,7 +979,9 @@ public class Settlement extends Structure implements Temporal,
 		// Computes the average air pressure & temperature of the life support system.
 		computeEnvironmentalAverages();
 
+		long start = PulseProfiler.start();
 		createBuildingMap();
+		PulseProfiler.stop(PulseProfiler.SETTLEMENT_BUILDING_MAP, start);
 
 		return true;
 	}
@@ -989,20 +1007,39 @@ public class Settlement extends Structure implements Temporal,
 	 */
 	private void otherTimePassings(ClockPulse pulse) {
 
+		long start = PulseProfiler.start();
 		powerGrid.timePassing(pulse);
+		start = restartProfile(PulseProfiler.SETTLEMENT_POWER, start);
 
 		thermalSystem.timePassing(pulse);
+		start = restartProfile(PulseProfiler.SETTLEMENT_THERMAL, start);
 
 		buildingManager.timePassing(pulse);
+		start = restartProfile(PulseProfiler.SETTLEMENT_BUILDINGS, start);
 
 		// Update citizens
 		timePassing(pulse, citizens);
+		start = restartProfile(PulseProfiler.SETTLEMENT_CITIZENS, start);
 
 		// Update owned vehicles
 		timePassing(pulse, ownedVehicles);
+		start = restartProfile(PulseProfiler.SETTLEMENT_VEHICLES, start);
 
 		// Update owned robots
 		timePassing(pulse, ownedRobots);
+		PulseProfiler.stop(PulseProfiler.SETTLEMENT_ROBOTS, start);
+	}
+
+	/**
+	 * Records the end of one profiled phase and starts the next.
+	 *
+	 * @param section Phase just completed
+	 * @param start Start of the phase
+	 * @return Start of the next phase
+	 */
+	private static long restartProfile(String section, long start) {
+		PulseProfiler.stop(section, start);
+		return PulseProfiler.start();
 	}
 
 	/**
@@ -1286,11 +1323,7 @@ public class Settlement extends Structure implements Temporal,
 	 * Removes all airlock reservations
 	 */
 	public void removeAllReservations() {
-		List<Airlock> airlocks = getAllAirlocks();
-
-		for (Airlock a: airlocks) {
-			a.getReservationMap().clear();
-		}
+		airlockScheduler.clear();
 	}
 
 	/**
@@ -1303,6 +1336,11 @@ public class Settlement extends Structure implements Temporal,
 
 		reassignWorkShift();
 
+		int planningPeriod = getJobPlanningPeriod();
+		if ((planningPeriod > 0) && (solElapsed % planningPeriod == 0)) {
+			JobPlanner.reassignJobs(this);
+		}
+
 		tuneJobDeficit();
 
 		refreshResourceStat();
@@ -1602,6 +1640,15 @@ public class Settlement extends Structure implements Temporal,
 		return goodsManager;
 	}
 
+	/**
+	 * Gets the scheduler of the airlocks.
+	 *
+	 * @return
+	 */
+	public AirlockScheduler getAirlockScheduler() {
+		return airlockScheduler;
+	}
+
 	/**
 	 * Gets a list of airlock of this settlement
 	 *
@@ -1680,7 +1727,9 @@ public class Settlement extends Structure implements Temporal,
 
 	/**
 	 * Gets an airlock for an EVA egress, preferably an pressurized airlock.
-	 * Consider if the chambers are full and if the reservation is full.
+	 * Consider if the chambers are full and if the reservation is full. The
+	 * airlock reached soonest, counting the walk and the estimated wait, is
+	 * chosen.
 	 *
 	 * @param currentBuilding
 	 * @param pos Position for search
@@ -1690,8 +1739,8 @@ public class Settlement extends Structure implements Temporal,
 	private Airlock getAirlock(Building currentBuilding, LocalPosition pos, boolean ingress) {
 		Airlock result = null;
 
-		// Search the closest of the buildings
-		double leastDistance = Double.MAX_VALUE;
+		// Search the soonest reached of the buildings
+		double leastTime = Double.MAX_VALUE;
 
 		Set<Integer> bldgs = null;
 		if (ingress) {
@@ -1712,11 +1761,12 @@ public class Settlement extends Structure implements Temporal,
 			if ((!chamberFull || !reservationFull)
 				&& buildingConnectorManager.hasValidPath(currentBuilding, building)) {
 
-				double distance = building.getPosition().getDistanceTo(pos);
-				if (distance < leastDistance) {
-
-					result = building.getEVA().getAirlock();
-					leastDistance = distance;
+				Airlock airlock = building.getEVA().getAirlock();
+				double time = building.getPosition().getDistanceTo(pos) / WALK_PER_MSOL
+								+ airlockScheduler.getWaitTime(airlock, ingress);
+				if (time < leastTime) {
+					result = airlock;
+					leastTime = time;
 				}
 			}
 		}
@@ -1998,6 +2048,7 @@ public class Settlement extends Structure implements Temporal,
 		if (citizens.contains(p))
 			return true;
 		if (citizens.add(p)) {
+			RelationshipUtil.joinMatrix(p, opinions, citizens);
 			addPeopleWithin(p);
 			p.setCoordinates(getCoordinates());
 			p.setContainerUnit(this);
@@ -2017,6 +2068,7 @@ public class Settlement extends Structure implements Temporal,
 	public boolean removeACitizen(Person p) {
 		if (!citizens.contains(p))
 			return true;
+		RelationshipUtil.leaveMatrix(p, citizens);
 		if (citizens.remove(p)) {
 			removePeopleWithin(p);
 			// Update the numCtizens
@@ -3447,6 +3499,27 @@ public class Settlement extends Structure implements Temporal,
 		}
 	}
 
+	/**
+	 * Gets the number of sols between job plans of all the settlers.
+	 *
+	 * @return sols; zero if disabled
+	 */
+	public int getJobPlanningPeriod() {
+		if (jobPlanningPeriod == 0) {
+			return DEFAULT_JOB_PLANNING_PERIOD;
+		}
+		return Math.max(0, jobPlanningPeriod);
+	}
+
+	/**
+	 * Sets the number of sols between job plans of all the settlers.
+	 *
+	 * @param sols zero to disable
+	 */
+	public void setJobPlanningPeriod(int sols) {
+		jobPlanningPeriod = (sols > 0 ? sols : -1);
+	}
+
 	public void setMissionDisable(MissionType mission, boolean disable) {
 		if (disable) {
 			disabledMissions.add(mission);
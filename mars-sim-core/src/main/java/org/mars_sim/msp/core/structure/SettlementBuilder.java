@@ -6,12 +6,19 @@
  */
 package org.mars_sim.msp.core.structure;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.logging.Level;
 import java.util.stream.Collectors;
 
@@ -53,6 +60,8 @@ import org.mars_sim.msp.core.vehicle.Rover;
 import org.mars_sim.msp.core.vehicle.Vehicle;
 import org.mars_sim.msp.core.vehicle.VehicleType;
 
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+
 /**
  * This class will create new complete Settlements from a template.
  * The creation includes all Persons, Vehicles & Robots.
@@ -72,6 +81,11 @@ public final class SettlementBuilder {
 	private RobotConfig robotConfig;
 	private UserConfigurableConfig<Crew> crewConfig;
 	private ReportingAuthorityFactory raFactory;
+	private int numThreads;
+
+	// Names of people, robots and vehicles created by this builder; settlements
+	// may be built concurrently
+	private Set<String> reservedNames = ConcurrentHashMap.newKeySet();
 
 	public SettlementBuilder(Simulation sim, SimulationConfig simConfig) {
 		super();
@@ -80,15 +94,26 @@ public final class SettlementBuilder {
 		this.personConfig = simConfig.getPersonConfig();
 		this.robotConfig = simConfig.getRobotConfiguration();
 		this.raFactory = simConfig.getReportingAuthorityFactory();
+		this.numThreads = Math.max(1, Simulation.NUM_THREADS - simConfig.getUnusedCores());
 	}
 
 	/**
-	 * Create all the initial Settlements
+	 * Create all the initial Settlements. The first is created on its own so any
+	 * shared state that is built on demand is in place; the rest are created
+	 * concurrently. A seeded run creates them all in order so the unit
+	 * identifiers and random draws are the same on every run.
 	 */
 	public void createInitialSettlements(Scenario bootstrap) {
 		logger.config(bootstrap.getName() + " scenario loading...");
-		for (InitialSettlement spec : bootstrap.getSettlements()) {
-			createFullSettlement(spec);
+		List<InitialSettlement> specs = bootstrap.getSettlements();
+		if (RandomUtil.isSeeded() || (specs.size() <= 2)) {
+			for (InitialSettlement spec : specs) {
+				createFullSettlement(spec);
+			}
+		}
+		else {
+			createFullSettlement(specs.get(0));
+			createConcurrently(specs.subList(1, specs.size()));
 		}
 
 		// If loading full default and game mode then place the Commander
@@ -97,6 +122,37 @@ public final class SettlementBuilder {
 		}
 	}
 
+	/**
+	 * Creates a set of Settlements using a pool of threads and waits for them all.
+	 *
+	 * @param specs
+	 */
+	private void createConcurrently(List<InitialSettlement> specs) {
+		int num = Math.min(specs.size(), numThreads);
+		ExecutorService executor = Executors.newFixedThreadPool(num,
+					new ThreadFactoryBuilder().setNameFormat("settlementbuilder-%d").build());
+		try {
+			List<Future<Settlement>> results = new ArrayList<>();
+			for (InitialSettlement spec : specs) {
+				results.add(executor.submit(() -> createFullSettlement(spec)));
+			}
+			for (Future<Settlement> result : results) {
+				result.get();
+			}
+		}
+		catch (ExecutionException ee) {
+			throw new IllegalStateException("Problem creating the initial settlements", ee.getCause());
+		}
+		catch (InterruptedException ie) {
+			Thread.currentThread().interrupt();
+			// Don't carry on with only some of the settlements
+			throw new IllegalStateException("Interrupted creating the initial settlements", ie);
+		}
+		finally {
+			executor.shutdownNow();
+		}
+	}
+
 	/**
 	 * This create a single fully populated Settlement according to the
 	 * specification. This includes all sub-units, e.g. Vehicles & Persons
@@ -214,7 +270,10 @@ public final class SettlementBuilder {
 			int number = vehicleMap.get(vehicleType);
 			vehicleType = vehicleType.toLowerCase();
 			for (int x = 0; x < number; x++) {
-				String name = Vehicle.generateName(vehicleType, sponsor);
+				String name = Vehicle.generateName(vehicleType, sponsor, reservedNames);
+				while (!reservedNames.add(name)) {
+					name = Vehicle.generateName(vehicleType, sponsor, reservedNames);
+				}
 				if (LightUtilityVehicle.NAME.equalsIgnoreCase(vehicleType)) {
 					LightUtilityVehicle luv = new LightUtilityVehicle(name, vehicleType, settlement);
 					unitManager.addUnit(luv);
@@ -268,6 +327,9 @@ public final class SettlementBuilder {
 			RobotType robotType = Robot.selectNewRobotType(settlement);
 			// Adopt Static Factory Method and Factory Builder Pattern
 			String newName = Robot.generateName(robotType);
+			while (!reservedNames.add(newName)) {
+				newName = Robot.generateName(robotType);
+			}
 			Robot robot = Robot.create(newName, settlement, robotType)
 					.setCountry(EARTH)
 					.setSkill(null, robotType)
@@ -349,8 +411,12 @@ public final class SettlementBuilder {
 			// This is random and may change on each call
 			String country = sponsor.getDefaultCountry();
 
-			// Make sure settlement name isn't already being used.
+			// Make sure the name isn't already being used; another settlement
+			// may be choosing names at the same time
 			String fullname = Person.generateName(country, gender);
+			while (!reservedNames.add(fullname)) {
+				fullname = Person.generateName(country, gender);
+			}
 
 			// Use Builder Pattern for creating an instance of Person
 			person = Person.create(fullname, settlement)
@@ -563,6 +629,7 @@ public final class SettlementBuilder {
 					&& (settlement.getNumBots() <= settlement.getInitialNumOfRobots())) {
 				// Get robot's name (required)
 				String name = robotConfig.getConfiguredRobotName(x);
+				reservedNames.add(name);
 
 				// Get robotType
 				RobotType robotType = robotConfig.getConfiguredRobotType(x);
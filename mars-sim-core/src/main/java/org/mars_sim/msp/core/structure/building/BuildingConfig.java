@@ -22,6 +22,7 @@ import org.jdom2.Document;
 import org.jdom2.Element;
 import org.mars_sim.msp.core.LocalPosition;
 import org.mars_sim.msp.core.configuration.ConfigHelper;
+import org.mars_sim.msp.core.resource.ProcessIndex;
 import org.mars_sim.msp.core.resource.ResourceUtil;
 import org.mars_sim.msp.core.science.ScienceType;
 import org.mars_sim.msp.core.structure.building.function.FunctionType;
@@ -104,6 +105,8 @@ public class BuildingConfig implements Serializable {
 	private static final String POSITION = "-position";
 
 	private transient Map<String, BuildingSpec> buildSpecMap = new HashMap<>();
+	// Resource processes of all buildings keyed on resource id
+	private transient ProcessIndex<Integer, ResourceProcessSpec> resourceProcessIndex;
 
 	/**
 	 * Constructor.
@@ -118,6 +121,23 @@ public class BuildingConfig implements Serializable {
 			String key = generateSpecKey(buildingType);
 			buildSpecMap.put(key, parseBuilding(buildingType, buildingElement));
 		}
+
+		// Resource processes have no tech level
+		List<ResourceProcessSpec> processes = buildSpecMap.values().stream()
+				.flatMap(s -> s.getResourceProcess().stream())
+				.collect(Collectors.toList());
+		resourceProcessIndex = new ProcessIndex<>(processes, ResourceProcessSpec::getInputResources,
+												  ResourceProcessSpec::getOutputResources, p -> 0);
+	}
+
+	/**
+	 * Gets the index of the resource processes of all building types by the
+	 * resources they consume and produce.
+	 *
+	 * @return
+	 */
+	public ProcessIndex<Integer, ResourceProcessSpec> getResourceProcessIndex() {
+		return resourceProcessIndex;
 	}
 
 	/**
@@ -86,6 +86,7 @@ import org.mars_sim.msp.core.structure.construction.ConstructionUtil;
 import org.mars_sim.msp.core.time.ClockPulse;
 import org.mars_sim.msp.core.time.MarsClock;
 import org.mars_sim.msp.core.time.MasterClock;
+import org.mars_sim.msp.core.time.MissionTime;
 import org.mars_sim.msp.core.tool.AlphanumComparator;
 import org.mars_sim.msp.core.tool.RandomUtil;
 import org.mars_sim.msp.core.vehicle.Rover;
@@ -106,7 +107,7 @@ public class BuildingManager implements Serializable {
 	/** default logger. */
 	private static final SimLogger logger = SimLogger.getLogger(BuildingManager.class.getName());
 
-	private transient MarsClock lastVPUpdateTime;
+	private transient long lastVPUpdateTime = MissionTime.NONE;
 
 	private transient List<Building> buildings;
 	private transient List<Building> garages;
@@ -1612,11 +1613,11 @@ public class BuildingManager implements Serializable {
 			vPOldCache = new HashMap<>();
 
 		// Update building values cache once per Sol.
-		if ((lastVPUpdateTime == null)
-				|| (MarsClock.getTimeDiff(marsClock, lastVPUpdateTime) > 1000D)) {
+		long now = MissionTime.of(marsClock);
+		if (MissionTime.hasPassed(lastVPUpdateTime, now, 1000D)) {
 			vPNewCache.clear();
 			vPOldCache.clear();
-			lastVPUpdateTime = (MarsClock) marsClock.clone();
+			lastVPUpdateTime = now;
 		}
 
 		if (newBuilding && vPNewCache.containsKey(buildingType)) {
@@ -2122,11 +2123,15 @@ public class BuildingManager implements Serializable {
 	 * Gets the building that owns (is attached to) the EVA Airlock.
 	 * 
 	 * @param evaBuilding
-	 * @return
+	 * @return null if the settlement has no template or the owner is not found
 	 */
 	public Building getEVAAttachedBuilding(Building evaBuilding) {
+		String template = getSettlement().getTemplate();
+		if (template == null) {
+			return null;
+		}
 		SettlementTemplate settlementTemplate = SimulationConfig.instance()
-				.getSettlementConfiguration().getItem(getSettlement().getTemplate());
+				.getSettlementConfiguration().getItem(template);
 		List<BuildingTemplate> templates = settlementTemplate.getBuildingTemplates();
 		
 		int idEVAAttachedBuilding = -1;
@@ -2161,7 +2166,8 @@ public class BuildingManager implements Serializable {
 	 * @return
 	 */
 	public boolean isObservatoryAttached(Building airlockBuilding) {
-		if (getEVAAttachedBuilding(airlockBuilding).hasFunction(FunctionType.ASTRONOMICAL_OBSERVATION))
+		Building owner = getEVAAttachedBuilding(airlockBuilding);
+		if ((owner != null) && owner.hasFunction(FunctionType.ASTRONOMICAL_OBSERVATION))
 			return true;
 		
 		return false;
@@ -2280,7 +2286,7 @@ public class BuildingManager implements Serializable {
 		buildings = null;
 		vPNewCache = null;
 		vPOldCache = null;
-		lastVPUpdateTime = null;
+		lastVPUpdateTime = MissionTime.NONE;
 		meteorite = null;
 		marsClock = null;
 		masterClock = null;
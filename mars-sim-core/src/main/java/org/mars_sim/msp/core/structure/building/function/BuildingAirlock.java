@@ -22,6 +22,7 @@ import org.mars_sim.msp.core.LocalPosition;
 import org.mars_sim.msp.core.logging.SimLogger;
 import org.mars_sim.msp.core.person.Person;
 import org.mars_sim.msp.core.structure.Airlock;
+import org.mars_sim.msp.core.structure.AirlockScheduler;
 import org.mars_sim.msp.core.structure.AirlockType;
 import org.mars_sim.msp.core.structure.Settlement;
 import org.mars_sim.msp.core.structure.building.Building;
@@ -239,6 +240,11 @@ public class BuildingAirlock extends Airlock {
         return building;
     }
 
+    @Override
+    protected AirlockScheduler getScheduler() {
+        return building.getSettlement().getAirlockScheduler();
+    }
+
     @Override
     public LocalPosition getAvailableInteriorPosition() {
         return airlockInteriorPos;
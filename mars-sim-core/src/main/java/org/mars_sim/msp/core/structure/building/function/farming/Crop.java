@@ -19,6 +19,7 @@ import org.mars_sim.msp.core.structure.building.Building;
 import org.mars_sim.msp.core.time.ClockPulse;
 import org.mars_sim.msp.core.time.MarsClock;
 import org.mars_sim.msp.core.time.MasterClock;
+import org.mars_sim.msp.core.time.TimingWheel;
 import org.mars_sim.msp.core.tool.RandomUtil;
 
 /**
@@ -203,9 +204,36 @@ public class Crop implements Comparable<Crop>, Serializable {
 
 	private Farming farm;
 	private Building building;
+	/** The event checking the health of the crop. */
+	private TimingWheel.Event healthEvent;
 
 	private static CropConfig cropConfig;
 
+	/**
+	 * Checks the health of a crop until it is finished.
+	 */
+	private static class HealthCheck implements TimingWheel.Handler {
+
+		private static final long serialVersionUID = 1L;
+
+		private Crop crop;
+
+		HealthCheck(Crop crop) {
+			this.crop = crop;
+		}
+
+		@Override
+		public void execute(ClockPulse pulse) {
+			if (crop.currentPhase.getPhaseType() == PhaseType.FINISHED) {
+				crop.healthEvent.cancel();
+			}
+			else {
+				// Checks on crop health
+				crop.trackHealth();
+			}
+		}
+	}
+
 	/**
 	 * Constructor.
 	 *
@@ -804,10 +832,10 @@ public class Crop implements Comparable<Crop>, Serializable {
 			// Add tasks
 		}
 		
-		int msol = pulse.getMarsTime().getMillisolInt();
-		if (msol % CHECK_HEALTH_FREQUENCY == 0) {
-			// Checks on crop health
-			trackHealth();
+		if ((healthEvent == null) && (pulse.getMasterClock() != null)) {
+			// New crop or one saved before the timing wheel
+			healthEvent = pulse.getMasterClock().getTimingWheel().schedule(new HealthCheck(this),
+										CHECK_HEALTH_FREQUENCY, CHECK_HEALTH_FREQUENCY);
 		}
 		
 		return true;
@@ -17,7 +17,7 @@ import org.mars_sim.msp.core.Simulation;
 import org.mars_sim.msp.core.goods.GoodsManager;
 import org.mars_sim.msp.core.structure.Settlement;
 import org.mars_sim.msp.core.structure.building.Building;
-import org.mars_sim.msp.core.time.MarsClock;
+import org.mars_sim.msp.core.time.MissionTime;
 
 /**
  * Provides value information for construction.
@@ -34,11 +34,11 @@ implements Serializable {
     // Data members
     private Settlement settlement;
     private Map<Integer, Double> settlementConstructionValueCache;
-    private MarsClock settlementConstructionValueCacheTime;
+    private long settlementConstructionValueCacheTime = MissionTime.NONE;
     private Map<ConstructionStageInfoSkillKey, Double> stageInfoValueCache;
-    private MarsClock stageInfoValueCacheTime;
+    private long stageInfoValueCacheTime = MissionTime.NONE;
     private Map<ConstructionStageInfoSkillKey, Double> allStageInfoValueCache;
-    private MarsClock allStageInfoValueCacheTime;
+    private long allStageInfoValueCacheTime = MissionTime.NONE;
 
     /**
      * Constructor.
@@ -63,13 +63,12 @@ implements Serializable {
      */
     public double getSettlementConstructionProfit(int constructionSkill) {
 
-        MarsClock currentTime = Simulation.instance().getMasterClock().getMarsClock();
-        if ((settlementConstructionValueCacheTime == null) || 
-                (MarsClock.getTimeDiff(currentTime, settlementConstructionValueCacheTime) > 1000D)) {
+        long currentTime = MissionTime.of(Simulation.instance().getMasterClock().getMarsClock());
+        if (MissionTime.hasPassed(settlementConstructionValueCacheTime, currentTime, 1000D)) {
             if (settlementConstructionValueCache == null) 
                 settlementConstructionValueCache = new HashMap<>();
             settlementConstructionValueCache.clear();
-            settlementConstructionValueCacheTime = (MarsClock) currentTime.clone();
+            settlementConstructionValueCacheTime = currentTime;
         }
 
         if (!settlementConstructionValueCache.containsKey(constructionSkill)) {
@@ -258,9 +257,8 @@ implements Serializable {
      */
     public Map<ConstructionStageInfo, Double> getAllConstructionStageValues(int constructionSkill) {
 
-        MarsClock currentTime = Simulation.instance().getMasterClock().getMarsClock();
-        if ((allStageInfoValueCacheTime == null) || 
-                (MarsClock.getTimeDiff(currentTime, allStageInfoValueCacheTime) > 1000D)) {
+        long currentTime = MissionTime.of(Simulation.instance().getMasterClock().getMarsClock());
+        if (MissionTime.hasPassed(allStageInfoValueCacheTime, currentTime, 1000D)) {
             if (allStageInfoValueCache == null) {
                 allStageInfoValueCache = new HashMap<>();
             }
@@ -274,7 +272,7 @@ implements Serializable {
                         getConstructionStageValue(stageInfo, constructionSkill));
             }
 
-            allStageInfoValueCacheTime = (MarsClock) currentTime.clone();
+            allStageInfoValueCacheTime = currentTime;
 
             // Display building construction values report to System.out for testing purposes.
 //            displayAllBuildingConstructionValues();
@@ -300,14 +298,13 @@ implements Serializable {
      */
     public double getConstructionStageValue(ConstructionStageInfo stageInfo, int constructionSkill) {
 
-        MarsClock currentTime = Simulation.instance().getMasterClock().getMarsClock();
-        if ((stageInfoValueCacheTime == null) || 
-                (MarsClock.getTimeDiff(currentTime, stageInfoValueCacheTime) > 1000D)) {
+        long currentTime = MissionTime.of(Simulation.instance().getMasterClock().getMarsClock());
+        if (MissionTime.hasPassed(stageInfoValueCacheTime, currentTime, 1000D)) {
             if (stageInfoValueCache == null) {
                 stageInfoValueCache = new HashMap<>();
             }
             stageInfoValueCache.clear();
-            stageInfoValueCacheTime = (MarsClock) currentTime.clone();
+            stageInfoValueCacheTime = currentTime;
         }
 
         ConstructionStageInfoSkillKey key = new ConstructionStageInfoSkillKey(stageInfo, constructionSkill);
@@ -488,19 +485,19 @@ implements Serializable {
      * Clears the value caches.
      */
     public void clearCache() {
-        MarsClock currentTime = Simulation.instance().getMasterClock().getMarsClock();
+        long currentTime = MissionTime.of(Simulation.instance().getMasterClock().getMarsClock());
 
         if (settlementConstructionValueCache == null) {
             settlementConstructionValueCache = new HashMap<>();
         }
         settlementConstructionValueCache.clear();
-        settlementConstructionValueCacheTime = (MarsClock) currentTime.clone();
+        settlementConstructionValueCacheTime = currentTime;
 
         if (stageInfoValueCache == null) {
             stageInfoValueCache = new HashMap<>();
         }
         stageInfoValueCache.clear();
-        stageInfoValueCacheTime = (MarsClock) currentTime.clone();
+        stageInfoValueCacheTime = currentTime;
 
         if (allStageInfoValueCache == null) {
             allStageInfoValueCache = new HashMap<>();
@@ -517,19 +514,19 @@ implements Serializable {
 
             settlementConstructionValueCache.clear();
             settlementConstructionValueCache = null;
-            settlementConstructionValueCacheTime = null;
+            settlementConstructionValueCacheTime = MissionTime.NONE;
         }
         if(stageInfoValueCache != null){
 
             stageInfoValueCache.clear();
             stageInfoValueCache = null;
-            stageInfoValueCacheTime = null;
+            stageInfoValueCacheTime = MissionTime.NONE;
         }
         if(allStageInfoValueCache != null){
 
             allStageInfoValueCache.clear();
             allStageInfoValueCache = null;
-            allStageInfoValueCacheTime = null;
+            allStageInfoValueCacheTime = MissionTime.NONE;
         }
     }
     
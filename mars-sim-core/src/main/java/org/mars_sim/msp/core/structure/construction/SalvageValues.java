@@ -26,7 +26,7 @@ import org.mars_sim.msp.core.structure.building.function.GroundVehicleMaintenanc
 import org.mars_sim.msp.core.structure.building.function.LifeSupport;
 import org.mars_sim.msp.core.structure.building.function.LivingAccommodations;
 import org.mars_sim.msp.core.structure.building.function.RoboticStation;
-import org.mars_sim.msp.core.time.MarsClock;
+import org.mars_sim.msp.core.time.MissionTime;
 
 /**
  * Calculates values for salvaging buildings at a settlement.
@@ -44,7 +44,7 @@ implements Serializable {
 	// Data members
 	private Settlement settlement;
 	private Map<Integer, Double> settlementSalvageValueCache;
-	private MarsClock settlementSalvageValueCacheTime;
+	private long settlementSalvageValueCacheTime = MissionTime.NONE;
 
 	private static UnitManager unitManager = Simulation.instance().getUnitManager();
 
@@ -62,7 +62,7 @@ implements Serializable {
 	public void clearCache() {
 	    if (settlementSalvageValueCache != null) {
 	        settlementSalvageValueCache.clear();
-	        settlementSalvageValueCacheTime = null;
+	        settlementSalvageValueCacheTime = MissionTime.NONE;
 	    }
 	}
 
@@ -83,13 +83,12 @@ implements Serializable {
 	 */
 	public double getSettlementSalvageProfit(int constructionSkill) {
 
-		MarsClock currentTime = Simulation.instance().getMasterClock().getMarsClock();
-		if ((settlementSalvageValueCacheTime == null) || 
-				(MarsClock.getTimeDiff(currentTime, settlementSalvageValueCacheTime) > 1000D)) {
+		long currentTime = MissionTime.of(Simulation.instance().getMasterClock().getMarsClock());
+		if (MissionTime.hasPassed(settlementSalvageValueCacheTime, currentTime, 1000D)) {
 			if (settlementSalvageValueCache == null) 
 				settlementSalvageValueCache = new HashMap<>();
 			settlementSalvageValueCache.clear();
-			settlementSalvageValueCacheTime = (MarsClock) currentTime.clone();
+			settlementSalvageValueCacheTime = currentTime;
 		}
 
 		if (!settlementSalvageValueCache.containsKey(constructionSkill)) {
@@ -373,7 +372,7 @@ implements Serializable {
 		if(settlementSalvageValueCache != null){
 			settlementSalvageValueCache.clear();
 			settlementSalvageValueCache = null;
-			settlementSalvageValueCacheTime = null;
+			settlementSalvageValueCacheTime = MissionTime.NONE;
 		}
 	}
 }
@@ -17,6 +17,11 @@ public class ClockPulse {
 	 */
 	private MarsClock marsTime;
 
+	/**
+	 * Compact form of the Mars time
+	 */
+	private long missionTime;
+
 	/**
 	 * Master clock
 	 */
@@ -63,6 +68,7 @@ public class ClockPulse {
 		this.id = id;
 		this.elapsed = elapsed;
 		this.marsTime = marsTime;
+		this.missionTime = MissionTime.of(marsTime);
 		this.earthTime = earthTime;
 		this.master = master;
 		this.newSol = newSol;
@@ -85,6 +91,16 @@ public class ClockPulse {
 		return marsTime;
 	}
 
+	/**
+	 * Gets the Mars time of this pulse as a compact value.
+	 * 
+	 * @see MissionTime
+	 * @return
+	 */
+	public long getMissionTime() {
+		return missionTime;
+	}
+
 	public MasterClock getMasterClock() {
 		return master;
 	}
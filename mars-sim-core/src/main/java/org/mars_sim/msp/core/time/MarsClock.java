@@ -235,6 +235,41 @@ public class MarsClock implements Serializable {
 		this.msolInt = (int) millisol;
 	}
 
+	/**
+	 * Creates a fixed MarsClock from the total millisols since the start of orbit 0.
+	 *
+	 * @param totalMillisols
+	 * @param missionSol the mission sol of the time
+	 * @return
+	 */
+	static MarsClock fromTotalMillisols(double totalMillisols, int missionSol) {
+		int orbit = 0;
+		double remaining = totalMillisols;
+		double orbitLength = getSolsInOrbit(orbit) * 1000D;
+		while (remaining >= orbitLength) {
+			remaining -= orbitLength;
+			orbit++;
+			orbitLength = getSolsInOrbit(orbit) * 1000D;
+		}
+
+		int month = 1;
+		double monthLength = MarsClockFormat.getSolsInMonth(month, orbit) * 1000D;
+		while ((remaining >= monthLength) && (month < MONTHS_PER_ORBIT)) {
+			remaining -= monthLength;
+			month++;
+			monthLength = MarsClockFormat.getSolsInMonth(month, orbit) * 1000D;
+		}
+
+		int sol = (int) (remaining / 1000D);
+		double millisol = remaining - (sol * 1000D);
+
+		return new MarsClock(orbit, month, sol + 1, millisol, missionSol);
+	}
+
+	private static int getSolsInOrbit(int orbit) {
+		return (MarsClockFormat.isLeapOrbit(orbit) ? SOLS_PER_ORBIT_LEAPYEAR : SOLS_PER_ORBIT_NON_LEAPYEAR);
+	}
+
 	/**
 	 * Converts seconds to millisols.
 	 *
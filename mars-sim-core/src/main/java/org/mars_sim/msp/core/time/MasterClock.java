@@ -21,6 +21,7 @@ import java.util.logging.Level;
 
 import org.mars_sim.msp.core.Simulation;
 import org.mars_sim.msp.core.SimulationConfig;
+import org.mars_sim.msp.core.logging.PulseProfiler;
 import org.mars_sim.msp.core.logging.SimLogger;
 import org.mars_sim.msp.core.person.ai.task.utils.Task;
 
@@ -117,6 +118,8 @@ public class MasterClock implements Serializable {
 	private EarthClock earthClock;
 	/** The Uptime Timer. */
 	private UpTimer uptimer;
+	/** The work scheduled for set times. */
+	private TimingWheel timingWheel;
 	/** The thread for running the game loop. */
 	private ClockThreadTask clockThreadTask;
 
@@ -136,6 +139,9 @@ public class MasterClock implements Serializable {
 		// Save a copy of the initial mars time
 		initialMarsTime = (MarsClock) marsClock.clone();
 
+		// Create the scheduler of timed work
+		timingWheel = new TimingWheel(marsClock.getTotalMillisols());
+
 		// Create an Earth clock
 		earthClock = new EarthClock(simulationConfig.getEarthStartDateTime());
 
@@ -192,6 +198,19 @@ public class MasterClock implements Serializable {
 		return marsClock;
 	}
 
+	/**
+	 * Gets the scheduler of work due at set times.
+	 *
+	 * @return
+	 */
+	public synchronized TimingWheel getTimingWheel() {
+		if (timingWheel == null) {
+			// Saved before the scheduler was added
+			timingWheel = new TimingWheel(marsClock.getTotalMillisols());
+		}
+		return timingWheel;
+	}
+
 	/**
 	 * Gets the initial Mars time at the start of the simulation.
 	 *
@@ -599,6 +618,7 @@ public class MasterClock implements Serializable {
 		private long lastPulseDelivered = 0;
 		private ClockListener listener;
 		private long minDuration;
+		private String profileSection;
 
 		public ClockListener getClockListener() {
 			return listener;
@@ -607,6 +627,7 @@ public class MasterClock implements Serializable {
 		private ClockListenerTask(ClockListener listener, long minDuration) {
 			this.listener = listener;
 			this.minDuration = minDuration;
+			this.profileSection = PulseProfiler.LISTENER_PREFIX + listener.getClass().getSimpleName();
 			this.lastPulseDelivered = System.currentTimeMillis();
 		}
 
@@ -637,7 +658,9 @@ public class MasterClock implements Serializable {
 					}
 
 					// Call handler
+					long start = PulseProfiler.start();
 					listener.clockPulse(activePulse);
+					PulseProfiler.stop(profileSection, start);
 				}
 				catch (Exception e) {
 					logger.log(Level.SEVERE, "Can't send out clock pulse: ", e);
@@ -666,6 +689,45 @@ public class MasterClock implements Serializable {
 	 * @param time
 	 */
 	private void fireClockPulse(double time) {
+		createPulse(time);
+		// Note: for-loop may handle checked exceptions better than forEach()
+		// See https://stackoverflow.com/questions/16635398/java-8-iterable-foreach-vs-foreach-loop?rq=1
+
+		// May do it using for loop
+
+		// Note: Using .parallelStream().forEach() in a quad cpu machine would reduce TPS and unable to increase it beyond 512x
+		// Not using clockListenerTasks.forEach(s -> { }) for now
+
+		// Execute all listener concurrently and wait for all to complete before advancing
+		// Ensure that Settlements stay synch'ed and some don't get ahead of others as tasks queue
+		// May use parallelStream() after it's proven to be safe
+		long start = PulseProfiler.start();
+		Collections.synchronizedSet(new HashSet<>(clockListenerTasks)).stream().forEach(this::executeClockListenerTask);
+		PulseProfiler.stop(PulseProfiler.PULSE, start);
+	}
+
+	/**
+	 * Advances the clocks by a fixed step instead of the elapsed real time. The
+	 * clock listeners are not called; the caller drives the simulation with the
+	 * returned pulse on its own thread so a run is repeatable. Used for
+	 * benchmarking when the clock thread is not started.
+	 *
+	 * @param millisols Length of the step
+	 * @return The new pulse
+	 */
+	public ClockPulse fixedStep(double millisols) {
+		earthClock.addTime((long)(millisols * MILLISECONDS_PER_MILLISOL));
+		marsClock.addTime(millisols);
+		return createPulse(millisols);
+	}
+
+	/**
+	 * Creates the next clock pulse from the current Mars time.
+	 *
+	 * @param time Elapsed millisols
+	 * @return
+	 */
+	private ClockPulse createPulse(double time) {
 		// Identify if it's a new Millisol integer
 		int currentMSol = marsClock.getMillisolInt();
 		boolean isNewMSol = false;
@@ -689,18 +751,7 @@ public class MasterClock implements Serializable {
 		pulseLog[logIndex] = System.currentTimeMillis();
 
 		currentPulse = new ClockPulse(newPulseId, time, marsClock, earthClock, this, isNewSol, isNewMSol);
-		// Note: for-loop may handle checked exceptions better than forEach()
-		// See https://stackoverflow.com/questions/16635398/java-8-iterable-foreach-vs-foreach-loop?rq=1
-
-		// May do it using for loop
-
-		// Note: Using .parallelStream().forEach() in a quad cpu machine would reduce TPS and unable to increase it beyond 512x
-		// Not using clockListenerTasks.forEach(s -> { }) for now
-
-		// Execute all listener concurrently and wait for all to complete before advancing
-		// Ensure that Settlements stay synch'ed and some don't get ahead of others as tasks queue
-		// May use parallelStream() after it's proven to be safe
-		Collections.synchronizedSet(new HashSet<>(clockListenerTasks)).stream().forEach(this::executeClockListenerTask);
+		return currentPulse;
 	}
 
 	/**
@@ -959,6 +1010,7 @@ public class MasterClock implements Serializable {
 		earthClock.destroy();
 		earthClock = null;
 		uptimer = null;
+		timingWheel = null;
 		clockThreadTask = null;
 		listenerExecutor = null;
 	}
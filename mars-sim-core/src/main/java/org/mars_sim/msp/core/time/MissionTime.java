@@ -0,0 +1,134 @@
+/*
+ * Mars Simulation Project
+ * MissionTime.java
+ * @date 2026-10-19
+ * @author agent
+ */
+package org.mars_sim.msp.core.time;
+
+/**
+ * A compact representation of a point in Mars time held as a primitive long.
+ * The value is the number of micro-millisols since the start of orbit 0, i.e.
+ * the total millisols of a {@link MarsClock} in fixed point. Comparing and
+ * doing arithmetic on these values needs no MarsClock copies; a MarsClock is
+ * only rebuilt when the time has to be formatted.
+ */
+public final class MissionTime {
+
+	/** Units of mission time per millisol. */
+	public static final long UNITS_PER_MILLISOL = 1_000_000L;
+	/** Value used where no time has been recorded. */
+	public static final long NONE = Long.MIN_VALUE;
+
+	private static final long UNITS_PER_SOL = UNITS_PER_MILLISOL * 1000L;
+
+	private MissionTime() {
+		// Static helper class
+	}
+
+	/**
+	 * Gets the mission time of a clock.
+	 *
+	 * @param clock
+	 * @return
+	 */
+	public static long of(MarsClock clock) {
+		return fromMillisols(clock.getTotalMillisols());
+	}
+
+	/**
+	 * Converts total millisols to a mission time.
+	 *
+	 * @param millisols Total millisols since the start of orbit 0
+	 * @return
+	 */
+	public static long fromMillisols(double millisols) {
+		return Math.round(millisols * UNITS_PER_MILLISOL);
+	}
+
+	/**
+	 * Converts a mission time to total millisols.
+	 *
+	 * @param time
+	 * @return
+	 */
+	public static double toMillisols(long time) {
+		return (double) time / UNITS_PER_MILLISOL;
+	}
+
+	/**
+	 * Gets the millisols from one time to a later time.
+	 *
+	 * @param from
+	 * @param to
+	 * @return Millisols which is negative if to is earlier
+	 */
+	public static double millisolsBetween(long from, long to) {
+		return (double) (to - from) / UNITS_PER_MILLISOL;
+	}
+
+	/**
+	 * Has more than an amount of time passed since a recorded time ? A time of
+	 * {@link #NONE} is always considered passed.
+	 *
+	 * @param since Recorded time
+	 * @param now Current time
+	 * @param millisols Period
+	 * @return
+	 */
+	public static boolean hasPassed(long since, long now, double millisols) {
+		return (since == NONE) || (millisolsBetween(since, now) > millisols);
+	}
+
+	/**
+	 * Adds millisols to a time.
+	 *
+	 * @param time
+	 * @param millisols May be negative
+	 * @return
+	 */
+	public static long plus(long time, double millisols) {
+		return time + Math.round(millisols * UNITS_PER_MILLISOL);
+	}
+
+	/**
+	 * Gets the millisol of the day.
+	 *
+	 * @param time
+	 * @return
+	 */
+	public static double getMillisol(long time) {
+		return (double) Math.floorMod(time, UNITS_PER_SOL) / UNITS_PER_MILLISOL;
+	}
+
+	/**
+	 * Gets the integer millisol of the day.
+	 *
+	 * @param time
+	 * @return
+	 */
+	public static int getMillisolInt(long time) {
+		return (int) (Math.floorMod(time, UNITS_PER_SOL) / UNITS_PER_MILLISOL);
+	}
+
+	/**
+	 * Rebuilds a fixed MarsClock for a mission time.
+	 *
+	 * @param time
+	 * @param missionSol The mission sol of the time
+	 * @return
+	 */
+	public static MarsClock toMarsClock(long time, int missionSol) {
+		return MarsClock.fromTotalMillisols(toMillisols(time), missionSol);
+	}
+
+	/**
+	 * Formats a mission time in the format of e.g. "03-Adir-05:056.349".
+	 *
+	 * @param time
+	 * @return
+	 */
+	public static String format(long time) {
+		return MarsClockFormat.getDateTimeStamp(toMarsClock(time, 0));
+	}
+}
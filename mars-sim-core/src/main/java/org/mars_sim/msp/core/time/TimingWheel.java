@@ -0,0 +1,233 @@
+/*
+ * Mars Simulation Project
+ * TimingWheel.java
+ * @date 2026-10-19
+ * @author agent
+ */
+package org.mars_sim.msp.core.time;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Runs work at set times of the mission rather than having every component
+ * check the time on each pulse. Events are held in a hierarchical timing
+ * wheel with a tick of one millisol: level 0 has a slot for each of the next
+ * 64 ticks, each slot of level 1 covers 64 ticks and so on. When the slots of
+ * a level have all been passed, the next slot of the level above is spread
+ * over them. Only the slots of the ticks that have passed are looked at, so
+ * an event costs nothing until it is nearly due.
+ */
+public class TimingWheel implements Serializable {
+
+	private static final long serialVersionUID = 1L;
+
+	/**
+	 * Work done when an event is due.
+	 */
+	public interface Handler extends Serializable {
+
+		/**
+		 * Runs the event.
+		 *
+		 * @param pulse The pulse during which the event is due
+		 */
+		void execute(ClockPulse pulse);
+	}
+
+	/**
+	 * An event in the wheel. It can be cancelled by the component that
+	 * scheduled it.
+	 */
+	public static final class Event implements Serializable {
+
+		private static final long serialVersionUID = 1L;
+
+		private final Handler handler;
+		private final long period;
+		private long due;
+		private boolean cancelled = false;
+
+		private Event(Handler handler, long due, long period) {
+			this.handler = handler;
+			this.due = due;
+			this.period = period;
+		}
+
+		/**
+		 * Stops the event from running again.
+		 */
+		public void cancel() {
+			cancelled = true;
+		}
+
+		public boolean isCancelled() {
+			return cancelled;
+		}
+
+		/**
+		 * Gets when the event is next due.
+		 *
+		 * @return Total millisols
+		 */
+		public long getDue() {
+			return due;
+		}
+	}
+
+	private static final int SLOT_BITS = 6;
+	private static final int SLOTS = 1 << SLOT_BITS;
+	private static final int MASK = SLOTS - 1;
+	private static final int LEVELS = 4;
+
+	private final List<List<Event>> slots = new ArrayList<>(LEVELS * SLOTS);
+	// Events too far ahead for the top level
+	private List<Event> overflow = new ArrayList<>();
+	// Last tick processed
+	private long current;
+	private int size = 0;
+
+	/**
+	 * Constructor.
+	 *
+	 * @param millisols Total millisols of the mission now
+	 */
+	public TimingWheel(double millisols) {
+		current = (long) millisols;
+		for (int i = 0; i < LEVELS * SLOTS; i++) {
+			slots.add(new ArrayList<>());
+		}
+	}
+
+	/**
+	 * Schedules an event to run once.
+	 *
+	 * @param handler
+	 * @param delay Millisols from now
+	 * @return
+	 */
+	public Event schedule(Handler handler, double delay) {
+		return schedule(handler, delay, 0D);
+	}
+
+	/**
+	 * Schedules an event to run after a delay and then repeatedly.
+	 *
+	 * @param handler
+	 * @param delay Millisols from now to the first run
+	 * @param period Millisols between runs; zero to run once
+	 * @return
+	 */
+	public synchronized Event schedule(Handler handler, double delay, double period) {
+		// Never due on a tick already processed
+		long due = current + Math.max(1L, Math.round(delay));
+		long ticks = (period > 0D ? Math.max(1L, Math.round(period)) : 0L);
+		Event event = new Event(handler, due, ticks);
+		insert(event);
+		return event;
+	}
+
+	/**
+	 * Gets the number of events scheduled, including cancelled ones not yet
+	 * reached.
+	 *
+	 * @return
+	 */
+	public synchronized int size() {
+		return size;
+	}
+
+	/**
+	 * Puts an event in the slot for when it is due.
+	 */
+	private void insert(Event event) {
+		long due = Math.max(event.due, current);
+		long delta = due - current;
+		for (int level = 0; level < LEVELS; level++) {
+			if (delta < (1L << (SLOT_BITS * (level + 1)))) {
+				int slot = (int) ((due >>> (SLOT_BITS * level)) & MASK);
+				slots.get(level * SLOTS + slot).add(event);
+				size++;
+				return;
+			}
+		}
+		overflow.add(event);
+		size++;
+	}
+
+	/**
+	 * Runs the events due up to the time of a pulse. Periodic events are
+	 * run once for every period that has passed.
+	 *
+	 * @param pulse
+	 */
+	public void timePassing(ClockPulse pulse) {
+		long target = (long) pulse.getMarsTime().getTotalMillisols();
+		List<Event> due = new ArrayList<>();
+		while (true) {
+			synchronized (this) {
+				if (current >= target) {
+					return;
+				}
+				if (size == 0) {
+					// Nothing to run on the way
+					current = target;
+					return;
+				}
+				current++;
+				cascade();
+				List<Event> slot = slots.get((int) (current & MASK));
+				for (Event e : slot) {
+					size--;
+					if (!e.cancelled) {
+						due.add(e);
+					}
+				}
+				slot.clear();
+			}
+
+			// Run outside the lock as a handler may schedule events
+			for (Event e : due) {
+				e.handler.execute(pulse);
+				if ((e.period > 0) && !e.cancelled) {
+					synchronized (this) {
+						e.due += e.period;
+						insert(e);
+					}
+				}
+			}
+			due.clear();
+		}
+	}
+
+	/**
+	 * Spreads the next slot of each level over the level below once the
+	 * slots below have all been passed.
+	 */
+	private void cascade() {
+		for (int level = 1; level < LEVELS; level++) {
+			if (((current >>> (SLOT_BITS * (level - 1))) & MASK) != 0) {
+				return;
+			}
+			int slot = (int) ((current >>> (SLOT_BITS * level)) & MASK);
+			reinsert(slots.get(level * SLOTS + slot));
+		}
+		if (((current >>> (SLOT_BITS * (LEVELS - 1))) & MASK) == 0) {
+			List<Event> far = overflow;
+			overflow = new ArrayList<>();
+			reinsert(far);
+		}
+	}
+
+	private void reinsert(List<Event> events) {
+		List<Event> moving = new ArrayList<>(events);
+		events.clear();
+		size -= moving.size();
+		for (Event e : moving) {
+			if (!e.cancelled) {
+				insert(e);
+			}
+		}
+	}
+}
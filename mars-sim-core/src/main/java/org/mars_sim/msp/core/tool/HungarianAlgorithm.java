@@ -0,0 +1,103 @@
+/*
+ * Mars Simulation Project
+ * HungarianAlgorithm.java
+ * @date 2026-10-19
+ * @author agent
+ */
+package org.mars_sim.msp.core.tool;
+
+import java.util.Arrays;
+
+/**
+ * Solves the assignment problem: given the cost of giving each row to each
+ * column, find the assignment of rows to distinct columns with the lowest
+ * total cost. This is the Hungarian method with row and column potentials,
+ * which is O(rows^2 * columns).
+ */
+public final class HungarianAlgorithm {
+
+	private HungarianAlgorithm() {
+		// Static helper class
+	}
+
+	/**
+	 * Finds the lowest cost assignment.
+	 *
+	 * @param cost Cost of each row and column pair; there must be no more rows
+	 * 			than columns
+	 * @return The column given to each row
+	 */
+	public static int[] solve(double[][] cost) {
+		int n = cost.length;
+		if (n == 0) {
+			return new int[0];
+		}
+		int m = cost[0].length;
+		if (n > m) {
+			throw new IllegalArgumentException("More rows " + n + " than columns " + m);
+		}
+
+		// Arrays are 1-based; index 0 is a dummy column
+		double[] u = new double[n + 1];
+		double[] v = new double[m + 1];
+		int[] rowOfColumn = new int[m + 1];
+		int[] way = new int[m + 1];
+		double[] minv = new double[m + 1];
+		boolean[] used = new boolean[m + 1];
+
+		for (int i = 1; i <= n; i++) {
+			rowOfColumn[0] = i;
+			int j0 = 0;
+			Arrays.fill(minv, Double.POSITIVE_INFINITY);
+			Arrays.fill(used, false);
+
+			// Grow an alternating path until it reaches a free column
+			do {
+				used[j0] = true;
+				int i0 = rowOfColumn[j0];
+				double delta = Double.POSITIVE_INFINITY;
+				int j1 = 0;
+				for (int j = 1; j <= m; j++) {
+					if (!used[j]) {
+						double cur = cost[i0 - 1][j - 1] - u[i0] - v[j];
+						if (cur < minv[j]) {
+							minv[j] = cur;
+							way[j] = j0;
+						}
+						if (minv[j] < delta) {
+							delta = minv[j];
+							j1 = j;
+						}
+					}
+				}
+				for (int j = 0; j <= m; j++) {
+					if (used[j]) {
+						u[rowOfColumn[j]] += delta;
+						v[j] -= delta;
+					}
+					else {
+						minv[j] -= delta;
+					}
+				}
+				j0 = j1;
+			}
+			while (rowOfColumn[j0] != 0);
+
+			// Flip the path
+			do {
+				int j1 = way[j0];
+				rowOfColumn[j0] = rowOfColumn[j1];
+				j0 = j1;
+			}
+			while (j0 != 0);
+		}
+
+		int[] result = new int[n];
+		for (int j = 1; j <= m; j++) {
+			if (rowOfColumn[j] != 0) {
+				result[rowOfColumn[j] - 1] = j - 1;
+			}
+		}
+		return result;
+	}
+}
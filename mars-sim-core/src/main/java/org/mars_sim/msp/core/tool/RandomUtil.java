@@ -44,7 +44,8 @@ public final class RandomUtil {
 //		return sr.getAlgorithm();
 //	}
 
-	private static final Random random = ThreadLocalRandom.current();
+	private static Random random = ThreadLocalRandom.current();
+	private static boolean seeded = false;
 
 	private RandomUtil() {}
 
@@ -52,6 +53,26 @@ public final class RandomUtil {
 		return random;
 	}
 
+	/**
+	 * Replaces the generator with a seeded one so a run can be repeated. This
+	 * must be called before the simulation is created.
+	 *
+	 * @param seed
+	 */
+	public static void setSeed(long seed) {
+		random = new Random(seed);
+		seeded = true;
+	}
+
+	/**
+	 * Is the generator seeded, i.e. must the draws be made in a repeatable order ?
+	 *
+	 * @return
+	 */
+	public static boolean isSeeded() {
+		return seeded;
+	}
+
 	/**
 	 * Returns true if given number is less than a random percentage.
 	 *
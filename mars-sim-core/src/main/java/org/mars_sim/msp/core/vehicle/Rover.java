@@ -24,10 +24,10 @@ import org.mars_sim.msp.core.data.UnitSet;
 import org.mars_sim.msp.core.equipment.Equipment;
 import org.mars_sim.msp.core.logging.SimLogger;
 import org.mars_sim.msp.core.person.Person;
-import org.mars_sim.msp.core.person.PersonConfig;
 import org.mars_sim.msp.core.person.PhysicalCondition;
 import org.mars_sim.msp.core.person.ai.mission.Mission;
 import org.mars_sim.msp.core.person.ai.mission.MissionType;
+import org.mars_sim.msp.core.person.ai.mission.RoverMission;
 import org.mars_sim.msp.core.person.ai.mission.VehicleMission;
 import org.mars_sim.msp.core.person.ai.task.LoadingController;
 import org.mars_sim.msp.core.person.ai.task.utils.Worker;
@@ -945,28 +945,11 @@ public class Rover extends GroundVehicle implements Crewable, LifeSupportInterfa
 		// Gets the life support resource margin
 		double margin = Vehicle.getLifeSupportRangeErrorMargin();
 
-		// Check food capacity as range limit.
-		PersonConfig personConfig = SimulationConfig.instance().getPersonConfig();
-		double foodConsumptionRate = personConfig.getFoodConsumptionRate();
-		double foodCapacity = getAmountResourceCapacity(FOOD_ID);
-		double foodSols = foodCapacity / (foodConsumptionRate * crewCapacity);
-		double foodRange = distancePerSol * foodSols / margin;
-
-		// Check water capacity as range limit.
-		double waterConsumptionRate = personConfig.getWaterConsumptionRate();
-		double waterCapacity = getAmountResourceCapacity(WATER_ID);
-		double waterSols = waterCapacity / (waterConsumptionRate * crewCapacity);
-		double waterRange = distancePerSol * waterSols / margin;
-//    	if (waterRange < fuelRange) fuelRange = waterRange;
-
-		// Check oxygen capacity as range limit.
-		double oxygenConsumptionRate = personConfig.getNominalO2ConsumptionRate();
-		double oxygenCapacity = getAmountResourceCapacity(OXYGEN_ID);
-		double oxygenSols = oxygenCapacity / (oxygenConsumptionRate * crewCapacity);
-		double oxygenRange = distancePerSol * oxygenSols / margin;
-//    	if (oxygenRange < fuelRange) fuelRange = oxygenRange;
-
-		double max = Math.min(oxygenRange, Math.min(foodRange, Math.min(waterRange, Math.min(missionRange, fuelRange))));
+		// Check life support capacity for a full crew as range limit.
+		double lifeSupportSols = RoverMission.getLifeSupportSols(this, crewCapacity);
+		double lifeSupportRange = distancePerSol * lifeSupportSols / margin;
+
+		double max = Math.min(lifeSupportRange, Math.min(missionRange, fuelRange));
 
 //		String s0 = this + " - " + missionName + " \n";
 //		String s1 = String.format(" Radius : %5.0f km   Fuel : %5.0f km   Dist/sol : %5.0f km   Max : %5.0f km",
@@ -9,6 +9,7 @@ package org.mars_sim.msp.core.vehicle;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
@@ -211,7 +212,7 @@ public abstract class Vehicle extends Unit
 	private VehicleType vehicleType;
 
 	/** A collection of locations that make up the vehicle's trail. */
-	private List<Coordinates> trail;
+	private VehicleTrail trail;
 	/** List of operator activity spots. */
 	private List<LocalPosition> operatorActivitySpots;
 	/** List of passenger activity spots. */
@@ -267,7 +268,7 @@ public abstract class Vehicle extends Unit
 		associatedSettlementID = settlement.getIdentifier();
 
 		direction = new Direction(0);
-		trail = new ArrayList<>();
+		trail = new VehicleTrail(simulationConfig.getVehicleConfiguration().getTrailPoints());
 		statusTypes = new HashSet<>();
 
 		isReservedMission = false;
@@ -556,7 +557,7 @@ public abstract class Vehicle extends Unit
 		setContainerID(associatedSettlementID);
 
 		direction = new Direction(0);
-		trail = new ArrayList<>();
+		trail = new VehicleTrail(simulationConfig.getVehicleConfiguration().getTrailPoints());
 		statusTypes = new HashSet<>();
 
 		// Set description
@@ -1586,10 +1587,10 @@ public abstract class Vehicle extends Unit
 	/**
 	 * Gets the vehicle's trail as a collection of coordinate locations.
 	 *
-	 * @return trail collection
+	 * @return copy of the simplified trail
 	 */
-	public Collection<Coordinates> getTrail() {
-		return trail;
+	public List<Coordinates> getTrail() {
+		return trail.getLocations();
 	}
 
 	/**
@@ -1602,12 +1603,8 @@ public abstract class Vehicle extends Unit
 		if (getSettlement() != null) {
 			if (trail.size() > 0)
 				trail.clear();
-		} else if (trail.size() > 0) {
-			Coordinates lastLocation = trail.get(trail.size() - 1);
-			if (!lastLocation.equals(location) && (lastLocation.getDistance(location) >= 2D))
-				trail.add(new Coordinates(location));
 		} else
-			trail.add(new Coordinates(location));
+			trail.add(location);
 	}
 
 	/**
@@ -1831,6 +1828,18 @@ public abstract class Vehicle extends Unit
 	 * @return
 	 */
 	public static String generateName(String type, ReportingAuthority sponsor) {
+		return generateName(type, sponsor, Collections.emptySet());
+	}
+
+	/**
+	 * Generate a new name for the Vehicle avoiding names reserved for vehicles
+	 * that are not yet registered.
+	 * @param type
+	 * @param sponsor Sponsor.
+	 * @param reserved Names already taken.
+	 * @return
+	 */
+	public static String generateName(String type, ReportingAuthority sponsor, Set<String> reserved) {
 		String result = null;
 		String baseName = type;
 
@@ -1848,6 +1857,7 @@ public abstract class Vehicle extends Unit
 				List<String> usedNames = vehicles.stream()
 								.map(Vehicle::getName).collect(Collectors.toList());
 				availableNames.removeAll(usedNames);
+				availableNames.removeAll(reserved);
 
 				if (!availableNames.isEmpty()) {
 					result = availableNames.get(RandomUtil.getRandomInt(availableNames.size() - 1));
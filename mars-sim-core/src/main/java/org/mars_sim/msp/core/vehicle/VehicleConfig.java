@@ -71,8 +71,13 @@ public class VehicleConfig implements Serializable {
 	private static final String SICKBAY_TYPE = "sickbay";
 	private static final String LAB_TYPE = "lab";
 	private static final String TERRAIN_HANDLING = "terrain-handling";
+	private static final String TRAIL_POINTS = "trail-points";
+
+	/** Most points kept in a vehicle's trail if the config does not say. */
+	private static final int DEFAULT_TRAIL_POINTS = 400;
 
 	private Map<String, VehicleSpec> map;
+	private int trailPoints = DEFAULT_TRAIL_POINTS;
 	
 	/**
 	 * Constructor.
@@ -98,6 +103,11 @@ public class VehicleConfig implements Serializable {
 		Map<String, VehicleSpec> newMap = new HashMap<>();
 		
 		Element root = vehicleDoc.getRootElement();
+		String points = root.getAttributeValue(TRAIL_POINTS);
+		if (points != null) {
+			trailPoints = Integer.parseInt(points);
+		}
+
 		List<Element> vehicleNodes = root.getChildren(VEHICLE);
 		for (Element vehicleElement : vehicleNodes) {
 			String type = vehicleElement.getAttributeValue(TYPE).toLowerCase();
@@ -260,6 +270,15 @@ public class VehicleConfig implements Serializable {
 	public VehicleSpec getVehicleSpec(String vehicleType) {
 		return map.get(vehicleType.toLowerCase());
 	}
+
+	/**
+	 * Gets the most points kept in a vehicle's trail.
+	 * 
+	 * @return number of points
+	 */
+	public int getTrailPoints() {
+		return trailPoints;
+	}
 	
 	/**
 	 * Prepares object for garbage collection. or simulation reboot.
@@ -0,0 +1,202 @@
+/*
+ * Mars Simulation Project
+ * VehicleTrail.java
+ * @date 2026-10-19
+ * @author agent
+ */
+package org.mars_sim.msp.core.vehicle;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.mars_sim.msp.core.Coordinates;
+
+/**
+ * The trail left by a vehicle on the surface. Locations are held as packed
+ * float phi and theta pairs. When the trail reaches its maximum number of
+ * points it is simplified with the Douglas-Peucker algorithm, doubling the
+ * tolerance each time until it fits, so the memory used is bounded however
+ * long the vehicle travels.
+ */
+public class VehicleTrail implements Serializable {
+
+	private static final long serialVersionUID = 1L;
+
+	/** Minimum distance (km) between two points of the trail. */
+	private static final double MIN_SPACING = 2D;
+	/** Tolerance (km) of the first simplification. */
+	private static final double INITIAL_TOLERANCE = 0.25D;
+	/** Simplifying stops once the trail is at most this fraction of the maximum. */
+	private static final double TARGET_FRACTION = 0.75D;
+	private static final double TWO_PI = Math.PI * 2D;
+
+	private int maxPoints;
+	private int size = 0;
+	private float[] phi = new float[16];
+	private float[] theta = new float[16];
+	private double tolerance = INITIAL_TOLERANCE;
+
+	/**
+	 * Constructor.
+	 *
+	 * @param maxPoints Maximum number of points kept
+	 */
+	public VehicleTrail(int maxPoints) {
+		if (maxPoints < 3) {
+			throw new IllegalArgumentException("Trail must hold at least 3 points");
+		}
+		this.maxPoints = maxPoints;
+	}
+
+	/**
+	 * Adds a location to the end of the trail if it is far enough from the
+	 * last one.
+	 *
+	 * @param location
+	 */
+	public synchronized void add(Coordinates location) {
+		if ((size > 0) && (getLocation(size - 1).getDistance(location) < MIN_SPACING)) {
+			return;
+		}
+
+		if (size == phi.length) {
+			int capacity = Math.min(maxPoints, size * 2);
+			phi = Arrays.copyOf(phi, capacity);
+			theta = Arrays.copyOf(theta, capacity);
+		}
+		phi[size] = (float) location.getPhi();
+		theta[size] = (float) location.getTheta();
+		size++;
+
+		if (size == maxPoints) {
+			int target = (int) (maxPoints * TARGET_FRACTION);
+			simplify();
+			while (size > target) {
+				tolerance *= 2D;
+				simplify();
+			}
+		}
+	}
+
+	/**
+	 * Removes all points. The tolerance returns to the initial value.
+	 */
+	public synchronized void clear() {
+		size = 0;
+		tolerance = INITIAL_TOLERANCE;
+	}
+
+	public synchronized int size() {
+		return size;
+	}
+
+	/**
+	 * Gets a copy of the points of the trail.
+	 *
+	 * @return
+	 */
+	public synchronized List<Coordinates> getLocations() {
+		List<Coordinates> result = new ArrayList<>(size);
+		for (int i = 0; i < size; i++) {
+			result.add(getLocation(i));
+		}
+		return result;
+	}
+
+	private Coordinates getLocation(int i) {
+		return new Coordinates(phi[i], theta[i]);
+	}
+
+	/**
+	 * Removes the points that are within the tolerance of the line between
+	 * the points kept either side of them. The first and last points are
+	 * always kept.
+	 */
+	private void simplify() {
+		boolean[] keep = new boolean[size];
+		keep[0] = true;
+		keep[size - 1] = true;
+
+		// Iterative rather than recursive to bound the stack
+		int[] stack = new int[2 * size];
+		int top = 0;
+		stack[top++] = 0;
+		stack[top++] = size - 1;
+		while (top > 0) {
+			int last = stack[--top];
+			int first = stack[--top];
+
+			int furthest = -1;
+			double maxDistance = tolerance;
+			for (int i = first + 1; i < last; i++) {
+				double d = getOffset(first, last, i);
+				if (d > maxDistance) {
+					maxDistance = d;
+					furthest = i;
+				}
+			}
+
+			if (furthest > 0) {
+				keep[furthest] = true;
+				stack[top++] = first;
+				stack[top++] = furthest;
+				stack[top++] = furthest;
+				stack[top++] = last;
+			}
+		}
+
+		int kept = 0;
+		for (int i = 0; i < size; i++) {
+			if (keep[i]) {
+				phi[kept] = phi[i];
+				theta[kept] = theta[i];
+				kept++;
+			}
+		}
+		size = kept;
+	}
+
+	/**
+	 * Gets the distance of a point from the line between two others. Trails
+	 * are local so the surface is taken as flat around the first point.
+	 *
+	 * @param a Index of the start of the line
+	 * @param b Index of the end of the line
+	 * @param p Index of the point
+	 * @return Distance (km)
+	 */
+	private double getOffset(int a, int b, int p) {
+		double scale = Math.sin(phi[a]);
+		double bx = wrap(theta[b] - theta[a]) * scale;
+		double by = phi[b] - phi[a];
+		double px = wrap(theta[p] - theta[a]) * scale;
+		double py = phi[p] - phi[a];
+
+		double lengthSq = bx * bx + by * by;
+		double offset;
+		if (lengthSq == 0D) {
+			offset = Math.hypot(px, py);
+		}
+		else {
+			// Distance to the nearest point of the segment
+			double t = Math.max(0D, Math.min(1D, (px * bx + py * by) / lengthSq));
+			offset = Math.hypot(px - t * bx, py - t * by);
+		}
+		return offset * Coordinates.MARS_RADIUS_KM;
+	}
+
+	/**
+	 * Brings a difference of theta into -PI to PI.
+	 */
+	private static double wrap(double dTheta) {
+		if (dTheta > Math.PI) {
+			return dTheta - TWO_PI;
+		}
+		if (dTheta < -Math.PI) {
+			return dTheta + TWO_PI;
+		}
+		return dTheta;
+	}
+}
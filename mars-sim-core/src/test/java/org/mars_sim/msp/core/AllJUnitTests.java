@@ -26,27 +26,39 @@ public class AllJUnitTests extends TestCase {
 		
 		TestSuite suite = new TestSuite(AllJUnitTests.class);
 		
+		suite.addTestSuite(org.mars_sim.msp.core.TestUnitManager.class);
 		suite.addTestSuite(org.mars_sim.msp.core.TestCoordinates.class);
 //		suite.addTestSuite(org.mars_sim.msp.core.TestInventory.class);
 		suite.addTestSuite(org.mars_sim.msp.core.TestLocalAreaUtil.class);
+		suite.addTestSuite(org.mars_sim.msp.core.air.TestAirComposition.class);
+		suite.addTestSuite(org.mars_sim.msp.core.configuration.TestConfigCache.class);
+		suite.addTestSuite(org.mars_sim.msp.core.data.TestSolMetricSeries.class);
 		suite.addTestSuite(org.mars_sim.msp.core.equipment.JUnitTests.class);
 		suite.addTestSuite(org.mars_sim.msp.core.events.JUnitTests.class);
+		suite.addTestSuite(org.mars_sim.msp.core.logging.TestLatencyHistogram.class);
+		suite.addTestSuite(org.mars_sim.msp.core.logging.TestLogRingBuffer.class);
 //		suite.addTestSuite(org.mars_sim.msp.core.malfunction.TestMalfunctionManager.class);
+		suite.addTestSuite(org.mars_sim.msp.core.malfunction.TestWearFailure.class);
 		suite.addTestSuite(org.mars_sim.msp.core.person.JUnitTests.class);
 		suite.addTestSuite(org.mars_sim.msp.core.person.ai.JUnitTests.class);
 		suite.addTestSuite(org.mars_sim.msp.core.person.ai.mission.JUnitTests.class);
+		suite.addTestSuite(org.mars_sim.msp.core.person.ai.social.TestOpinionMatrix.class);
 		suite.addTest(org.mars_sim.msp.core.person.ai.task.JUnitTests.suite());
 		suite.addTestSuite(org.mars_sim.msp.core.person.medical.JUnitTests.class);
 		suite.addTestSuite(org.mars_sim.msp.core.resource.TestAmountResourceStorage.class);
 		suite.addTestSuite(org.mars_sim.msp.core.resource.TestAmountResourcePhaseStorage.class);
 		suite.addTestSuite(org.mars_sim.msp.core.resource.TestAmountResourceTypeStorage.class);
 		suite.addTestSuite(org.mars_sim.msp.core.resource.TestItemResource.class);
+		suite.addTestSuite(org.mars_sim.msp.core.resource.TestProcessIndex.class);
 		suite.addTestSuite(org.mars_sim.msp.core.structure.JUnitTests.class);
 		suite.addTestSuite(org.mars_sim.msp.core.structure.building.JUnitTests.class);
 		suite.addTest(org.mars_sim.msp.core.structure.building.connection.JUnitTests.suite());
 		suite.addTest(org.mars_sim.msp.core.structure.construction.JUnitTests.suite());
 		suite.addTestSuite(org.mars_sim.msp.core.structure.goods.TestGoods.class);
 		suite.addTestSuite(org.mars_sim.msp.core.structure.goods.TestCreditManager.class);
+		suite.addTestSuite(org.mars_sim.msp.core.time.TestMissionTime.class);
+		suite.addTestSuite(org.mars_sim.msp.core.time.TestTimingWheel.class);
+		suite.addTestSuite(org.mars_sim.msp.core.tool.TestHungarianAlgorithm.class);
 		suite.addTestSuite(org.mars_sim.msp.core.vehicle.JUnitTests.class);
 
 		return suite;
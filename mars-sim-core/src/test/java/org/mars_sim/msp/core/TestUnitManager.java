@@ -0,0 +1,50 @@
+package org.mars_sim.msp.core;
+
+import org.mars_sim.msp.core.person.Person;
+import org.mars_sim.msp.core.person.ai.task.AbstractMarsSimUnitTest;
+import org.mars_sim.msp.core.structure.Settlement;
+
+/**
+ * Unit test suite for the look ups of the UnitManager class.
+ */
+public class TestUnitManager extends AbstractMarsSimUnitTest {
+
+	/**
+	 * Test units are found by identifier and only as their own type.
+	 */
+	public void testLookupById() {
+		Settlement settlement = buildSettlement();
+		Person person = buildPerson("Tester", settlement);
+
+		assertEquals("Settlement by id", settlement, unitManager.getSettlementByID(settlement.getIdentifier()));
+		assertEquals("Unit by id", person, unitManager.getUnitByID(person.getIdentifier()));
+		assertEquals("Person by id", person, unitManager.getPersonByID(person.getIdentifier()));
+		assertNull("Wrong type", unitManager.getRobotByID(person.getIdentifier()));
+		assertNull("Unknown", unitManager.getPersonByID(person.getIdentifier() + (1000 << 4)));
+
+		unitManager.removeUnit(person);
+		assertNull("Removed", unitManager.getPersonByID(person.getIdentifier()));
+	}
+
+	/**
+	 * Test settlements are found by name and location.
+	 */
+	public void testSettlementIndexes() {
+		Settlement settlement = buildSettlement();
+		String name = settlement.getName();
+		Coordinates location = settlement.getCoordinates();
+
+		assertEquals("By name", settlement, CollectionUtils.findSettlement(name));
+		assertEquals("Id by name", settlement.getIdentifier(), CollectionUtils.findSettlementID(name));
+		assertEquals("By location", settlement, CollectionUtils.findSettlement(location));
+		assertNull("Elsewhere", unitManager.getSettlementByLocation(new Coordinates(1D, 1D)));
+
+		settlement.changeName("Renamed");
+		assertEquals("New name", settlement, unitManager.getSettlementByName("Renamed"));
+		assertNull("Old name", unitManager.getSettlementByName(name));
+
+		unitManager.removeUnit(settlement);
+		assertNull("Removed by name", unitManager.getSettlementByName("Renamed"));
+		assertNull("Removed by location", unitManager.getSettlementByLocation(location));
+	}
+}
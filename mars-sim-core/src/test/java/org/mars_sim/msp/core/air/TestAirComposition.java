@@ -0,0 +1,66 @@
+package org.mars_sim.msp.core.air;
+
+import org.mars_sim.msp.core.SimulationConfig;
+import org.mars_sim.msp.core.resource.ResourceUtil;
+
+import junit.framework.TestCase;
+
+/**
+ * Unit test suite for the breathing of occupants in the AirComposition class.
+ */
+public class TestAirComposition extends TestCase {
+
+	private static final double ROOM_TEMP = 22D;
+	private static final double VOLUME = 100_000D;
+	private static final double O2_PER_PULSE = 0.001D;
+	private static final double DELTA = 0.000_000_1D;
+
+	private AirComposition air;
+
+	@Override
+	public void setUp() {
+		SimulationConfig config = SimulationConfig.instance();
+		config.loadConfig();
+		ResourceUtil.getInstance();
+
+		air = new AirComposition(AirComposition.C_TO_K + ROOM_TEMP, VOLUME);
+	}
+
+	private double getO2() {
+		return air.getGas(ResourceUtil.oxygenID).getMass();
+	}
+
+	/**
+	 * Test the demand is settled against the oxygen in the air.
+	 */
+	public void testInRange() {
+		double start = getO2();
+
+		air.breathe(O2_PER_PULSE, 1D);
+		assertTrue("In range", air.updateOccupants(ROOM_TEMP, 1D));
+		assertEquals("Not settled yet", start, getO2(), DELTA);
+
+		air.breathe(O2_PER_PULSE, 1D);
+		air.updateOccupants(ROOM_TEMP, 1D);
+		assertEquals("Settled", start - 2 * O2_PER_PULSE, getO2(), DELTA);
+		assertEquals("All supplied", 1D, air.getO2SupplyRatio(), DELTA);
+	}
+
+	/**
+	 * Test the demand during a cold spell is not settled once it is warm again.
+	 */
+	public void testOutOfRange() {
+		double start = getO2();
+
+		for (int i = 0; i < 1000; i++) {
+			air.breathe(O2_PER_PULSE, 1D);
+			assertFalse("Too cold", air.updateOccupants(-60D, 1D));
+		}
+		assertEquals("Untouched while cold", start, getO2(), DELTA);
+
+		air.breathe(O2_PER_PULSE, 1D);
+		air.updateOccupants(ROOM_TEMP, 1D);
+		assertEquals("Only the last pulse", start - O2_PER_PULSE, getO2(), DELTA);
+		assertEquals("All supplied", 1D, air.getO2SupplyRatio(), DELTA);
+	}
+}
@@ -0,0 +1,212 @@
+package org.mars_sim.msp.core.configuration;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.xml.XMLConstants;
+
+import org.jdom2.Attribute;
+import org.jdom2.Content;
+import org.jdom2.Document;
+import org.jdom2.Element;
+import org.jdom2.JDOMException;
+import org.jdom2.Text;
+import org.jdom2.input.SAXBuilder;
+
+import junit.framework.TestCase;
+
+/**
+ * Unit test suite for the ConfigCache class.
+ */
+public class TestConfigCache extends TestCase {
+
+	private static final String BUILD = "test";
+
+	/** The config files SimulationConfig loads through the cache. */
+	private static final String[] BUNDLED = {"resources", "parts", "part_packages", "people", "medical",
+			"landmarks", "minerals", "malfunctions", "crops", "vehicles", "buildings", "resupplies",
+			"settlements", "manufacturing", "construction", "foodProduction", "meals", "robots",
+			"quotations"};
+
+	private static final String SAMPLE = "<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n"
+			+ "<!DOCTYPE sample [\n"
+			+ "	<!ELEMENT sample (item*)>\n"
+			+ "	<!ELEMENT item (#PCDATA)>\n"
+			+ "	<!ATTLIST item name CDATA #REQUIRED>\n"
+			+ "	<!ATTLIST item size CDATA \"small\">\n"
+			+ "]>\n"
+			+ "<sample>\n"
+			+ "	<!-- Comments are not kept -->\n"
+			+ "	<item name=\"first\">one</item>\n"
+			+ "	<item name=\"second\" size=\"large\">two</item>\n"
+			+ "</sample>\n";
+
+	private File dir;
+
+	@Override
+	protected void setUp() throws IOException {
+		dir = Files.createTempDirectory("configcache").toFile();
+	}
+
+	@Override
+	protected void tearDown() {
+		File[] files = dir.listFiles();
+		if (files != null) {
+			for (File f : files) {
+				f.delete();
+			}
+		}
+		dir.delete();
+	}
+
+	/**
+	 * Test every bundled config file comes back from the cache unchanged.
+	 */
+	public void testBundledRoundTrip() throws IOException, JDOMException {
+		Map<String, File> sources = new HashMap<>();
+		for (String name : BUNDLED) {
+			File xml = new File(dir, name + ".xml");
+			try (InputStream in = getClass().getResourceAsStream("/xml/" + name + ".xml")) {
+				assertNotNull("Bundled " + name, in);
+				Files.copy(in, xml.toPath(), StandardCopyOption.REPLACE_EXISTING);
+			}
+			sources.put(name, xml);
+		}
+
+		Map<String, Document> parsed = parseAll(sources);
+		ConfigCache cache = new ConfigCache(new File(dir, "config.cache"), BUILD);
+		cache.save(sources, parsed);
+
+		Map<String, Document> loaded = cache.load(sources);
+		assertNotNull("Cache loaded", loaded);
+		assertEquals("Number of documents", parsed.size(), loaded.size());
+		for (String name : BUNDLED) {
+			assertNotNull("Cached " + name, loaded.get(name));
+			compareElement(name, parsed.get(name).getRootElement(), loaded.get(name).getRootElement());
+		}
+	}
+
+	/**
+	 * Test attributes defaulted by the DTD are kept.
+	 */
+	public void testDefaultedAttributes() throws IOException, JDOMException {
+		Map<String, File> sources = writeSample(SAMPLE);
+		ConfigCache cache = new ConfigCache(new File(dir, "config.cache"), BUILD);
+		cache.save(sources, parseAll(sources));
+
+		Element root = cache.load(sources).get("sample").getRootElement();
+		List<Element> items = root.getChildren("item");
+		assertEquals("Items", 2, items.size());
+		assertEquals("Defaulted size", "small", items.get(0).getAttributeValue("size"));
+		assertEquals("Given size", "large", items.get(1).getAttributeValue("size"));
+		assertEquals("Text", "one", items.get(0).getText());
+	}
+
+	/**
+	 * Test a changed XML file means the cache is not used.
+	 */
+	public void testChangedFile() throws IOException, JDOMException {
+		Map<String, File> sources = writeSample(SAMPLE);
+		ConfigCache cache = new ConfigCache(new File(dir, "config.cache"), BUILD);
+		cache.save(sources, parseAll(sources));
+		assertNotNull("Cache matches", cache.load(sources));
+
+		writeSample(SAMPLE.replace("one", "uno"));
+		assertNull("Cache after file changed", cache.load(sources));
+	}
+
+	/**
+	 * Test a different build or a damaged key means the cache is not used.
+	 */
+	public void testChangedKey() throws IOException, JDOMException {
+		Map<String, File> sources = writeSample(SAMPLE);
+		File cacheFile = new File(dir, "config.cache");
+		new ConfigCache(cacheFile, BUILD).save(sources, parseAll(sources));
+
+		assertNull("Cache from another build", new ConfigCache(cacheFile, BUILD + "1").load(sources));
+
+		// Alter the first character of the stored hash
+		byte[] content = Files.readAllBytes(cacheFile.toPath());
+		int keyStart = 4 + 4 + 2;
+		content[keyStart] = (byte) (content[keyStart] == '0' ? '1' : '0');
+		Files.write(cacheFile.toPath(), content);
+		assertNull("Cache with a damaged hash", new ConfigCache(cacheFile, BUILD).load(sources));
+	}
+
+	private Map<String, File> writeSample(String content) throws IOException {
+		File xml = new File(dir, "sample.xml");
+		Files.write(xml.toPath(), content.getBytes(StandardCharsets.UTF_8));
+		Map<String, File> sources = new HashMap<>();
+		sources.put("sample", xml);
+		return sources;
+	}
+
+	/**
+	 * Parses the files the same way as SimulationConfig.
+	 */
+	private static Map<String, Document> parseAll(Map<String, File> sources) throws IOException, JDOMException {
+		Map<String, Document> result = new HashMap<>();
+		for (Map.Entry<String, File> e : sources.entrySet()) {
+			SAXBuilder builder = new SAXBuilder();
+			builder.setProperty(XMLConstants.ACCESS_EXTERNAL_DTD, "");
+			builder.setProperty(XMLConstants.ACCESS_EXTERNAL_SCHEMA, "");
+			result.put(e.getKey(), builder.build(e.getValue()));
+		}
+		return result;
+	}
+
+	/**
+	 * Compares the names, attributes, text and child elements of two elements.
+	 */
+	private static void compareElement(String path, Element expected, Element actual) {
+		path = path + "/" + expected.getName();
+		assertEquals("Name at " + path, expected.getName(), actual.getName());
+
+		Map<String, String> expectedAttrs = new HashMap<>();
+		for (Attribute a : expected.getAttributes()) {
+			expectedAttrs.put(a.getName(), a.getValue());
+		}
+		Map<String, String> actualAttrs = new HashMap<>();
+		for (Attribute a : actual.getAttributes()) {
+			actualAttrs.put(a.getName(), a.getValue());
+		}
+		assertEquals("Attributes at " + path, expectedAttrs, actualAttrs);
+
+		List<Content> expectedContent = getContent(expected);
+		List<Content> actualContent = getContent(actual);
+		assertEquals("Content at " + path, expectedContent.size(), actualContent.size());
+		for (int i = 0; i < expectedContent.size(); i++) {
+			Content e = expectedContent.get(i);
+			Content a = actualContent.get(i);
+			if (e instanceof Element) {
+				assertTrue("Element at " + path + "[" + i + "]", a instanceof Element);
+				compareElement(path, (Element) e, (Element) a);
+			}
+			else {
+				assertTrue("Text at " + path + "[" + i + "]", a instanceof Text);
+				assertEquals("Text at " + path + "[" + i + "]", ((Text) e).getText(), ((Text) a).getText());
+			}
+		}
+	}
+
+	/**
+	 * Gets the content that the cache keeps.
+	 */
+	private static List<Content> getContent(Element element) {
+		List<Content> result = new ArrayList<>();
+		for (Content c : element.getContent()) {
+			if ((c instanceof Text) || (c instanceof Element)) {
+				result.add(c);
+			}
+		}
+		return result;
+	}
+}
@@ -0,0 +1,105 @@
+package org.mars_sim.msp.core.data;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+
+import junit.framework.TestCase;
+
+/**
+ * Unit test suite for the SolMetricSeries class.
+ */
+public class TestSolMetricSeries extends TestCase {
+
+	private static final double DELTA = 0.0000001D;
+
+	/**
+	 * Test values are retained per sol and the oldest are dropped.
+	 */
+	public void testRollover() {
+		SolMetricSeries series = new SolMetricSeries(3);
+		int a = series.addMetric();
+		int b = series.addMetric();
+
+		for (int sol = 1; sol <= 5; sol++) {
+			series.rollTo(sol);
+			series.increase(a, sol);
+			series.increase(b, sol * 10D);
+		}
+
+		assertEquals("Sols retained", 3, series.getNumSols());
+		assertEquals("Earliest sol", 3, series.getEarliestSol());
+		assertEquals("Dropped sol", 0D, series.getValue(a, 2), DELTA);
+		assertEquals("Sol 3 value", 3D, series.getValue(a, 3), DELTA);
+		assertEquals("Latest value", 50D, series.getLatest(b), DELTA);
+		assertEquals("Completed total", 7D, series.getCompletedTotal(a), DELTA);
+	}
+
+	/**
+	 * Test skipped sols are recorded as zero.
+	 */
+	public void testSkippedSols() {
+		SolMetricSeries series = new SolMetricSeries(4);
+		int a = series.addMetric();
+
+		series.rollTo(1);
+		series.increase(a, 5D);
+		series.rollTo(3);
+		series.increase(a, 1D);
+
+		assertEquals("Skipped sol", 0D, series.getValue(a, 2), DELTA);
+		assertEquals("Sol 1 value", 5D, series.getValue(a, 1), DELTA);
+		assertEquals("Completed total", 5D, series.getCompletedTotal(a), DELTA);
+
+		series.rollTo(20);
+		assertEquals("Completed total after long gap", 0D, series.getCompletedTotal(a), DELTA);
+		assertEquals("Sols retained", 4, series.getNumSols());
+	}
+
+	/**
+	 * Test the daily average scales the latest sol by the msol.
+	 */
+	public void testDailyAverage() {
+		SolMetricSeries series = new SolMetricSeries(5);
+		int a = series.addMetric();
+
+		series.rollTo(1);
+		series.increase(a, 10D);
+		series.rollTo(2);
+		series.increase(a, 5D);
+
+		// Sol 2 is half way through so it scales to 10
+		assertEquals("Daily average", 10D, series.getDailyAverage(a, 500), DELTA);
+	}
+
+	/**
+	 * Test the compact serialized form restores the series.
+	 */
+	public void testSerialization() throws Exception {
+		SolMetricSeries series = new SolMetricSeries(3);
+		int a = series.addMetric();
+		for (int sol = 1; sol <= 4; sol++) {
+			series.rollTo(sol);
+			series.increase(a, sol);
+		}
+
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+			out.writeObject(series);
+		}
+		SolMetricSeries copy;
+		try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+			copy = (SolMetricSeries) in.readObject();
+		}
+
+		assertEquals("Latest sol", 4, copy.getLatestSol());
+		assertEquals("Sol 2 value", 2D, copy.getValue(a, 2), DELTA);
+		assertEquals("Completed total", 5D, copy.getCompletedTotal(a), DELTA);
+
+		copy.rollTo(5);
+		copy.increase(a, 5D);
+		assertEquals("Dropped sol", 0D, copy.getValue(a, 2), DELTA);
+		assertEquals("Completed total after roll", 7D, copy.getCompletedTotal(a), DELTA);
+	}
+}
@@ -0,0 +1,44 @@
+package org.mars_sim.msp.core.logging;
+
+import junit.framework.TestCase;
+
+/**
+ * Unit test suite for the LatencyHistogram class.
+ */
+public class TestLatencyHistogram extends TestCase {
+
+	/**
+	 * Test every value falls within the bounds of its bucket.
+	 */
+	public void testBuckets() {
+		long[] values = {0, 1, 15, 16, 17, 31, 32, 1000, 123456789L, Long.MAX_VALUE};
+		for (long v : values) {
+			int bucket = LatencyHistogram.getBucket(v);
+			assertTrue("Value " + v + " within upper bound", v <= LatencyHistogram.getUpperBound(bucket));
+			if (bucket > 0) {
+				assertTrue("Value " + v + " above previous bucket", v > LatencyHistogram.getUpperBound(bucket - 1));
+			}
+		}
+	}
+
+	/**
+	 * Test the summary statistics.
+	 */
+	public void testPercentiles() {
+		LatencyHistogram h = new LatencyHistogram();
+		for (int i = 1; i <= 100; i++) {
+			h.record(i * 1000L);
+		}
+		assertEquals("Count", 100, h.getCount());
+		assertEquals("Max", 100000L, h.getMax());
+		assertEquals("Mean", 50500D, h.getMean(), 0.001D);
+
+		long p50 = h.getPercentile(50);
+		assertTrue("p50 near median " + p50, (p50 >= 50000L) && (p50 <= 50000L * 107 / 100));
+		assertEquals("p100 is max", 100000L, h.getPercentile(100));
+
+		h.reset();
+		assertEquals("Reset count", 0, h.getCount());
+		assertEquals("Reset percentile", 0, h.getPercentile(99));
+	}
+}
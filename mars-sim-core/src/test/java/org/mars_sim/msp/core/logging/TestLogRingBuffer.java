@@ -0,0 +1,83 @@
+package org.mars_sim.msp.core.logging;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import junit.framework.TestCase;
+
+/**
+ * Unit test suite for the LogRingBuffer class.
+ */
+public class TestLogRingBuffer extends TestCase {
+
+	/**
+	 * Test items come out in order and a full buffer refuses new items.
+	 */
+	public void testOrderAndCapacity() {
+		LogRingBuffer<Integer> buffer = new LogRingBuffer<>(4);
+		assertEquals("Capacity", 4, buffer.capacity());
+		assertTrue("Empty", buffer.isEmpty());
+
+		for (int i = 0; i < 4; i++) {
+			assertTrue("Offer " + i, buffer.offer(i));
+		}
+		assertFalse("Full buffer", buffer.offer(99));
+
+		assertEquals("First item", Integer.valueOf(0), buffer.poll());
+		assertTrue("Offer after poll", buffer.offer(4));
+
+		for (int i = 1; i <= 4; i++) {
+			assertEquals("Item " + i, Integer.valueOf(i), buffer.poll());
+		}
+		assertNull("Nothing left", buffer.poll());
+		assertTrue("Empty at end", buffer.isEmpty());
+	}
+
+	/**
+	 * Test items from several producers are all delivered.
+	 */
+	public void testConcurrentProducers() throws InterruptedException {
+		final int producers = 4;
+		final int perProducer = 10_000;
+		LogRingBuffer<Integer> buffer = new LogRingBuffer<>(64);
+
+		List<Thread> threads = new ArrayList<>();
+		for (int p = 0; p < producers; p++) {
+			final int base = p * perProducer;
+			Thread t = new Thread(() -> {
+				for (int i = 0; i < perProducer; i++) {
+					while (!buffer.offer(base + i)) {
+						Thread.yield();
+					}
+				}
+			});
+			threads.add(t);
+			t.start();
+		}
+
+		Set<Integer> received = new HashSet<>();
+		int[] lastPerProducer = new int[producers];
+		Arrays.fill(lastPerProducer, -1);
+		while (received.size() < producers * perProducer) {
+			Integer item = buffer.poll();
+			if (item == null) {
+				Thread.yield();
+				continue;
+			}
+			assertTrue("Duplicate " + item, received.add(item));
+
+			// Each producer's items keep their order
+			int p = item / perProducer;
+			assertTrue("Order of " + item, item > lastPerProducer[p]);
+			lastPerProducer[p] = item;
+		}
+
+		for (Thread t : threads) {
+			t.join();
+		}
+		assertTrue("Empty at end", buffer.isEmpty());
+	}
+}
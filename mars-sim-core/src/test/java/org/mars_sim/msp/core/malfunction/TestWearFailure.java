@@ -0,0 +1,58 @@
+package org.mars_sim.msp.core.malfunction;
+
+import junit.framework.TestCase;
+
+/**
+ * Unit test suite for the scheduling of malfunctions due to wear.
+ */
+public class TestWearFailure extends TestCase {
+
+	private static final double BASE_LIFE = 20_000D;
+
+	/**
+	 * Adds up the chance of a malfunction each millisol as it used to be
+	 * tested every pulse.
+	 */
+	private static double getHazardByStep(double time, double effectiveTime, double life) {
+		double hazard = 0D;
+		for (double t = 0D; t < time; t += 1D) {
+			double e = effectiveTime + t + 0.5D;
+			double condition = Math.max(0D, (life - t - 0.5D) / BASE_LIFE * 100D);
+			double maintFactor = e * .000_000_001D;
+			double wearFactor = (100D - condition) / 100D * 5D;
+			hazard += maintFactor * wearFactor / 100D;
+		}
+		return hazard;
+	}
+
+	/**
+	 * Test the time drawn matches the chance tested every pulse.
+	 */
+	public void testMatchesSteps() {
+		double[][] cases = {
+			// Effective time, life left
+			{0D, BASE_LIFE},
+			{5_000D, 12_000D},
+			{1_000D, 500D},
+		};
+
+		for (double[] c : cases) {
+			double time = MalfunctionManager.getTimeToWearFailure(1E-4, c[0], c[1], BASE_LIFE);
+			assertTrue("Time positive", time > 0D);
+			double hazard = getHazardByStep(Math.round(time), c[0], c[1]);
+			assertEquals("Hazard at " + c[0] + "," + c[1], 1E-4, hazard, 2E-6);
+		}
+	}
+
+	/**
+	 * Test more wear brings the malfunction sooner.
+	 */
+	public void testWearShortens() {
+		double fresh = MalfunctionManager.getTimeToWearFailure(1E-3, 0D, BASE_LIFE, BASE_LIFE);
+		double worn = MalfunctionManager.getTimeToWearFailure(1E-3, 0D, BASE_LIFE / 2D, BASE_LIFE);
+		double unmaintained = MalfunctionManager.getTimeToWearFailure(1E-3, 10_000D, BASE_LIFE / 2D, BASE_LIFE);
+
+		assertTrue("Worn sooner", worn < fresh);
+		assertTrue("Unmaintained sooner", unmaintained < worn);
+	}
+}
@@ -0,0 +1,51 @@
+package org.mars_sim.msp.core.person.ai.mission;
+
+import org.mars_sim.msp.core.person.ai.task.AbstractMarsSimUnitTest;
+import org.mars_sim.msp.core.structure.Settlement;
+
+/**
+ * Unit test suite for the MissionFeasibilityCache class.
+ */
+public class TestMissionFeasibilityCache extends AbstractMarsSimUnitTest {
+
+	private int calculations;
+
+	private double calculate(Settlement s) {
+		calculations++;
+		return 10D * calculations;
+	}
+
+	/**
+	 * Test values are shared until they are too old.
+	 */
+	public void testExpiry() {
+		Settlement settlement = buildSettlement();
+		MissionFeasibilityCache cache = new MissionFeasibilityCache();
+		cache.setTime(100D);
+
+		assertEquals("First value", 10D, cache.getMissionValue(MissionType.TRADE, settlement, this::calculate), 0.0001D);
+		assertEquals("Cached value", 10D, cache.getMissionValue(MissionType.TRADE, settlement, this::calculate), 0.0001D);
+		assertEquals("Hits", 1, cache.getHits());
+		assertEquals("Misses", 1, cache.getMisses());
+
+		// Other mission types have their own value
+		assertEquals("Other type", 20D, cache.getMissionValue(MissionType.MINING, settlement, this::calculate), 0.0001D);
+
+		cache.setTime(200D);
+		assertEquals("Expired value", 30D, cache.getMissionValue(MissionType.TRADE, settlement, this::calculate), 0.0001D);
+		assertEquals("Calculations", 3, calculations);
+	}
+
+	/**
+	 * Test clearing a settlement drops its values.
+	 */
+	public void testClear() {
+		Settlement settlement = buildSettlement();
+		MissionFeasibilityCache cache = new MissionFeasibilityCache();
+
+		cache.getMissionValue(MissionType.TRADE, settlement, this::calculate);
+		cache.clear(settlement);
+		assertEquals("Value after clear", 20D, cache.getMissionValue(MissionType.TRADE, settlement, this::calculate), 0.0001D);
+		assertEquals("Hit rate", 0D, cache.getHitRate(), 0.0001D);
+	}
+}
@@ -0,0 +1,62 @@
+package org.mars_sim.msp.core.person.ai.mission;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.mars_sim.msp.core.LocalPosition;
+import org.mars_sim.msp.core.SimulationConfig;
+import org.mars_sim.msp.core.person.PersonConfig;
+import org.mars_sim.msp.core.person.ai.task.AbstractMarsSimUnitTest;
+import org.mars_sim.msp.core.structure.Settlement;
+import org.mars_sim.msp.core.vehicle.Rover;
+
+/**
+ * Unit test suite for the life support estimates of the RoverMission class.
+ */
+public class TestRoverMission extends AbstractMarsSimUnitTest {
+
+	private static final double DELTA = 0.0001D;
+
+	/**
+	 * Test the trip time limit is set by the scarcest life support resource.
+	 */
+	public void testTripTimeLimit() {
+		Settlement settlement = buildSettlement();
+		Rover rover = buildRover(settlement, "Test Rover", LocalPosition.DEFAULT_POSITION);
+		PersonConfig personConfig = SimulationConfig.instance().getPersonConfig();
+
+		int crew = 4;
+		double expected = Double.MAX_VALUE;
+		expected = Math.min(expected, rover.getAmountResourceCapacity(VehicleMission.OXYGEN_ID)
+						/ (personConfig.getNominalO2ConsumptionRate() * crew));
+		expected = Math.min(expected, rover.getAmountResourceCapacity(VehicleMission.WATER_ID)
+						/ (personConfig.getWaterConsumptionRate() * crew));
+		expected = Math.min(expected, rover.getAmountResourceCapacity(VehicleMission.FOOD_ID)
+						/ (personConfig.getFoodConsumptionRate() * crew));
+
+		assertEquals("Sols", expected, RoverMission.getLifeSupportSols(rover, crew), DELTA);
+		assertEquals("Time limit", expected * 1000D, RoverMission.getTotalTripTimeLimit(rover, crew, false), DELTA);
+		assertEquals("Half the crew", 2 * expected, RoverMission.getLifeSupportSols(rover, crew / 2), DELTA);
+	}
+
+	/**
+	 * Test life support resources are added to those already needed and
+	 * nothing is carried over between calls.
+	 */
+	public void testAddLifeSupportResources() {
+		Map<Integer, Number> first = new HashMap<>();
+		RoverMission.addLifeSupportResources(first, 2, 3D, false);
+
+		Map<Integer, Number> second = new HashMap<>();
+		second.put(VehicleMission.OXYGEN_ID, 10D);
+		RoverMission.addLifeSupportResources(second, 2, 3D, false);
+
+		double oxygen = first.get(VehicleMission.OXYGEN_ID).doubleValue();
+		assertTrue("Oxygen needed", oxygen > 0D);
+		assertEquals("Oxygen added", oxygen + 10D, second.get(VehicleMission.OXYGEN_ID).doubleValue(), DELTA);
+		assertEquals("Same water", first.get(VehicleMission.WATER_ID).doubleValue(),
+					 second.get(VehicleMission.WATER_ID).doubleValue(), DELTA);
+		assertEquals("Same food", first.get(VehicleMission.FOOD_ID).doubleValue(),
+					 second.get(VehicleMission.FOOD_ID).doubleValue(), DELTA);
+	}
+}
@@ -0,0 +1,85 @@
+package org.mars_sim.msp.core.person.ai.social;
+
+import junit.framework.TestCase;
+
+/**
+ * Unit test suite for the OpinionMatrix class.
+ */
+public class TestOpinionMatrix extends TestCase {
+
+	private static final double DELTA = 0.0001D;
+
+	/**
+	 * Test opinions survive the matrix growing and freed slots are reused.
+	 */
+	public void testGrowAndReuse() {
+		OpinionMatrix matrix = new OpinionMatrix();
+		int first = matrix.addMember(100);
+		int second = matrix.addMember(101);
+		matrix.set(first, second, 75D);
+		matrix.set(second, first, 20D);
+
+		for (int id = 102; id < 130; id++) {
+			matrix.addMember(id);
+		}
+		assertTrue("Matrix grew", matrix.getCapacity() >= 30);
+		assertEquals("Slot kept", second, matrix.getSlot(101));
+		assertEquals("Opinion kept", 75D, matrix.get(first, second), DELTA);
+		assertEquals("Reverse opinion kept", 20D, matrix.get(second, first), DELTA);
+
+		matrix.removeMember(second);
+		assertEquals("Member removed", -1, matrix.getSlot(101));
+		assertEquals("Opinion cleared", 0D, matrix.get(first, second), DELTA);
+		assertEquals("Slot reused", second, matrix.addMember(200));
+		assertEquals("No opinion of new member", 0D, matrix.get(first, second), DELTA);
+	}
+
+	/**
+	 * Test the top slots are ordered and refreshed when the row changes.
+	 */
+	public void testTopSlots() {
+		OpinionMatrix matrix = new OpinionMatrix();
+		int me = matrix.addMember(1);
+		int a = matrix.addMember(2);
+		int b = matrix.addMember(3);
+		int c = matrix.addMember(4);
+		matrix.set(me, a, 40D);
+		matrix.set(me, b, 90D);
+		matrix.set(me, c, 60D);
+
+		int[] top = matrix.getTopSlots(me, 2);
+		assertEquals("Top size", 2, top.length);
+		assertEquals("Best", b, top[0]);
+		assertEquals("Second", c, top[1]);
+
+		matrix.set(me, a, 95D);
+		top = matrix.getTopSlots(me, 2);
+		assertEquals("New best", a, top[0]);
+		assertEquals("New second", b, top[1]);
+
+		assertEquals("Nobody known", 0, matrix.getTopSlots(a, 3).length);
+	}
+
+	/**
+	 * Test opinions read while another thread grows the matrix are never lost.
+	 */
+	public void testReadWhileGrowing() throws InterruptedException {
+		OpinionMatrix matrix = new OpinionMatrix();
+		int first = matrix.addMember(1);
+		int second = matrix.addMember(2);
+		matrix.set(first, second, 50D);
+
+		Thread writer = new Thread(() -> {
+			for (int id = 3; id < 500; id++) {
+				matrix.addMember(id);
+			}
+		});
+		writer.start();
+		while (writer.isAlive()) {
+			assertEquals("Opinion seen", 50D, matrix.get(first, second), DELTA);
+			assertEquals("Slot seen", second, matrix.getSlot(2));
+		}
+		writer.join();
+		assertEquals("Last member", 498, matrix.getSlot(499));
+	}
+}
@@ -0,0 +1,47 @@
+package org.mars_sim.msp.core.person.ai.task;
+
+import org.mars_sim.msp.core.LocalPosition;
+import org.mars_sim.msp.core.person.Person;
+import org.mars_sim.msp.core.structure.Airlock;
+import org.mars_sim.msp.core.structure.Settlement;
+import org.mars_sim.msp.core.structure.building.Building;
+import org.mars_sim.msp.core.structure.building.BuildingManager;
+
+/**
+ * A unit test suite for the ExitAirlock task class.
+ */
+public class ExitAirlockTest extends AbstractMarsSimUnitTest {
+
+	/**
+	 * Test a person at the head of the queue who is not fit gives up the place
+	 * in the batch.
+	 */
+	public void testWalkAwayReleasesQueue() {
+		Settlement settlement = buildSettlement();
+		BuildingManager buildingManager = settlement.getBuildingManager();
+		Building eva = buildEVA(buildingManager, LocalPosition.DEFAULT_POSITION, 0D, 0);
+		Airlock airlock = eva.getEVA().getAirlock();
+
+		Person person = buildPerson("Unfit", settlement);
+		person.setPosition(LocalPosition.DEFAULT_POSITION);
+		BuildingManager.addPersonOrRobotToBuilding(person, eva);
+		person.getPhysicalCondition().setFatigue(1000D);
+
+		// Queue the person first and fill the batch behind
+		int free = airlock.getNumEmptied();
+		assertTrue("Person queued", airlock.addReservation(person.getIdentifier()));
+		int next = person.getIdentifier() + 1000;
+		for (int id = next; id < next + free; id++) {
+			assertTrue("Queued " + id, airlock.addReservation(id));
+		}
+		int last = next + free - 1;
+		assertTrue("Person in batch", airlock.isInNextBatch(person.getIdentifier()));
+		assertFalse("Last waiting", airlock.isInNextBatch(last));
+
+		ExitAirlock task = new ExitAirlock(person, airlock);
+		executeTask(person, task, 1);
+
+		assertFalse("Person released", airlock.getReserved().contains(person.getIdentifier()));
+		assertTrue("Last moved up", airlock.isInNextBatch(last));
+	}
+}
@@ -57,6 +57,7 @@ public class JUnitTests extends TestCase {
 	    
 	    suite.addTestSuite(LoadControllerTest.class);
 	    suite.addTestSuite(UnloadVehicleTest.class);
+	    suite.addTestSuite(ExitAirlockTest.class);
 //	    suite.addTestSuite(WalkingStepsTest.class);
 //	    suite.addTestSuite(WalkInteriorTest.class);
 //	    suite.addTestSuite(WalkOutsideTest.class);
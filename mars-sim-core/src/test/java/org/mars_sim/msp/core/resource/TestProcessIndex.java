@@ -0,0 +1,71 @@
+package org.mars_sim.msp.core.resource;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import junit.framework.TestCase;
+
+/**
+ * Unit test suite for the ProcessIndex class.
+ */
+public class TestProcessIndex extends TestCase {
+
+	/**
+	 * A process with a tech level, named inputs and named outputs.
+	 */
+	private static class Process {
+		int tech;
+		List<String> inputs;
+		List<String> outputs;
+
+		Process(int tech, List<String> inputs, List<String> outputs) {
+			this.tech = tech;
+			this.inputs = inputs;
+			this.outputs = outputs;
+		}
+	}
+
+	private static ProcessIndex<String, Process> createIndex(Process... processes) {
+		return new ProcessIndex<>(Arrays.asList(processes), p -> p.inputs, p -> p.outputs, p -> p.tech);
+	}
+
+	/**
+	 * Test processes are found by input and output.
+	 */
+	public void testLookup() {
+		Process a = new Process(1, Arrays.asList("water", "ice"), Arrays.asList("oxygen"));
+		Process b = new Process(0, Arrays.asList("water"), Arrays.asList("hydrogen", "oxygen"));
+		ProcessIndex<String, Process> index = createIndex(a, b);
+
+		assertEquals("Water inputs", Arrays.asList(b, a), index.getProcessesWithInput("water"));
+		assertEquals("Ice inputs", Collections.singletonList(a), index.getProcessesWithInput("ice"));
+		assertEquals("Oxygen outputs", Arrays.asList(b, a), index.getProcessesWithOutput("oxygen"));
+		assertTrue("Unknown input", index.getProcessesWithInput("methane").isEmpty());
+		assertTrue("Output not an input", index.getProcessesWithInput("hydrogen").isEmpty());
+	}
+
+	/**
+	 * Test the tech level limits the processes.
+	 */
+	public void testTechLevel() {
+		Process low = new Process(0, Arrays.asList("regolith"), Collections.emptyList());
+		Process mid = new Process(2, Arrays.asList("regolith"), Collections.emptyList());
+		Process high = new Process(4, Arrays.asList("regolith"), Collections.emptyList());
+		ProcessIndex<String, Process> index = createIndex(high, low, mid);
+
+		assertEquals("Level 0", Collections.singletonList(low), index.getProcessesWithInput("regolith", 0));
+		assertEquals("Level 3", Arrays.asList(low, mid), index.getProcessesWithInput("regolith", 3));
+		assertEquals("All levels", Arrays.asList(low, mid, high), index.getProcessesWithInput("regolith"));
+	}
+
+	/**
+	 * Test an item listed twice by a process only gives the process once.
+	 */
+	public void testDuplicateItem() {
+		Process p = new Process(1, Arrays.asList("glass", "glass"), Collections.emptyList());
+		ProcessIndex<String, Process> index = createIndex(p);
+
+		assertEquals("Single entry", Collections.singletonList(p), index.getProcessesWithInput("glass"));
+	}
+}
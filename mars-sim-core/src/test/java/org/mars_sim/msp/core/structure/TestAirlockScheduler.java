@@ -0,0 +1,64 @@
+package org.mars_sim.msp.core.structure;
+
+import org.mars_sim.msp.core.LocalPosition;
+import org.mars_sim.msp.core.person.ai.task.AbstractMarsSimUnitTest;
+import org.mars_sim.msp.core.structure.building.Building;
+
+/**
+ * Unit test suite for the AirlockScheduler class.
+ */
+public class TestAirlockScheduler extends AbstractMarsSimUnitTest {
+
+	private Settlement settlement;
+	private Airlock airlock;
+
+	@Override
+	public void setUp() {
+		super.setUp();
+
+		settlement = buildSettlement();
+		Building building = buildEVA(settlement.getBuildingManager(), LocalPosition.DEFAULT_POSITION, 0D, 0);
+		airlock = building.getEVA().getAirlock();
+	}
+
+	/**
+	 * Test people go in batches of the free slots in the order they asked.
+	 */
+	public void testBatches() {
+		int free = airlock.getNumEmptied();
+		int max = 2 * airlock.getCapacity();
+
+		for (int id = 0; id < max; id++) {
+			assertTrue("Queued " + id, airlock.addReservation(id));
+		}
+		assertTrue("Queue full", airlock.isReservationFull());
+		assertFalse("Not queued", airlock.addReservation(max));
+		assertTrue("Renewed", airlock.addReservation(0));
+
+		assertTrue("First in batch", airlock.isInNextBatch(0));
+		assertFalse("Waiting", airlock.isInNextBatch(free));
+		assertFalse("Not queued in batch", airlock.isInNextBatch(max));
+
+		// The first person going in lets the next one into the batch
+		assertTrue("Released", airlock.removeReservation(0));
+		assertTrue("Moved up", airlock.isInNextBatch(free));
+		assertEquals("Queued", max - 1, airlock.getReserved().size());
+	}
+
+	/**
+	 * Test the wait grows with the queue.
+	 */
+	public void testWaitTime() {
+		AirlockScheduler scheduler = settlement.getAirlockScheduler();
+
+		double empty = scheduler.getWaitTime(airlock, false);
+		for (int id = 0; id < 2 * airlock.getCapacity(); id++) {
+			airlock.addReservation(id);
+		}
+		double busy = scheduler.getWaitTime(airlock, false);
+		assertTrue("Wait grows with queue", busy > empty);
+
+		scheduler.clear();
+		assertEquals("Wait after clear", empty, scheduler.getWaitTime(airlock, false), 0.0001D);
+	}
+}
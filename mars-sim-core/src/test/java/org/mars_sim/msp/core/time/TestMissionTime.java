@@ -0,0 +1,47 @@
+package org.mars_sim.msp.core.time;
+
+import junit.framework.TestCase;
+
+/**
+ * Unit test suite for the MissionTime class.
+ */
+public class TestMissionTime extends TestCase {
+
+	private static final double DELTA = 0.000001D;
+
+	/**
+	 * Test a clock can be rebuilt from its mission time.
+	 */
+	public void testRoundTrip() {
+		MarsClock clock = new MarsClock(3, 24, 12, 456.789D, 2000);
+		long time = MissionTime.of(clock);
+
+		MarsClock copy = MissionTime.toMarsClock(time, clock.getMissionSol());
+		assertEquals("Orbit", 3, copy.getOrbit());
+		assertEquals("Month", 24, copy.getMonth());
+		assertEquals("Sol", 12, copy.getSolOfMonth());
+		assertEquals("Millisol", 456.789D, copy.getMillisol(), DELTA);
+		assertEquals("Mission sol", 2000, copy.getMissionSol());
+		assertEquals("Format", clock.getDateTimeStamp(), MissionTime.format(time));
+	}
+
+	/**
+	 * Test the arithmetic agrees with the MarsClock.
+	 */
+	public void testArithmetic() {
+		MarsClock start = new MarsClock(0, 6, 27, 990D, 150);
+		MarsClock later = (MarsClock) start.clone();
+		later.addTime(25.5D);
+
+		long t0 = MissionTime.of(start);
+		long t1 = MissionTime.of(later);
+		assertEquals("Between", 25.5D, MissionTime.millisolsBetween(t0, t1), DELTA);
+		assertEquals("Plus", t1, MissionTime.plus(t0, 25.5D));
+		assertEquals("Millisol of day", 15, MissionTime.getMillisolInt(t1));
+		assertEquals("Crossed month", 7, MissionTime.toMarsClock(t1, 0).getMonth());
+
+		assertTrue("Never recorded", MissionTime.hasPassed(MissionTime.NONE, t0, 1000D));
+		assertFalse("Not passed", MissionTime.hasPassed(t0, t1, 1000D));
+		assertTrue("Passed", MissionTime.hasPassed(t0, t1, 20D));
+	}
+}
@@ -0,0 +1,111 @@
+package org.mars_sim.msp.core.time;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import junit.framework.TestCase;
+
+/**
+ * Unit test suite for the TimingWheel class.
+ */
+public class TestTimingWheel extends TestCase {
+
+	private MarsClock clock;
+	private TimingWheel wheel;
+	private List<Long> fired;
+	private long pulseId = 0;
+
+	@Override
+	public void setUp() throws Exception {
+		super.setUp();
+
+		clock = new MarsClock(0, 1, 1, 10D, 1);
+		wheel = new TimingWheel(clock.getTotalMillisols());
+		fired = new ArrayList<>();
+	}
+
+	/**
+	 * Moves the clock on and records the time of every event run.
+	 */
+	private void advance(double millisols) {
+		clock.addTime(millisols);
+		wheel.timePassing(new ClockPulse(pulseId++, millisols, clock, null, null, false, true));
+	}
+
+	private TimingWheel.Handler record() {
+		return p -> fired.add((long) p.getMarsTime().getTotalMillisols());
+	}
+
+	/**
+	 * Test an event runs once when it is due.
+	 */
+	public void testOneShot() {
+		long start = (long) clock.getTotalMillisols();
+		wheel.schedule(record(), 5D);
+
+		advance(4D);
+		assertTrue("Not due", fired.isEmpty());
+		advance(1D);
+		assertEquals("Run once", 1, fired.size());
+		assertEquals("When", start + 5, fired.get(0).longValue());
+		advance(100D);
+		assertEquals("Not again", 1, fired.size());
+		assertEquals("Empty", 0, wheel.size());
+	}
+
+	/**
+	 * Test a periodic event runs for every period, even when a pulse covers
+	 * several of them.
+	 */
+	public void testPeriodic() {
+		TimingWheel.Event event = wheel.schedule(record(), 10D, 20D);
+
+		advance(10D);
+		assertEquals("First", 1, fired.size());
+		advance(65D);
+		assertEquals("Caught up", 4, fired.size());
+
+		event.cancel();
+		advance(100D);
+		assertEquals("Cancelled", 4, fired.size());
+	}
+
+	/**
+	 * Test events far ahead are moved down the levels and run on time.
+	 */
+	public void testLongDelays() {
+		long start = (long) clock.getTotalMillisols();
+		double[] delays = {63D, 64D, 100D, 4095D, 4096D, 300_000D, 20_000_000D};
+		for (double d : delays) {
+			wheel.schedule(record(), d);
+		}
+
+		// Pulses of uneven length, as the clock gives
+		double passed = 0D;
+		while (passed < 20_000_001D) {
+			double step = (passed < 5000D ? 7.3D : 997D);
+			advance(step);
+			passed += step;
+		}
+
+		assertEquals("All run", delays.length, fired.size());
+		for (int i = 0; i < delays.length; i++) {
+			long due = start + (long) delays[i];
+			long at = fired.get(i);
+			assertTrue("Not early " + delays[i], at >= due);
+			assertTrue("Same pulse " + delays[i], at - due < 997);
+		}
+	}
+
+	/**
+	 * Test a handler can schedule more work.
+	 */
+	public void testScheduleFromHandler() {
+		wheel.schedule(p -> wheel.schedule(record(), 3D), 2D);
+
+		advance(4D);
+		assertTrue("Not due", fired.isEmpty());
+		advance(1D);
+		assertEquals("Chained", 1, fired.size());
+	}
+}
@@ -0,0 +1,86 @@
+package org.mars_sim.msp.core.tool;
+
+import java.util.Random;
+
+import junit.framework.TestCase;
+
+/**
+ * Unit test suite for the HungarianAlgorithm class.
+ */
+public class TestHungarianAlgorithm extends TestCase {
+
+	/**
+	 * Test a square problem with a known answer.
+	 */
+	public void testSquare() {
+		double[][] cost = {
+				{4, 1, 3},
+				{2, 0, 5},
+				{3, 2, 2}
+		};
+		int[] result = HungarianAlgorithm.solve(cost);
+		assertEquals("Total cost", 5D, total(cost, result), 0.0001D);
+	}
+
+	/**
+	 * Test rectangular problems against every possible assignment.
+	 */
+	public void testAgainstBruteForce() {
+		Random rand = new Random(42);
+		for (int trial = 0; trial < 50; trial++) {
+			int rows = 1 + rand.nextInt(5);
+			int cols = rows + rand.nextInt(3);
+			double[][] cost = new double[rows][cols];
+			for (int i = 0; i < rows; i++) {
+				for (int j = 0; j < cols; j++) {
+					cost[i][j] = rand.nextInt(20) - 10;
+				}
+			}
+
+			int[] result = HungarianAlgorithm.solve(cost);
+			boolean[] used = new boolean[cols];
+			for (int c : result) {
+				assertFalse("Column used twice", used[c]);
+				used[c] = true;
+			}
+			assertEquals("Trial " + trial, bestTotal(cost, 0, new boolean[cols]),
+						 total(cost, result), 0.0001D);
+		}
+	}
+
+	/**
+	 * Test more rows than columns is rejected.
+	 */
+	public void testTooManyRows() {
+		try {
+			HungarianAlgorithm.solve(new double[2][1]);
+			fail("Expected an exception");
+		}
+		catch (IllegalArgumentException e) {
+			// Expected
+		}
+	}
+
+	private static double total(double[][] cost, int[] assignment) {
+		double sum = 0;
+		for (int i = 0; i < assignment.length; i++) {
+			sum += cost[i][assignment[i]];
+		}
+		return sum;
+	}
+
+	private static double bestTotal(double[][] cost, int row, boolean[] used) {
+		if (row == cost.length) {
+			return 0;
+		}
+		double best = Double.POSITIVE_INFINITY;
+		for (int c = 0; c < used.length; c++) {
+			if (!used[c]) {
+				used[c] = true;
+				best = Math.min(best, cost[row][c] + bestTotal(cost, row + 1, used));
+				used[c] = false;
+			}
+		}
+		return best;
+	}
+}
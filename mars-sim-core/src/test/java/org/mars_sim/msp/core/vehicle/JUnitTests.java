@@ -52,6 +52,7 @@ public class JUnitTests extends TestCase {
     	TestSuite suite =  new TestSuite(thisClass);
         
 	    suite.addTestSuite(TestLightUtilityVehicle.class);
+	    suite.addTestSuite(TestVehicleTrail.class);
 	    
 	    return suite;
     }
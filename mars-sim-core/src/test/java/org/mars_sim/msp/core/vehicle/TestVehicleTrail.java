@@ -0,0 +1,66 @@
+package org.mars_sim.msp.core.vehicle;
+
+import java.util.List;
+
+import org.mars_sim.msp.core.Coordinates;
+
+import junit.framework.TestCase;
+
+/**
+ * Unit test suite for the VehicleTrail class.
+ */
+public class TestVehicleTrail extends TestCase {
+
+	// About 3 km of longitude at the equator
+	private static final double STEP = 3D / Coordinates.MARS_RADIUS_KM;
+
+	/**
+	 * Test close points are not added.
+	 */
+	public void testSpacing() {
+		VehicleTrail trail = new VehicleTrail(100);
+		Coordinates start = new Coordinates(Math.PI / 2D, 1D);
+		trail.add(start);
+		trail.add(new Coordinates(Math.PI / 2D, 1D + STEP / 10D));
+		assertEquals("Close point skipped", 1, trail.size());
+
+		trail.add(new Coordinates(Math.PI / 2D, 1D + STEP));
+		assertEquals("Far point added", 2, trail.size());
+
+		trail.clear();
+		assertEquals("Cleared", 0, trail.size());
+	}
+
+	/**
+	 * Test a long straight trail collapses to its ends.
+	 */
+	public void testStraightLine() {
+		VehicleTrail trail = new VehicleTrail(50);
+		for (int i = 0; i < 50; i++) {
+			trail.add(new Coordinates(Math.PI / 2D, 1D + i * STEP));
+		}
+		List<Coordinates> points = trail.getLocations();
+		assertEquals("Only the ends", 2, points.size());
+		assertEquals("Start kept", 1D, points.get(0).getTheta(), 0.0001D);
+		assertEquals("End kept", 1D + 49 * STEP, points.get(1).getTheta(), 0.0001D);
+	}
+
+	/**
+	 * Test a winding trail stays within the maximum and keeps the latest point.
+	 */
+	public void testBounded() {
+		int max = 40;
+		VehicleTrail trail = new VehicleTrail(max);
+		Coordinates last = null;
+		for (int i = 0; i < 1000; i++) {
+			// A zig zag that crosses theta zero
+			double phi = Math.PI / 2D + ((i % 7) - 3) * STEP;
+			last = new Coordinates(phi, -0.5D + i * STEP);
+			trail.add(last);
+			assertTrue("Bounded at " + i, trail.size() < max);
+		}
+		List<Coordinates> points = trail.getLocations();
+		assertTrue("Some points kept", points.size() > 2);
+		assertTrue("Latest point kept", points.get(points.size() - 1).getDistance(last) < 0.01D);
+	}
+}
@@ -0,0 +1,77 @@
+/*
+ * Mars Simulation Project
+ * BenchmarkScenario.java
+ * @date 2026-10-19
+ * @author agent
+ */
+package org.mars_sim.headless;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.mars_sim.msp.core.Coordinates;
+import org.mars_sim.msp.core.configuration.Scenario;
+import org.mars_sim.msp.core.configuration.ScenarioConfig;
+import org.mars_sim.msp.core.structure.InitialSettlement;
+
+/**
+ * The fixed scenarios used to measure the throughput of the simulation. They
+ * are derived from the bundled Default scenario so they follow any change to
+ * the settlement templates.
+ */
+public enum BenchmarkScenario {
+
+	SINGLE(1), FIVE(5), TWENTY(20);
+
+	// Longitude shift applied each time the Default settlements are reused
+	private static final double REPEAT_OFFSET = Math.PI / 7D;
+
+	private int numSettlements;
+
+	private BenchmarkScenario(int numSettlements) {
+		this.numSettlements = numSettlements;
+	}
+
+	public int getNumSettlements() {
+		return numSettlements;
+	}
+
+	/**
+	 * Creates the Scenario. The Default settlements are used in turn and
+	 * repeated at a new location if more are needed.
+	 *
+	 * @param population Population of each settlement; zero or less for the
+	 * 			Default population
+	 * @return
+	 */
+	public Scenario createScenario(int population) {
+		Scenario base = new ScenarioConfig().getItem(ScenarioConfig.PREDEFINED_SCENARIOS[0]);
+		List<InitialSettlement> baseSettlements = base.getSettlements();
+
+		List<InitialSettlement> settlements = new ArrayList<>();
+		for (int i = 0; i < numSettlements; i++) {
+			InitialSettlement spec = baseSettlements.get(i % baseSettlements.size());
+			int repeat = i / baseSettlements.size();
+
+			String name = spec.getName();
+			Coordinates location = spec.getLocation();
+			// The crew members are named people so only the first copy can have them;
+			// the repeats get a generated population instead
+			String crew = spec.getCrew();
+			if (repeat > 0) {
+				crew = null;
+				name = name + " " + (repeat + 1);
+				location = new Coordinates(location.getPhi(),
+										   location.getTheta() + (repeat * REPEAT_OFFSET));
+			}
+
+			settlements.add(new InitialSettlement(name, spec.getSponsor(), spec.getSettlementTemplate(),
+									(population > 0 ? population : spec.getPopulationNumber()),
+									spec.getNumOfRobots(), location, crew));
+		}
+
+		return new Scenario("Benchmark " + name(), "Throughput benchmark with " + numSettlements
+							+ " settlements", settlements, Collections.emptyList(), false);
+	}
+}
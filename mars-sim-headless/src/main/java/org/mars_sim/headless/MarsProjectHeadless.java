@@ -27,6 +27,7 @@ import org.mars.sim.console.chat.service.RemoteChatService;
 import org.mars_sim.msp.core.Simulation;
 import org.mars_sim.msp.core.SimulationBuilder;
 import org.mars_sim.msp.core.SimulationFiles;
+import org.mars_sim.msp.core.logging.SimLogger;
 import org.mars_sim.msp.core.tool.RandomStringUtils;
 
 /**
@@ -236,6 +237,8 @@ public class MarsProjectHeadless {
 				logger.log(Level.WARNING, "Could read logging default config", e);
 			}
 		}
+		// Write the queued messages before the new handlers are closed
+		SimLogger.installFlushHandler();
 
 		// starting the simulation
 		new MarsProjectHeadless(args);
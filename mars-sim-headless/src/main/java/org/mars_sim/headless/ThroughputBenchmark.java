@@ -0,0 +1,277 @@
+/*
+ * Mars Simulation Project
+ * ThroughputBenchmark.java
+ * @date 2026-10-19
+ * @author agent
+ */
+package org.mars_sim.headless;
+
+import java.io.File;
+import java.io.FilterOutputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.util.List;
+import java.util.Map;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import javax.json.Json;
+import javax.json.JsonArrayBuilder;
+import javax.json.JsonObject;
+import javax.json.JsonObjectBuilder;
+import javax.json.JsonWriter;
+import javax.json.stream.JsonGenerator;
+
+import org.apache.commons.cli.CommandLine;
+import org.apache.commons.cli.CommandLineParser;
+import org.apache.commons.cli.DefaultParser;
+import org.apache.commons.cli.HelpFormatter;
+import org.apache.commons.cli.Option;
+import org.apache.commons.cli.Options;
+import org.apache.commons.cli.ParseException;
+import org.mars_sim.msp.core.Simulation;
+import org.mars_sim.msp.core.SimulationBuilder;
+import org.mars_sim.msp.core.logging.LatencyHistogram;
+import org.mars_sim.msp.core.person.ai.mission.MissionFeasibilityCache;
+import org.mars_sim.msp.core.time.MasterClock;
+import org.mars_sim.msp.core.tool.RandomUtil;
+
+/**
+ * Measures how many sols a scenario can simulate per wall clock minute. The
+ * simulation is created without a clock thread or console and is advanced in
+ * fixed steps on the main thread. The result is written as a JSON report so
+ * runs can be compared across versions and machines.
+ * <pre>
+ *   java -cp mars-sim-headless-jar-with-dependencies.jar org.mars_sim.headless.ThroughputBenchmark
+ *        -scenario five -sols 3 -report five.json
+ * </pre>
+ */
+public class ThroughputBenchmark {
+
+	private static final Logger logger = Logger.getLogger(ThroughputBenchmark.class.getName());
+
+	private static final String SCENARIO = "scenario";
+	private static final String SOLS = "sols";
+	private static final String STEP = "step";
+	private static final String POPULATION = "population";
+	private static final String SEED = "seed";
+	private static final String REPORT = "report";
+	private static final String DISPLAYHELP = "help";
+
+	private static final double MSOLS_PER_SOL = 1000D;
+	private static final double NANOS_PER_MILLI = 1_000_000D;
+
+	private BenchmarkScenario scenario = BenchmarkScenario.SINGLE;
+	private double sols = 1D;
+	private double step = 0.5D;
+	private int population = 0;
+	private long seed = 1L;
+	private File report = null;
+
+	private LatencyHistogram pulseLatency = new LatencyHistogram();
+
+	/**
+	 * Parses the command line arguments.
+	 *
+	 * @param args
+	 * @throws ParseException
+	 */
+	private ThroughputBenchmark(String[] args) throws ParseException {
+		Options options = new Options();
+		options.addOption(Option.builder(SCENARIO).argName("single|five|twenty").hasArg()
+							.desc("Scenario to run [single]").build());
+		options.addOption(Option.builder(SOLS).argName("sols").hasArg()
+							.desc("Number of sols to simulate [1]").build());
+		options.addOption(Option.builder(STEP).argName("millisols").hasArg()
+							.desc("Length of each pulse [0.5]").build());
+		options.addOption(Option.builder(POPULATION).argName("people").hasArg()
+							.desc("Population of each settlement [template default]").build());
+		options.addOption(Option.builder(SEED).argName("seed").hasArg()
+							.desc("Random seed [1]").build());
+		options.addOption(Option.builder(REPORT).argName("file").hasArg()
+							.desc("Write the report to a file rather than the console").build());
+		options.addOption(Option.builder(DISPLAYHELP)
+							.desc("Help of the options").build());
+
+		CommandLineParser commandline = new DefaultParser();
+		CommandLine line = commandline.parse(options, args);
+		if (line.hasOption(DISPLAYHELP)) {
+			new HelpFormatter().printHelp(" [for the mars-sim throughput benchmark]", options);
+			System.exit(0);
+		}
+
+		if (line.hasOption(SCENARIO)) {
+			scenario = BenchmarkScenario.valueOf(line.getOptionValue(SCENARIO).toUpperCase());
+		}
+		if (line.hasOption(SOLS)) {
+			sols = Double.parseDouble(line.getOptionValue(SOLS));
+		}
+		if (line.hasOption(STEP)) {
+			step = Double.parseDouble(line.getOptionValue(STEP));
+		}
+		if (line.hasOption(POPULATION)) {
+			population = Integer.parseInt(line.getOptionValue(POPULATION));
+		}
+		if (line.hasOption(SEED)) {
+			seed = Long.parseLong(line.getOptionValue(SEED));
+		}
+		if (line.hasOption(REPORT)) {
+			report = new File(line.getOptionValue(REPORT));
+		}
+	}
+
+	/**
+	 * Builds the scenario and runs it for the required sols.
+	 *
+	 * @return The report
+	 */
+	private JsonObject run() {
+		RandomUtil.setSeed(seed);
+
+		long startupStart = System.nanoTime();
+		SimulationBuilder builder = new SimulationBuilder();
+		builder.setScenario(scenario.createScenario(population));
+		Simulation sim = builder.build();
+		double startupMillis = (System.nanoTime() - startupStart) / NANOS_PER_MILLI;
+
+		MasterClock clock = sim.getMasterClock();
+		long pulses = (long) Math.ceil(sols * MSOLS_PER_SOL / step);
+		logger.config("Running " + scenario + " for " + pulses + " pulses of " + step + " msol.");
+
+		List<GarbageCollectorMXBean> collectors = ManagementFactory.getGarbageCollectorMXBeans();
+		long[] gcCounts = new long[collectors.size()];
+		long[] gcTimes = new long[collectors.size()];
+		for (int i = 0; i < gcCounts.length; i++) {
+			gcCounts[i] = collectors.get(i).getCollectionCount();
+			gcTimes[i] = collectors.get(i).getCollectionTime();
+		}
+		for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+			pool.resetPeakUsage();
+		}
+
+		long runStart = System.nanoTime();
+		for (long p = 0; p < pulses; p++) {
+			long pulseStart = System.nanoTime();
+			sim.clockPulse(clock.fixedStep(step));
+			pulseLatency.record(System.nanoTime() - pulseStart);
+		}
+		double runMillis = (System.nanoTime() - runStart) / NANOS_PER_MILLI;
+		double solsRun = pulses * step / MSOLS_PER_SOL;
+
+		// Heap high water is the sum of the peaks of each heap pool
+		long heapPeak = 0;
+		for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+			if (pool.getType() == MemoryType.HEAP) {
+				heapPeak += pool.getPeakUsage().getUsed();
+			}
+		}
+
+		JsonObjectBuilder phases = Json.createObjectBuilder();
+		builder.getStartupPhases().forEach((phase, millis) -> phases.add(phase, millis.longValue()));
+
+		MissionFeasibilityCache feasibility = sim.getMissionManager().getFeasibilityCache();
+
+		JsonArrayBuilder gcs = Json.createArrayBuilder();
+		for (int i = 0; i < gcCounts.length; i++) {
+			GarbageCollectorMXBean gc = collectors.get(i);
+			gcs.add(Json.createObjectBuilder()
+					.add("name", gc.getName())
+					.add("count", gc.getCollectionCount() - gcCounts[i])
+					.add("totalMillis", gc.getCollectionTime() - gcTimes[i]));
+		}
+
+		return Json.createObjectBuilder()
+				.add("version", Simulation.VERSION)
+				.add("build", Simulation.BUILD)
+				.add("java", Simulation.JAVA_VERSION)
+				.add("cores", Runtime.getRuntime().availableProcessors())
+				.add(SCENARIO, scenario.name().toLowerCase())
+				.add("settlements", sim.getUnitManager().getSettlementNum())
+				.add("people", sim.getUnitManager().getPeople().size())
+				.add(SEED, seed)
+				.add("stepMillisols", step)
+				.add("pulses", pulses)
+				.add("startupMillis", round(startupMillis))
+				.add("startupPhasesMillis", phases)
+				.add("runMillis", round(runMillis))
+				.add("solsSimulated", solsRun)
+				.add("solsPerMinute", round(solsRun * 60_000D / runMillis))
+				.add("pulseLatencyMillis", Json.createObjectBuilder()
+						.add("mean", toMillis(pulseLatency.getMean()))
+						.add("p50", toMillis(pulseLatency.getPercentile(50)))
+						.add("p90", toMillis(pulseLatency.getPercentile(90)))
+						.add("p99", toMillis(pulseLatency.getPercentile(99)))
+						.add("max", toMillis(pulseLatency.getMax())))
+				.add("missionFeasibilityCache", Json.createObjectBuilder()
+						.add("hits", feasibility.getHits())
+						.add("misses", feasibility.getMisses()))
+				.add("garbageCollectors", gcs)
+				.add("heapPeakBytes", heapPeak)
+				.add("heapMaxBytes", Runtime.getRuntime().maxMemory())
+				.build();
+	}
+
+	/**
+	 * Writes the report to the file or the console.
+	 *
+	 * @param result
+	 * @throws IOException
+	 */
+	private void writeReport(JsonObject result) throws IOException {
+		OutputStream out = (report != null ? new FileOutputStream(report) : new ConsoleStream());
+		try (JsonWriter writer = Json.createWriterFactory(Map.of(JsonGenerator.PRETTY_PRINTING, true))
+											.createWriter(out)) {
+			writer.writeObject(result);
+		}
+		if (report != null) {
+			logger.config("Report written to " + report.getAbsolutePath());
+		}
+	}
+
+	/**
+	 * Writes to the console but leaves it open when the report is closed.
+	 */
+	private static class ConsoleStream extends FilterOutputStream {
+
+		private ConsoleStream() {
+			super(System.out);
+		}
+
+		@Override
+		public void write(byte[] b, int off, int len) throws IOException {
+			out.write(b, off, len);
+		}
+
+		@Override
+		public void close() throws IOException {
+			flush();
+		}
+	}
+
+	private static double toMillis(double nanos) {
+		return round(nanos / NANOS_PER_MILLI);
+	}
+
+	private static double round(double value) {
+		return Math.round(value * 1000D) / 1000D;
+	}
+
+	public static void main(String[] args) {
+		try {
+			ThroughputBenchmark benchmark = new ThroughputBenchmark(args);
+			benchmark.writeReport(benchmark.run());
+		}
+		catch (Exception e) {
+			logger.log(Level.SEVERE, "Benchmark failed: " + e.getMessage(), e);
+			System.exit(1);
+		}
+
+		// The settlement update threads are not daemons
+		System.exit(0);
+	}
+}
@@ -33,6 +33,7 @@ import org.mars_sim.msp.core.SimulationConfig;
 import org.mars_sim.msp.core.SimulationFiles;
 import org.mars_sim.msp.core.configuration.Scenario;
 import org.mars_sim.msp.core.configuration.UserConfigurableConfig;
+import org.mars_sim.msp.core.logging.SimLogger;
 import org.mars_sim.msp.core.person.Crew;
 import org.mars_sim.msp.ui.helpGenerator.HelpGenerator;
 import org.mars_sim.msp.ui.swing.MainWindow;
@@ -450,6 +451,8 @@ public class MarsProject {
 				logger.log(Level.WARNING, "Could read logging default config", e);
 			}
 		}
+		// Write the queued messages before the new handlers are closed
+		SimLogger.installFlushHandler();
 
 		// Sets text antialiasing
 		System.setProperty("swing.aatext", "true");
@@ -9,18 +9,28 @@
 import java.awt.Color;
 import java.awt.Image;
 import java.awt.Point;
+import java.awt.Rectangle;
 import java.awt.image.BufferedImage;
 import java.awt.image.DataBufferByte;
 import java.io.File;
 import java.io.IOException;
-import java.net.URL;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 import java.util.logging.Level;
 import java.util.logging.Logger;
+import java.util.stream.IntStream;
 
 import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
 
  /**
-  * A map that uses integer data stored in files to represent colors.
+  * A map that uses integer data stored in files to represent colors. The image
+  * is split into square tiles that are only decoded when a pixel in them is
+  * needed, and only a limited number of tiles are kept.
   */
  abstract class IntegerMapData implements MapData {
 
@@ -43,99 +53,181 @@ import javax.imageio.ImageIO;
  	public static final double PIXEL_RHO = MAP_HEIGHT / Math.PI;
  	private static final double TWO_PI = Math.PI * 2D;
  	
- 	private static final double PHI_ITERATION_PADDING = 1.26 * MapDataUtil.RATIO; // Derived from testing.
- 	private static final double PHI_PADDING = 1.46 * MapDataUtil.RATIO; // Derived from testing.	
- 	private static final double PHI_ITERATION_ANGLE = Math.PI / (MAP_HEIGHT / FACTOR * PHI_ITERATION_PADDING);
- 	private static final double PHI_RANGE = Math.PI * PHI_PADDING * MAP_BOX_HEIGHT / MAP_HEIGHT * FACTOR;
-
- 	private static final double THETA_ITERATION_PADDING = 1.46 * MapDataUtil.RATIO; // Derived from testing.
- 	private static final double MIN_THETA_PADDING = 1.02 * MapDataUtil.RATIO; // Theta padding, derived from testing.
+ 	// Angle between the centers of cached views; one pixel at the center of the view
+ 	private static final double VIEW_STEP = 1D / PIXEL_RHO;
+ 	private static final int THETA_STEPS = (int) Math.round(TWO_PI / VIEW_STEP);
+ 	// Most rendered views kept
+ 	private static final int MAX_VIEWS = 32;
+ 	
+ 	// Position of each display column and row, and the depth of each display
+ 	// pixel, on a globe of radius one facing the viewer. These do not depend
+ 	// on the center of the view so are worked out once.
+ 	private static final double[] X_TABLE = new double[MAP_BOX_WIDTH];
+ 	private static final double[] Y_TABLE = new double[MAP_BOX_HEIGHT];
+ 	private static final double[] Z_TABLE = new double[MAP_BOX_WIDTH * MAP_BOX_HEIGHT];
+ 	
+ 	static {
+ 		for (int col = 0; col < MAP_BOX_WIDTH; col++) {
+ 			X_TABLE[col] = (col - (MAP_BOX_WIDTH / 2)) / PIXEL_RHO;
+ 		}
+ 		for (int row = 0; row < MAP_BOX_HEIGHT; row++) {
+ 			Y_TABLE[row] = (row - (MAP_BOX_HEIGHT / 2)) / PIXEL_RHO;
+ 			for (int col = 0; col < MAP_BOX_WIDTH; col++) {
+ 				double r2 = (X_TABLE[col] * X_TABLE[col]) + (Y_TABLE[row] * Y_TABLE[row]);
+ 				// A negative depth marks a pixel beyond the edge of the globe
+ 				Z_TABLE[row * MAP_BOX_WIDTH + col] = (r2 > 1D ? -1D : Math.sqrt(1D - r2));
+ 			}
+ 		}
+ 	}
  	
- 	private static final double PI_RATIO = TWO_PI * MAP_BOX_WIDTH / MAP_WIDTH * FACTOR;
-	// Note : Polar cap phi values must display 2 PI theta range. 
- 	private static final double POLAR_CAP_RANGE_1 = Math.PI / 6.54D; // derived from testing
- 	private static final double POLAR_CAP_RANGE_2 = Math.PI - POLAR_CAP_RANGE_1;
- 	private static final double MIN_THETA_DISPLAY = PI_RATIO * MIN_THETA_PADDING;
-		
- 	private static final double THETA_ITERATION_FACTOR = MAP_WIDTH / FACTOR * THETA_ITERATION_PADDING;
+ 	// Width and height of a square tile of decoded pixels
+ 	private static final int TILE_SIZE = 360;
+ 	// Most tiles of one map kept decoded; a whole 2880x1440 map is 32 tiles
+ 	private static final int MAX_TILES = 12;
  	
  	// Data members.
- 	private int[][] pixels = null;
+ 	private String mapFileName;
+ 	private int width;
+ 	private int height;
+ 	private int tileColumns;
+ 	private int numLoaded = 0;
+ 	private int useCount = 0;
+ 	private int[] lastUsed;
+ 	private volatile AtomicReferenceArray<int[]> tiles = null;
+ 	
+ 	// Rendered views keyed on their center, least recently used first
+ 	private final Map<Long, BufferedImage> views = new LinkedHashMap<>(MAX_VIEWS, 0.75f, true) {
+ 		private static final long serialVersionUID = 1L;
+ 		
+ 		@Override
+ 		protected boolean removeEldestEntry(Map.Entry<Long, BufferedImage> eldest) {
+ 			return size() > MAX_VIEWS;
+ 		}
+ 	};
  	
  	/**
- 	 * Constructor
+ 	 * Constructor. No imagery is decoded until a pixel is needed.
  	 * 
  	 * @param mapFileName   the map data file name.
  	 */
  	public IntegerMapData(String mapFileName) {
- 	
- 		try {
- 			// Load data files
- 			pixels = loadMapData(mapFileName);
- 			
- 		} catch (IOException e) {
- 			logger.log(Level.SEVERE, "Could not find the map file.", e);
- 		}
+ 		this.mapFileName = mapFileName;
  	}
 
- 	private int[][] loadMapData(String imageURL) throws IOException {
-
- 		URL imageMapURL = IntegerMapData.class.getResource(imageURL);
- 		BufferedImage image = ImageIO.read(imageMapURL);
+ 	/**
+ 	 * Reads the size of the image from its header and sets up the empty tiles.
+ 	 */
+ 	private synchronized void loadHeader() {
+ 		if (tiles != null) {
+ 			return;
+ 		}
  		
-// 		reproduceImage(image);
-
-// 		logger.log(Level.CONFIG, "Type : " + image.getType()); // TYPE_4BYTE_ABGR : 6  , // TYPE_3BYTE_BGR : 5
+ 		try (ImageInputStream in = ImageIO.createImageInputStream(
+ 						IntegerMapData.class.getResourceAsStream(mapFileName))) {
+ 			ImageReader reader = getReader(in);
+ 			try {
+ 				width = reader.getWidth(0);
+ 				height = reader.getHeight(0);
+ 			}
+ 			finally {
+ 				reader.dispose();
+ 			}
+ 		} catch (IOException | RuntimeException e) {
+ 			logger.log(Level.SEVERE, "Could not find the map file " + mapFileName, e);
+ 			width = MAP_WIDTH;
+ 			height = MAP_HEIGHT;
+ 		}
+ 		
+ 		tileColumns = (width + TILE_SIZE - 1) / TILE_SIZE;
+ 		int tileRows = (height + TILE_SIZE - 1) / TILE_SIZE;
+ 		lastUsed = new int[tileColumns * tileRows];
+ 		tiles = new AtomicReferenceArray<>(tileColumns * tileRows);
+ 	}
  	
- 		final byte[] pixels = ((DataBufferByte) image.getRaster().getDataBuffer()).getData();
- 		final int width = image.getWidth();
- 		final int height = image.getHeight();
- 		final boolean hasAlphaChannel = image.getAlphaRaster() != null;
-
-// 		logger.log(Level.CONFIG, "hasAlphaChannel : " + hasAlphaChannel);
+ 	private static ImageReader getReader(ImageInputStream in) throws IOException {
+ 		if (in == null) {
+ 			throw new IOException("No image stream");
+ 		}
+ 		Iterator<ImageReader> readers = ImageIO.getImageReaders(in);
+ 		if (!readers.hasNext()) {
+ 			throw new IOException("No image reader");
+ 		}
+ 		ImageReader reader = readers.next();
+ 		reader.setInput(in, true, true);
+ 		return reader;
+ 	}
+ 	
+ 	/**
+ 	 * Decodes one tile of the map. If too many tiles are decoded the least
+ 	 * recently used one is dropped.
+ 	 * 
+ 	 * @param tileIndex
+ 	 * @return ARGB pixels of the tile, a row is always TILE_SIZE long
+ 	 */
+ 	private synchronized int[] loadTile(int tileIndex) {
+ 		int[] tile = tiles.get(tileIndex);
+ 		if (tile != null) {
+ 			// Another thread got here first
+ 			return tile;
+ 		}
  		
- 		int[][] result = new int[height][width];
- 		if (hasAlphaChannel) {
- 			final int pixelLength = 4;
- 			for (int pixel = 0, row = 0, col = 0; pixel + 3 < pixels.length; pixel += pixelLength) {
- 				int argb = 0;
- 				argb += (((int) pixels[pixel] & 0xff) << 24); // alpha
- 				argb += ((int) pixels[pixel + 1] & 0xff); // blue
- 				argb += (((int) pixels[pixel + 2] & 0xff) << 8); // green
- 				argb += (((int) pixels[pixel + 3] & 0xff) << 16); // red
- 				
-// 				The Red and Blue channel comments are flipped. 
-// 				Red should be +1 and blue should be +3 (or +0 and +2 respectively in the No Alpha code).
- 				
-// 				You could also make a final int pixel_offset = hasAlpha?1:0; and 
-// 				do ((int) pixels[pixel + pixel_offset + 1] & 0xff); // green; 
-// 				and merge the two loops into one. – Tomáš Zato Mar 23 '15 at 23:02
- 						
- 				result[row][col] = argb;
- 				col++;
- 				if (col == width) {
- 					col = 0;
- 					row++;
+ 		if (numLoaded >= MAX_TILES) {
+ 			int oldest = -1;
+ 			for (int i = 0; i < lastUsed.length; i++) {
+ 				if ((tiles.get(i) != null) && ((oldest < 0) || (lastUsed[i] < lastUsed[oldest]))) {
+ 					oldest = i;
  				}
  			}
- 		} else {
- 			final int pixelLength = 3;
- 			for (int pixel = 0, row = 0, col = 0; pixel + 2 < pixels.length; pixel += pixelLength) {
- 				int argb = 0;
- 				argb += -16777216; // 255 alpha
- 				argb += ((int) pixels[pixel] & 0xff); // blue
- 				argb += (((int) pixels[pixel + 1] & 0xff) << 8); // green
- 				argb += (((int) pixels[pixel + 2] & 0xff) << 16); // red
- 				result[row][col] = argb;
- 				col++;
- 				if (col == width) {
- 					col = 0;
- 					row++;
- 				}
+ 			tiles.set(oldest, null);
+ 			numLoaded--;
+ 		}
+ 		
+ 		int x = (tileIndex % tileColumns) * TILE_SIZE;
+ 		int y = (tileIndex / tileColumns) * TILE_SIZE;
+ 		int w = Math.min(TILE_SIZE, width - x);
+ 		int h = Math.min(TILE_SIZE, height - y);
+ 		tile = new int[TILE_SIZE * TILE_SIZE];
+ 		
+ 		try (ImageInputStream in = ImageIO.createImageInputStream(
+ 						IntegerMapData.class.getResourceAsStream(mapFileName))) {
+ 			ImageReader reader = getReader(in);
+ 			try {
+ 				// Only the rows and columns of the tile are kept
+ 				ImageReadParam param = reader.getDefaultReadParam();
+ 				param.setSourceRegion(new Rectangle(x, y, w, h));
+ 				BufferedImage image = reader.read(0, param);
+ 				image.getRGB(0, 0, w, h, tile, 0, TILE_SIZE);
  			}
+ 			finally {
+ 				reader.dispose();
+ 			}
+ 		} catch (IOException | RuntimeException e) {
+ 			// Keep the blank tile so the file is not read again for every pixel
+ 			logger.log(Level.SEVERE, "Could not decode the map file " + mapFileName, e);
  		}
-
- 		return result;
+ 		
+ 		tiles.set(tileIndex, tile);
+ 		numLoaded++;
+ 		return tile;
+ 	}
+ 	
+ 	/**
+ 	 * Gets the ARGB color of a pixel of the map, decoding its tile if needed.
+ 	 * 
+ 	 * @param row
+ 	 * @param column
+ 	 * @return
+ 	 */
+ 	private int getPixel(int row, int column) {
+ 		int tileIndex = (row / TILE_SIZE) * tileColumns + (column / TILE_SIZE);
+ 		int[] tile = tiles.get(tileIndex);
+ 		if (tile == null) {
+ 			tile = loadTile(tileIndex);
+ 		}
+ 		// Unsynchronized on purpose; a lost update only ages a tile early
+ 		lastUsed[tileIndex] = ++useCount;
+ 		
+ 		return tile[(row % TILE_SIZE) * TILE_SIZE + (column % TILE_SIZE)];
  	}
  	
 // 	/**
@@ -221,80 +313,66 @@ import javax.imageio.ImageIO;
 
  	@Override
  	public Image getMapImage(double centerPhi, double centerTheta) {
+ 		// Views are rendered for the nearest center on a grid of one pixel
+ 		// so panning back and forth reuses them.
+ 		int phiStep = (int) Math.round(centerPhi / VIEW_STEP);
+ 		double theta = centerTheta % TWO_PI;
+ 		if (theta < 0D)
+ 			theta += TWO_PI;
+ 		int thetaStep = (int) Math.round(theta / VIEW_STEP) % THETA_STEPS;
+ 		Long key = ((long) phiStep << 32) | thetaStep;
 
- 		// Create a new buffered image to draw the map on.
- 		BufferedImage result = new BufferedImage(MAP_BOX_WIDTH, MAP_BOX_HEIGHT, BufferedImage.TYPE_4BYTE_ABGR);//BufferedImage.TYPE_INT_ARGB);
+ 		BufferedImage result;
+ 		synchronized (views) {
+ 			result = views.get(key);
+ 		}
+ 		if (result == null) {
+ 			result = renderMapImage(phiStep * VIEW_STEP, thetaStep * VIEW_STEP);
+ 			synchronized (views) {
+ 				views.put(key, result);
+ 			}
+ 		}
+ 		return result;
+ 	}
 
- 		// The map data is PI offset from the center theta.
- 		double correctedTheta = centerTheta - Math.PI;
- 		while (correctedTheta < 0D)
- 			correctedTheta += TWO_PI;
- 		while (correctedTheta > TWO_PI)
- 			correctedTheta -= TWO_PI;
+ 	/**
+ 	 * Renders the globe seen from above a center location. Each display pixel
+ 	 * is mapped back to the location on the surface it shows, which is the
+ 	 * inverse of findRectPosition. The rows are shared out over the common
+ 	 * fork join pool.
+ 	 * 
+ 	 * @param centerPhi
+ 	 * @param centerTheta
+ 	 * @return
+ 	 */
+ 	private BufferedImage renderMapImage(double centerPhi, double centerTheta) {
+ 		double sinCenter = Math.sin(centerPhi);
+ 		double cosCenter = Math.cos(centerPhi);
+ 		double thetaOffset = centerTheta + (Math.PI / 2D);
 
  		// Create an array of int RGB color values to create the map image from.
  		int[] mapArray = new int[MAP_BOX_WIDTH * MAP_BOX_HEIGHT];
 
- 		// Determine starting and ending phi values.
- 		double startPhi = centerPhi - (PHI_RANGE / 2);
- 		if (startPhi < 0D)
- 			startPhi = 0D;
- 		double endPhi = centerPhi + (PHI_RANGE / 2);
- 		if (endPhi > Math.PI)
- 			endPhi = Math.PI;
- 		
- 		// Loop through each phi value.
- 		for (double x = startPhi; x <= endPhi; x += PHI_ITERATION_ANGLE) {
- 			// Determine theta iteration angle.
- 			double thetaIterationAngle = TWO_PI / (THETA_ITERATION_FACTOR * Math.sin(x) + 1);
-
- 			double thetaRange = ((1 - Math.sin(x)) * TWO_PI) + MIN_THETA_DISPLAY;
- 			
- 			if ((x < POLAR_CAP_RANGE_1) || (x > (POLAR_CAP_RANGE_2)))
- 				thetaRange = TWO_PI;
- 			if (thetaRange > TWO_PI)
- 				thetaRange = TWO_PI;
-
- 			// Determine the theta starting and ending values.
- 			double startTheta = centerTheta - (thetaRange / 2);
- 			double endTheta = centerTheta + (thetaRange / 2);
-
- 			// Loop through each theta value.
- 			for (double y = startTheta; y <= endTheta; y += thetaIterationAngle) {
-
- 				// Correct y value to make sure it is within bounds. (0 to 2PI)
- 				double yCorrected = y;
- 				while (yCorrected < 0)
- 					yCorrected += TWO_PI;
- 				while (yCorrected > TWO_PI)
- 					yCorrected -= TWO_PI;
- 				
- 				// Determine the rectangular offset of the pixel in the image.
- 				Point location = findRectPosition(centerPhi, centerTheta, x, yCorrected, 1440 / Math.PI, 720,
- 						720 - 150);
-
- 				// Determine the display x and y coordinates for the pixel in the image.
- 				int displayX = MAP_BOX_WIDTH - location.x;
- 				int displayY = MAP_BOX_HEIGHT - location.y;
-
- 				// Check that the x and y coordinates are within the display area.
- 				boolean leftBounds = displayX >= 0;
- 				boolean rightBounds = displayX < MAP_BOX_WIDTH;
- 				boolean topBounds = displayY >= 0;
- 				boolean bottomBounds = displayY < MAP_BOX_HEIGHT;
- 				if (leftBounds && rightBounds && topBounds && bottomBounds) {
-
- 					// Determine array index for the display location.
- 					int index = (MAP_BOX_WIDTH - displayX) + ((MAP_BOX_HEIGHT - displayY) * MAP_BOX_WIDTH);
-
- 					// Put color in array at index.
- 					if ((index >= 0) && (index < mapArray.length))
- 						mapArray[index] = getRGBColorInt(x, yCorrected);
+ 		IntStream.range(0, MAP_BOX_HEIGHT).parallel().forEach(row -> {
+ 			double y = Y_TABLE[row];
+ 			int start = row * MAP_BOX_WIDTH;
+ 			for (int col = 0; col < MAP_BOX_WIDTH; col++) {
+ 				double z = Z_TABLE[start + col];
+ 				if (z < 0D) {
+ 					// Off the edge of the globe
+ 					continue;
  				}
+ 				// Rotate the point on the view back onto the globe
+ 				double across = -(cosCenter * y) - (sinCenter * z);
+ 				double up = (cosCenter * z) - (sinCenter * y);
+ 				double phi = Math.acos(Math.max(-1D, Math.min(1D, up)));
+ 				double theta = Math.atan2(across, X_TABLE[col]) + thetaOffset;
+ 				mapArray[start + col] = getRGBColorInt(phi, theta);
  			}
- 		}
+ 		});
 
  		// Create new map image.
+ 		BufferedImage result = new BufferedImage(MAP_BOX_WIDTH, MAP_BOX_HEIGHT, BufferedImage.TYPE_INT_ARGB);
  		result.setRGB(0, 0, MAP_BOX_WIDTH, MAP_BOX_HEIGHT, mapArray, 0, MAP_BOX_WIDTH);
 
  		return result;
@@ -341,15 +419,19 @@ import javax.imageio.ImageIO;
 // 		if (column == colorRow.length)
 // 			column--;
 
+ 		if (tiles == null) {
+ 			loadHeader();
+ 		}
+ 		
  		int row = (int) Math.round(phi * (MAP_HEIGHT / Math.PI));
- 		if (row == pixels.length)
- 			row--;
+ 		if (row >= height)
+ 			row = height - 1;
 
- 		int column = (int) Math.round(theta * ((double) pixels[0].length / TWO_PI));
- 		if (column == pixels[0].length)
- 			column--;
+ 		int column = (int) Math.round(theta * ((double) width / TWO_PI));
+ 		if (column >= width)
+ 			column = width - 1;
  		
- 		return pixels[row][column];
+ 		return getPixel(row, column);
  	}
 
  	
@@ -497,8 +579,12 @@ import javax.imageio.ImageIO;
  	}
  	
  	
- 	public void destroy() {
- 		pixels = null;
+ 	public synchronized void destroy() {
+ 		tiles = null;
+ 		synchronized (views) {
+ 			views.clear();
+ 		}
+ 		numLoaded = 0;
  		logger = null;
  	}
  }
@@ -0,0 +1,330 @@
+/*
+ * Mars Simulation Project
+ * MapTileCache.java
+ * @date 2026-10-19
+ * @author agent
+ */
+package org.mars_sim.msp.ui.swing.tool.map;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * A cache of map tiles shared by every map panel. The surface is covered by
+ * a pyramid of equirectangular grids; each level has twice the resolution of
+ * the one before and is cut into square tiles. A tile is computed by its
+ * source the first time it is needed and then kept, least recently used
+ * first, within a memory budget. The tiles around those in view are computed
+ * in the background so moving the map rarely waits for one.
+ */
+public final class MapTileCache {
+
+	/**
+	 * Computes the tiles of one kind of map data.
+	 *
+	 * @param <T> Type of the data of a tile
+	 */
+	public interface TileSource<T> {
+
+		/**
+		 * Computes a tile. Pixel (r, c) of the tile is centred on
+		 * {@link MapTileCache#getPhi(int, int)} of row
+		 * tileRow * TILE_SIZE + r and {@link MapTileCache#getTheta(int, int)}
+		 * of column tileColumn * TILE_SIZE + c. This may be called on a
+		 * background thread.
+		 *
+		 * @param level
+		 * @param tileRow
+		 * @param tileColumn
+		 * @return
+		 */
+		T createTile(int level, int tileRow, int tileColumn);
+
+		/**
+		 * Gets the memory (bytes) used by a tile.
+		 *
+		 * @param tile
+		 * @return
+		 */
+		long getMemory(T tile);
+	}
+
+	private static final Logger logger = Logger.getLogger(MapTileCache.class.getName());
+
+	/** Width and height of a tile in pixels. */
+	public static final int TILE_SIZE = 90;
+	/** Highest level; it has 2880 pixels around the equator. */
+	public static final int MAX_LEVEL = 3;
+
+	// Pixels around the equator at level 0; one per degree
+	private static final int BASE_COLUMNS = 360;
+	private static final long MEMORY_BUDGET = 48L * 1024 * 1024;
+	private static final double TWO_PI = Math.PI * 2D;
+
+	private static final MapTileCache instance = new MapTileCache();
+
+	private final Map<TileKey, Object> tiles = new LinkedHashMap<>(128, 0.75f, true);
+	private long memory = 0;
+
+	private final Set<TileKey> pending = ConcurrentHashMap.newKeySet();
+	private final ExecutorService prefetcher = Executors.newSingleThreadExecutor(r -> {
+		Thread t = new Thread(r, "MapTilePrefetch");
+		t.setDaemon(true);
+		t.setPriority(Thread.MIN_PRIORITY);
+		return t;
+	});
+
+	private MapTileCache() {
+		// Shared instance
+	}
+
+	public static MapTileCache instance() {
+		return instance;
+	}
+
+	/**
+	 * Gets the lowest level whose pixels are no wider than an angle.
+	 *
+	 * @param pixelAngle Angle (radians) covered by a display pixel
+	 * @return
+	 */
+	public static int getLevel(double pixelAngle) {
+		int level = 0;
+		while ((level < MAX_LEVEL) && (getPixelAngle(level) > pixelAngle)) {
+			level++;
+		}
+		return level;
+	}
+
+	/**
+	 * Gets the angle (radians) covered by a pixel of a level.
+	 *
+	 * @param level
+	 * @return
+	 */
+	public static double getPixelAngle(int level) {
+		return TWO_PI / getColumns(level);
+	}
+
+	public static int getColumns(int level) {
+		return BASE_COLUMNS << level;
+	}
+
+	public static int getRows(int level) {
+		return getColumns(level) / 2;
+	}
+
+	public static int getTileColumns(int level) {
+		return getColumns(level) / TILE_SIZE;
+	}
+
+	public static int getTileRows(int level) {
+		return getRows(level) / TILE_SIZE;
+	}
+
+	/**
+	 * Gets the phi at the centre of a row of pixels.
+	 *
+	 * @param level
+	 * @param row
+	 * @return
+	 */
+	public static double getPhi(int level, int row) {
+		return (row + 0.5D) * getPixelAngle(level);
+	}
+
+	/**
+	 * Gets the theta at the centre of a column of pixels.
+	 *
+	 * @param level
+	 * @param column
+	 * @return
+	 */
+	public static double getTheta(int level, int column) {
+		return (column + 0.5D) * getPixelAngle(level);
+	}
+
+	/**
+	 * Gets the row of pixels holding a phi.
+	 *
+	 * @param level
+	 * @param phi
+	 * @return
+	 */
+	public static int getRow(int level, double phi) {
+		int row = (int) (phi / getPixelAngle(level));
+		return Math.max(0, Math.min(getRows(level) - 1, row));
+	}
+
+	/**
+	 * Gets the column of pixels holding a theta.
+	 *
+	 * @param level
+	 * @param theta
+	 * @return
+	 */
+	public static int getColumn(int level, double theta) {
+		int columns = getColumns(level);
+		int column = (int) Math.floor(theta / getPixelAngle(level)) % columns;
+		return (column < 0 ? column + columns : column);
+	}
+
+	/**
+	 * Gets a tile, computing it on this thread if it is not cached.
+	 *
+	 * @param source
+	 * @param level
+	 * @param tileRow
+	 * @param tileColumn
+	 * @return
+	 */
+	@SuppressWarnings("unchecked")
+	public <T> T getTile(TileSource<T> source, int level, int tileRow, int tileColumn) {
+		TileKey key = new TileKey(source, level, tileRow, tileColumn);
+		T tile;
+		synchronized (tiles) {
+			tile = (T) tiles.get(key);
+		}
+		if (tile == null) {
+			tile = source.createTile(level, tileRow, tileColumn);
+			put(key, tile);
+		}
+		return tile;
+	}
+
+	/**
+	 * Queues the tiles around a tile to be computed in the background if they
+	 * are not cached. Columns wrap around the planet.
+	 *
+	 * @param source
+	 * @param level
+	 * @param tileRow
+	 * @param tileColumn
+	 */
+	public <T> void prefetchAround(TileSource<T> source, int level, int tileRow, int tileColumn) {
+		int tileRows = getTileRows(level);
+		int tileColumns = getTileColumns(level);
+		for (int dr = -1; dr <= 1; dr++) {
+			int r = tileRow + dr;
+			if ((r < 0) || (r >= tileRows)) {
+				continue;
+			}
+			for (int dc = -1; dc <= 1; dc++) {
+				int c = (tileColumn + dc + tileColumns) % tileColumns;
+				TileKey key = new TileKey(source, level, r, c);
+				boolean cached;
+				synchronized (tiles) {
+					cached = tiles.containsKey(key);
+				}
+				if (!cached && pending.add(key)) {
+					prefetcher.execute(() -> prefetch(key, source));
+				}
+			}
+		}
+	}
+
+	private <T> void prefetch(TileKey key, TileSource<T> source) {
+		try {
+			boolean cached;
+			synchronized (tiles) {
+				cached = tiles.containsKey(key);
+			}
+			if (!cached) {
+				put(key, source.createTile(key.level, key.row, key.column));
+			}
+		}
+		catch (RuntimeException e) {
+			logger.log(Level.WARNING, "Could not compute map tile", e);
+		}
+		finally {
+			pending.remove(key);
+		}
+	}
+
+	/**
+	 * Adds a tile and drops the least recently used ones over the budget.
+	 */
+	@SuppressWarnings("unchecked")
+	private <T> void put(TileKey key, T tile) {
+		long size = ((TileSource<T>) key.source).getMemory(tile);
+		synchronized (tiles) {
+			Object old = tiles.put(key, tile);
+			if (old != null) {
+				memory -= ((TileSource<Object>) key.source).getMemory(old);
+			}
+			memory += size;
+
+			Iterator<Map.Entry<TileKey, Object>> i = tiles.entrySet().iterator();
+			while ((memory > MEMORY_BUDGET) && i.hasNext()) {
+				Map.Entry<TileKey, Object> eldest = i.next();
+				if (eldest.getKey().equals(key)) {
+					continue;
+				}
+				memory -= ((TileSource<Object>) eldest.getKey().source).getMemory(eldest.getValue());
+				i.remove();
+			}
+		}
+	}
+
+	/**
+	 * Drops every tile of a source.
+	 *
+	 * @param source
+	 */
+	@SuppressWarnings("unchecked")
+	public void clear(TileSource<?> source) {
+		synchronized (tiles) {
+			Iterator<Map.Entry<TileKey, Object>> i = tiles.entrySet().iterator();
+			while (i.hasNext()) {
+				Map.Entry<TileKey, Object> e = i.next();
+				if (e.getKey().source.equals(source)) {
+					memory -= ((TileSource<Object>) e.getKey().source).getMemory(e.getValue());
+					i.remove();
+				}
+			}
+		}
+	}
+
+	/**
+	 * Identifies a tile. Sources that are equal share tiles.
+	 */
+	private static final class TileKey {
+		private final TileSource<?> source;
+		private final int level;
+		private final int row;
+		private final int column;
+
+		TileKey(TileSource<?> source, int level, int row, int column) {
+			this.source = source;
+			this.level = level;
+			this.row = row;
+			this.column = column;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (this == obj) {
+				return true;
+			}
+			if (!(obj instanceof TileKey)) {
+				return false;
+			}
+			TileKey other = (TileKey) obj;
+			return (level == other.level) && (row == other.row) && (column == other.column)
+					&& source.equals(other.source);
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash(source, level, row, column);
+		}
+	}
+}
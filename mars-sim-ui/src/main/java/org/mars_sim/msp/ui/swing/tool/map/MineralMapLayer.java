@@ -15,7 +15,6 @@ import java.awt.*;
 import java.awt.image.MemoryImageSource;
 import java.util.Arrays;
 import java.util.HashMap;
-import java.util.Iterator;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -43,6 +42,8 @@ public class MineralMapLayer implements MapLayer {
 
 	private java.util.Map<String, Boolean> mineralsDisplayedMap;
 
+	private MineralTileSource tileSource;
+
 	/**
 	 * Constructor
 	 * 
@@ -52,6 +53,7 @@ public class MineralMapLayer implements MapLayer {
 		mineralMap = Simulation.instance().getSurfaceFeatures().getMineralMap();
 		this.displayComponent = displayComponent;
 		mineralConcentrationArray = new int[Map.MAP_VIS_WIDTH * Map.MAP_VIS_HEIGHT];
+		tileSource = new MineralTileSource(mineralMap);
 		updateMineralsDisplayed();
 	}
 
@@ -77,40 +79,69 @@ public class MineralMapLayer implements MapLayer {
 
 			double rho = CannedMarsMap.PIXEL_RHO;
 
-			// MineralMap mineralMap =
-			// Simulation.instance().getMars().getSurfaceFeatures().getMineralMap();
 			java.util.Map<String, Color> mineralColors = getMineralColors();
 			updateMineralsDisplayed();
 
-			for (int x = 0; x < Map.MAP_VIS_WIDTH; x += 2) {
-				for (int y = 0; y < Map.MAP_VIS_HEIGHT; y += 2) {
-					Coordinates location = mapCenter.convertRectToSpherical(x - centerX, y - centerY, rho);
-					java.util.Map<String, Double> mineralConcentrations = mineralMap
-							.getAllMineralConcentrations(location);
-					if (mineralConcentrations.size() > 0) {
-						Iterator<String> i = mineralConcentrations.keySet().iterator();
-						while (i.hasNext()) {
-							String mineralType = i.next();
-							if (isMineralDisplayed(mineralType)) {
-								double concentration = mineralConcentrations.get(mineralType);
-								if (concentration > 0D) {
-									Color baseColor = mineralColors.get(mineralType);
-									int index = x + (y * Map.MAP_VIS_WIDTH);
-									addColorToMineralConcentrationArray(index, baseColor, concentration);
-									addColorToMineralConcentrationArray((index + 1), baseColor, concentration);
-									if (y < Map.MAP_VIS_HEIGHT - 1) {
-										int indexNextLine = x + ((y + 1) * Map.MAP_VIS_WIDTH);
-										addColorToMineralConcentrationArray(indexNextLine, baseColor, concentration);
-										addColorToMineralConcentrationArray((indexNextLine + 1), baseColor,
-												concentration);
-									}
-								}
+			// Colors of the minerals shown, in the order of the tiles
+			String[] mineralNames = tileSource.getMineralNames();
+			int[] colors = new int[mineralNames.length];
+			boolean[] shown = new boolean[mineralNames.length];
+			for (int m = 0; m < mineralNames.length; m++) {
+				colors[m] = mineralColors.get(mineralNames[m]).getRGB() & 0x00FFFFFF;
+				shown[m] = isMineralDisplayed(mineralNames[m]);
+			}
+
+			// The tiles hold one pixel for every two across the display
+			MapTileCache cache = MapTileCache.instance();
+			int level = MapTileCache.getLevel(2D / rho);
+			java.util.Map<Integer, byte[][]> visibleTiles = new HashMap<>();
+			int tileColumns = MapTileCache.getTileColumns(level);
+
+			// Same as Coordinates.convertRectToSpherical for every pixel
+			double sinPhi = Math.sin(mapCenter.getPhi());
+			double cosPhi = Math.cos(mapCenter.getPhi());
+			double sinTheta = Math.sin(mapCenter.getTheta());
+			double cosTheta = Math.cos(mapCenter.getTheta());
+
+			for (int y = 0; y < Map.MAP_VIS_HEIGHT; y++) {
+				double dy = y - centerY;
+				for (int x = 0; x < Map.MAP_VIS_WIDTH; x++) {
+					double dx = x - centerX;
+					double z = Math.sqrt((rho * rho) - (dx * dx) - (dy * dy));
+					double y2 = (dy * cosPhi) + (z * sinPhi);
+					double z2 = (z * cosPhi) - (dy * sinPhi);
+					double x3 = (dx * cosTheta) + (y2 * sinTheta);
+					double y3 = (y2 * cosTheta) - (dx * sinTheta);
+					double phi = Math.acos(z2 / rho);
+					double theta = Math.atan2(x3, y3);
+
+					int row = MapTileCache.getRow(level, phi);
+					int column = MapTileCache.getColumn(level, theta);
+					int tileRow = row / MapTileCache.TILE_SIZE;
+					int tileColumn = column / MapTileCache.TILE_SIZE;
+					byte[][] tile = visibleTiles.computeIfAbsent(tileRow * tileColumns + tileColumn,
+							k -> cache.getTile(tileSource, level, tileRow, tileColumn));
+
+					int tileIndex = (row % MapTileCache.TILE_SIZE) * MapTileCache.TILE_SIZE
+										+ (column % MapTileCache.TILE_SIZE);
+					int color = 0;
+					for (int m = 0; m < tile.length; m++) {
+						if (shown[m] && (tile[m] != null)) {
+							int concentrationInt = tile[m][tileIndex] & 0xFF;
+							if (concentrationInt > 0) {
+								color |= (concentrationInt << 24) | colors[m];
 							}
 						}
 					}
+					mineralConcentrationArray[x + (y * Map.MAP_VIS_WIDTH)] = color;
 				}
 			}
 
+			// Get ready for the map to move
+			for (int key : visibleTiles.keySet()) {
+				cache.prefetchAround(tileSource, level, key / tileColumns, key % tileColumns);
+			}
+
 			// Create mineral concentration image for map
 			mineralConcentrationMap = displayComponent.createImage(new MemoryImageSource(Map.MAP_VIS_WIDTH,
 					Map.MAP_VIS_HEIGHT, mineralConcentrationArray, 0, Map.MAP_VIS_WIDTH));
@@ -128,20 +159,6 @@ public class MineralMapLayer implements MapLayer {
 		g.drawImage(mineralConcentrationMap, 0, 0, displayComponent);
 	}
 
-	/**
-	 * Adds a color to the mineral concentration array.
-	 * 
-	 * @param index         the index of the pixel in the array.
-	 * @param color         the mineral color.
-	 * @param concentration the amount of concentration (0% - 100.0%).
-	 */
-	private void addColorToMineralConcentrationArray(int index, Color color, double concentration) {
-		int concentrationInt = (int) (255 * (concentration / 100D));
-		int concentrationColor = (concentrationInt << 24) | (color.getRGB() & 0x00FFFFFF);
-		int currentColor = mineralConcentrationArray[index];
-		mineralConcentrationArray[index] = currentColor | concentrationColor;
-	}
-
 	/**
 	 * Gets a map of all mineral type names and their display colors.
 	 * 
@@ -204,4 +221,75 @@ public class MineralMapLayer implements MapLayer {
 			updateLayer = true;
 		}
 	}
+
+	/**
+	 * Computes tiles holding the concentration of each mineral. Layers showing
+	 * the same mineral map share the tiles, whichever minerals they display.
+	 */
+	private static final class MineralTileSource implements MapTileCache.TileSource<byte[][]> {
+
+		private final MineralMap mineralMap;
+		private final String[] mineralNames;
+		private final java.util.Map<String, Integer> mineralIndex = new HashMap<>();
+
+		MineralTileSource(MineralMap mineralMap) {
+			this.mineralMap = mineralMap;
+			this.mineralNames = mineralMap.getMineralTypeNames();
+			for (int m = 0; m < mineralNames.length; m++) {
+				mineralIndex.put(mineralNames[m], m);
+			}
+		}
+
+		String[] getMineralNames() {
+			return mineralNames;
+		}
+
+		/**
+		 * Creates a tile with a byte of concentration (0 - 255) per pixel for
+		 * each mineral; minerals not found in the tile have no array.
+		 */
+		@Override
+		public byte[][] createTile(int level, int tileRow, int tileColumn) {
+			byte[][] result = new byte[mineralNames.length][];
+			for (int r = 0; r < MapTileCache.TILE_SIZE; r++) {
+				double phi = MapTileCache.getPhi(level, tileRow * MapTileCache.TILE_SIZE + r);
+				for (int c = 0; c < MapTileCache.TILE_SIZE; c++) {
+					double theta = MapTileCache.getTheta(level, tileColumn * MapTileCache.TILE_SIZE + c);
+					java.util.Map<String, Double> mineralConcentrations = mineralMap
+							.getAllMineralConcentrations(new Coordinates(phi, theta));
+					for (java.util.Map.Entry<String, Double> e : mineralConcentrations.entrySet()) {
+						Integer m = mineralIndex.get(e.getKey());
+						if ((m != null) && (e.getValue() > 0D)) {
+							if (result[m] == null) {
+								result[m] = new byte[MapTileCache.TILE_SIZE * MapTileCache.TILE_SIZE];
+							}
+							result[m][r * MapTileCache.TILE_SIZE + c] = (byte) (int) (255 * (e.getValue() / 100D));
+						}
+					}
+				}
+			}
+			return result;
+		}
+
+		@Override
+		public long getMemory(byte[][] tile) {
+			long result = 16L + (8L * tile.length);
+			for (byte[] b : tile) {
+				if (b != null) {
+					result += 16L + b.length;
+				}
+			}
+			return result;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			return (obj instanceof MineralTileSource) && (((MineralTileSource) obj).mineralMap == mineralMap);
+		}
+
+		@Override
+		public int hashCode() {
+			return System.identityHashCode(mineralMap);
+		}
+	}
 }
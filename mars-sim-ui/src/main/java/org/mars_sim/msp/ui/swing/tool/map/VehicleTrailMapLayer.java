@@ -9,8 +9,8 @@ package org.mars_sim.msp.ui.swing.tool.map;
 
 import java.awt.Color;
 import java.awt.Graphics;
-import java.util.ArrayList;
 import java.util.Iterator;
+import java.util.List;
 
 import org.mars_sim.msp.core.Coordinates;
 import org.mars_sim.msp.core.IntPoint;
@@ -74,21 +74,37 @@ public class VehicleTrailMapLayer implements MapLayer {
 		// Get map angle.
 		double angle = Map.HALF_MAP_ANGLE;
 
-		// Draw trail.
-		IntPoint oldSpot = null;
-		Iterator<Coordinates> j = (new ArrayList<Coordinates>(vehicle.getTrail())).iterator();
-		while (j.hasNext()) {
-			Coordinates trailSpot = j.next();
-			if (trailSpot != null) {
-				if (mapCenter.getAngle(trailSpot) < angle) {
-					IntPoint spotLocation = MapUtils.getRectPosition(trailSpot, mapCenter, mapType);
-					if ((oldSpot == null))
-						g.drawRect(spotLocation.getiX(), spotLocation.getiY(), 1, 1);
-					else if (!spotLocation.equals(oldSpot))
-						g.drawLine(oldSpot.getiX(), oldSpot.getiY(), spotLocation.getiX(), spotLocation.getiY());
-					oldSpot = spotLocation;
+		// The trail is already simplified; draw each visible run as one polyline
+		List<Coordinates> trail = vehicle.getTrail();
+		int[] xPoints = new int[trail.size()];
+		int[] yPoints = new int[trail.size()];
+		int numPoints = 0;
+		for (Coordinates trailSpot : trail) {
+			if (mapCenter.getAngle(trailSpot) < angle) {
+				IntPoint spotLocation = MapUtils.getRectPosition(trailSpot, mapCenter, mapType);
+				// Skip points on the same pixel as the previous one
+				if ((numPoints == 0) || (xPoints[numPoints - 1] != spotLocation.getiX())
+						|| (yPoints[numPoints - 1] != spotLocation.getiY())) {
+					xPoints[numPoints] = spotLocation.getiX();
+					yPoints[numPoints] = spotLocation.getiY();
+					numPoints++;
 				}
 			}
+			else {
+				drawRun(xPoints, yPoints, numPoints, g);
+				numPoints = 0;
+			}
 		}
+		drawRun(xPoints, yPoints, numPoints, g);
+	}
+
+	/**
+	 * Draws a run of trail points that are on the map.
+	 */
+	private static void drawRun(int[] xPoints, int[] yPoints, int numPoints, Graphics g) {
+		if (numPoints == 1)
+			g.drawRect(xPoints[0], yPoints[0], 1, 1);
+		else if (numPoints > 1)
+			g.drawPolyline(xPoints, yPoints, numPoints);
 	}
 }
@@ -10,8 +10,6 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.logging.Logger;
 
-import javax.swing.SwingUtilities;
-
 import org.mars_sim.msp.core.Msg;
 import org.mars_sim.msp.core.Unit;
 import org.mars_sim.msp.core.UnitEvent;
@@ -51,6 +49,8 @@ public class BuildingTableModel extends UnitTableModel {
 
 	private UnitManagerListener unitManagerListener;
 
+	private Settlement settlement;
+
 	private static List<UnitEventType> powerEvents = new ArrayList<>();
 
 	/**
@@ -95,6 +95,8 @@ public class BuildingTableModel extends UnitTableModel {
 				"BuildingTableModel.countingBuilding", //$NON-NLS-1$
 				columnNames, columnTypes);
 		
+		this.settlement = settlement;
+
 		unitManagerListener = new LocalUnitManagerListener();
 		unitManager.addUnitManagerListener(unitManagerListener);
 
@@ -113,50 +115,30 @@ public class BuildingTableModel extends UnitTableModel {
 		Unit unit = (Unit) event.getSource();
 		UnitEventType eventType = event.getType();
 
-		int unitIndex = -1;
-		int columnNum = -1;
-		
 		if (eventType == UnitEventType.REMOVE_BUILDING_EVENT) {
-			
-			unitIndex = getUnitIndex(unit);
-			fireTableRowsDeleted(unitIndex, unitIndex);
+			if (containsUnit(unit)) {
+				removeUnit(unit);
+			}
 		}
 		else if (eventType == UnitEventType.ADD_BUILDING_EVENT) {
-			// Determine the new row to be added
-			Building building = (Building)unit;
-			addUnit(building);
-			
-			fireTableStructureChanged();
+			addUnit(unit);
 		}
-
-		else { 
-			try {
-				for (UnitEventType type: powerEvents) {				
-					if (type == eventType) {
-						// Will fill in the codes here to update values in various columns
-					}
-				}
-			} catch (Exception e) {
-				logger.severe("unitUpdate not working: " + e.getMessage());
-			}
-		}
-			
-		if (columnNum > -1) {
-			SwingUtilities.invokeLater(new BuildingTableCellUpdater(unitIndex, columnNum));
+		else if (powerEvents.contains(eventType) || (eventType == UnitEventType.HEAT_MODE_EVENT)) {
+			// There is no event for the temperature so it is also picked up here
+			unitChanged(unit);
 		}
 	}
 
 	/**
 	 * Returns the value of a Cell.
 	 *
-	 * @param rowIndex    Row index of the cell.
+	 * @param unit        Unit of the row.
 	 * @param columnIndex Column index of the cell.
 	 */
-	public Object getValueAt(int rowIndex, int columnIndex) {
+	protected Object getUnitValue(Unit unit, int columnIndex) {
 		Object result = null;
 
-		if (rowIndex < getUnitNumber()) {
-			Building building = (Building) getUnit(rowIndex);
+		Building building = (Building) unit;
 
 			switch (columnIndex) {
 
@@ -188,7 +170,6 @@ public class BuildingTableModel extends UnitTableModel {
 				result = Math.round(building.getCurrentTemperature() * 10.0)/10.0;
 				break;
 			}
-		}
 
 		return result;
 	}
@@ -216,7 +197,8 @@ public class BuildingTableModel extends UnitTableModel {
 			UnitManagerEventType eventType = event.getEventType();
 
 			if (unit.getUnitType() == UnitType.BUILDING) {
-				if (eventType == UnitManagerEventType.ADD_UNIT && !containsUnit(unit)) {
+				if (eventType == UnitManagerEventType.ADD_UNIT && !containsUnit(unit)
+						&& (((Building) unit).getSettlement() == settlement)) {
 					addUnit(unit);
 				} else if (eventType == UnitManagerEventType.REMOVE_UNIT && containsUnit(unit)) {
 					removeUnit(unit);
@@ -224,21 +206,4 @@ public class BuildingTableModel extends UnitTableModel {
 			}
 		}
 	}
-	
-	/**
-	 * The class for updating the table cell.
-	 */
-	private class BuildingTableCellUpdater implements Runnable {
-		private int row;
-		private int column;
-
-		private BuildingTableCellUpdater(int row, int column) {
-			this.row = row;
-			this.column = column;
-		}
-
-		public void run() {
-			fireTableCellUpdated(row, column);
-		}
-	}
 }
@@ -15,8 +15,6 @@ import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.logging.Logger;
 
-import javax.swing.SwingUtilities;
-
 import org.apache.commons.lang3.StringUtils;
 import org.mars_sim.msp.core.Msg;
 import org.mars_sim.msp.core.Simulation;
@@ -100,10 +98,6 @@ public class CropTableModel extends UnitTableModel {
 	 * A map of greenhouse buildings with # of growing crops.
 	 */
 	private Map<Building, Integer> totalNumCropMap;
-	/**
-	 * A map of greenhouse buildings having a list of crop category and having a number of growing crops.
-	 */
-	private Map<Building, Map<CropCategory, Integer>> cropCatMap;
 
 	private Settlement selectedSettlement;
 
@@ -117,7 +111,6 @@ public class CropTableModel extends UnitTableModel {
 		selectedSettlement = settlement;
 		
 		totalNumCropMap = new ConcurrentHashMap<>();
-		cropCatMap = new ConcurrentHashMap<>();
 
 		buildings = new ArrayList<>();
 		cropCategoryList = new ArrayList<>();
@@ -149,7 +142,7 @@ public class CropTableModel extends UnitTableModel {
 	}
 	
 	/**
-	 * Creates the building crop category map.
+	 * Creates the list of greenhouse buildings.
 	 */
 	public void createBuildingCropCatMap() {
 		Iterator<Settlement> i = paddedSettlements.iterator();
@@ -162,102 +155,62 @@ public class CropTableModel extends UnitTableModel {
 				Building b = j.next();
 				if (!buildings.contains(b)) {
 					buildings.add(b);
-					Map<CropCategory, Integer> map = new ConcurrentHashMap<>();
-					for (CropCategory type : CropCategory.values()) {
-						map.put(type, 0);
-					}
-					cropCatMap.put(b, map);
 				}
 			}
 		}
 	}
 	
 	/**
-	 * Updates the list of crops according to the category for each building.
+	 * Adds the greenhouse buildings to the table. The crops of each category are
+	 * counted when the rows are calculated.
 	 */
 	public void updateCropCatMap() {
 		setSource(buildings);
-		
-		try {
-			for (Building b: buildings) {
-				Iterator<Crop> k = b.getFarming().getCrops().iterator();
-				while (k.hasNext()) {
-					CropCategory cat = k.next().getCropSpec().getCropCategory();
-					Map<CropCategory, Integer> innerCatMap = null;
-					if (cropCatMap.containsKey(b)) {
-						innerCatMap = cropCatMap.get(b);
-						if (innerCatMap.containsKey(cat)) {
-							int num1 = innerCatMap.get(cat);
-							num1++;
-							innerCatMap.put(cat, num1);
-						}
-						else {
-							innerCatMap = new ConcurrentHashMap<>();
-							innerCatMap.put(cat, 1);
-						}
-					}
-				}
-
-			}
-		} catch (Exception e) {
-			logger.severe("updateCropCatMap not working: " + e.getMessage());
-		}
 	}
 	
 	/**
-	 * Gives the position number for a particular crop group.
-	 *
-	 * @param String cropCat
-	 * @return a position number
-	 */
-	public int getCategoryNum(String cat) {
-		return CropCategory.valueOf(cat.toUpperCase()).ordinal();
-	}
-
-	/**
-	 * Gets the total number of crop in a crop group from cropMap or cropCache.
+	 * Gets the total number of crop in a crop group of a greenhouse.
 	 *
 	 * @param return a number
 	 */
-	private Object getValueAtCropCat(int rowIndex, int cropColumn) {
+	private Object getValueAtCropCat(Building building, int cropColumn) {
 		int catNum = cropColumn - FIRST_CROP_CAT;
-		return cropCatMap.get(buildings.get(rowIndex)).get(cropCategoryList.get(catNum));
+		return getNewValue(building, cropCategoryList.get(catNum));
 	}
 
 	/**
 	 * Return the value of a Cell.
 	 *
-	 * @param rowIndex    Row index of the cell.
+	 * @param unit        Unit of the row.
 	 * @param columnIndex Column index of the cell.
 	 */
-	public Object getValueAt(int rowIndex, int columnIndex) {
+	protected Object getUnitValue(Unit unit, int columnIndex) {
 		Object result = null;
 
-		int num = getRowCount();
-		if (rowIndex < num) {
+		Building building = (Building) unit;
 
 			try {
 				switch (columnIndex) {
 
 				case GREENHOUSE_NAME: {
-					String name = buildings.get(rowIndex).getNickName();
+					String name = building.getNickName();
 					result = (Object) name;
 				}
 					break;
 
 				case SETTLEMENT_NAME: {
-					String i = buildings.get(rowIndex).getSettlement().getName();
+					String i = building.getSettlement().getName();
 					result = (Object) i;
 				}
 					break;
 					
 				case INITIAL_COLS: {
-					result = (Object) getTotalNumOfAllCrops(buildings.get(rowIndex));
+					result = (Object) getTotalNumOfAllCrops(building);
 				}
 					break;
 
 				default: {
-					result = getValueAtCropCat(rowIndex, columnIndex);
+					result = getValueAtCropCat(building, columnIndex);
 				}
 					break;
 
@@ -265,27 +218,19 @@ public class CropTableModel extends UnitTableModel {
 			} catch (Exception e) {
 				logger.severe("getValueAt not working: " + e.getMessage());
 			}
-		}
 
 		return result;
 	}
 
 	/**
-	 * Gets the number of units in the model.
+	 * Gets the number of crops counted when the rows were last calculated.
 	 * 
-	 * Overload the super class (UnitTableModel)'s getUnitNumber()
-	 * @return number of units.
+	 * @return number of crops.
 	 */
-	protected int getUnitNumber() {
+	private int getCropNumber() {
 		int result = 0;
-		if (totalNumCropMap != null && !totalNumCropMap.isEmpty()) {
-			for (Integer value : totalNumCropMap.values()) {
-				result = result + (int) value;
-			}
-		} else {
-			for (Building b : buildings) {
-				result += getTotalNumOfAllCrops(b);
-			}
+		for (Integer value : totalNumCropMap.values()) {
+			result = result + (int) value;
 		}
 
 		return result;
@@ -296,16 +241,7 @@ public class CropTableModel extends UnitTableModel {
 	 */
 	public String getCountString() {
 		return " " + Msg.getString("CropTableModel.countingCrops", //$NON-NLS-1$
-				Integer.toString(getUnitNumber()));
-	}
-
-	/**
-	 * Get the number of rows in the model.
-	 *
-	 * @return the number of Units in the super class.
-	 */
-	public int getRowCount() {
-		return buildings.size();
+				Integer.toString(getCropNumber()));
 	}
 
 	/**
@@ -330,47 +266,16 @@ public class CropTableModel extends UnitTableModel {
 	 */
 	public void unitUpdate(UnitEvent event) {
 		Unit unit = (Unit) event.getSource();
-		int unitIndex = getUnitIndex(unit);
 		UnitEventType eventType = event.getType();
-		Object target = event.getTarget();
-
-		int columnNum = -1;
-		if (eventType == UnitEventType.NAME_EVENT)
-			columnNum = SETTLEMENT_NAME; // = 0
-		else if (eventType == UnitEventType.ADD_BUILDING_EVENT) {
-			if (target instanceof Farming)
-				columnNum = GREENHOUSE_NAME; // = 1
-		}
-
-		else if (eventType == UnitEventType.CROP_EVENT) {
-			Crop crop = (Crop) target;
-			CropCategory cat = crop.getCropSpec().getCropCategory();
 
-			try {
-				int tempColumnNum = -1;
-
-				tempColumnNum = getCategoryNum(cat.getName());
-
-				if (tempColumnNum > -1 && unitIndex > -1) {
-					// Only update cell if value as int has changed.
-					int currentValue = (Integer) getValueAt(unitIndex, tempColumnNum);
-					int newValue = getNewValue(unit, cat);
-
-					if (currentValue != newValue) {
-						columnNum = tempColumnNum;
-
-						Map<CropCategory, Integer> cropCache = cropCatMap.get(unit);
-						if (cropCache != null) {
-							cropCache.put(cat, newValue);
-						}
-					}
-				}
-			} catch (Exception e) {
-				logger.severe("unitUpdate not working: " + e.getMessage());
+		if ((eventType == UnitEventType.NAME_EVENT) || (eventType == UnitEventType.CROP_EVENT)) {
+			if (containsUnit(unit)) {
+				unitChanged(unit);
+			}
+			else {
+				// The name of the settlement is shown on every row
+				allUnitsChanged();
 			}
-		}
-		if (columnNum > -1) {
-			SwingUtilities.invokeLater(new FoodTableCellUpdater(unitIndex, columnNum));
 		}
 	}
 
@@ -435,7 +340,7 @@ public class CropTableModel extends UnitTableModel {
 	// Need to find out how to call this method and how to associate it with TableTab.
 	public String getToolTip(int row, int col) {
 		StringBuilder tt = new StringBuilder();
-		Building b = buildings.get(row);
+		Building b = (Building) getUnit(row);
 		CropCategory cat = cropCategoryList.get(col);
 
 		Farming f = b.getFarming();
@@ -458,26 +363,11 @@ public class CropTableModel extends UnitTableModel {
 		unitManager.removeUnitManagerListener(unitManagerListener);
 		unitManagerListener = null;
 
-		cropCatMap = null;
 		buildings = null;
 		paddedSettlements = null;
 
 	}
 
-	private class FoodTableCellUpdater implements Runnable {
-		private int row;
-		private int column;
-
-		private FoodTableCellUpdater(int row, int column) {
-			this.row = row;
-			this.column = column;
-		}
-
-		public void run() {
-			fireTableCellUpdated(row, column);
-		}
-	}
-
 	/**
 	 * UnitManagerListener inner class.
 	 */
@@ -493,10 +383,14 @@ public class CropTableModel extends UnitTableModel {
 			UnitManagerEventType eventType = event.getEventType();
 
 			if (unit.getUnitType() == UnitType.BUILDING) {
-				if (eventType == UnitManagerEventType.ADD_UNIT && !containsUnit(unit)) {
+				Building building = (Building) unit;
+				if (eventType == UnitManagerEventType.ADD_UNIT && !containsUnit(unit)
+						&& (building.getSettlement() == selectedSettlement)
+						&& (building.getFarming() != null)) {
 					addUnit(unit);
 				} else if (eventType == UnitManagerEventType.REMOVE_UNIT && containsUnit(unit)) {
 					removeUnit(unit);
+					totalNumCropMap.remove(building);
 				}
 			}
 		}
@@ -1,21 +1,18 @@
 /*
  * Mars Simulation Project
  * PersonTableModel.java
- * @date 2022-07-21
+ * @date 2026-10-19
  * @author Barry Evans
  */
 package org.mars_sim.msp.ui.swing.tool.monitor;
 
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Collections;
-import java.util.HashMap;
+import java.util.EnumSet;
 import java.util.Iterator;
-import java.util.Map;
+import java.util.Set;
 import java.util.logging.Logger;
 
-import javax.swing.SwingUtilities;
-
 import org.mars_sim.msp.core.GameManager.GameMode;
 import org.mars_sim.msp.core.Msg;
 import org.mars_sim.msp.core.Simulation;
@@ -95,6 +92,16 @@ public class PersonTableModel extends UnitTableModel {
 	/** Types of Columns. */
 	private static Class<?> columnTypes[];
 
+	/** Unit events that change a displayed value. */
+	private final static Set<UnitEventType> DISPLAYED_EVENTS = EnumSet.of(
+			UnitEventType.NAME_EVENT, UnitEventType.LOCATION_EVENT, UnitEventType.HUNGER_EVENT,
+			UnitEventType.THIRST_EVENT, UnitEventType.FATIGUE_EVENT, UnitEventType.STRESS_EVENT,
+			UnitEventType.EMOTION_EVENT, UnitEventType.PERFORMANCE_EVENT, UnitEventType.JOB_EVENT,
+			UnitEventType.ROLE_EVENT, UnitEventType.SHIFT_EVENT, UnitEventType.TASK_EVENT,
+			UnitEventType.TASK_NAME_EVENT, UnitEventType.TASK_DESCRIPTION_EVENT,
+			UnitEventType.TASK_ENDED_EVENT, UnitEventType.TASK_SUBTASK_EVENT,
+			UnitEventType.MISSION_EVENT, UnitEventType.ILLNESS_EVENT, UnitEventType.DEATH_EVENT);
+
 	private final static String DEYDRATED = "Deydrated";
 //	private final static String THIRSTY = "Thirsty";
 	private final static String STARVING = "Starving";
@@ -156,12 +163,6 @@ public class PersonTableModel extends UnitTableModel {
 	private MissionListener missionListener;
 	private UnitManagerListener unitManagerListener;
 
-	/**
-	 * Map for caching a person's hunger, fatigue, stress and performance status
-	 * strings.
-	 */
-	private Map<Unit, Map<Integer, String>> performanceValueCache;
-
 	/**
 	 * constructor. Constructs a PersonTableModel object that displays all people in
 	 * the simulation.
@@ -272,83 +273,47 @@ public class PersonTableModel extends UnitTableModel {
 			addUnit(iter.next());
 	}
 
-	@Override
-	protected void addUnit(Unit newUnit) {
-		if (performanceValueCache == null) {
-			performanceValueCache = new HashMap<>();
-		}
-
-		if (!performanceValueCache.containsKey(newUnit)) {
-			try {
-				Map<Integer, String> performanceItemMap = new HashMap<>();
-
-				Person person = (Person) newUnit;
-				PhysicalCondition condition = person.getPhysicalCondition();
-
-				double hunger = condition.getHunger();
-				double energy = condition.getEnergy();
-				String hungerString = PhysicalCondition.getHungerStatus(hunger, energy);
-				performanceItemMap.put(ENERGY, hungerString);
-
-				double thirst = condition.getThirst();
-				String thirstString = PhysicalCondition.getThirstyStatus(thirst);
-				performanceItemMap.put(WATER, thirstString);
-
-				double fatigue = condition.getFatigue();
-				String fatigueString = PhysicalCondition.getFatigueStatus(fatigue);
-				performanceItemMap.put(FATIGUE, fatigueString);
-
-				double stress = condition.getStress();
-				String stressString = PhysicalCondition.getStressStatus(stress);
-				performanceItemMap.put(STRESS, stressString);
-
-				double performance = condition.getPerformanceFactor() * 100D;
-				String performanceString = PhysicalCondition.getPerformanceStatus(performance);
-				performanceItemMap.put(PERFORMANCE, performanceString);
-
-				String emotionString = person.getMind().getEmotion().getDescription();
-				performanceItemMap.put(EMOTION, emotionString);
-
-				performanceValueCache.put(newUnit, performanceItemMap);
-			} catch (Exception e) {
-			}
-		}
-		super.addUnit(newUnit);
-	}
-
-	@Override
-	protected void removeUnit(Unit oldUnit) {
-		if (performanceValueCache == null) {
-			performanceValueCache = new HashMap<>();
-		}
-		if (performanceValueCache.containsKey(oldUnit)) {
-			Map<Integer, String> performanceItemMap = performanceValueCache.get(oldUnit);
-			performanceItemMap.clear();
-			performanceValueCache.remove(oldUnit);
-		}
-		super.removeUnit(oldUnit);
-	}
-
 	/**
 	 * Catches unit update event.
 	 *
 	 * @param event the unit event.
 	 */
 	public void unitUpdate(UnitEvent event) {
-		SwingUtilities.invokeLater(new PersonTableUpdater(event, this));
+		UnitEventType eventType = event.getType();
+		if (!DISPLAYED_EVENTS.contains(eventType)) {
+			return;
+		}
+
+		if (event.getTarget() instanceof Person) {
+			String personName = ((Unit) event.getTarget()).getName();
+			if (eventType == UnitEventType.DEATH_EVENT) {
+				logger.info(personName + " has just passed away. ");
+			} else if (eventType == UnitEventType.ILLNESS_EVENT) {
+				logger.info(personName + " got sick.");
+			} else if (eventType == UnitEventType.JOB_EVENT) {
+				logger.info(personName + " just got a new job.");
+			} else if (eventType == UnitEventType.ROLE_EVENT) {
+				logger.info(personName + " just got a new role type.");
+			} else if (eventType == UnitEventType.SHIFT_EVENT) {
+				logger.info(personName + " was just assigned a new work shift.");
+			}
+		}
+
+		if (event.getSource() instanceof Person) {
+			unitChanged((Unit) event.getSource());
+		}
 	}
 
 	/**
 	 * Returns the value of a Cell.
 	 *
-	 * @param rowIndex    Row index of the cell.
+	 * @param unit        Unit of the row.
 	 * @param columnIndex Column index of the cell.
 	 */
-	public Object getValueAt(int rowIndex, int columnIndex) {
+	protected Object getUnitValue(Unit unit, int columnIndex) {
 		Object result = null;
 
-		if (rowIndex < getUnitNumber()) {
-			Person person = (Person) getUnit(rowIndex);
+		Person person = (Person) unit;
 
 			switch (columnIndex) {
 
@@ -507,8 +472,6 @@ public class PersonTableModel extends UnitTableModel {
 				break;
 			}
 
-		}
-
 		return result;
 	}
 
@@ -537,11 +500,6 @@ public class PersonTableModel extends UnitTableModel {
 			settlementListener = null;
 			settlement = null;
 		}
-
-		if (performanceValueCache != null) {
-			performanceValueCache.clear();
-		}
-		performanceValueCache = null;
 	}
 
 	@Override
@@ -557,186 +515,6 @@ public class PersonTableModel extends UnitTableModel {
 		return result;
 	}
 
-	/**
-	 * Inner class for updating the person table.
-	 */
-	private static class PersonTableUpdater implements Runnable {
-
-		static final Map<UnitEventType, Integer> EVENT_COLUMN_MAPPING;
-
-		static {
-			HashMap<UnitEventType, Integer> m = new HashMap<>();
-			m.put(UnitEventType.NAME_EVENT, NAME);
-			m.put(UnitEventType.LOCATION_EVENT, LOCATION);
-			m.put(UnitEventType.HUNGER_EVENT, ENERGY);
-			m.put(UnitEventType.THIRST_EVENT, ENERGY);
-			m.put(UnitEventType.FATIGUE_EVENT, FATIGUE);
-			m.put(UnitEventType.STRESS_EVENT, STRESS);
-			m.put(UnitEventType.EMOTION_EVENT, EMOTION);
-			m.put(UnitEventType.PERFORMANCE_EVENT, PERFORMANCE);
-			m.put(UnitEventType.JOB_EVENT, JOB);
-			m.put(UnitEventType.ROLE_EVENT, ROLE);
-			m.put(UnitEventType.SHIFT_EVENT, SHIFT);
-			m.put(UnitEventType.TASK_EVENT, TASK);
-			m.put(UnitEventType.TASK_NAME_EVENT, TASK);
-			m.put(UnitEventType.TASK_DESCRIPTION_EVENT, TASK);
-			m.put(UnitEventType.TASK_ENDED_EVENT, TASK);
-			m.put(UnitEventType.TASK_SUBTASK_EVENT, TASK);
-			m.put(UnitEventType.MISSION_EVENT, MISSION_COL);
-			m.put(UnitEventType.ILLNESS_EVENT, HEALTH);
-			m.put(UnitEventType.DEATH_EVENT, HEALTH);
-			EVENT_COLUMN_MAPPING = Collections.unmodifiableMap(m);
-		}
-
-		private final UnitEvent event;
-
-		private final PersonTableModel tableModel;
-
-		private PersonTableUpdater(UnitEvent event, PersonTableModel tableModel) {
-			this.event = event;
-			this.tableModel = tableModel;
-		}
-
-		@Override
-		public void run() {
-			UnitEventType eventType = event.getType();
-
-			Integer column = EVENT_COLUMN_MAPPING.get(eventType);
-
-			if (eventType == UnitEventType.DEATH_EVENT) {
-				if (event.getTarget() instanceof Person) {
-					Unit unit = (Unit) event.getTarget();
-					String personName = unit.getName();
-					String announcement = personName + " has just passed away. ";
-					// desktop.openMarqueeBanner(announcement);
-					logger.info(announcement);
-				}
-			} else if (eventType == UnitEventType.ILLNESS_EVENT) {
-				if (event.getTarget() instanceof Person) {
-					Unit unit = (Unit) event.getTarget();
-					String personName = unit.getName();
-					String announcement = personName + " got sick.";
-					// desktop.disposeMarqueeBanner();
-					// desktop.openMarqueeBanner(announcement);
-					logger.info(announcement);
-				}
-			} else if (eventType == UnitEventType.JOB_EVENT) {
-				if (event.getTarget() instanceof Person) {
-					Unit unit = (Unit) event.getTarget();
-					String personName = unit.getName();
-					String announcement = personName + " just got a new job.";
-					// desktop.disposeMarqueeBanner();
-					// desktop.openMarqueeBanner(announcement);
-					logger.info(announcement);
-				}
-			} else if (eventType == UnitEventType.ROLE_EVENT) {
-				if (event.getTarget() instanceof Person) {
-					Unit unit = (Unit) event.getTarget();
-					String personName = unit.getName();
-					String announcement = personName + " just got a new role type.";
-					logger.info(announcement);
-				}
-			} else if (eventType == UnitEventType.SHIFT_EVENT) {
-				if (event.getTarget() instanceof Person) {
-					Unit unit = (Unit) event.getTarget();
-					String personName = unit.getName();
-					String announcement = personName + " was just assigned a new work shift.";
-					logger.info(announcement);
-				}
-			} else if (eventType == UnitEventType.HUNGER_EVENT) {
-				Person person = (Person) event.getSource();
-				double hunger = person.getPhysicalCondition().getHunger();
-				double energy = person.getPhysicalCondition().getEnergy();
-				String hungerString = PhysicalCondition.getHungerStatus(hunger, energy);
-				if ((tableModel.performanceValueCache != null)
-						&& tableModel.performanceValueCache.containsKey(person)) {
-					Map<Integer, String> performanceItemMap = tableModel.performanceValueCache.get(person);
-					String oldHungerString = performanceItemMap.get(ENERGY);
-					if (hungerString.equals(oldHungerString)) {
-						return;
-					} else {
-						performanceItemMap.put(ENERGY, hungerString);
-					}
-				}
-			} else if (eventType == UnitEventType.THIRST_EVENT) {
-				Person person = (Person) event.getSource();
-				double thirst = person.getPhysicalCondition().getThirst();
-				String thirstString = PhysicalCondition.getThirstyStatus(thirst);
-				if ((tableModel.performanceValueCache != null)
-						&& tableModel.performanceValueCache.containsKey(person)) {
-					Map<Integer, String> performanceItemMap = tableModel.performanceValueCache.get(person);
-					String oldThirstString = performanceItemMap.get(WATER);
-					if (thirstString.equals(oldThirstString)) {
-						return;
-					} else {
-						performanceItemMap.put(WATER, thirstString);
-					}
-				}
-			} else if (eventType == UnitEventType.FATIGUE_EVENT) {
-				Person person = (Person) event.getSource();
-				double fatigue = person.getPhysicalCondition().getFatigue();
-				String fatigueString = PhysicalCondition.getFatigueStatus(fatigue);
-				if ((tableModel.performanceValueCache != null)
-						&& tableModel.performanceValueCache.containsKey(person)) {
-					Map<Integer, String> performanceItemMap = tableModel.performanceValueCache.get(person);
-					String oldFatigueString = performanceItemMap.get(FATIGUE);
-					if (fatigueString.equals(oldFatigueString)) {
-						return;
-					} else {
-						performanceItemMap.put(FATIGUE, fatigueString);
-					}
-				}
-			} else if (eventType == UnitEventType.STRESS_EVENT) {
-				Person person = (Person) event.getSource();
-				double stress = person.getPhysicalCondition().getStress();
-				String stressString = PhysicalCondition.getStressStatus(stress);
-				if ((tableModel.performanceValueCache != null)
-						&& tableModel.performanceValueCache.containsKey(person)) {
-					Map<Integer, String> performanceItemMap = tableModel.performanceValueCache.get(person);
-					String oldStressString = performanceItemMap.get(STRESS);
-					if (stressString.equals(oldStressString)) {
-						return;
-					} else {
-						performanceItemMap.put(STRESS, stressString);
-					}
-				}
-			} else if (eventType == UnitEventType.PERFORMANCE_EVENT) {
-				Person person = (Person) event.getSource();
-				double performance = person.getPhysicalCondition().getPerformanceFactor() * 100D;
-				String performanceString = PhysicalCondition.getPerformanceStatus(performance);
-				if ((tableModel.performanceValueCache != null)
-						&& tableModel.performanceValueCache.containsKey(person)) {
-					Map<Integer, String> performanceItemMap = tableModel.performanceValueCache.get(person);
-					String oldString = performanceItemMap.get(PERFORMANCE);
-					if (performanceString.equals(oldString)) {
-						return;
-					} else {
-						performanceItemMap.put(PERFORMANCE, performanceString);
-					}
-				}
-
-			} else if (eventType == UnitEventType.EMOTION_EVENT) {
-				Person person = (Person) event.getSource();
-				String emotionString = person.getMind().getEmotion().getDescription();
-				if ((tableModel.performanceValueCache != null)
-						&& tableModel.performanceValueCache.containsKey(person)) {
-					Map<Integer, String> performanceItemMap = tableModel.performanceValueCache.get(person);
-					String oldEmotionString = performanceItemMap.get(EMOTION);
-					if (emotionString.equals(oldEmotionString)) {
-						return;
-					} else {
-						performanceItemMap.put(EMOTION, emotionString);
-					}
-				}
-			}
-
-			if (column != null && column > -1) {
-				Unit unit = (Unit) event.getSource();
-				tableModel.fireTableCellUpdated(tableModel.getUnitIndex(unit), column);
-			}
-		}
-	}
-
 	/**
 	 * UnitListener inner class for crewable vehicle.
 	 */
@@ -1,19 +1,16 @@
 /*
  * Mars Simulation Project
  * RobotTableModel.java
- * @date 2021-12-07
+ * @date 2026-10-19
  * @author Manny Kung
  */
 package org.mars_sim.msp.ui.swing.tool.monitor;
 
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Collections;
-import java.util.HashMap;
+import java.util.EnumSet;
 import java.util.Iterator;
-import java.util.Map;
-
-import javax.swing.SwingUtilities;
+import java.util.Set;
 
 import org.mars_sim.msp.core.GameManager.GameMode;
 import org.mars_sim.msp.core.Msg;
@@ -108,6 +105,13 @@ public class RobotTableModel extends UnitTableModel {
 		columnTypes[TASK] = String.class;
 	}
 
+	/** Unit events that change a displayed value. */
+	private final static Set<UnitEventType> DISPLAYED_EVENTS = EnumSet.of(
+			UnitEventType.NAME_EVENT, UnitEventType.LOCATION_EVENT, UnitEventType.ROBOT_POWER_EVENT,
+			UnitEventType.PERFORMANCE_EVENT, UnitEventType.JOB_EVENT, UnitEventType.TASK_EVENT,
+			UnitEventType.TASK_NAME_EVENT, UnitEventType.TASK_ENDED_EVENT,
+			UnitEventType.TASK_SUBTASK_EVENT, UnitEventType.MISSION_EVENT, UnitEventType.DEATH_EVENT);
+
 	/** inner enum with valid source types. */
 	private enum ValidSourceType {
 		ALL_ROBOTS, VEHICLE_ROBOTS, SETTLEMENT_ROBOTS, SETTLEMENT_ALL_ASSOCIATED_ROBOTS, MISSION_ROBOTS;
@@ -261,20 +265,26 @@ public class RobotTableModel extends UnitTableModel {
 	 * @param event the unit event.
 	 */
 	public void unitUpdate(UnitEvent event) {
-		SwingUtilities.invokeLater(new RobotTableUpdater(event, this));
+		if (DISPLAYED_EVENTS.contains(event.getType())) {
+			if (event.getSource() instanceof Robot) {
+				unitChanged((Unit) event.getSource());
+			}
+			if (event.getTarget() instanceof Robot) {
+				unitChanged((Unit) event.getTarget());
+			}
+		}
 	}
 
 	/**
 	 * Returns the value of a Cell.
 	 *
-	 * @param rowIndex    Row index of the cell.
+	 * @param unit        Unit of the row.
 	 * @param columnIndex Column index of the cell.
 	 */
-	public Object getValueAt(int rowIndex, int columnIndex) {
+	protected Object getUnitValue(Unit unit, int columnIndex) {
 		Object result = null;
 
-		if (rowIndex < getUnitNumber()) {
-			Robot robot = (Robot) getUnit(rowIndex);
+		Robot robot = (Robot) unit;
 
 			switch (columnIndex) {
 
@@ -339,7 +349,6 @@ public class RobotTableModel extends UnitTableModel {
 				}
 			}
 				break;
-			}
 		}
 
 		return result;
@@ -426,97 +435,6 @@ public class RobotTableModel extends UnitTableModel {
 		return result;
 	}
 
-	/**
-	 * Inner class for updating the robot table.
-	 */
-	private static class RobotTableUpdater implements Runnable {
-
-		static final Map<UnitEventType, Integer> EVENT_COLUMN_MAPPING;
-
-		static {
-			HashMap<UnitEventType, Integer> m = new HashMap<>();
-			m.put(UnitEventType.NAME_EVENT, NAME);
-			m.put(UnitEventType.LOCATION_EVENT, LOCATION);
-			m.put(UnitEventType.ROBOT_POWER_EVENT, BATTERY);
-			m.put(UnitEventType.PERFORMANCE_EVENT, PERFORMANCE);
-			m.put(UnitEventType.JOB_EVENT, JOB);
-			m.put(UnitEventType.TASK_EVENT, TASK);
-			m.put(UnitEventType.TASK_NAME_EVENT, TASK);
-			m.put(UnitEventType.TASK_ENDED_EVENT, TASK);
-			m.put(UnitEventType.TASK_SUBTASK_EVENT, TASK);
-			m.put(UnitEventType.MISSION_EVENT, MISSION_COL);
-			m.put(UnitEventType.DEATH_EVENT, HEALTH);
-			EVENT_COLUMN_MAPPING = Collections.unmodifiableMap(m);
-		}
-
-		private final UnitEvent event;
-
-		private final RobotTableModel tableModel;
-
-		private RobotTableUpdater(UnitEvent event, RobotTableModel tableModel) {
-			this.event = event;
-			this.tableModel = tableModel;
-		}
-
-		@Override
-		public void run() {
-			UnitEventType eventType = event.getType();
-
-			Integer column = EVENT_COLUMN_MAPPING.get(eventType);
-
-//			if (eventType == UnitEventType.NAME_EVENT) {
-//				
-//			}
-//			
-//			else if (eventType == UnitEventType.LOCATION_EVENT) {
-//				
-//			}
-//			else if (eventType == UnitEventType.ROBOT_POWER_EVENT) {
-//				
-//			}
-//			else if (eventType == UnitEventType.PERFORMANCE_EVENT) {
-//				
-//			}
-//			else if (eventType == UnitEventType.JOB_EVENT) {
-//				
-//			}
-//			else if (eventType == UnitEventType.TASK_EVENT) {
-//				
-//			}
-//			else if (eventType == UnitEventType.TASK_NAME_EVENT) {
-//				
-//			}
-//			else if (eventType == UnitEventType.TASK_ENDED_EVENT) {
-//				
-//			}
-//			else if (eventType == UnitEventType.TASK_SUBTASK_EVENT) {
-//				
-//			}
-//			else if (eventType == UnitEventType.MISSION_EVENT) {
-//				
-//			}
-//			else if (eventType == UnitEventType.DEATH_EVENT) {
-//				
-//			}
-			
-			if (column != null && column > -1) {
-				if (event.getSource() instanceof Unit) {
-					Unit source = (Unit) event.getSource();
-					if (source instanceof Robot) {
-						tableModel.fireTableCellUpdated(tableModel.getUnitIndex(source), column);
-					}
-				}
-				
-				if (event.getTarget() instanceof Unit) {
-					Unit target = (Unit) event.getTarget();
-					if (target instanceof Robot) {
-						tableModel.fireTableCellUpdated(tableModel.getUnitIndex(target), column);
-					}
-				}
-			}
-		}
-	}
-
 	/**
 	 * UnitListener inner class for crewable vehicle.
 	 */
@@ -1,21 +1,20 @@
 /*
  * Mars Simulation Project
  * SettlementTableModel.java
- * @date 2022-07-01
+ * @date 2026-10-19
  * @author Barry Evans
  */
 package org.mars_sim.msp.ui.swing.tool.monitor;
 
 import java.text.DecimalFormat;
+import java.util.Arrays;
 import java.util.Collection;
-import java.util.HashMap;
+import java.util.EnumSet;
+import java.util.HashSet;
 import java.util.Iterator;
-import java.util.Map;
-import java.util.logging.Level;
+import java.util.Set;
 import java.util.logging.Logger;
 
-import javax.swing.SwingUtilities;
-
 import org.mars_sim.msp.core.Msg;
 import org.mars_sim.msp.core.Simulation;
 import org.mars_sim.msp.core.Unit;
@@ -162,11 +161,28 @@ public class SettlementTableModel extends UnitTableModel {
 		df.setMinimumIntegerDigits(1);	
 	}
 
+	/** Unit events that change a displayed value other than resources. */
+	private static final Set<UnitEventType> DISPLAYED_EVENTS = EnumSet.of(
+			UnitEventType.NAME_EVENT, UnitEventType.CONSUMING_COMPUTING_EVENT,
+			UnitEventType.GENERATED_POWER_EVENT, UnitEventType.REQUIRED_POWER_EVENT,
+			UnitEventType.STORED_POWER_EVENT, UnitEventType.MALFUNCTION_EVENT);
+
+	/** Resources shown in a column. */
+	private static final Set<Integer> DISPLAYED_RESOURCES = new HashSet<>();
+
+	static {
+		DISPLAYED_RESOURCES.addAll(Arrays.asList(OXYGEN_ID, HYDROGEN_ID, METHANE_ID, METHANOL_ID,
+									WATER_ID, ICE_ID, CONCRETE_ID, CEMENT_ID));
+		for (int[] ids : new int[][] {REGOLITH_IDS, ROCK_IDS, MINERAL_IDS, ORE_IDS}) {
+			for (int id : ids) {
+				DISPLAYED_RESOURCES.add(id);
+			}
+		}
+	}
+
 	// Data members
 	private UnitManagerListener unitManagerListener;
 
-	private Map<Unit, Map<Integer, Double>> resourceCache;
-
 	/**
 	 * Constructs a SettlementTableModel model that displays all Settlements in the
 	 * simulation.
@@ -204,15 +220,13 @@ public class SettlementTableModel extends UnitTableModel {
 	/**
 	 * Return the value of a Cell
 	 *
-	 * @param rowIndex    Row index of the cell.
+	 * @param unit        Unit of the row.
 	 * @param columnIndex Column index of the cell.
 	 */
-	public Object getValueAt(int rowIndex, int columnIndex) {
+	protected Object getUnitValue(Unit unit, int columnIndex) {
 		Object result = null;
 
-		if (rowIndex < getUnitNumber()) {
-			Settlement settle = (Settlement) getUnit(rowIndex);
-			Map<Integer, Double> resourceMap = resourceCache.get(settle);
+		Settlement settle = (Settlement) unit;
 
 			try {
 				switch (columnIndex) {
@@ -289,64 +303,64 @@ public class SettlementTableModel extends UnitTableModel {
 					break;
 
 				case OXYGEN_COL: {
-					result = df.format(resourceMap.get(OXYGEN_ID));
+					result = df.format(getResourceStored(settle, OXYGEN_ID));
 				}
 					break;
 
 				case HYDROGEN_COL: {
-					result = df.format(resourceMap.get(HYDROGEN_ID));
+					result = df.format(getResourceStored(settle, HYDROGEN_ID));
 				}
 					break;
 					
 				case METHANE_COL: {
-					result = df.format(resourceMap.get(METHANE_ID));
+					result = df.format(getResourceStored(settle, METHANE_ID));
 				}
 					break;
 
 				case METHANOL_COL: {
-					result = df.format(resourceMap.get(METHANOL_ID));
+					result = df.format(getResourceStored(settle, METHANOL_ID));
 				}
 					break;
 					
 					
 				case WATER_COL: {
-					result = df.format(resourceMap.get(WATER_ID));
+					result = df.format(getResourceStored(settle, WATER_ID));
 				}
 					break;
 					
 				case ICE_COL: {
-					result = df.format(resourceMap.get(ICE_ID));
+					result = df.format(getResourceStored(settle, ICE_ID));
 				}
 					break;
 	
 				case CONCRETE_COL: {
-					result = df.format(resourceMap.get(CONCRETE_ID));
+					result = df.format(getResourceStored(settle, CONCRETE_ID));
 				}
 					break;
 
 				case CEMENT_COL: {
-					result = df.format(resourceMap.get(CEMENT_ID));
+					result = df.format(getResourceStored(settle, CEMENT_ID));
 				}
 					break;
 														
 				case REGOLITHS_COL: {
-					result = df.format(getTotalAmount(REGOLITH_IDS, resourceMap));
+					result = df.format(getTotalAmount(REGOLITH_IDS, settle));
 				}
 					break;
 
 				case ROCKS_COL: {
-					result = df.format(getTotalAmount(ROCK_IDS, resourceMap));
+					result = df.format(getTotalAmount(ROCK_IDS, settle));
 				}
 					break;
 					
 					
 				case ORES_COL: {
-					result = df.format(getTotalAmount(ORE_IDS, resourceMap));
+					result = df.format(getTotalAmount(ORE_IDS, settle));
 				}
 					break;
 					
 				case MINERALS_COL: {
-					result = df.format(getTotalAmount(MINERAL_IDS, resourceMap));
+					result = df.format(getTotalAmount(MINERAL_IDS, settle));
 				}
 					break;
 				
@@ -356,7 +370,6 @@ public class SettlementTableModel extends UnitTableModel {
 			} catch (Exception e) {
 				logger.severe("getValueAt is invalid: " + e.getMessage());
 			}
-		}
 
 		return result;
 	}
@@ -365,14 +378,14 @@ public class SettlementTableModel extends UnitTableModel {
 	 * Gets the sum of the amount of the same types of resources.
 	 * 
 	 * @param types
-	 * @param resourceMap
+	 * @param settlement
 	 * @return
 	 */
-	private double getTotalAmount(int [] types, Map<Integer, Double> resourceMap) {
+	private double getTotalAmount(int [] types, Settlement settlement) {
 		double result = 0;
 		for (int i = 0; i < types.length; i++) {
 			int id = types[i];
-			result += resourceMap.get(id);
+			result += getResourceStored(settlement, id);
 		}
 		return result;
 	}
@@ -383,128 +396,29 @@ public class SettlementTableModel extends UnitTableModel {
 	 * @param event the unit event.
 	 */
 	public void unitUpdate(UnitEvent event) {
-		Unit unit = (Unit) event.getSource();
-		int unitIndex = getUnitIndex(unit);
 		Object source = event.getTarget();
 		UnitEventType eventType = event.getType();
 
-		int columnNum = -1;
-		if (eventType == UnitEventType.NAME_EVENT) columnNum = NAME;
-		else if (eventType == UnitEventType.INVENTORY_STORING_UNIT_EVENT ||
+		boolean changed = false;
+		if (eventType == UnitEventType.INVENTORY_STORING_UNIT_EVENT ||
 				eventType == UnitEventType.INVENTORY_RETRIEVING_UNIT_EVENT) {
-			if (source instanceof Person) columnNum = POPULATION;
-			else if (source instanceof Vehicle) columnNum = PARKED;
+			changed = (source instanceof Person) || (source instanceof Vehicle);
 		}
-		else if (eventType == UnitEventType.CONSUMING_COMPUTING_EVENT) columnNum = COMPUTING_UNIT;
-		else if (eventType == UnitEventType.GENERATED_POWER_EVENT) columnNum = POWER_GEN;
-		else if (eventType == UnitEventType.REQUIRED_POWER_EVENT) columnNum = POWER_LOAD;
-		else if (eventType == UnitEventType.STORED_POWER_EVENT) columnNum = ENERGY_STORED;		
-		else if (eventType == UnitEventType.MALFUNCTION_EVENT) columnNum = MALFUNCTION;
 		else if (eventType == UnitEventType.INVENTORY_RESOURCE_EVENT) {
-			int target = -1;
 			if (source instanceof AmountResource) {
-				target = ((AmountResource)source).getID();
+				changed = DISPLAYED_RESOURCES.contains(((AmountResource)source).getID());
 			}
 			else if (source instanceof Integer) {
 				// Note: most likely, the source is an integer id
-				target = (Integer)source;
-				if (target >= ResourceUtil.FIRST_ITEM_RESOURCE_ID)
-					// if it's an item resource, quit
-					return;
-			}
-			else
-				return;
-			
-			try {
-				int tempColumnNum = -1;
-				double currentValue = 0.0;
-				Map<Integer, Double> resourceMap = resourceCache.get(unit);
-
-				if (target == OXYGEN_ID) {
-					tempColumnNum = OXYGEN_COL;
-					currentValue = resourceMap.get(OXYGEN_ID);
-				}
-				else if (target == HYDROGEN_ID) {
-					tempColumnNum = HYDROGEN_COL;
-					currentValue = resourceMap.get(HYDROGEN_ID);
-				}
-				else if (target == METHANOL_ID) {
-					tempColumnNum = METHANOL_COL;
-					currentValue = resourceMap.get(METHANOL_ID);
-				}
-				else if (target == METHANE_ID) {
-					tempColumnNum = METHANE_COL;
-					currentValue = resourceMap.get(METHANE_ID);
-				}
-				else if (target == WATER_ID) {
-					tempColumnNum = WATER_COL;
-					currentValue = resourceMap.get(WATER_ID);
-				}
-				else if (target == ICE_ID) {
-					tempColumnNum = ICE_COL;
-					currentValue = resourceMap.get(ICE_ID);
-				}
-				else if (target == CONCRETE_ID) {
-					tempColumnNum = CONCRETE_COL;
-					currentValue = resourceMap.get(CONCRETE_ID);
-				}
-				else if (target == CEMENT_ID) {
-					tempColumnNum = CEMENT_COL;
-					currentValue = resourceMap.get(CEMENT_ID);
-				}
-				else {
-					boolean found = false;
-					for (int i = 0; i < REGOLITH_IDS.length; i++) {
-						if (!found && target == REGOLITH_IDS[i]) {
-							tempColumnNum = REGOLITHS_COL;
-							currentValue = resourceMap.get(target);
-							found = true;
-						}
-					}
-					if (!found) {
-						for (int i = 0; i < ORE_IDS.length; i++) {
-							if (!found && target == ORE_IDS[i]) {
-								tempColumnNum = ORES_COL;
-								currentValue = resourceMap.get(target);
-								found = true;
-							}
-						}
-					}
-					if (!found) {
-						for (int i = 0; i < MINERAL_IDS.length; i++) {
-							if (!found && target == MINERAL_IDS[i]) {
-								tempColumnNum = MINERALS_COL;
-								currentValue = resourceMap.get(target);
-								found = true;
-							}
-						}
-					}
-					if (!found) {
-						for (int i = 0; i < ROCK_IDS.length; i++) {
-							if (!found && target == ROCK_IDS[i]) {
-								tempColumnNum = ROCKS_COL;
-								currentValue = resourceMap.get(target);
-								found = true;
-							}
-						}
-					}
-				}
-
-				if (tempColumnNum > -1) {
-					double newValue = getResourceStored((Settlement)unit, target);
-					if (currentValue != newValue) {
-						columnNum = tempColumnNum;
-						resourceMap.put(target, newValue);
-					}
-				}
-			}
-			catch (Exception e) {
-				logger.log(Level.SEVERE, "Issues with unitUpdate()", e);
+				changed = DISPLAYED_RESOURCES.contains(source);
 			}
 		}
+		else {
+			changed = DISPLAYED_EVENTS.contains(eventType);
+		}
 
-		if (columnNum > -1) {
-			SwingUtilities.invokeLater(new SettlementTableCellUpdater(unitIndex, columnNum));
+		if (changed) {
+			unitChanged((Unit) event.getSource());
 		}
 	}
 
@@ -517,59 +431,6 @@ public class SettlementTableModel extends UnitTableModel {
 		Iterator<Settlement> iter = source.iterator();
 		while (iter.hasNext())
 			addUnit(iter.next());
-		
-		setSize(source.size());
-	}
-
-	@Override
-	protected void addUnit(Unit newUnit) {
-		if (resourceCache == null)
-			resourceCache = new HashMap<>();
-		if (!resourceCache.containsKey(newUnit)) {
-			try {
-				Map<Integer, Double> resourceMap = new HashMap<>();
-				Settlement settlement = (Settlement)newUnit;
-				resourceMap.put(OXYGEN_ID, getResourceStored(settlement, OXYGEN_ID));
-				resourceMap.put(HYDROGEN_ID, getResourceStored(settlement, HYDROGEN_ID));
-				resourceMap.put(METHANE_ID, getResourceStored(settlement, METHANE_ID));
-				resourceMap.put(METHANOL_ID, getResourceStored(settlement, METHANOL_ID));
-				
-				resourceMap.put(WATER_ID, getResourceStored(settlement, WATER_ID));
-				resourceMap.put(ICE_ID, getResourceStored(settlement, ICE_ID));
-				
-				resourceMap.put(CONCRETE_ID, getResourceStored(settlement, CONCRETE_ID));
-				resourceMap.put(CEMENT_ID, getResourceStored(settlement, CEMENT_ID));
-
-				for (int i = 0; i < REGOLITH_IDS.length; i++) {
-					resourceMap.put(REGOLITH_IDS[i], getResourceStored(settlement, REGOLITH_IDS[i]));
-				}		
-				for (int i = 0; i < ORE_IDS.length; i++) {
-					resourceMap.put(ORE_IDS[i], getResourceStored(settlement, ORE_IDS[i]));
-				}			
-				for (int i = 0; i < MINERAL_IDS.length; i++) {
-					resourceMap.put(MINERAL_IDS[i], getResourceStored(settlement, MINERAL_IDS[i]));
-				}
-				for (int i = 0; i < ROCK_IDS.length; i++) {
-					resourceMap.put(ROCK_IDS[i], getResourceStored(settlement, ROCK_IDS[i]));
-				}
-	
-				resourceCache.put(newUnit, resourceMap);
-			} catch (Exception e) {
-			}
-		}
-		super.addUnit(newUnit);
-	}
-	
-	@Override
-	protected void removeUnit(Unit oldUnit) {
-		if (resourceCache == null)
-			resourceCache = new HashMap<>();
-		if (resourceCache.containsKey(oldUnit)) {
-			Map<Integer, Double> resourceMap = resourceCache.get(oldUnit);
-			resourceMap.clear();
-			resourceCache.remove(oldUnit);
-		}
-		super.removeUnit(oldUnit);
 	}
 
 	/**
@@ -592,22 +453,6 @@ public class SettlementTableModel extends UnitTableModel {
 		super.destroy();
 		unitManager.removeUnitManagerListener(unitManagerListener);
 		unitManagerListener = null;
-		resourceCache = null;
-	}
-
-	private class SettlementTableCellUpdater implements Runnable {
-
-		private int row;
-		private int column;
-
-		private SettlementTableCellUpdater(int row, int column) {
-			this.row = row;
-			this.column = column;
-		}
-
-		public void run() {
-			fireTableCellUpdated(row, column);
-		}
 	}
 
 	/**
@@ -1,14 +1,27 @@
 /**
  * Mars Simulation Project
  * UnitTableModel.java
- * @date 2021-12-07
+ * @date 2026-10-19
  * @author Barry Evans
  */
 package org.mars_sim.msp.ui.swing.tool.monitor;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.logging.Level;
+import java.util.logging.Logger;
 
 import javax.swing.SwingUtilities;
 import javax.swing.table.AbstractTableModel;
@@ -24,16 +37,33 @@ import org.mars_sim.msp.core.GameManager.GameMode;
 /**
  * The UnitTableModel that maintains a table model of Units objects. It is only
  * a partial implementation of the TableModel interface.
+ * The cell values are not calculated on the EDT. Subclasses flag a Unit as changed
+ * via {@link #unitChanged(Unit)} and a shared background thread recalculates the
+ * rows of the changed Units, at most once per refresh interval. The result is published
+ * to the EDT as an immutable snapshot along with the minimal row and cell events.
  */
 @SuppressWarnings("serial")
 abstract public class UnitTableModel extends AbstractTableModel implements MonitorModel, UnitListener {
 
-	// Data members
-	/** Should it be refreshed to get the number of units. */
-	private boolean refreshSize = true;
-	/** The number of the units */
-	private int size = -1;
+	private static final Logger logger = Logger.getLogger(UnitTableModel.class.getName());
+
+	/** Minimum interval between two snapshots of a model (ms). */
+	private static final long REFRESH_INTERVAL = 500L;
+
+	/** Types of structural change between two snapshots. */
+	private static final int NO_CHANGE = 0;
+	private static final int ROWS_INSERTED = 1;
+	private static final int ROWS_DELETED = 2;
+	private static final int ROWS_REPLACED = 3;
+
+	/** Thread shared by all models to calculate the snapshots. */
+	private static final ScheduledExecutorService refresher = Executors.newSingleThreadScheduledExecutor(r -> {
+		Thread thread = new Thread(r, "MonitorRefresh");
+		thread.setDaemon(true);
+		return thread;
+	});
 
+	// Data members
 	/** Model name. */
 	private String name;
 	/** Key for calling the internationalized text that counts the number of units. */
@@ -46,6 +76,25 @@ abstract public class UnitTableModel extends AbstractTableModel implements Monit
 	/** Collection of units. */
 	private Collection<Unit> units;
 
+	/** Units with values changed since the last snapshot. */
+	private final Set<Unit> changedUnits = ConcurrentHashMap.newKeySet();
+	/** Is a snapshot waiting to run ? */
+	private final AtomicBoolean refreshScheduled = new AtomicBoolean(false);
+	/** Have units been added or removed since the last snapshot ? */
+	private volatile boolean membersChanged = false;
+	/** Should every row be recalculated in the next snapshot ? */
+	private volatile boolean allChanged = false;
+	private volatile boolean destroyed = false;
+	private volatile long lastRefresh = 0L;
+
+	/** The last snapshot calculated; only used by the refresh thread. */
+	private Unit[] computedRows = new Unit[0];
+	private Object[][] computedValues = new Object[0][];
+
+	/** The snapshot shown; only replaced on the EDT. */
+	private volatile Unit[] rows = new Unit[0];
+	private volatile Object[][] rowValues = new Object[0][];
+
 	protected static GameMode mode = GameManager.getGameMode();
 	
 	protected static UnitManager unitManager = Simulation.instance().getUnitManager();
@@ -66,7 +115,6 @@ abstract public class UnitTableModel extends AbstractTableModel implements Monit
 		this.name = name;
 		this.countingMsgKey = countingMsgKey;
 		this.units = new ConcurrentLinkedQueue<Unit>();
-		// getRowCount();
 		this.columnNames = names;
 		this.columnTypes = types;
 	}
@@ -79,11 +127,11 @@ abstract public class UnitTableModel extends AbstractTableModel implements Monit
 	protected void addUnit(Unit newUnit) {
 		if (!units.contains(newUnit)) {
 			units.add(newUnit);
-			refreshSize = true;
 			newUnit.addUnitListener(this);
 
-			// Must update the table as later the table may have extra rows
-			fireTableRowsInserted(getUnitNumber() - 1, getUnitNumber() - 1);
+			// The new row appears in the next snapshot
+			membersChanged = true;
+			scheduleRefresh();
 		}
 	}
 
@@ -93,36 +141,13 @@ abstract public class UnitTableModel extends AbstractTableModel implements Monit
 	 * @param oldUnit Unit to remove from the model.
 	 */
 	protected void removeUnit(Unit oldUnit) {
-		if (units.contains(oldUnit)) {
-			int index = getIndex(oldUnit);
-
-			units.remove(oldUnit);
-			refreshSize = true;
+		if (units.remove(oldUnit)) {
 			oldUnit.removeUnitListener(this);
+			changedUnits.remove(oldUnit);
 
-			// Inform listeners of new row
-			SwingUtilities.invokeLater(new RemoveUnitTableUpdater(index));
-		}
-	}
-
-	/**
-	 * Gets the index value of a given unit.
-	 *
-	 * @param unit the unit
-	 * @return the index value.
-	 */
-	private int getIndex(Unit unit) {
-		final Iterator<Unit> it = units.iterator();
-		int idx = -1;
-		Unit u;
-		while (it.hasNext()) {
-			idx++;
-			u = it.next();
-			if (u.equals(unit)) {
-				return idx;
-			}
+			membersChanged = true;
+			scheduleRefresh();
 		}
-		throw new IllegalStateException("Could not find index for unit " + unit);
 	}
 
 	/**
@@ -144,8 +169,41 @@ abstract public class UnitTableModel extends AbstractTableModel implements Monit
 		while (i.hasNext())
 			i.next().removeUnitListener(this);
 		units.clear();
-		refreshSize = true;
-		fireTableDataChanged();
+		changedUnits.clear();
+
+		membersChanged = true;
+		scheduleRefresh();
+	}
+
+	/**
+	 * Flags that the displayed values of a unit may have changed. This can be called
+	 * from any thread; the row is recalculated in the next snapshot.
+	 *
+	 * @param unit the unit that has changed.
+	 */
+	protected void unitChanged(Unit unit) {
+		changedUnits.add(unit);
+		scheduleRefresh();
+	}
+
+	/**
+	 * Flags that the displayed values of all units may have changed.
+	 */
+	protected void allUnitsChanged() {
+		allChanged = true;
+		scheduleRefresh();
+	}
+
+	/**
+	 * Gets the value of a cell for a unit. This is called on the refresh thread
+	 * and not the EDT.
+	 *
+	 * @param unit        the unit of the row.
+	 * @param columnIndex Column index of the cell.
+	 * @return the cell value.
+	 */
+	protected Object getUnitValue(Unit unit, int columnIndex) {
+		return null;
 	}
 
 	/**
@@ -159,27 +217,12 @@ abstract public class UnitTableModel extends AbstractTableModel implements Monit
 	}
 
 	/**
-	 * Gets the number of units in the model.
+	 * Gets the number of units shown in the model.
 	 *
 	 * @return number of units.
 	 */
 	protected int getUnitNumber() {
-		if (refreshSize) {
-			size = units == null ? 0 : units.size();
-			refreshSize = false;
-		}
-//		 if (units != null) 
-//			 return units.size();
-
-		return size;
-	}
-
-	protected boolean getRefreshSize() {
-		return refreshSize;
-	}
-
-	protected void setRefreshSize(boolean value) {
-		refreshSize = value;
+		return rows.length;
 	}
 
 	protected Collection<Unit> getUnits() {
@@ -190,10 +233,6 @@ abstract public class UnitTableModel extends AbstractTableModel implements Monit
 		return units.size();
 	}
 
-	protected void setSize(int value) {
-		size = value;
-	}
-
 	/**
 	 * Return the number of columns
 	 *
@@ -247,6 +286,23 @@ abstract public class UnitTableModel extends AbstractTableModel implements Monit
 		return getUnitNumber();
 	}
 
+	/**
+	 * Returns the value of a Cell from the current snapshot.
+	 *
+	 * @param rowIndex    Row index of the cell.
+	 * @param columnIndex Column index of the cell.
+	 */
+	public Object getValueAt(int rowIndex, int columnIndex) {
+		Object[][] values = rowValues;
+		if ((rowIndex >= 0) && (rowIndex < values.length)) {
+			Object[] row = values[rowIndex];
+			if ((row != null) && (columnIndex >= 0) && (columnIndex < row.length)) {
+				return row[columnIndex];
+			}
+		}
+		return null;
+	}
+
 	/**
 	 * Is this model already ordered according to some external criteria.
 	 *
@@ -263,18 +319,10 @@ abstract public class UnitTableModel extends AbstractTableModel implements Monit
 	 * @return Unit matching row
 	 */
 	protected Unit getUnit(int index) {
-		if (index > (getRowCount() - 1))
-			throw new IllegalStateException("Invalid index " + index + " for " + getRowCount() + " rows");
-		int idx = -1;
-		Iterator<Unit> it = units.iterator();
-		while (it.hasNext()) {
-			idx++;
-			if (idx == index) {
-				return it.next();
-			}
-			it.next();
-		}
-		throw new IllegalStateException("Could not find an index " + index);
+		Unit[] shown = rows;
+		if ((index < 0) || (index >= shown.length))
+			throw new IllegalStateException("Invalid index " + index + " for " + shown.length + " rows");
+		return shown[index];
 	}
 
 	/**
@@ -284,10 +332,13 @@ abstract public class UnitTableModel extends AbstractTableModel implements Monit
 	 * @return the row index or -1 if not in table model.
 	 */
 	protected int getUnitIndex(Unit unit) {
-		if ((units != null) && units.contains(unit))
-			return getIndex(unit);
-		else
-			return -1;
+		Unit[] shown = rows;
+		for (int i = 0; i < shown.length; i++) {
+			if (shown[i].equals(unit)) {
+				return i;
+			}
+		}
+		return -1;
 	}
 
 	/**
@@ -307,10 +358,217 @@ abstract public class UnitTableModel extends AbstractTableModel implements Monit
 		return "  " + Msg.getString(countingMsgKey, getUnitNumber());
 	}
 
+	/**
+	 * Schedules a snapshot unless one is already waiting. Snapshots of a model
+	 * are at least the refresh interval apart.
+	 */
+	private void scheduleRefresh() {
+		if (!destroyed && refreshScheduled.compareAndSet(false, true)) {
+			long delay = Math.max(0L, lastRefresh + REFRESH_INTERVAL - System.currentTimeMillis());
+			refresher.schedule(this::refresh, delay, TimeUnit.MILLISECONDS);
+		}
+	}
+
+	/**
+	 * Calculates a new snapshot on the refresh thread. Only the rows of new or
+	 * changed units are recalculated; the others are shared with the previous
+	 * snapshot. The changes are then handed to the EDT.
+	 */
+	private void refresh() {
+		// Clear the flag first so any later change schedules another snapshot
+		refreshScheduled.set(false);
+		if (destroyed) {
+			return;
+		}
+		lastRefresh = System.currentTimeMillis();
+
+		Unit[] oldRows = computedRows;
+		Object[][] oldValues = computedValues;
+		Unit[] newRows = oldRows;
+		Map<Unit, Integer> oldIndexes = null;
+		if (membersChanged) {
+			membersChanged = false;
+			newRows = units.toArray(new Unit[0]);
+			oldIndexes = new HashMap<>();
+			for (int i = 0; i < oldRows.length; i++) {
+				oldIndexes.put(oldRows[i], i);
+			}
+		}
+		boolean recalculateAll = allChanged;
+		allChanged = false;
+
+		Object[][] newValues = new Object[newRows.length][];
+		int[] previous = new int[newRows.length];
+		for (int r = 0; r < newRows.length; r++) {
+			Unit unit = newRows[r];
+			int old = r;
+			if (oldIndexes != null) {
+				old = oldIndexes.getOrDefault(unit, -1);
+			}
+			previous[r] = old;
+
+			boolean changed = changedUnits.remove(unit);
+			if (changed || recalculateAll || (old < 0)) {
+				newValues[r] = calculateRow(unit);
+			}
+			else {
+				newValues[r] = oldValues[old];
+			}
+		}
+
+		// Work out the structural change
+		int change = NO_CHANGE;
+		int first = 0;
+		int last = 0;
+		if (oldIndexes != null) {
+			int prefix = 0;
+			int limit = Math.min(oldRows.length, newRows.length);
+			while ((prefix < limit) && (oldRows[prefix] == newRows[prefix])) {
+				prefix++;
+			}
+			int suffix = 0;
+			while ((suffix < limit - prefix)
+					&& (oldRows[oldRows.length - 1 - suffix] == newRows[newRows.length - 1 - suffix])) {
+				suffix++;
+			}
+
+			if (oldRows.length == newRows.length && prefix == limit) {
+				change = NO_CHANGE;
+			}
+			else if ((newRows.length > oldRows.length) && (prefix + suffix == oldRows.length)) {
+				change = ROWS_INSERTED;
+				first = prefix;
+				last = prefix + newRows.length - oldRows.length - 1;
+			}
+			else if ((oldRows.length > newRows.length) && (prefix + suffix == newRows.length)) {
+				change = ROWS_DELETED;
+				first = prefix;
+				last = prefix + oldRows.length - newRows.length - 1;
+			}
+			else {
+				change = ROWS_REPLACED;
+			}
+		}
+
+		// Find the cells that have changed in the surviving rows
+		List<int[]> updates = new ArrayList<>();
+		if (change != ROWS_REPLACED) {
+			for (int r = 0; r < newRows.length; r++) {
+				int old = previous[r];
+				if ((old >= 0) && (newValues[r] != oldValues[old])) {
+					addUpdate(updates, r, oldValues[old], newValues[r]);
+				}
+			}
+		}
+
+		computedRows = newRows;
+		computedValues = newValues;
+
+		if ((change != NO_CHANGE) || !updates.isEmpty()) {
+			final int type = change;
+			final int from = first;
+			final int to = last;
+			final Unit[] publishedRows = newRows;
+			SwingUtilities.invokeLater(() -> publish(publishedRows, newValues, type, from, to, updates));
+		}
+	}
+
+	/**
+	 * Calculates the values of a row.
+	 *
+	 * @param unit the unit of the row.
+	 * @return the values of each column.
+	 */
+	private Object[] calculateRow(Unit unit) {
+		Object[] result = new Object[columnNames.length];
+		for (int c = 0; c < result.length; c++) {
+			try {
+				result[c] = getUnitValue(unit, c);
+			}
+			catch (RuntimeException e) {
+				logger.log(Level.WARNING, "Cannot get column " + columnNames[c] + " for " + unit.getName(), e);
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Adds the update needed for a row. A single changed cell is a cell update
+	 * whereas several changed cells update the whole row. Consecutive row updates
+	 * are merged into one range.
+	 *
+	 * @param updates the updates as {first row, last row, column or -1}.
+	 * @param row     the row index.
+	 * @param oldRow  the previous values.
+	 * @param newRow  the new values.
+	 */
+	private static void addUpdate(List<int[]> updates, int row, Object[] oldRow, Object[] newRow) {
+		int column = -1;
+		int count = 0;
+		for (int c = 0; c < newRow.length; c++) {
+			if (!Objects.equals(oldRow[c], newRow[c])) {
+				column = c;
+				count++;
+			}
+		}
+
+		if (count == 1) {
+			updates.add(new int[] {row, row, column});
+		}
+		else if (count > 1) {
+			int[] previous = (updates.isEmpty() ? null : updates.get(updates.size() - 1));
+			if ((previous != null) && (previous[2] < 0) && (previous[1] == row - 1)) {
+				previous[1] = row;
+			}
+			else {
+				updates.add(new int[] {row, row, -1});
+			}
+		}
+	}
+
+	/**
+	 * Shows a new snapshot and fires the table events. This runs on the EDT.
+	 */
+	private void publish(Unit[] newRows, Object[][] newValues, int change, int first, int last,
+						List<int[]> updates) {
+		if (destroyed) {
+			return;
+		}
+		rows = newRows;
+		rowValues = newValues;
+
+		switch (change) {
+		case ROWS_INSERTED:
+			fireTableRowsInserted(first, last);
+			break;
+
+		case ROWS_DELETED:
+			fireTableRowsDeleted(first, last);
+			break;
+
+		case ROWS_REPLACED:
+			fireTableDataChanged();
+			return;
+
+		default:
+			break;
+		}
+
+		for (int[] update : updates) {
+			if (update[2] < 0) {
+				fireTableRowsUpdated(update[0], update[1]);
+			}
+			else {
+				fireTableCellUpdated(update[0], update[2]);
+			}
+		}
+	}
+
 	/**
 	 * Prepares the model for deletion.
 	 */
 	public void destroy() {
+		destroyed = true;
 		if (units != null) {
 			clear();
 		}
@@ -337,20 +595,4 @@ abstract public class UnitTableModel extends AbstractTableModel implements Monit
 
 		return result;
 	}
-
-	/**
-	 * Inner class for updating table after removing units.
-	 */
-	private class RemoveUnitTableUpdater implements Runnable {
-
-		private int index;
-
-		private RemoveUnitTableUpdater(int index) {
-			this.index = index;
-		}
-
-		public void run() {
-			fireTableRowsDeleted(index, index);
-		}
-	}
 }
@@ -1,21 +1,21 @@
 /*
  * Mars Simulation Project
  * VehicleTableModel.java
- * @date 2021-10-23
+ * @date 2026-10-19
  * @author Barry Evans
  */
 package org.mars_sim.msp.ui.swing.tool.monitor;
 
+import java.util.Arrays;
 import java.util.Collection;
-import java.util.HashMap;
+import java.util.EnumSet;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
-import java.util.Map;
+import java.util.Set;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
-import javax.swing.SwingUtilities;
-
 import org.mars_sim.msp.core.Coordinates;
 import org.mars_sim.msp.core.GameManager.GameMode;
 import org.mars_sim.msp.core.Msg;
@@ -148,18 +148,31 @@ public class VehicleTableModel extends UnitTableModel {
 
 	private final static AmountResource [] availableDesserts = PreparingDessert.getArrayOfDessertsAR();
 
+	/** Unit events that change a displayed value other than resources. */
+	private static final Set<UnitEventType> DISPLAYED_EVENTS = EnumSet.of(
+			UnitEventType.NAME_EVENT, UnitEventType.LOCATION_EVENT, UnitEventType.OPERATOR_EVENT,
+			UnitEventType.STATUS_EVENT, UnitEventType.EMERGENCY_BEACON_EVENT,
+			UnitEventType.RESERVED_EVENT, UnitEventType.SPEED_EVENT, UnitEventType.MALFUNCTION_EVENT);
+
+	/** Resources shown in a column. */
+	private static final Set<Integer> DISPLAYED_RESOURCES = new HashSet<>();
+
+	static {
+		DISPLAYED_RESOURCES.addAll(Arrays.asList(FOOD_ID, OXYGEN_ID, WATER_ID, METHANE_ID,
+									ROCK_SAMPLES_ID, ICE_ID));
+		for (AmountResource ar : availableDesserts) {
+			DISPLAYED_RESOURCES.add(ar.getID());
+		}
+	}
+
 	private static UnitManager unitManager = Simulation.instance().getUnitManager();
 
 	private static MissionManager missionManager = Simulation.instance().getMissionManager();
 
 	// Data members
-	private int mapSizeCache = 0;
-
 	private UnitManagerListener unitManagerListener;
 	private LocalMissionManagerListener missionManagerListener;
 
-	private Map<Vehicle, Map<Integer, Double>> resourceCache;
-
 	private Settlement commanderSettlement;
 
 	/**
@@ -210,15 +223,13 @@ public class VehicleTableModel extends UnitTableModel {
 	/**
 	 * Returns the value of a Cell.
 	 * 
-	 * @param rowIndex Row index of the cell.
+	 * @param unit the unit of the row.
 	 * @param columnIndex Column index of the cell.
 	 */
-	public Object getValueAt(int rowIndex, int columnIndex) {
+	protected Object getUnitValue(Unit unit, int columnIndex) {
 		Object result = null;
 
-		if (rowIndex < getUnitNumber()) {
-			Vehicle vehicle = (Vehicle)getUnit(rowIndex);
-			Map<Integer, Double> resourceMap = resourceCache.get(vehicle);
+		Vehicle vehicle = (Vehicle) unit;
 
 			try {
 				// Invoke the appropriate method, switch is the best solution
@@ -338,7 +349,7 @@ public class VehicleTableModel extends UnitTableModel {
 
 
 				case WATER : {
-					double value = resourceMap.get(WATER_ID);
+					double value = getResourceStored(vehicle, WATER_ID);
 					if (value == 0)
 						result = "--";
 					else
@@ -346,7 +357,7 @@ public class VehicleTableModel extends UnitTableModel {
 				} break;
 
 				case FOOD : {
-					double value = resourceMap.get(FOOD_ID);
+					double value = getResourceStored(vehicle, FOOD_ID);
 					if (value == 0)
 						result = "--";
 					else
@@ -355,20 +366,10 @@ public class VehicleTableModel extends UnitTableModel {
 
 				case DESSERT : {
 					double sum = 0;
-					int mapSize = resourceMap.size();
-					if (mapSizeCache != mapSize) {
-						mapSizeCache = mapSize ;
+					for (AmountResource n : availableDesserts) {
+						sum += getResourceStored(vehicle, n.getID());
 					}
-		    		for (Integer ar : resourceMap.keySet()) {
-		    	        for (AmountResource n : availableDesserts) {
-			    	        if (n.getID() == ar) {
-		    	        		double amount = resourceMap.get(ar);
-		    	        		sum += amount;
-		    	    			break;
-		    	        	}
-		    			}
-		    		}
-		    		double value = Double.valueOf(sum);
+					double value = Math.round(sum * 100.0) / 100.0;
 					if (value == 0)
 						result = "--";
 					else
@@ -376,7 +377,7 @@ public class VehicleTableModel extends UnitTableModel {
 				} break;
 
 				case OXYGEN : {
-					double value = resourceMap.get(OXYGEN_ID);
+					double value = getResourceStored(vehicle, OXYGEN_ID);
 					if (value == 0)
 						result = "--";
 					else
@@ -384,7 +385,7 @@ public class VehicleTableModel extends UnitTableModel {
 				} break;
 
 				case METHANE : {
-					double value = resourceMap.get(METHANE_ID);
+					double value = getResourceStored(vehicle, METHANE_ID);
 					if (value == 0)
 						result = "--";
 					else
@@ -393,7 +394,7 @@ public class VehicleTableModel extends UnitTableModel {
 
 				case ROCK_SAMPLES : {
 
-					double value = resourceMap.get(ROCK_SAMPLES_ID);
+					double value = getResourceStored(vehicle, ROCK_SAMPLES_ID);
 					if (value == 0)
 						result = "--";
 					else
@@ -401,7 +402,7 @@ public class VehicleTableModel extends UnitTableModel {
 				} break;
 
 				case ICE : {
-					result = resourceMap.get(ICE_ID);
+					result = getResourceStored(vehicle, ICE_ID);
 				} break;
 
 				}
@@ -410,7 +411,6 @@ public class VehicleTableModel extends UnitTableModel {
 				logger.log(Level.SEVERE, "getValueAt() cannot return a valid result", e);
 				e.printStackTrace(System.err);
 			}
-		}
 
 		return result;
 	}
@@ -424,103 +424,28 @@ public class VehicleTableModel extends UnitTableModel {
 		Unit unit = (Unit) event.getSource();
 
 		if (unit.getUnitType() == UnitType.VEHICLE) {
-			Vehicle vehicle = (Vehicle) unit;
-			int unitIndex = -1;
 			Object source = event.getTarget();
 			UnitEventType eventType = event.getType();
 
-			if (mode == GameMode.COMMAND) {
-				if (vehicle.getAssociatedSettlement().getName().equalsIgnoreCase(commanderSettlement.getName()))
-					unitIndex = 0;
-			}
-			else {
-				unitIndex = getUnitIndex(vehicle);
+			boolean changed = false;
+			if (eventType == UnitEventType.INVENTORY_STORING_UNIT_EVENT ||
+					eventType == UnitEventType.INVENTORY_RETRIEVING_UNIT_EVENT) {
+				changed = (((Unit)source).getUnitType() == UnitType.PERSON);
 			}
-
-			if (unitIndex > -1) {
-
-				int columnNum = -1;
-				if (eventType == UnitEventType.NAME_EVENT) columnNum = NAME;
-				else if (eventType == UnitEventType.LOCATION_EVENT) columnNum = LOCATION;
-				else if (eventType == UnitEventType.INVENTORY_STORING_UNIT_EVENT ||
-						eventType == UnitEventType.INVENTORY_RETRIEVING_UNIT_EVENT) {
-					if (((Unit)source).getUnitType() == UnitType.PERSON) columnNum = CREW;
+			else if (eventType == UnitEventType.INVENTORY_RESOURCE_EVENT) {
+				if (source instanceof AmountResource) {
+					changed = DISPLAYED_RESOURCES.contains(((AmountResource)source).getID());
 				}
-				else if (eventType == UnitEventType.OPERATOR_EVENT) columnNum = DRIVER;
-				else if (eventType == UnitEventType.STATUS_EVENT) columnNum = STATUS;
-				else if (eventType == UnitEventType.EMERGENCY_BEACON_EVENT) columnNum = BEACON;
-				else if (eventType == UnitEventType.RESERVED_EVENT) columnNum = RESERVED;
-				else if (eventType == UnitEventType.SPEED_EVENT) columnNum = SPEED;
-				else if (eventType == UnitEventType.MALFUNCTION_EVENT) columnNum = MALFUNCTION;
-				else if (eventType == UnitEventType.INVENTORY_RESOURCE_EVENT) {
-					int target = -1;
-					if (source instanceof AmountResource) {
-						target = ((AmountResource)source).getID();
-					}
-
-					else if (source instanceof Integer) {
-						target = (Integer)source;
-						if (target >= ResourceUtil.FIRST_ITEM_RESOURCE_ID)
-							// if it's an item resource, quit
-							return;
-					}
-
-					try {
-						int tempColumnNum = -1;
-						double currentValue = 0.0;
-						Map<Integer, Double> resourceMap = resourceCache.get(vehicle);
-
-						if (target == OXYGEN_ID) {
-							tempColumnNum = OXYGEN;
-							currentValue = resourceMap.get(OXYGEN_ID);
-						}
-						else if (target == METHANE_ID) {
-							tempColumnNum = METHANE;
-							currentValue = resourceMap.get(METHANE_ID);
-						}
-						else if (target == FOOD_ID) {
-							tempColumnNum = FOOD;
-							currentValue = resourceMap.get(FOOD_ID);
-						}
-						else if (target == WATER_ID) {
-							tempColumnNum = WATER;
-							currentValue = resourceMap.get(WATER_ID);
-						}
-						else if (target == ROCK_SAMPLES_ID) {
-							tempColumnNum = ROCK_SAMPLES;
-							currentValue = resourceMap.get(ROCK_SAMPLES_ID);
-						}
-						else if (target == ICE_ID) {
-							tempColumnNum = ICE;
-							currentValue = resourceMap.get(ICE_ID);
-						}
-						else {
-						  	// Put together a list of available dessert
-					        for(AmountResource ar : availableDesserts) {
-					        	if (target == ar.getID()) {
-					        		tempColumnNum = DESSERT;
-					        		currentValue = resourceMap.get(ar.getID());
-					        	}
-					        }
-						}
-
-						if (tempColumnNum > -1 && unitIndex > -1) {
-							currentValue = Math.round (currentValue * 10.0 ) / 10.0;
-							double newValue = Math.round (getResourceStored(unit, target) * 10.0 ) / 10.0;
-							if (currentValue != newValue) {
-								columnNum = tempColumnNum;
-								resourceMap.put(target, newValue);
-							}
-						}
-					}
-					catch (Exception e) {
-						logger.log(Level.SEVERE, "Issues with unitUpdate()", e);
-					}
+				else if (source instanceof Integer) {
+					changed = DISPLAYED_RESOURCES.contains(source);
 				}
+			}
+			else {
+				changed = DISPLAYED_EVENTS.contains(eventType);
+			}
 
-				if (columnNum > -1 && unitIndex > -1) {
-					SwingUtilities.invokeLater(new VehicleTableCellUpdater(unitIndex, columnNum));
-				}
+			if (changed) {
+				unitChanged(unit);
 			}
 		}
 	}
@@ -535,52 +460,6 @@ public class VehicleTableModel extends UnitTableModel {
 		while(iter.hasNext()) addUnit(iter.next());
 	}
 
-	/**
-	 * Adds a unit to the model.
-	 * 
-	 * @param newUnit Unit to add to the model.
-	 */
-	protected void addUnit(Unit newUnit) {
-		if (resourceCache == null) resourceCache = new HashMap<>();
-		if (!resourceCache.containsKey(newUnit)) {
-			try {
-				Map<Integer, Double> resourceMap = new HashMap<Integer, Double>();
-				resourceMap.put(FOOD_ID, Math.round(100.0 * getResourceStored(newUnit, FOOD_ID))/100.0);
-				resourceMap.put(OXYGEN_ID, Math.round(100.0 * getResourceStored(newUnit, OXYGEN_ID))/100.0);
-				resourceMap.put(WATER_ID, Math.round(100.0 * getResourceStored(newUnit, WATER_ID))/100.0);
-				resourceMap.put(METHANE_ID, Math.round(100.0 *getResourceStored(newUnit, METHANE_ID))/100.0);
-				resourceMap.put(ROCK_SAMPLES_ID, Math.round(100.0 *getResourceStored(newUnit, ROCK_SAMPLES_ID))/100.0);
-				resourceMap.put(ICE_ID, Math.round(100.0 *getResourceStored(newUnit, ICE_ID))/100.0);
-			  	// Put together a list of available dessert
-		        for(AmountResource ar : availableDesserts) {
-		        	resourceMap.put(ar.getID(), Math.round(100.0 *getResourceStored(newUnit, ar.getID()))/100.0);
-		        }
-
-				resourceCache.put((Vehicle)newUnit, resourceMap);
-
-			}
-			catch (Exception e) {
-				logger.log(Level.SEVERE, "addUnit() does not work when creating resourceCache", e);
-			}
-		}
-		super.addUnit(newUnit);
-	}
-
-	/**
-	 * Removes a unit to the model.
-	 * 
-	 * @param oldUnit Unit to remove from the model.
-	 */
-	protected void removeUnit(Unit oldUnit) {
-		if (resourceCache == null) resourceCache = new HashMap<>();
-		if (resourceCache.containsKey(oldUnit)) {
-			Map<Integer, Double> resourceMap = resourceCache.get(oldUnit);
-			resourceMap.clear();
-			resourceCache.remove(oldUnit);
-		}
-		super.removeUnit(oldUnit);
-	}
-
 	/**
 	 * Gets the Double amount of resources stored in a unit.
 	 * 
@@ -606,11 +485,6 @@ public class VehicleTableModel extends UnitTableModel {
 			missionManagerListener.destroy();
 		}
 		missionManagerListener = null;
-
-		if (resourceCache != null) {
-			resourceCache.clear();
-		}
-		resourceCache = null;
 	}
 
 	/**
@@ -697,7 +571,7 @@ public class VehicleTableModel extends UnitTableModel {
 //			}
 
 			// Update all table cells because construction/salvage mission may affect more than one vehicle.
-			fireTableDataChanged();
+			allUnitsChanged();
 		}
 
 		/**
@@ -710,24 +584,6 @@ public class VehicleTableModel extends UnitTableModel {
 		}
 	}
 
-	/**
-	 * Inner class for updating a cell in the vehicle table.
-	 */
-	private class VehicleTableCellUpdater implements Runnable {
-
-		private int row;
-		private int column;
-
-		private VehicleTableCellUpdater(int row, int column) {
-			this.row = row;
-			this.column = column;
-		}
-
-		public void run() {
-			fireTableCellUpdated(row, column);
-		}
-	}
-
 	/**
 	 * MissionListener inner class.
 	 */
@@ -740,20 +596,14 @@ public class VehicleTableModel extends UnitTableModel {
 		public void missionUpdate(MissionEvent event) {
 			Mission mission = (Mission) event.getSource();
 			MissionEventType eventType = event.getType();
-			int columnNum = -1;
 			if (eventType == MissionEventType.TRAVEL_STATUS_EVENT ||
-					eventType == MissionEventType.NAVPOINTS_EVENT
-					) columnNum = DESTINATION;
-			else if (eventType == MissionEventType.DISTANCE_EVENT) columnNum = DESTDIST;
-			else if (eventType == MissionEventType.VEHICLE_EVENT) columnNum = MISSION;
-
-			if (columnNum > -1) {
+					eventType == MissionEventType.NAVPOINTS_EVENT ||
+					eventType == MissionEventType.DISTANCE_EVENT ||
+					eventType == MissionEventType.VEHICLE_EVENT) {
 				if (mission instanceof VehicleMission) {
 					Vehicle vehicle = ((VehicleMission) mission).getVehicle();
-					if (vehicle != null) {
-						int unitIndex = getUnitIndex(vehicle);
-						if (unitIndex > -1)
-							SwingUtilities.invokeLater(new VehicleTableCellUpdater(unitIndex, columnNum));
+					if ((vehicle != null) && containsUnit(vehicle)) {
+						unitChanged(vehicle);
 					}
 				}
 			}